@@ -0,0 +1,60 @@
+package com.pet.insurance.colocated_launcher;
+
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the quoting service and the policy service in one JVM, each in its own application
+ * context, with the {@code colocated} profile active. The policy service looks quotations up
+ * through an {@link InProcessQuotationAdapter} over the quoting service's
+ * {@link GetQuotationByIdUseCase} instead of over HTTP.
+ *
+ * <p>Each context starts from its service's own {@code application.properties}, then reads
+ * {@code quoting-service.properties} or {@code policy-service.properties} from the usual config
+ * locations. Environment variables and command-line arguments apply to both contexts.
+ */
+public final class ColocatedLauncher {
+
+    static final String PROFILE = "colocated";
+    static final String QUOTING_CONFIG_NAME = "quoting-service";
+    static final String POLICY_CONFIG_NAME = "policy-service";
+
+    private ColocatedLauncher() {
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+
+    /**
+     * Starts the quoting service, then the policy service, and returns the policy service's
+     * context. Closing it closes the quoting service's context too.
+     */
+    static ConfigurableApplicationContext launch(String... args) {
+        ConfigurableApplicationContext quoting = startQuoting(args);
+        try {
+            return startPolicy(quoting, args);
+        } catch (RuntimeException e) {
+            quoting.close();
+            throw e;
+        }
+    }
+
+    static ConfigurableApplicationContext startQuoting(String... args) {
+        return service(com.pet.insurance.quoting_service.Application.class, QUOTING_CONFIG_NAME).run(args);
+    }
+
+    static ConfigurableApplicationContext startPolicy(ConfigurableApplicationContext quoting, String... args) {
+        return service(com.pet.insurance.policy_service.Application.class, POLICY_CONFIG_NAME)
+                .initializers(new PolicyContextInitializer(quoting))
+                .run(args);
+    }
+
+    private static SpringApplicationBuilder service(Class<?> application, String configName) {
+        return new SpringApplicationBuilder(application)
+                .profiles(PROFILE)
+                .properties(ServiceProperties.load(application))
+                .properties("spring.config.name=" + configName);
+    }
+}
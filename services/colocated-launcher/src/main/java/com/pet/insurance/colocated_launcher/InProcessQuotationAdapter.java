@@ -0,0 +1,48 @@
+package com.pet.insurance.colocated_launcher;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.infrastructure.driven.client.inprocess.InProcessQuotationClient;
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Looks quotations up by calling the quoting service's use case directly, copying each quoting
+ * domain quotation into a policy domain one field by field.
+ */
+class InProcessQuotationAdapter implements InProcessQuotationClient {
+
+    private final GetQuotationByIdUseCase getQuotationByIdUseCase;
+
+    InProcessQuotationAdapter(GetQuotationByIdUseCase getQuotationByIdUseCase) {
+        this.getQuotationByIdUseCase = getQuotationByIdUseCase;
+    }
+
+    @Override
+    public Mono<Quotation> findById(String quotationId) {
+        return getQuotationByIdUseCase.execute(quotationId)
+                .map(InProcessQuotationAdapter::toPolicyQuotation)
+                .switchIfEmpty(Mono.error(new QuotationNotFoundException(quotationId)));
+    }
+
+    @Override
+    public Flux<Quotation> findAllById(List<String> quotationIds) {
+        return getQuotationByIdUseCase.execute(quotationIds)
+                .map(InProcessQuotationAdapter::toPolicyQuotation);
+    }
+
+    static Quotation toPolicyQuotation(com.pet.insurance.quoting_service.domain.model.Quotation quotation) {
+        return Quotation.reconstruct(
+                quotation.id(),
+                quotation.petName(),
+                quotation.species(),
+                quotation.breed(),
+                quotation.age(),
+                quotation.premiumPlan(),
+                quotation.price(),
+                quotation.expiresAt());
+    }
+}
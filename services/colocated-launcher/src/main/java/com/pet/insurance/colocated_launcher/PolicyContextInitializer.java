@@ -0,0 +1,30 @@
+package com.pet.insurance.colocated_launcher;
+
+import com.pet.insurance.policy_service.infrastructure.driven.client.inprocess.InProcessQuotationClient;
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Hands the running quoting service to the policy service's context: its quotation lookups, as
+ * an {@link InProcessQuotationClient}, and its lifecycle, so that it is closed once the policy
+ * service has stopped serving requests.
+ */
+class PolicyContextInitializer implements ApplicationContextInitializer<GenericApplicationContext> {
+
+    private final ConfigurableApplicationContext quoting;
+
+    PolicyContextInitializer(ConfigurableApplicationContext quoting) {
+        this.quoting = quoting;
+    }
+
+    @Override
+    public void initialize(GenericApplicationContext policy) {
+        InProcessQuotationAdapter adapter = new InProcessQuotationAdapter(
+                quoting.getBean(GetQuotationByIdUseCase.class));
+        policy.registerBean("inProcessQuotationClient", InProcessQuotationClient.class, () -> adapter);
+        policy.registerBean("quotingServiceShutdown", DisposableBean.class, () -> quoting::close);
+    }
+}
@@ -0,0 +1,50 @@
+package com.pet.insurance.colocated_launcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.Properties;
+
+/**
+ * Reads a service's own {@code application.properties}. With both services on one classpath,
+ * a plain classpath lookup finds whichever copy comes first, so the copy is picked by the
+ * location of the service's application class.
+ */
+final class ServiceProperties {
+
+    static final String FILE_NAME = "application.properties";
+
+    private ServiceProperties() {
+    }
+
+    static Properties load(Class<?> application) {
+        String expected = withoutJarScheme(application.getProtectionDomain().getCodeSource().getLocation().toString());
+        expected += (expected.endsWith("/") ? "" : "!/") + FILE_NAME;
+        try {
+            Enumeration<URL> candidates = application.getClassLoader().getResources(FILE_NAME);
+            while (candidates.hasMoreElements()) {
+                URL candidate = candidates.nextElement();
+                if (withoutJarScheme(candidate.toString()).equals(expected)) {
+                    return read(candidate);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the configuration of " + application.getName(), e);
+        }
+        throw new IllegalStateException("No " + FILE_NAME + " next to " + application.getName());
+    }
+
+    private static Properties read(URL url) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = url.openStream()) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static String withoutJarScheme(String url) {
+        return url.startsWith("jar:") ? url.substring("jar:".length()) : url;
+    }
+}
@@ -0,0 +1,46 @@
+package com.pet.insurance.colocated_launcher;
+
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.inprocess.InProcessQuotationClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColocatedLauncher Tests")
+class ColocatedLauncherTest {
+
+    @TempDir
+    Path storage;
+
+    @Test
+    @DisplayName("should run both services with their own configuration and close them together")
+    void shouldRunBothServicesInOneJvm() {
+        // Act
+        String[] args = {"--server.port=0", "--embedded.storage.directory=" + storage,
+                "--policy.indexes.create-on-startup=false"};
+        ConfigurableApplicationContext quoting = ColocatedLauncher.startQuoting(args);
+        ConfigurableApplicationContext policy = ColocatedLauncher.startPolicy(quoting, args);
+        try {
+            // Assert
+            Environment environment = policy.getEnvironment();
+            assertEquals("pet.insurance.policy-service", environment.getProperty("spring.application.name"));
+            assertEquals("in-process", environment.getProperty("quoting.client.transport"));
+            assertEquals("false", environment.getProperty("quoting.client.batch.enabled"));
+            assertTrue(environment.matchesProfiles(ColocatedLauncher.PROFILE));
+            assertNotNull(policy.getBean("quotationClient", QuotationClient.class));
+            assertInstanceOf(InProcessQuotationAdapter.class, policy.getBean(InProcessQuotationClient.class));
+            assertEquals("pet.insurance.quoting-service", quoting.getEnvironment().getProperty("spring.application.name"));
+            assertEquals("quoting_db", quoting.getEnvironment().getProperty("spring.data.mongodb.database"));
+            assertEquals("policy_db", environment.getProperty("spring.data.mongodb.database"));
+        } finally {
+            policy.close();
+        }
+        assertFalse(quoting.isActive());
+    }
+}
@@ -0,0 +1,83 @@
+package com.pet.insurance.colocated_launcher;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InProcessQuotationAdapter Tests")
+class InProcessQuotationAdapterTest {
+
+    private static final LocalDate EXPIRES_AT = LocalDate.now().plusDays(30);
+
+    private GetQuotationByIdUseCase getQuotationByIdUseCase;
+    private InProcessQuotationAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        getQuotationByIdUseCase = Mockito.mock(GetQuotationByIdUseCase.class);
+        adapter = new InProcessQuotationAdapter(getQuotationByIdUseCase);
+    }
+
+    @Test
+    @DisplayName("should copy every field of the quoting service's quotation")
+    void shouldFindQuotationById() {
+        // Arrange
+        Mockito.when(getQuotationByIdUseCase.execute("q-1")).thenReturn(Mono.just(quotation("q-1")));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById("q-1"))
+                .assertNext(quotation -> {
+                    assertEquals("q-1", quotation.id());
+                    assertEquals("Max", quotation.petName());
+                    assertEquals("DOG", quotation.species());
+                    assertEquals("Labrador", quotation.breed());
+                    assertEquals(3, quotation.age());
+                    assertTrue(quotation.premiumPlan());
+                    assertEquals(new BigDecimal("36.40"), quotation.price());
+                    assertEquals(EXPIRES_AT, quotation.expiresAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should throw QuotationNotFoundException when the quotation does not exist")
+    void shouldFailWhenQuotationDoesNotExist() {
+        // Arrange
+        Mockito.when(getQuotationByIdUseCase.execute("missing")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById("missing"))
+                .expectError(QuotationNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should look several quotations up with one call to the use case")
+    void shouldFindSeveralQuotations() {
+        // Arrange
+        List<String> ids = List.of("q-1", "missing", "q-2");
+        Mockito.when(getQuotationByIdUseCase.execute(ids)).thenReturn(Flux.just(quotation("q-1"), quotation("q-2")));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findAllById(ids).map(com.pet.insurance.policy_service.domain.model.Quotation::id))
+                .expectNext("q-1", "q-2")
+                .verifyComplete();
+    }
+
+    private static Quotation quotation(String id) {
+        return Quotation.reconstruct(id, "Max", "DOG", "Labrador", 3, true, new BigDecimal("36.40"), EXPIRES_AT);
+    }
+}
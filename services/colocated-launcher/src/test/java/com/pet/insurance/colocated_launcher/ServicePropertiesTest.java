@@ -0,0 +1,31 @@
+package com.pet.insurance.colocated_launcher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ServiceProperties Tests")
+class ServicePropertiesTest {
+
+    @Test
+    @DisplayName("should read each service's own application.properties")
+    void shouldReadEachServicesOwnConfiguration() {
+        // Act
+        Properties quoting = ServiceProperties.load(com.pet.insurance.quoting_service.Application.class);
+        Properties policy = ServiceProperties.load(com.pet.insurance.policy_service.Application.class);
+
+        // Assert
+        assertEquals("pet.insurance.quoting-service", quoting.getProperty("spring.application.name"));
+        assertEquals("pet.insurance.policy-service", policy.getProperty("spring.application.name"));
+        assertTrue(policy.getProperty("spring.autoconfigure.exclude").contains("MongoReactiveAutoConfiguration"));
+    }
+
+    @Test
+    @DisplayName("should fail for a class shipped without application.properties")
+    void shouldFailWithoutConfiguration() {
+        assertThrows(IllegalStateException.class, () -> ServiceProperties.load(ServicePropertiesTest.class));
+    }
+}
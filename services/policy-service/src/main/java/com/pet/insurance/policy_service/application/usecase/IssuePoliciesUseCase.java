@@ -0,0 +1,253 @@
+package com.pet.insurance.policy_service.application.usecase;
+
+import com.pet.insurance.policy_service.domain.event.PolicyIssuedEvent;
+import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Owner;
+import com.pet.insurance.policy_service.domain.model.Policy;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.DomainEventPublisher;
+import com.pet.insurance.policy_service.domain.port.PolicyRepository;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues many policies at once, applying the rules of {@link IssuePolicyUseCase} to each. Requests
+ * are taken in chunks of {@code chunkSize}, and at most {@code concurrency} chunks are in progress.
+ * For each chunk, the policies already issued for its quotations are read with one indexed query
+ * and returned as they are. The remaining quotations are fetched with one bulk lookup, the policies
+ * are issued in memory, written with one bulk insert, and their events published together. Requests
+ * for the same quotation share one policy: the first chunk to reach a quotation issues it, and
+ * requests for it in later chunks of the same call wait for that chunk and get its outcome.
+ *
+ * <p>Every request gets its own {@link Result}, emitted as soon as its chunk is done. A request that
+ * breaks a rule fails on its own. The bulk insert is unordered, so a policy it rejects fails only
+ * the requests for that quotation, with
+ * {@link com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException} when
+ * another issuance won the race, and a retry is answered with the stored policy; the events of the
+ * policies written are still published. A failed lookup, write or publication fails every request
+ * of the chunk that reached it.
+ */
+public class IssuePoliciesUseCase {
+
+    private final PolicyRepository repository;
+    private final QuotationClient quotationClient;
+    private final DomainEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int concurrency;
+
+    public IssuePoliciesUseCase(PolicyRepository repository, QuotationClient quotationClient,
+            DomainEventPublisher eventPublisher, int chunkSize, int concurrency) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        this.repository = repository;
+        this.quotationClient = quotationClient;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+    }
+
+    public Flux<Result> execute(Flux<Request> requests) {
+        return Flux.defer(() -> {
+            Map<String, Sinks.One<Result>> claims = new ConcurrentHashMap<>();
+            return requests.index()
+                    .buffer(chunkSize)
+                    .flatMap(chunk -> issue(chunk, claims), concurrency);
+        });
+    }
+
+    /**
+     * Claims for this chunk the quotations no earlier chunk of the call has claimed and issues
+     * their requests. The other requests are answered with the outcome of the chunk that claimed
+     * their quotation, which was started before this one and never waits on it.
+     */
+    private Flux<Result> issue(List<Tuple2<Long, Request>> chunk, Map<String, Sinks.One<Result>> claims) {
+        List<Tuple2<Long, Request>> own = new ArrayList<>(chunk.size());
+        List<Tuple2<Tuple2<Long, Request>, Sinks.One<Result>>> claimedElsewhere = new ArrayList<>();
+        Map<String, Sinks.One<Result>> claimed = new HashMap<>();
+        for (Tuple2<Long, Request> item : chunk) {
+            String quotationId = item.getT2().quotationId();
+            if (!isQuotationId(quotationId) || claimed.containsKey(quotationId)) {
+                own.add(item);
+                continue;
+            }
+            Sinks.One<Result> claim = Sinks.one();
+            Sinks.One<Result> previous = claims.putIfAbsent(quotationId, claim);
+            if (previous == null) {
+                claimed.put(quotationId, claim);
+                own.add(item);
+            } else {
+                claimedElsewhere.add(Tuples.of(item, previous));
+            }
+        }
+        Flux<Result> issued = own.isEmpty() ? Flux.empty() : issueClaimed(own)
+                .doOnNext(result -> {
+                    Sinks.One<Result> claim = claimed.remove(result.quotationId());
+                    if (claim != null) {
+                        claim.tryEmitValue(result);
+                    }
+                });
+        return issued.concatWith(Flux.fromIterable(claimedElsewhere)
+                .concatMap(entry -> entry.getT2().asMono()
+                        .map(outcome -> outcome.error() == null
+                                ? Result.issued(entry.getT1().getT1(), entry.getT1().getT2(), outcome.policy())
+                                : Result.failed(entry.getT1().getT1(), entry.getT1().getT2(), outcome.error()))));
+    }
+
+    private Flux<Result> issueClaimed(List<Tuple2<Long, Request>> chunk) {
+        List<UUID> quotationIds = chunk.stream()
+                .map(item -> item.getT2().quotationId())
+                .filter(IssuePoliciesUseCase::isQuotationId)
+                .distinct()
+                .map(UUID::fromString)
+                .toList();
+        return repository.findAllByQuotationId(quotationIds)
+                .collectMap(policy -> policy.getQuotationId().toString())
+                .flatMap(stored -> findQuotations(quotationIds, stored)
+                        .map(quotations -> issue(chunk, stored, quotations)))
+                .flatMapMany(results -> results)
+                .onErrorResume(error -> Flux.fromIterable(chunk)
+                        .map(item -> Result.failed(item.getT1(), item.getT2(), error)));
+    }
+
+    private Mono<Map<String, Quotation>> findQuotations(List<UUID> quotationIds, Map<String, Policy> stored) {
+        List<String> missing = quotationIds.stream()
+                .map(UUID::toString)
+                .filter(id -> !stored.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        return quotationClient.findAllById(missing).collectMap(Quotation::id);
+    }
+
+    private Flux<Result> issue(List<Tuple2<Long, Request>> chunk, Map<String, Policy> stored,
+            Map<String, Quotation> quotations) {
+        Result[] results = new Result[chunk.size()];
+        List<Integer> issued = new ArrayList<>(chunk.size());
+        List<Integer> policyOf = new ArrayList<>(chunk.size());
+        List<Policy> policies = new ArrayList<>(chunk.size());
+        Map<String, Integer> issuedByQuotation = new HashMap<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            long index = chunk.get(i).getT1();
+            Request request = chunk.get(i).getT2();
+            Policy storedPolicy = stored.get(request.quotationId());
+            if (storedPolicy != null) {
+                results[i] = Result.issued(index, request, storedPolicy);
+                continue;
+            }
+            Integer policy = issuedByQuotation.get(request.quotationId());
+            try {
+                if (policy == null) {
+                    policies.add(issue(request, quotations.get(request.quotationId())));
+                    policy = policies.size() - 1;
+                    issuedByQuotation.put(request.quotationId(), policy);
+                }
+                issued.add(i);
+                policyOf.add(policy);
+            } catch (RuntimeException e) {
+                results[i] = Result.failed(index, request, e);
+            }
+        }
+        if (policies.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+        return repository.saveAll(policies)
+                .flatMap(rejected -> publishWritten(policies, rejected)
+                        .then(Mono.fromCallable(() -> complete(chunk, results, issued, policyOf, policies, rejected,
+                                null)))
+                        .onErrorResume(error -> Mono.fromCallable(() -> complete(chunk, results, issued, policyOf,
+                                policies, rejected, error))))
+                .onErrorResume(error -> Mono.fromCallable(() -> complete(chunk, results, issued, policyOf, policies,
+                        Collections.emptyMap(), error)))
+                .flatMapIterable(all -> all);
+    }
+
+    private Mono<Void> publishWritten(List<Policy> policies, Map<Integer, RuntimeException> rejected) {
+        List<PolicyIssuedEvent> events = new ArrayList<>(policies.size());
+        for (int p = 0; p < policies.size(); p++) {
+            if (!rejected.containsKey(p)) {
+                events.add(policies.get(p).toEvent());
+            }
+        }
+        return events.isEmpty() ? Mono.empty() : Mono.defer(() -> eventPublisher.publishPoliciesIssued(events));
+    }
+
+    /**
+     * Fills in the results of the requests that were issued a policy: the error the write rejected
+     * their policy with, else {@code error} when the chunk failed after the lookup, else the policy.
+     */
+    private static List<Result> complete(List<Tuple2<Long, Request>> chunk, Result[] results, List<Integer> issued,
+            List<Integer> policyOf, List<Policy> policies, Map<Integer, RuntimeException> rejected, Throwable error) {
+        for (int j = 0; j < issued.size(); j++) {
+            int i = issued.get(j);
+            int policy = policyOf.get(j);
+            Throwable failure = rejected.containsKey(policy) ? rejected.get(policy) : error;
+            results[i] = failure == null
+                    ? Result.issued(chunk.get(i).getT1(), chunk.get(i).getT2(), policies.get(policy))
+                    : Result.failed(chunk.get(i).getT1(), chunk.get(i).getT2(), failure);
+        }
+        return Arrays.asList(results);
+    }
+
+    private static Policy issue(Request request, Quotation quotation) {
+        if (!isQuotationId(request.quotationId())) {
+            throw new IllegalArgumentException("Invalid quotation id: " + request.quotationId());
+        }
+        if (quotation == null) {
+            throw new QuotationNotFoundException(request.quotationId());
+        }
+        if (quotation.isExpired()) {
+            throw new QuotationExpiredException(request.quotationId());
+        }
+        Owner owner = new Owner(request.ownerId(), request.ownerName(), request.ownerEmail());
+        return Policy.issue(UUID.fromString(request.quotationId()), owner);
+    }
+
+    private static boolean isQuotationId(String quotationId) {
+        if (quotationId == null) {
+            return false;
+        }
+        try {
+            UUID.fromString(quotationId);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public record Request(String quotationId, String ownerId, String ownerName, String ownerEmail) {
+    }
+
+    /**
+     * Outcome of the request at {@code index}: the issued {@code policy}, or the {@code error}
+     * it failed with.
+     */
+    public record Result(long index, String quotationId, Policy policy, Throwable error) {
+
+        static Result issued(long index, Request request, Policy policy) {
+            return new Result(index, request.quotationId(), policy, null);
+        }
+
+        static Result failed(long index, Request request, Throwable error) {
+            return new Result(index, request.quotationId(), null, error);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.pet.insurance.policy_service.application.usecase;
 import com.pet.insurance.policy_service.domain.port.PolicyRepository;
 import com.pet.insurance.policy_service.domain.port.QuotationClient;
 import com.pet.insurance.policy_service.domain.port.DomainEventPublisher;
+import com.pet.insurance.policy_service.domain.exception.IdempotencyKeyReusedException;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
 import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
 import com.pet.insurance.policy_service.domain.model.Owner;
 import com.pet.insurance.policy_service.domain.model.Policy;
@@ -10,8 +12,17 @@ import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
+/**
+ * Issues at most one policy per quotation. A repeated request, found by its quotation or by the
+ * idempotency key it was first sent with, is answered with the stored policy after one indexed
+ * read, without fetching the quotation, writing or publishing again. Two requests racing for the
+ * same quotation are settled by the unique index: the one whose write fails gets the policy of the
+ * other.
+ */
 public class IssuePolicyUseCase {
 
+    static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
     private final PolicyRepository repository;
     private final QuotationClient quotationClient;
     private final DomainEventPublisher eventPublisher;
@@ -27,6 +38,38 @@ public class IssuePolicyUseCase {
             String ownerId,
             String ownerName,
             String ownerEmail) {
+        return execute(quotationId, ownerId, ownerName, ownerEmail, null);
+    }
+
+    /**
+     * Same as {@link #execute(String, String, String, String)}, storing the policy under
+     * {@code idempotencyKey} when one is given. A key already used for another quotation fails
+     * with {@link IdempotencyKeyReusedException}.
+     */
+    public Mono<Policy> execute(
+            String quotationId,
+            String ownerId,
+            String ownerName,
+            String ownerEmail,
+            String idempotencyKey) {
+
+        return Mono.defer(() -> {
+            UUID quotationUuid = parseQuotationId(quotationId);
+            validateIdempotencyKey(idempotencyKey);
+
+            return findIssued(quotationUuid, idempotencyKey)
+                    .switchIfEmpty(Mono.defer(() ->
+                            issue(quotationId, quotationUuid, ownerId, ownerName, ownerEmail, idempotencyKey)));
+        });
+    }
+
+    private Mono<Policy> issue(
+            String quotationId,
+            UUID quotationUuid,
+            String ownerId,
+            String ownerName,
+            String ownerEmail,
+            String idempotencyKey) {
 
         return quotationClient.findById(quotationId)
                 .flatMap(quotation -> {
@@ -35,13 +78,41 @@ public class IssuePolicyUseCase {
                     }
 
                     Owner owner = new Owner(ownerId, ownerName, ownerEmail);
-                    Policy policy = Policy.issue(UUID.fromString(quotationId), owner);
+                    Policy policy = Policy.issue(quotationUuid, owner);
 
-                    return repository.save(policy)
+                    return repository.save(policy, idempotencyKey)
                             .flatMap(savedPolicy -> 
                                 eventPublisher.publishPolicyIssued(savedPolicy.toEvent())
                                     .thenReturn(savedPolicy)
-                            );
+                            )
+                            .onErrorResume(PolicyAlreadyIssuedException.class, e ->
+                                    findIssued(quotationUuid, idempotencyKey).switchIfEmpty(Mono.error(e)));
                 });
     }
+
+    private Mono<Policy> findIssued(UUID quotationId, String idempotencyKey) {
+        return repository.findIssued(quotationId, idempotencyKey)
+                .flatMap(policy -> policy.getQuotationId().equals(quotationId)
+                        ? Mono.just(policy)
+                        : Mono.error(new IdempotencyKeyReusedException(idempotencyKey)));
+    }
+
+    private static UUID parseQuotationId(String quotationId) {
+        if (quotationId == null) {
+            throw new IllegalArgumentException("Invalid quotation id: null");
+        }
+        try {
+            return UUID.fromString(quotationId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid quotation id: " + quotationId);
+        }
+    }
+
+    private static void validateIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey != null
+                && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException(
+                    "Idempotency key must have between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+    }
 }
@@ -0,0 +1,8 @@
+package com.pet.insurance.policy_service.domain.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("Idempotency key already used for another quotation: " + idempotencyKey);
+    }
+}
@@ -0,0 +1,8 @@
+package com.pet.insurance.policy_service.domain.exception;
+
+public class PolicyAlreadyIssuedException extends RuntimeException {
+
+    public PolicyAlreadyIssuedException(String quotationId) {
+        super("Policy already issued for quotation ID: " + quotationId);
+    }
+}
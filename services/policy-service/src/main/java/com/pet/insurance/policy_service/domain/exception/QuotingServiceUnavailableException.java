@@ -0,0 +1,12 @@
+package com.pet.insurance.policy_service.domain.exception;
+
+public class QuotingServiceUnavailableException extends RuntimeException {
+
+    public QuotingServiceUnavailableException(String reason) {
+        super("Quoting service unavailable: " + reason);
+    }
+
+    public QuotingServiceUnavailableException(String reason, Throwable cause) {
+        super("Quoting service unavailable: " + reason, cause);
+    }
+}
@@ -21,13 +21,14 @@ public class Policy {
             UUID quotationId,
             Owner owner,
             LocalDate startDate,
-            LocalDate endDate) {
+            LocalDate endDate,
+            boolean active) {
         this.id = id;
         this.quotationId = quotationId;
         this.owner = owner;
         this.startDate = startDate;
         this.endDate = endDate;
-        this.active = true;
+        this.active = active;
     }
 
     public static Policy issue(UUID quotationId, Owner owner) {
@@ -39,7 +40,18 @@ public class Policy {
                 quotationId,
                 owner,
                 start,
-                end);
+                end,
+                true);
+    }
+
+    public static Policy reconstruct(
+            UUID id,
+            UUID quotationId,
+            Owner owner,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean active) {
+        return new Policy(id, quotationId, owner, startDate, endDate, active);
     }
 
     public boolean isActive() {
@@ -1,8 +1,11 @@
 package com.pet.insurance.policy_service.domain.port;
 
 import com.pet.insurance.policy_service.domain.event.PolicyIssuedEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Port for publishing domain events to external systems.
  * This interface follows the Hexagonal Architecture pattern,
@@ -19,4 +22,17 @@ public interface DomainEventPublisher {
      * @return a Mono that completes when the event has been published
      */
     Mono<Void> publishPolicyIssued(PolicyIssuedEvent event);
+
+    /**
+     * Publishes the PolicyIssuedEvents of policies issued together. Publishers able to send
+     * several events at once override this one-by-one publication.
+     *
+     * @param events the events to publish
+     * @return a Mono that completes when every event has been published
+     */
+    default Mono<Void> publishPoliciesIssued(List<PolicyIssuedEvent> events) {
+        return Flux.fromIterable(events)
+                .concatMap(this::publishPolicyIssued)
+                .then();
+    }
 }
@@ -1,8 +1,43 @@
 package com.pet.insurance.policy_service.domain.port;
 
 import com.pet.insurance.policy_service.domain.model.Policy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 public interface PolicyRepository {
-    Mono<Policy> save(Policy policy);
+    default Mono<Policy> save(Policy policy) {
+        return save(policy, null);
+    }
+
+    /**
+     * Writes a new policy, stored under {@code idempotencyKey} when one is given. Fails with
+     * {@link com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException} when
+     * a policy already exists for the quotation or the key.
+     */
+    Mono<Policy> save(Policy policy, String idempotencyKey);
+
+    /**
+     * Writes new policies in one unordered bulk insert, so a rejected policy does not keep the
+     * others from being written. Emits the error of each rejected policy by its position in
+     * {@code policies}, {@link com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException}
+     * when its quotation already has a policy; every other policy was written. Fails only when
+     * nothing is known to have been written.
+     */
+    Mono<Map<Integer, RuntimeException>> saveAll(List<Policy> policies);
+
+    /**
+     * Finds the policy stored under {@code idempotencyKey} when one is given, whatever its
+     * quotation, and otherwise the policy issued for the quotation. Each step is one indexed
+     * read on a unique index, so the same request always finds the same policy.
+     */
+    Mono<Policy> findIssued(UUID quotationId, String idempotencyKey);
+
+    /**
+     * Finds, with one indexed read, the policies issued for any of the quotations.
+     */
+    Flux<Policy> findAllByQuotationId(List<UUID> quotationIds);
 }
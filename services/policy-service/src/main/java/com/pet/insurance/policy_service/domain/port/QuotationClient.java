@@ -1,8 +1,23 @@
 package com.pet.insurance.policy_service.domain.port;
 
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
 import com.pet.insurance.policy_service.domain.model.Quotation;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface QuotationClient {
     Mono<Quotation> findById(String quotationId);
+
+    /**
+     * Emits the quotations that exist among {@code quotationIds}, in no particular order; unknown
+     * ids are simply missing. Clients that can fetch several quotations in one call override this
+     * lookup of each id on its own.
+     */
+    default Flux<Quotation> findAllById(List<String> quotationIds) {
+        return Flux.fromIterable(quotationIds)
+                .flatMap(quotationId -> findById(quotationId)
+                        .onErrorResume(QuotationNotFoundException.class, e -> Mono.empty()));
+    }
 }
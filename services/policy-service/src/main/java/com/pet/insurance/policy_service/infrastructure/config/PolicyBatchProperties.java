@@ -0,0 +1,16 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of {@code POST /policies/batch}, bound from {@code policy.batch.*}. Requests are issued
+ * in chunks of {@code chunkSize}, each needing one quotation lookup, one insert and one event
+ * publication, with at most {@code concurrency} chunks in progress. Without quotation batching,
+ * a chunk is a single call to the quoting service, which accepts up to 500 ids.
+ */
+@ConfigurationProperties(prefix = "policy.batch")
+public record PolicyBatchProperties(
+        @DefaultValue("100") int chunkSize,
+        @DefaultValue("4") int concurrency) {
+}
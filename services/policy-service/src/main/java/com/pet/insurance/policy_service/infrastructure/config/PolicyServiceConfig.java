@@ -3,37 +3,45 @@ package com.pet.insurance.policy_service.infrastructure.config;
 import com.pet.insurance.policy_service.domain.port.PolicyRepository;
 import com.pet.insurance.policy_service.domain.port.QuotationClient;
 import com.pet.insurance.policy_service.domain.port.DomainEventPublisher;
+import com.pet.insurance.policy_service.application.usecase.IssuePoliciesUseCase;
 import com.pet.insurance.policy_service.application.usecase.IssuePolicyUseCase;
-import com.pet.insurance.policy_service.infrastructure.driven.client.QuotationWebClient;
 import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
+import com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo.BlockingPolicyRepositoryAdapter;
 import com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo.MongoPolicyRepositoryAdapter;
 import com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo.SpringDataPolicyRepository;
 import com.pet.insurance.policy_service.infrastructure.event.LoggingEventPublisher;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.scheduler.Scheduler;
 
 @Configuration
+@EnableConfigurationProperties(PolicyBatchProperties.class)
 public class PolicyServiceConfig {
 
-    @Value("${quoting.service.url:http://localhost:8080}")
-    private String quotingServiceUrl;
-
     @Bean
+    @ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive", matchIfMissing = true)
     PolicyRepository policyRepository(
-            SpringDataPolicyRepository mongoRepository) {
-        return new MongoPolicyRepositoryAdapter(mongoRepository);
+            SpringDataPolicyRepository mongoRepository,
+            ReactiveMongoTemplate reactiveMongoTemplate) {
+        return new MongoPolicyRepositoryAdapter(mongoRepository, reactiveMongoTemplate);
     }
 
     @Bean
-    QuotationMapper quotationMapper() {
-        return new QuotationMapper();
+    @ConditionalOnProperty(name = "persistence.mode", havingValue = "imperative")
+    PolicyRepository blockingPolicyRepository(
+            MongoTemplate mongoTemplate,
+            @Qualifier("persistenceScheduler") Scheduler persistenceScheduler) {
+        return new BlockingPolicyRepositoryAdapter(mongoTemplate, persistenceScheduler);
     }
 
     @Bean
-    QuotationClient quotationClient(WebClient.Builder webClientBuilder, QuotationMapper quotationMapper) {
-        return new QuotationWebClient(webClientBuilder, quotationMapper, quotingServiceUrl);
+    QuotationMapper quotationMapper() {
+        return new QuotationMapper();
     }
 
     @Bean
@@ -48,4 +56,14 @@ public class PolicyServiceConfig {
             DomainEventPublisher eventPublisher) {
         return new IssuePolicyUseCase(repository, quotationClient, eventPublisher);
     }
+
+    @Bean
+    IssuePoliciesUseCase issuePoliciesUseCase(
+            PolicyRepository repository,
+            QuotationClient quotationClient,
+            DomainEventPublisher eventPublisher,
+            PolicyBatchProperties properties) {
+        return new IssuePoliciesUseCase(repository, quotationClient, eventPublisher,
+                properties.chunkSize(), properties.concurrency());
+    }
 }
@@ -0,0 +1,152 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.QuotationWebClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.batch.BatchingQuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.CachingQuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.ExpiringQuotationCache;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.OffHeapQuotationCache;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.QuotationCache;
+import com.pet.insurance.policy_service.infrastructure.driven.client.inprocess.InProcessQuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.Bulkhead;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.CircuitBreaker;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.CircuitBreakingQuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.RequestHedger;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.RetryBudget;
+import com.pet.insurance.policy_service.infrastructure.driven.client.rsocket.RSocketQuotationClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+
+/**
+ * Builds the {@link QuotationClient} port, from the innermost layer out:
+ *
+ * <ol>
+ *   <li>the client of the quoting service for {@code quoting.client.transport}: HTTP, with hedged
+ *   and retried calls asking for responses in {@code quoting.client.wire-format}, or RSocket,
+ *   over one multiplexed connection whose bulk lookups are request-channels, or in-process, when a
+ *   launcher hosts the quoting service in the same JVM;</li>
+ *   <li>batching of lookups into bulk calls, unless {@code quoting.client.batch.enabled} is off;</li>
+ *   <li>a circuit breaker and bulkhead with a stale fallback, unless
+ *   {@code quoting.client.breaker.enabled} is off;</li>
+ *   <li>a cache, unless {@code quoting.client.cache.enabled} is off.</li>
+ * </ol>
+ *
+ * <p>Each layer's metrics are bound here, once. The layers are deliberately not
+ * {@code MeterBinder}s: the outermost one is the {@link QuotationClient} bean itself and Boot would
+ * bind it a second time.
+ */
+@Configuration
+@EnableConfigurationProperties(QuotationClientProperties.class)
+public class QuotationClientConfig {
+
+    static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    private static final MediaType JSON_FALLBACK = MediaType.parseMediaType("application/json;q=0.5");
+
+    @Value("${quoting.service.url:http://localhost:8080}")
+    private String quotingServiceUrl;
+
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = "quoting.client.transport", havingValue = "rsocket")
+    RSocketRequester quotingRSocketRequester(RSocketRequester.Builder rsocketRequesterBuilder,
+            QuotationClientProperties properties) {
+        return rsocketRequesterBuilder
+                .dataMimeType(MediaType.APPLICATION_CBOR)
+                .tcp(properties.rsocket().host(), properties.rsocket().port());
+    }
+
+    @Bean
+    QuotationClient quotationClient(WebClient.Builder webClientBuilder, QuotationMapper quotationMapper,
+            QuotationClientProperties properties, ObjectProvider<RSocketRequester> quotingRSocketRequester,
+            ObjectProvider<InProcessQuotationClient> inProcessQuotationClient,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        QuotationClient client = switch (properties.transport()) {
+            case "http" -> {
+                RequestHedger hedger = buildHedger(properties.hedge(), properties.retry());
+                meterRegistry.ifAvailable(hedger::bindTo);
+                WebClient.Builder quotingClientBuilder = webClientBuilder.clone()
+                        .defaultHeaders(headers -> headers.setAccept(buildAcceptedTypes(properties.wireFormat())));
+                yield new QuotationWebClient(quotingClientBuilder, quotationMapper, quotingServiceUrl, hedger);
+            }
+            case "rsocket" -> new RSocketQuotationClient(quotingRSocketRequester.getObject(), quotationMapper,
+                    properties.rsocket().timeout());
+            case "in-process" -> {
+                InProcessQuotationClient inProcessClient = inProcessQuotationClient.getIfAvailable();
+                if (inProcessClient == null) {
+                    throw new IllegalArgumentException(
+                            "The in-process quoting service transport needs the co-located launcher");
+                }
+                yield inProcessClient;
+            }
+            default -> throw new IllegalArgumentException(
+                    "Unsupported quoting service transport: " + properties.transport());
+        };
+        QuotationClientProperties.Batch batch = properties.batch();
+        if (batch.enabled()) {
+            BatchingQuotationClient batchingClient = new BatchingQuotationClient(client::findAllById,
+                    batch.maxSize(), batch.maxDelay());
+            meterRegistry.ifAvailable(batchingClient::bindTo);
+            client = batchingClient;
+        }
+        QuotationClientProperties.Breaker breaker = properties.breaker();
+        if (breaker.enabled()) {
+            CircuitBreakingQuotationClient breakingClient = buildCircuitBreaker(client, breaker);
+            meterRegistry.ifAvailable(breakingClient::bindTo);
+            client = breakingClient;
+        }
+        QuotationClientProperties.Cache cache = properties.cache();
+        if (!cache.enabled()) {
+            return client;
+        }
+        CachingQuotationClient cachingClient = new CachingQuotationClient(client, buildCache(cache));
+        meterRegistry.ifAvailable(cachingClient::bindTo);
+        return cachingClient;
+    }
+
+    /**
+     * The {@code Accept} header of quotation requests. The lookup request bodies stay JSON: the
+     * gain of a binary format is in the responses, with their prices and dates.
+     */
+    static List<MediaType> buildAcceptedTypes(String wireFormat) {
+        return switch (wireFormat) {
+            case "smile" -> List.of(APPLICATION_SMILE, JSON_FALLBACK);
+            case "json" -> List.of(MediaType.APPLICATION_JSON);
+            default -> throw new IllegalArgumentException("Unsupported quotation wire format: " + wireFormat);
+        };
+    }
+
+    static RequestHedger buildHedger(QuotationClientProperties.Hedge hedge, QuotationClientProperties.Retry retry) {
+        return new RequestHedger(hedge.enabled(), hedge.percentile(), hedge.initialDelay(), hedge.minDelay(),
+                hedge.maxDelay(), retry.maxRetries(), retry.backoff(),
+                new RetryBudget(retry.budgetRatio(), retry.budgetCapacity()));
+    }
+
+    static CircuitBreakingQuotationClient buildCircuitBreaker(QuotationClient client,
+            QuotationClientProperties.Breaker breaker) {
+        QuotationCache fallback = breaker.fallbackMaxAge().isZero()
+                ? null
+                : new ExpiringQuotationCache(breaker.fallbackMaxEntries(), breaker.fallbackMaxAge());
+        return new CircuitBreakingQuotationClient(client,
+                new CircuitBreaker(breaker.failureRateThreshold(), breaker.minimumCalls(), breaker.window(),
+                        breaker.openDuration()),
+                new Bulkhead(breaker.maxConcurrentCalls()), fallback);
+    }
+
+    static QuotationCache buildCache(QuotationClientProperties.Cache cache) {
+        return switch (cache.store()) {
+            case "heap" -> new ExpiringQuotationCache(cache.maxEntries(), cache.ttl());
+            case "off-heap" -> new OffHeapQuotationCache(cache.maxEntries());
+            default -> throw new IllegalArgumentException("Unsupported quotation cache store: " + cache.store());
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the client used to look up quotations in the quoting service, bound from
+ * {@code quoting.client.*}. {@code transport} is {@code http}, {@code rsocket} or
+ * {@code in-process}, only available when both services run in one JVM.
+ * {@code wireFormat} is the format asked for in HTTP responses: {@code smile}, binary JSON with
+ * JSON accepted as a second choice, or {@code json}.
+ */
+@ConfigurationProperties(prefix = "quoting.client")
+public record QuotationClientProperties(
+        @DefaultValue("http") String transport,
+        @DefaultValue("smile") String wireFormat,
+        @DefaultValue Rsocket rsocket,
+        @DefaultValue Cache cache,
+        @DefaultValue Batch batch,
+        @DefaultValue Hedge hedge,
+        @DefaultValue Retry retry,
+        @DefaultValue Breaker breaker) {
+
+    /**
+     * Address of the quoting service's RSocket server, used when {@code transport} is
+     * {@code rsocket}. {@code timeout} bounds the wait for a lookup's response, and for each
+     * quotation of a bulk lookup.
+     */
+    public record Rsocket(
+            @DefaultValue("localhost") String host,
+            @DefaultValue("7000") int port,
+            @DefaultValue("5s") Duration timeout) {
+    }
+
+    /**
+     * {@code store} is {@code heap}, a least-recently-used cache whose entries live for
+     * {@code ttl} and never past their quotation's expiry, or {@code off-heap}, for very large
+     * caches, whose entries stay until evicted.
+     */
+    public record Cache(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("heap") String store,
+            @DefaultValue("10000") int maxEntries,
+            @DefaultValue("10m") Duration ttl) {
+    }
+
+    /**
+     * Lookups that miss the cache are grouped into bulk calls of at most {@code maxSize}
+     * quotations, each waiting no longer than {@code maxDelay} for company. The quoting service
+     * accepts up to 500 ids per call.
+     */
+    public record Batch(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("100") int maxSize,
+            @DefaultValue("2ms") Duration maxDelay) {
+    }
+
+    /**
+     * A second request is sent when the first has not answered after the recent
+     * {@code percentile} latency, kept between {@code minDelay} and {@code maxDelay};
+     * {@code initialDelay} applies until enough latencies have been observed.
+     */
+    public record Hedge(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0.95") double percentile,
+            @DefaultValue("50ms") Duration initialDelay,
+            @DefaultValue("5ms") Duration minDelay,
+            @DefaultValue("1s") Duration maxDelay) {
+    }
+
+    /**
+     * Transient failures are retried up to {@code maxRetries} times. Retries and hedges share a
+     * budget: each request earns {@code budgetRatio} of a token, up to {@code budgetCapacity}
+     * tokens, and each retry or hedge spends one.
+     */
+    public record Retry(
+            @DefaultValue("2") int maxRetries,
+            @DefaultValue("50ms") Duration backoff,
+            @DefaultValue("0.1") double budgetRatio,
+            @DefaultValue("10") int budgetCapacity) {
+    }
+
+    /**
+     * The circuit opens once {@code failureRateThreshold} of at least {@code minimumCalls} calls
+     * in a {@code window} failed, and stays open for {@code openDuration}. At most
+     * {@code maxConcurrentCalls} lookups are in flight. Refused and failed lookups are answered
+     * with quotations fetched in the last {@code fallbackMaxAge} that have not expired; a zero
+     * age turns that fallback off.
+     */
+    public record Breaker(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("0.5") double failureRateThreshold,
+            @DefaultValue("20") int minimumCalls,
+            @DefaultValue("10s") Duration window,
+            @DefaultValue("5s") Duration openDuration,
+            @DefaultValue("200") int maxConcurrentCalls,
+            @DefaultValue("1h") Duration fallbackMaxAge,
+            @DefaultValue("10000") int fallbackMaxEntries) {
+    }
+}
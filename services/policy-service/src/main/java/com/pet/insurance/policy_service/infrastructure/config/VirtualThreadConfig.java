@@ -0,0 +1,19 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "imperative")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler persistenceScheduler() {
+        return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "persistence-vt");
+    }
+}
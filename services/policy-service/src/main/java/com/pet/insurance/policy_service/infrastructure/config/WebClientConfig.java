@@ -1,14 +1,85 @@
 package com.pet.insurance.policy_service.infrastructure.config;
 
+import com.pet.insurance.policy_service.infrastructure.json.QuotationDtoJsonDecoder;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The {@link WebClient.Builder} used for calls to other services. Its connections come from a
+ * dedicated pool sized by {@code web.client.pool.*}, whose usage is published under
+ * {@code reactor.netty.connection.provider.*}; requests are timed as {@code http.client.requests}.
+ */
 @Configuration
+@EnableConfigurationProperties(WebClientProperties.class)
 public class WebClientConfig {
 
+    static final String POOL_NAME = "inter-service";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider(WebClientProperties properties) {
+        return buildConnectionProvider(properties.pool());
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(@Value("${web.json.direct-codecs:true}") boolean directCodecs,
+            ConnectionProvider webClientConnectionProvider, WebClientProperties properties,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        WebClient.Builder builder = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(
+                        buildHttpClient(webClientConnectionProvider, properties)));
+        observationRegistry.ifAvailable(builder::observationRegistry);
+        if (directCodecs) {
+            builder.codecs(configurer -> configurer.customCodecs().register(new QuotationDtoJsonDecoder()));
+        }
+        return builder;
+    }
+
+    static ConnectionProvider buildConnectionProvider(WebClientProperties.Pool pool) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.evictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    static HttpClient buildHttpClient(ConnectionProvider connectionProvider, WebClientProperties properties) {
+        WebClientProperties.Timeouts timeouts = properties.timeouts();
+        return HttpClient.create(connectionProvider)
+                .protocol(toProtocols(properties.protocols()))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(timeouts.connect().toMillis()))
+                .option(ChannelOption.SO_KEEPALIVE, properties.keepAlive())
+                .keepAlive(properties.keepAlive())
+                .responseTimeout(timeouts.response());
+    }
+
+    private static HttpProtocol[] toProtocols(List<String> names) {
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("At least one HTTP protocol must be enabled");
+        }
+        return names.stream()
+                .map(name -> switch (name.trim().toLowerCase(Locale.ROOT)) {
+                    case "http11" -> HttpProtocol.HTTP11;
+                    case "h2" -> HttpProtocol.H2;
+                    case "h2c" -> HttpProtocol.H2C;
+                    default -> throw new IllegalArgumentException("Unsupported HTTP protocol: " + name);
+                })
+                .toArray(HttpProtocol[]::new);
     }
 }
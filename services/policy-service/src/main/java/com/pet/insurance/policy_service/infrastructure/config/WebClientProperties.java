@@ -0,0 +1,39 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Connection settings of the HTTP client used to call other services, bound from
+ * {@code web.client.*}. {@code protocols} lists {@code http11}, {@code h2} (HTTP/2 over TLS,
+ * for {@code https} URLs) and {@code h2c} (HTTP/2 without TLS). Turning {@code keepAlive} off
+ * disables both connection reuse and TCP keep-alive probes.
+ */
+@ConfigurationProperties(prefix = "web.client")
+public record WebClientProperties(
+        @DefaultValue Pool pool,
+        @DefaultValue Timeouts timeouts,
+        @DefaultValue("true") boolean keepAlive,
+        @DefaultValue("http11") List<String> protocols) {
+
+    /**
+     * {@code pendingAcquireMaxCount} bounds the requests waiting for a connection once all
+     * {@code maxConnections} are busy; further requests fail at once instead of queueing.
+     */
+    public record Pool(
+            @DefaultValue("200") int maxConnections,
+            @DefaultValue("400") int pendingAcquireMaxCount,
+            @DefaultValue("2s") Duration pendingAcquireTimeout,
+            @DefaultValue("30s") Duration maxIdleTime,
+            @DefaultValue("5m") Duration maxLifeTime,
+            @DefaultValue("30s") Duration evictionInterval) {
+    }
+
+    public record Timeouts(
+            @DefaultValue("2s") Duration connect,
+            @DefaultValue("5s") Duration response) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import com.pet.insurance.policy_service.infrastructure.json.ErrorBodyJsonEncoder;
+import com.pet.insurance.policy_service.infrastructure.json.IssuePolicyRequestJsonDecoder;
+import com.pet.insurance.policy_service.infrastructure.json.IssuePolicyResponseJsonEncoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Registers the hand-written JSON codecs of the hot request and response types. Custom codecs are
+ * consulted before Jackson, which still handles every other type.
+ */
+@Configuration
+@ConditionalOnProperty(name = "web.json.direct-codecs", havingValue = "true", matchIfMissing = true)
+public class WebCodecConfig implements WebFluxConfigurer {
+
+    private final JsonMapper jsonMapper;
+
+    public WebCodecConfig(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        IssuePolicyRequestJsonDecoder requestDecoder = new IssuePolicyRequestJsonDecoder();
+        configurer.customCodecs().registerWithDefaultConfig(requestDecoder, config -> {
+            if (config.maxInMemorySize() != null) {
+                requestDecoder.setMaxInMemorySize(config.maxInMemorySize());
+            }
+        });
+        configurer.customCodecs().register(new IssuePolicyResponseJsonEncoder());
+        configurer.customCodecs().register(new ErrorBodyJsonEncoder(new JacksonJsonEncoder(jsonMapper)));
+    }
+}
@@ -4,12 +4,18 @@ import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundExcept
 import com.pet.insurance.policy_service.domain.model.Quotation;
 import com.pet.insurance.policy_service.domain.port.QuotationClient;
 import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationDTO;
+import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationLookupRequest;
 import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.RequestHedger;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Component
 public class QuotationWebClient implements QuotationClient {
 
@@ -17,18 +23,26 @@ public class QuotationWebClient implements QuotationClient {
 
     private final WebClient webClient;
     private final QuotationMapper mapper;
+    private final RequestHedger hedger;
 
+    @Autowired
     public QuotationWebClient(
             WebClient.Builder webClientBuilder,
             QuotationMapper mapper,
             @Value("${quoting.service.url}") String quotingServiceUrl) {
+        this(webClientBuilder, mapper, quotingServiceUrl, RequestHedger.disabled());
+    }
+
+    public QuotationWebClient(WebClient.Builder webClientBuilder, QuotationMapper mapper, String quotingServiceUrl,
+            RequestHedger hedger) {
         this.webClient = webClientBuilder.baseUrl(quotingServiceUrl).build();
         this.mapper = mapper;
+        this.hedger = hedger;
     }
 
     @Override
     public Mono<Quotation> findById(String quotationId) {
-        return webClient
+        return hedger.execute(() -> webClient
                 .get()
                 .uri("/{id}", quotationId)
                 .retrieve()
@@ -37,6 +51,24 @@ public class QuotationWebClient implements QuotationClient {
                         response -> Mono.error(new QuotationNotFoundException(quotationId)))
                 .bodyToMono(QuotationDTO.class)
                 .map(mapper::toDomain)
-                .switchIfEmpty(Mono.error(new QuotationNotFoundException(quotationId)));
+                .switchIfEmpty(Mono.error(new QuotationNotFoundException(quotationId))));
+    }
+
+    /**
+     * Fetches several quotations with one call to the quoting service's bulk lookup. Unknown ids
+     * are simply missing from the result. The response is gathered before being emitted, so
+     * that a hedged or retried call never emits a quotation twice.
+     */
+    @Override
+    public Flux<Quotation> findAllById(List<String> quotationIds) {
+        return hedger.execute(() -> webClient
+                .post()
+                .uri("/lookup")
+                .bodyValue(new QuotationLookupRequest(quotationIds))
+                .retrieve()
+                .bodyToFlux(QuotationDTO.class)
+                .collectList())
+                .flatMapIterable(quotations -> quotations)
+                .map(mapper::toDomain);
     }
 }
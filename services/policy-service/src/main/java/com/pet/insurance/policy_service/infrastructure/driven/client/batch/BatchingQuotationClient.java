@@ -0,0 +1,151 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.batch;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Groups concurrent quotation lookups into bulk calls. The first lookup of a batch starts a
+ * {@code maxDelay} timer; the batch is sent when the timer fires or as soon as it holds
+ * {@code maxBatchSize} distinct ids, whichever comes first. Callers asking for the same id in
+ * the same batch share its answer, ids missing from the bulk response fail with
+ * {@link QuotationNotFoundException}, and a failed bulk call fails every lookup of its batch.
+ * Bulk lookups need no company: they are sent at once, split into calls of {@code maxBatchSize}.
+ *
+ * <p>Publishes {@code quotation.client.batch.requests} and {@code quotation.client.batch.lookups};
+ * their ratio is the average batch size.
+ */
+public class BatchingQuotationClient implements QuotationClient {
+
+    private final Function<List<String>, Flux<Quotation>> loader;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Scheduler scheduler;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+
+    private Batch pending;
+
+    public BatchingQuotationClient(Function<List<String>, Flux<Quotation>> loader, int maxBatchSize,
+            Duration maxDelay) {
+        this(loader, maxBatchSize, maxDelay, Schedulers.parallel());
+    }
+
+    BatchingQuotationClient(Function<List<String>, Flux<Quotation>> loader, int maxBatchSize, Duration maxDelay,
+            Scheduler scheduler) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("Batch delay cannot be negative");
+        }
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Quotation> findById(String quotationId) {
+        return Mono.create(sink -> enqueue(quotationId, sink));
+    }
+
+    @Override
+    public Flux<Quotation> findAllById(List<String> quotationIds) {
+        return Flux.fromIterable(quotationIds)
+                .distinct()
+                .buffer(maxBatchSize)
+                .concatMap(ids -> {
+                    requests.increment();
+                    lookups.add(ids.size());
+                    return loader.apply(ids);
+                });
+    }
+
+    public long requests() {
+        return requests.sum();
+    }
+
+    public long lookups() {
+        return lookups.sum();
+    }
+
+    private void enqueue(String quotationId, MonoSink<Quotation> sink) {
+        Batch full = null;
+        synchronized (this) {
+            if (pending == null) {
+                Batch batch = new Batch();
+                pending = batch;
+                batch.timer = scheduler.schedule(() -> dispatchOnTimer(batch), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+            pending.waiters.computeIfAbsent(quotationId, id -> new ArrayList<>(1)).add(sink);
+            if (pending.waiters.size() >= maxBatchSize) {
+                full = pending;
+                pending = null;
+            }
+        }
+        if (full != null) {
+            full.timer.dispose();
+            dispatch(full);
+        }
+    }
+
+    private void dispatchOnTimer(Batch batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Batch batch) {
+        List<String> ids = List.copyOf(batch.waiters.keySet());
+        requests.increment();
+        lookups.add(ids.size());
+        Flux.defer(() -> loader.apply(ids))
+                .collectMap(Quotation::id)
+                .subscribe(found -> batch.waiters.forEach((id, sinks) -> {
+                    Quotation quotation = found.get(id);
+                    for (MonoSink<Quotation> sink : sinks) {
+                        if (quotation != null) {
+                            sink.success(quotation);
+                        } else {
+                            sink.error(new QuotationNotFoundException(id));
+                        }
+                    }
+                }), error -> batch.waiters.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error))));
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quotation.client.batch.requests", requests, LongAdder::sum)
+                .description("Bulk lookups sent to the quoting service")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.batch.lookups", lookups, LongAdder::sum)
+                .description("Distinct quotation ids sent in bulk lookups")
+                .register(registry);
+    }
+
+    private static final class Batch {
+        private final Map<String, List<MonoSink<Quotation>>> waiters = new LinkedHashMap<>();
+        private Disposable timer;
+    }
+}
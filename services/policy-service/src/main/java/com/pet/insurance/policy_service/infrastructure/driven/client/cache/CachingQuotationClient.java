@@ -0,0 +1,100 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps quotations fetched from the quoting service in a {@link QuotationCache}, so that retries
+ * and repeated submissions of the same quotation do not call the quoting service again.
+ * Quotations never change once issued, so cached copies are returned as they are and callers
+ * still decide whether they are expired. Failed lookups are not cached.
+ *
+ * <p>Publishes {@code quotation.client.cache.gets} tagged with {@code result=hit|miss} and the
+ * {@code quotation.client.cache.size} gauge.
+ */
+public class CachingQuotationClient implements QuotationClient {
+
+    private final QuotationClient delegate;
+    private final QuotationCache cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingQuotationClient(QuotationClient delegate, QuotationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Quotation> findById(String quotationId) {
+        return Mono.defer(() -> {
+            Quotation cached = cache.get(quotationId);
+            if (cached != null) {
+                hits.increment();
+                return Mono.just(cached);
+            }
+            misses.increment();
+            return delegate.findById(quotationId).doOnNext(cache::put);
+        });
+    }
+
+    /**
+     * Answers the cached quotations and fetches only the others, with one call to the delegate.
+     */
+    @Override
+    public Flux<Quotation> findAllById(List<String> quotationIds) {
+        return Flux.defer(() -> {
+            List<Quotation> cached = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            for (String quotationId : quotationIds) {
+                Quotation quotation = cache.get(quotationId);
+                if (quotation != null) {
+                    cached.add(quotation);
+                } else {
+                    missing.add(quotationId);
+                }
+            }
+            hits.add(cached.size());
+            misses.add(missing.size());
+            Flux<Quotation> fetched = missing.isEmpty()
+                    ? Flux.empty()
+                    : delegate.findAllById(missing).doOnNext(cache::put);
+            return Flux.fromIterable(cached).concatWith(fetched);
+        });
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quotation.client.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Quotation lookups answered from the cache")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Quotation lookups sent to the quoting service")
+                .register(registry);
+        Gauge.builder("quotation.client.cache.size", cache, QuotationCache::size)
+                .description("Quotations currently cached")
+                .register(registry);
+        if (cache instanceof ExpiringQuotationCache expiring) {
+            FunctionCounter.builder("quotation.client.cache.evictions", expiring, ExpiringQuotationCache::evictions)
+                    .description("Quotations dropped from the full cache")
+                    .register(registry);
+        }
+    }
+}
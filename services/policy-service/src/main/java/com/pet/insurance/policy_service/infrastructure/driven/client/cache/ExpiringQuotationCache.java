@@ -0,0 +1,99 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded least-recently-used cache of quotations on the heap. Each entry lives for the
+ * configured time to live, and never past the end of its quotation's {@code expiresAt} day, so
+ * an expired quotation is looked up again rather than served from the cache for long. Entries
+ * past their deadline are dropped when read; a full cache evicts its least recently used entry,
+ * so a write never scans the whole map.
+ */
+public class ExpiringQuotationCache implements QuotationCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringQuotationCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemDefaultZone());
+    }
+
+    ExpiringQuotationCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache time to live must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public Quotation get(String id) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.deadline() <= now) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.quotation();
+        }
+    }
+
+    @Override
+    public void put(Quotation quotation) {
+        if (quotation.expiresAt() == null) {
+            return;
+        }
+        long now = clock.millis();
+        long endOfValidity = quotation.expiresAt().plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        long deadline = Math.min(now + ttlMillis, endOfValidity);
+        if (deadline <= now) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(quotation.id(), new Entry(quotation, deadline));
+            if (entries.size() > maxEntries) {
+                evictEldest();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private void evictEldest() {
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        eldest.next();
+        eldest.remove();
+        evictions.increment();
+    }
+
+    private record Entry(Quotation quotation, long deadline) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded cache of quotations stored as fixed-size {@link QuotationRecordCodec} records in direct
+ * buffers, so that millions of cached quotations add no long-lived objects to the heap.
+ *
+ * <ul>
+ *   <li>Records live in direct segments of {@value #SEGMENT_RECORDS} slots, allocated as the cache
+ *   fills up.</li>
+ *   <li>An open-addressing index, also off-heap, maps ids to slots. Each index entry is one
+ *   {@code long}: 32 bits of the id hash and the slot number plus one, with zero marking an empty
+ *   entry. Removal shifts the following entries back instead of leaving tombstones.</li>
+ *   <li>When every slot is taken, a CLOCK hand sweeps the slots, clearing reference bits set by
+ *   hits and evicting the first slot whose bit is already clear.</li>
+ * </ul>
+ *
+ * Quotations that do not fit the record layout are simply not cached.
+ */
+public class OffHeapQuotationCache implements QuotationCache {
+
+    static final int SEGMENT_RECORDS = 1 << 16;
+
+    private static final int MIN_INDEX_CAPACITY = 1024;
+    private static final int MAX_INDEX_CAPACITY = 1 << 28;
+    private static final int RECORD_SIZE = QuotationRecordCodec.RECORD_SIZE;
+
+    private final int capacity;
+    private final ByteBuffer[] segments;
+    private final ByteBuffer referenced;
+    private final ByteBuffer index;
+    private final int indexMask;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int allocated;
+    private int size;
+    private int hand;
+
+    public OffHeapQuotationCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive");
+        }
+        int indexCapacity = indexCapacityFor(maxEntries);
+        this.capacity = maxEntries;
+        this.segments = new ByteBuffer[(maxEntries + SEGMENT_RECORDS - 1) / SEGMENT_RECORDS];
+        this.referenced = ByteBuffer.allocateDirect(maxEntries);
+        this.index = ByteBuffer.allocateDirect(indexCapacity * Long.BYTES);
+        this.indexMask = indexCapacity - 1;
+    }
+
+    @Override
+    public Quotation get(String id) {
+        byte[] key = id.getBytes(StandardCharsets.UTF_8);
+        if (key.length > QuotationRecordCodec.ID_CAPACITY) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int slot = find(key, fragment(key));
+            if (slot < 0) {
+                return null;
+            }
+            referenced.put(slot, (byte) 1);
+            return QuotationRecordCodec.decode(segment(slot), offset(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void put(Quotation quotation) {
+        byte[] key;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        try {
+            key = QuotationRecordCodec.encodeId(quotation.id());
+            QuotationRecordCodec.encode(quotation, record, 0);
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        int fragment = fragment(key);
+        lock.writeLock().lock();
+        try {
+            int slot = find(key, fragment);
+            if (slot < 0) {
+                slot = claimSlot();
+                insert(fragment, slot);
+                size++;
+            }
+            segment(slot).put(offset(slot), record, 0, RECORD_SIZE);
+            referenced.put(slot, (byte) 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int find(byte[] key, int fragment) {
+        for (int position = fragment & indexMask; ; position = (position + 1) & indexMask) {
+            long entry = index.getLong(position * Long.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            int slot = slotOf(entry);
+            if ((int) (entry >>> 32) == fragment && QuotationRecordCodec.idEquals(segment(slot), offset(slot), key)) {
+                return slot;
+            }
+        }
+    }
+
+    private int claimSlot() {
+        if (allocated < capacity) {
+            int slot = allocated++;
+            if (segments[slot / SEGMENT_RECORDS] == null) {
+                int records = Math.min(SEGMENT_RECORDS, capacity - slot);
+                segments[slot / SEGMENT_RECORDS] = ByteBuffer.allocateDirect(records * RECORD_SIZE);
+            }
+            return slot;
+        }
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % capacity;
+            if (referenced.get(slot) != 0) {
+                referenced.put(slot, (byte) 0);
+            } else {
+                remove(slot);
+                size--;
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int fragment, int slot) {
+        int position = fragment & indexMask;
+        while (index.getLong(position * Long.BYTES) != 0) {
+            position = (position + 1) & indexMask;
+        }
+        index.putLong(position * Long.BYTES, (long) fragment << 32 | (slot + 1L));
+    }
+
+    /**
+     * Drops the index entry of the record held in {@code slot}, shifting back the entries that
+     * probed past it.
+     */
+    private void remove(int slot) {
+        byte[] key = QuotationRecordCodec.readId(segment(slot), offset(slot));
+        int hole = fragment(key) & indexMask;
+        while (slotOf(index.getLong(hole * Long.BYTES)) != slot) {
+            hole = (hole + 1) & indexMask;
+        }
+        for (int position = (hole + 1) & indexMask; ; position = (position + 1) & indexMask) {
+            long entry = index.getLong(position * Long.BYTES);
+            if (entry == 0) {
+                break;
+            }
+            int home = (int) (entry >>> 32) & indexMask;
+            if (((position - home) & indexMask) >= ((position - hole) & indexMask)) {
+                index.putLong(hole * Long.BYTES, entry);
+                hole = position;
+            }
+        }
+        index.putLong(hole * Long.BYTES, 0);
+    }
+
+    private ByteBuffer segment(int slot) {
+        return segments[slot / SEGMENT_RECORDS];
+    }
+
+    private static int offset(int slot) {
+        return (slot % SEGMENT_RECORDS) * RECORD_SIZE;
+    }
+
+    private static int slotOf(long entry) {
+        return (int) entry - 1;
+    }
+
+    private static int indexCapacityFor(int maxEntries) {
+        long target = Math.max(MIN_INDEX_CAPACITY, maxEntries * 4L / 3 + 1);
+        if (target > MAX_INDEX_CAPACITY) {
+            throw new IllegalArgumentException("Cache capacity cannot exceed " + MAX_INDEX_CAPACITY * 3L / 4 + " entries");
+        }
+        return Integer.highestOneBit((int) target - 1) << 1;
+    }
+
+    /**
+     * 32-bit FNV-1a hash of the id bytes, mixed so that the low bits used for the index position
+     * are well distributed.
+     */
+    private static int fragment(byte[] key) {
+        int hash = 0x811c9dc5;
+        for (byte b : key) {
+            hash ^= b;
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,18 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+
+/**
+ * Store behind {@link CachingQuotationClient}.
+ */
+public interface QuotationCache {
+
+    /**
+     * The cached quotation, or {@code null} when it is not cached.
+     */
+    Quotation get(String id);
+
+    void put(Quotation quotation);
+
+    int size();
+}
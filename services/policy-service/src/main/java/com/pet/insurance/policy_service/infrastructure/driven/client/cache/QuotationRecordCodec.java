@@ -0,0 +1,146 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Fixed-layout binary encoding of a quotation held by {@link OffHeapQuotationCache}. Every record
+ * takes {@link #RECORD_SIZE} bytes:
+ *
+ * <pre>
+ *   0  long  expiresAt as epoch day
+ *   8  long  price unscaled value
+ *  16  int   price scale
+ *  20  int   age
+ *  24  byte  premium plan flag
+ *  25  id, petName, species and breed as length-prefixed UTF-8 slots
+ * </pre>
+ *
+ * A slot whose length byte is {@code NULL_LENGTH} holds {@code null}.
+ *
+ * <p>This is a trimmed copy of the quoting-service {@code QuotationRecordCodec}. The services share
+ * no module and each maps its own {@code Quotation}, and these records never leave the process, so
+ * the two layouts need not stay in sync. The CRC and magic number are left out: only the embedded
+ * store's append log needs them, to find torn records after a crash.
+ */
+final class QuotationRecordCodec {
+
+    static final int RECORD_SIZE = 256;
+    static final int ID_CAPACITY = 36;
+
+    private static final int PET_NAME_CAPACITY = 64;
+    private static final int SPECIES_CAPACITY = 32;
+    private static final int BREED_CAPACITY = 64;
+
+    private static final int EXPIRES_AT_OFFSET = 0;
+    private static final int PRICE_UNSCALED_OFFSET = 8;
+    private static final int PRICE_SCALE_OFFSET = 16;
+    private static final int AGE_OFFSET = 20;
+    private static final int PREMIUM_OFFSET = 24;
+    private static final int ID_OFFSET = 25;
+    private static final int PET_NAME_OFFSET = ID_OFFSET + 1 + ID_CAPACITY;
+    private static final int SPECIES_OFFSET = PET_NAME_OFFSET + 1 + PET_NAME_CAPACITY;
+    private static final int BREED_OFFSET = SPECIES_OFFSET + 1 + SPECIES_CAPACITY;
+
+    private static final int NULL_LENGTH = 0xFF;
+
+    private QuotationRecordCodec() {
+    }
+
+    static byte[] encodeId(String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > ID_CAPACITY) {
+            throw new IllegalArgumentException("Quotation id exceeds " + ID_CAPACITY + " bytes: " + id);
+        }
+        return bytes;
+    }
+
+    static void encode(Quotation quotation, ByteBuffer buffer, int offset) {
+        if (quotation.expiresAt() == null || quotation.price() == null) {
+            throw new IllegalArgumentException("Quotation price and expiration date cannot be null");
+        }
+        byte[] record = new byte[RECORD_SIZE];
+        ByteBuffer out = ByteBuffer.wrap(record);
+
+        out.putLong(EXPIRES_AT_OFFSET, quotation.expiresAt().toEpochDay());
+        out.putLong(PRICE_UNSCALED_OFFSET, unscaledPrice(quotation.price()));
+        out.putInt(PRICE_SCALE_OFFSET, quotation.price().scale());
+        out.putInt(AGE_OFFSET, quotation.age());
+        out.put(PREMIUM_OFFSET, (byte) (quotation.premiumPlan() ? 1 : 0));
+        putString(out, ID_OFFSET, ID_CAPACITY, quotation.id(), "id");
+        putString(out, PET_NAME_OFFSET, PET_NAME_CAPACITY, quotation.petName(), "petName");
+        putString(out, SPECIES_OFFSET, SPECIES_CAPACITY, quotation.species(), "species");
+        putString(out, BREED_OFFSET, BREED_CAPACITY, quotation.breed(), "breed");
+
+        buffer.put(offset, record);
+    }
+
+    static Quotation decode(ByteBuffer buffer, int offset) {
+        return Quotation.reconstruct(
+                getString(buffer, offset + ID_OFFSET),
+                getString(buffer, offset + PET_NAME_OFFSET),
+                getString(buffer, offset + SPECIES_OFFSET),
+                getString(buffer, offset + BREED_OFFSET),
+                buffer.getInt(offset + AGE_OFFSET),
+                buffer.get(offset + PREMIUM_OFFSET) == 1,
+                BigDecimal.valueOf(buffer.getLong(offset + PRICE_UNSCALED_OFFSET), buffer.getInt(offset + PRICE_SCALE_OFFSET)),
+                LocalDate.ofEpochDay(buffer.getLong(offset + EXPIRES_AT_OFFSET)));
+    }
+
+    static byte[] readId(ByteBuffer buffer, int offset) {
+        int slot = offset + ID_OFFSET;
+        byte[] id = new byte[Byte.toUnsignedInt(buffer.get(slot))];
+        buffer.get(slot + 1, id);
+        return id;
+    }
+
+    static boolean idEquals(ByteBuffer buffer, int offset, byte[] id) {
+        int slot = offset + ID_OFFSET;
+        if (Byte.toUnsignedInt(buffer.get(slot)) != id.length) {
+            return false;
+        }
+        for (int i = 0; i < id.length; i++) {
+            if (buffer.get(slot + 1 + i) != id[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long unscaledPrice(BigDecimal price) {
+        BigInteger unscaled = price.unscaledValue();
+        if (unscaled.bitLength() > Long.SIZE - 1) {
+            throw new IllegalArgumentException("Price does not fit the cache record layout: " + price);
+        }
+        return unscaled.longValue();
+    }
+
+    private static void putString(ByteBuffer out, int slot, int capacity, String value, String field) {
+        if (value == null) {
+            out.put(slot, (byte) NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > capacity) {
+            throw new IllegalArgumentException(
+                    "Quotation " + field + " exceeds " + capacity + " bytes in the cache record layout");
+        }
+        out.put(slot, (byte) bytes.length);
+        out.put(slot + 1, bytes);
+    }
+
+    private static String getString(ByteBuffer buffer, int slot) {
+        int length = Byte.toUnsignedInt(buffer.get(slot));
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(slot + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
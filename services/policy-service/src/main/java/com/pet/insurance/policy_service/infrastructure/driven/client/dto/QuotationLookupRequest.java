@@ -0,0 +1,6 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.dto;
+
+import java.util.List;
+
+public record QuotationLookupRequest(List<String> ids) {
+}
@@ -0,0 +1,11 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.inprocess;
+
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+
+/**
+ * The quoting service's lookups when it runs in the same JVM. Nothing in this service implements
+ * it: a launcher hosting both services registers one, and {@code quoting.client.transport=in-process}
+ * selects it. Quotations are handed over as objects, with no serialization or network hop.
+ */
+public interface InProcessQuotationClient extends QuotationClient {
+}
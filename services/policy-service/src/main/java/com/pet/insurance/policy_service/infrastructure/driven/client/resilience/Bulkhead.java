@@ -0,0 +1,38 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the calls in flight to a dependency. Calls over the cap are refused rather than queued.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrentCalls;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public Bulkhead(int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("Maximum concurrent calls must be positive");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxConcurrentCalls) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,128 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free circuit breaker.
+ *
+ * <ul>
+ *   <li>{@code CLOSED}: calls go through and their outcomes are counted in fixed windows. Once a
+ *   window holds {@code minimumCalls} outcomes of which at least {@code failureRateThreshold}
+ *   failed, the breaker opens.</li>
+ *   <li>{@code OPEN}: calls are refused for {@code openDuration}; the first call after that is let
+ *   through as a probe and the breaker turns half-open.</li>
+ *   <li>{@code HALF_OPEN}: other calls are refused until the probe ends. A successful probe
+ *   closes the breaker, a failed one opens it again, and an abandoned one lets the next call
+ *   probe instead.</li>
+ * </ul>
+ *
+ * The counts of a window live in one {@code long}, calls in the high half and failures in the
+ * low half, so that an outcome is recorded with a single atomic add.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long CALL = 1L << 32;
+    private static final long FAILURE = 1L;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long windowMillis;
+    private final long openMillis;
+    private final LongSupplier clock;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong windowStart;
+    private final AtomicLong counts = new AtomicLong();
+
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, Duration window, Duration openDuration) {
+        this(failureRateThreshold, minimumCalls, window, openDuration, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(double failureRateThreshold, int minimumCalls, Duration window, Duration openDuration,
+            LongSupplier clock) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("Failure rate threshold must be greater than 0 and at most 1");
+        }
+        if (minimumCalls <= 0) {
+            throw new IllegalArgumentException("Minimum calls must be positive");
+        }
+        if (window.isNegative() || window.isZero() || openDuration.isNegative()) {
+            throw new IllegalArgumentException("Circuit breaker window must be positive and open duration non-negative");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowMillis = window.toMillis();
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+        this.windowStart = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Whether a call may go through now. A caller that is let through must report the outcome
+     * with {@link #onSuccess()}, {@link #onFailure()} or {@link #onAbandoned()}.
+     */
+    public boolean tryAcquire() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> clock.getAsLong() - openedAt.get() >= openMillis
+                    && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+            case HALF_OPEN -> false;
+        };
+    }
+
+    public void onSuccess() {
+        if (state.get() == State.HALF_OPEN) {
+            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                windowStart.set(clock.getAsLong());
+                counts.set(0);
+            }
+            return;
+        }
+        record(CALL);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            open(State.HALF_OPEN);
+            return;
+        }
+        long window = record(CALL | FAILURE);
+        long calls = window >>> 32;
+        long failures = window & 0xFFFF_FFFFL;
+        if (calls >= minimumCalls && failures >= failureRateThreshold * calls) {
+            open(State.CLOSED);
+        }
+    }
+
+    /**
+     * The call ended without an outcome, for instance because its caller cancelled it.
+     */
+    public void onAbandoned() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    private void open(State from) {
+        openedAt.set(clock.getAsLong());
+        state.compareAndSet(from, State.OPEN);
+    }
+
+    private long record(long outcome) {
+        long now = clock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= windowMillis && windowStart.compareAndSet(start, now)) {
+            counts.set(0);
+        }
+        return counts.addAndGet(outcome);
+    }
+}
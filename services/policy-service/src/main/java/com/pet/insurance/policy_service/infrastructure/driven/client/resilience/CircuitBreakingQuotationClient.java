@@ -0,0 +1,154 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.exception.QuotingServiceUnavailableException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.QuotationCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Guards the quoting service with a {@link CircuitBreaker} and a {@link Bulkhead}. Calls refused
+ * by either fail at once with {@link QuotingServiceUnavailableException} instead of waiting on
+ * a struggling dependency. A quotation that is not found counts as a healthy answer. A bulk
+ * lookup takes a single permit of each.
+ *
+ * <p>When a fallback store is given, every quotation fetched is kept there, and refused or
+ * failed lookups are answered from it as long as the stored quotation has not expired. A bulk
+ * lookup is answered from it only when it holds every id asked for.
+ *
+ * <p>Publishes the {@code quotation.client.breaker.state} gauge (0 closed, 1 open, 2 half-open),
+ * {@code quotation.client.breaker.rejections} tagged with {@code reason=open|bulkhead} and
+ * {@code quotation.client.breaker.fallbacks}.
+ */
+public class CircuitBreakingQuotationClient implements QuotationClient {
+
+    private final QuotationClient delegate;
+    private final CircuitBreaker breaker;
+    private final Bulkhead bulkhead;
+    private final QuotationCache fallback;
+    private final LongAdder openRejections = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public CircuitBreakingQuotationClient(QuotationClient delegate, CircuitBreaker breaker, Bulkhead bulkhead,
+            QuotationCache fallback) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.bulkhead = bulkhead;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Mono<Quotation> findById(String quotationId) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejections.increment();
+                return fallback(quotationId, new QuotingServiceUnavailableException("too many concurrent lookups"));
+            }
+            if (!breaker.tryAcquire()) {
+                bulkhead.release();
+                openRejections.increment();
+                return fallback(quotationId, new QuotingServiceUnavailableException("circuit open"));
+            }
+            return delegate.findById(quotationId)
+                    .doOnSuccess(quotation -> breaker.onSuccess())
+                    .doOnError(error -> {
+                        if (error instanceof QuotationNotFoundException) {
+                            breaker.onSuccess();
+                        } else {
+                            breaker.onFailure();
+                        }
+                    })
+                    .doOnCancel(breaker::onAbandoned)
+                    .doFinally(signal -> bulkhead.release())
+                    .doOnNext(this::remember)
+                    .onErrorResume(error -> !(error instanceof QuotationNotFoundException),
+                            error -> fallback(quotationId, error));
+        });
+    }
+
+    @Override
+    public Flux<Quotation> findAllById(List<String> quotationIds) {
+        return Flux.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejections.increment();
+                return fallback(quotationIds, new QuotingServiceUnavailableException("too many concurrent lookups"));
+            }
+            if (!breaker.tryAcquire()) {
+                bulkhead.release();
+                openRejections.increment();
+                return fallback(quotationIds, new QuotingServiceUnavailableException("circuit open"));
+            }
+            return delegate.findAllById(quotationIds)
+                    .collectList()
+                    .doOnSuccess(quotations -> breaker.onSuccess())
+                    .doOnError(error -> breaker.onFailure())
+                    .doOnCancel(breaker::onAbandoned)
+                    .doFinally(signal -> bulkhead.release())
+                    .flatMapIterable(quotations -> quotations)
+                    .doOnNext(this::remember)
+                    .onErrorResume(error -> fallback(quotationIds, error));
+        });
+    }
+
+    public CircuitBreaker.State state() {
+        return breaker.state();
+    }
+
+    private void remember(Quotation quotation) {
+        if (fallback != null) {
+            fallback.put(quotation);
+        }
+    }
+
+    private Mono<Quotation> fallback(String quotationId, Throwable error) {
+        Quotation stale = fallback == null ? null : fallback.get(quotationId);
+        if (stale != null && !stale.isExpired()) {
+            fallbacks.increment();
+            return Mono.just(stale);
+        }
+        return Mono.error(error);
+    }
+
+    private Flux<Quotation> fallback(List<String> quotationIds, Throwable error) {
+        if (fallback == null) {
+            return Flux.error(error);
+        }
+        List<Quotation> stale = new ArrayList<>(quotationIds.size());
+        for (String quotationId : quotationIds) {
+            Quotation quotation = fallback.get(quotationId);
+            if (quotation == null || quotation.isExpired()) {
+                return Flux.error(error);
+            }
+            stale.add(quotation);
+        }
+        fallbacks.add(stale.size());
+        return Flux.fromIterable(stale);
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("quotation.client.breaker.state", breaker, cb -> cb.state().ordinal())
+                .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.breaker.rejections", openRejections, LongAdder::sum)
+                .tag("reason", "open")
+                .description("Quotation lookups refused because the circuit was open")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.breaker.rejections", bulkheadRejections, LongAdder::sum)
+                .tag("reason", "bulkhead")
+                .description("Quotation lookups refused because too many were in flight")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.breaker.fallbacks", fallbacks, LongAdder::sum)
+                .description("Quotation lookups answered from the fallback store")
+                .register(registry);
+    }
+}
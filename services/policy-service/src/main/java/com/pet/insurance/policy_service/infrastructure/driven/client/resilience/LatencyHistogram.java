@@ -0,0 +1,114 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free latency histogram over a sliding window, used to estimate recent percentiles.
+ * Latencies fall into {@value #BUCKETS} buckets whose bounds grow by 20% from 100µs to about 10s,
+ * so a percentile is overestimated by at most one bucket width. Two windows of counts are kept:
+ * percentiles combine the current window with the previous one, and the older one is reset when
+ * the window rolls over.
+ */
+public class LatencyHistogram {
+
+    static final int BUCKETS = 64;
+
+    private static final double FIRST_BOUND_NANOS = 100_000;
+    private static final double GROWTH = 1.2;
+    private static final long[] UPPER_BOUNDS = upperBounds();
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLongArray[] windows = { new AtomicLongArray(BUCKETS), new AtomicLongArray(BUCKETS) };
+    private final AtomicLong epoch;
+
+    public LatencyHistogram(long windowNanos) {
+        this(windowNanos, System::nanoTime);
+    }
+
+    LatencyHistogram(long windowNanos, LongSupplier nanoClock) {
+        if (windowNanos <= 0) {
+            throw new IllegalArgumentException("Latency window must be positive");
+        }
+        this.windowNanos = windowNanos;
+        this.nanoClock = nanoClock;
+        this.epoch = new AtomicLong(nanoClock.getAsLong() / windowNanos);
+    }
+
+    public void record(long latencyNanos) {
+        long current = roll();
+        windows[(int) (current & 1)].incrementAndGet(bucketOf(latencyNanos));
+    }
+
+    /**
+     * The latency below which {@code quantile} of the recorded samples fall, or {@code -1} when
+     * fewer than {@code minSamples} were recorded in the last two windows.
+     */
+    public long percentile(double quantile, long minSamples) {
+        roll();
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (AtomicLongArray window : windows) {
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                long count = window.get(bucket);
+                counts[bucket] += count;
+                total += count;
+            }
+        }
+        if (total == 0 || total < minSamples) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return UPPER_BOUNDS[bucket];
+            }
+        }
+        return UPPER_BOUNDS[BUCKETS - 1];
+    }
+
+    /**
+     * Moves to the window of the current time, clearing the counts that fell out of it.
+     */
+    private long roll() {
+        long now = nanoClock.getAsLong() / windowNanos;
+        long seen = epoch.get();
+        while (now > seen) {
+            if (epoch.compareAndSet(seen, now)) {
+                clear(windows[(int) (now & 1)]);
+                if (now - seen > 1) {
+                    clear(windows[(int) ((now - 1) & 1)]);
+                }
+                return now;
+            }
+            seen = epoch.get();
+        }
+        return seen;
+    }
+
+    private static void clear(AtomicLongArray window) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            window.set(bucket, 0);
+        }
+    }
+
+    static int bucketOf(long latencyNanos) {
+        if (latencyNanos <= FIRST_BOUND_NANOS) {
+            return 0;
+        }
+        int bucket = (int) Math.ceil(Math.log(latencyNanos / FIRST_BOUND_NANOS) / Math.log(GROWTH));
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    private static long[] upperBounds() {
+        long[] bounds = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            bounds[bucket] = (long) (FIRST_BOUND_NANOS * Math.pow(GROWTH, bucket));
+        }
+        return bounds;
+    }
+}
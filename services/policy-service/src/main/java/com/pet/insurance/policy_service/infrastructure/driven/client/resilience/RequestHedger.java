@@ -0,0 +1,176 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs idempotent calls with hedging and budgeted retries.
+ *
+ * <ul>
+ *   <li>If a call has not answered after the recent {@code percentile} latency, clamped between
+ *   {@code minDelay} and {@code maxDelay}, a second identical call is sent and the first to
+ *   answer wins; the other is cancelled. Until {@code minSamples} latencies have been observed
+ *   the hedge waits {@code initialDelay}.</li>
+ *   <li>Transient failures, that is connection errors, timeouts and 502, 503 or 504 responses,
+ *   are retried up to {@code maxRetries} times with exponential backoff.</li>
+ * </ul>
+ *
+ * Hedges and retries both spend tokens of the same {@link RetryBudget}, so neither can multiply
+ * the load on a dependency that is already struggling.
+ */
+public class RequestHedger implements MeterBinder {
+
+    private static final long MIN_SAMPLES = 100;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final boolean hedgingEnabled;
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final int maxRetries;
+    private final Duration backoff;
+    private final RetryBudget budget;
+    private final LatencyHistogram latencies;
+    private final Scheduler scheduler;
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public RequestHedger(boolean hedgingEnabled, double percentile, Duration initialDelay, Duration minDelay,
+            Duration maxDelay, int maxRetries, Duration backoff, RetryBudget budget) {
+        this(hedgingEnabled, percentile, initialDelay, minDelay, maxDelay, maxRetries, backoff, budget,
+                new LatencyHistogram(WINDOW_NANOS), Schedulers.parallel());
+    }
+
+    RequestHedger(boolean hedgingEnabled, double percentile, Duration initialDelay, Duration minDelay,
+            Duration maxDelay, int maxRetries, Duration backoff, RetryBudget budget, LatencyHistogram latencies,
+            Scheduler scheduler) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Hedging percentile must be between 0 and 1");
+        }
+        if (minDelay.compareTo(maxDelay) > 0) {
+            throw new IllegalArgumentException("Minimum hedging delay cannot exceed the maximum");
+        }
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Maximum retries cannot be negative");
+        }
+        this.hedgingEnabled = hedgingEnabled;
+        this.percentile = percentile;
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxRetries = maxRetries;
+        this.backoff = backoff;
+        this.budget = budget;
+        this.latencies = latencies;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Hedging and retries turned off: calls run exactly once.
+     */
+    public static RequestHedger disabled() {
+        return new RequestHedger(false, 0.95, Duration.ZERO, Duration.ZERO, Duration.ZERO, 0, Duration.ZERO,
+                new RetryBudget(0, 0));
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        if (!hedgingEnabled && maxRetries == 0) {
+            return Mono.defer(call);
+        }
+        Mono<T> hedged = Mono.defer(() -> {
+            budget.recordRequest();
+            return hedgingEnabled ? hedge(call) : timed(call);
+        });
+        if (maxRetries == 0) {
+            return hedged;
+        }
+        return hedged.retryWhen(Retry.backoff(maxRetries, backoff)
+                .scheduler(scheduler)
+                .filter(error -> isTransient(error) && spend(retries))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * Current hedging delay in nanoseconds.
+     */
+    public long hedgeDelayNanos() {
+        long observed = latencies.percentile(percentile, MIN_SAMPLES);
+        if (observed < 0) {
+            return initialDelayNanos;
+        }
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, observed));
+    }
+
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    public long retries() {
+        return retries.sum();
+    }
+
+    private <T> Mono<T> hedge(Supplier<Mono<T>> call) {
+        Mono<T> backup = Mono.delay(Duration.ofNanos(hedgeDelayNanos()), scheduler)
+                .flatMap(tick -> spend(hedges) ? timed(call) : Mono.<T>never());
+        return Mono.firstWithSignal(timed(call), backup);
+    }
+
+    private <T> Mono<T> timed(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.get().doOnSuccess(value -> latencies.record(System.nanoTime() - start));
+        });
+    }
+
+    private boolean spend(LongAdder counter) {
+        if (budget.tryAcquire()) {
+            counter.increment();
+            return true;
+        }
+        denied.increment();
+        return false;
+    }
+
+    static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientRequestException) {
+            return true;
+        }
+        if (error instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 502 || status == 503 || status == 504;
+        }
+        return false;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("quotation.client.hedges", hedges, LongAdder::sum)
+                .description("Hedged quotation requests sent after a slow first attempt")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.retries", retries, LongAdder::sum)
+                .description("Quotation requests retried after a transient failure")
+                .register(registry);
+        FunctionCounter.builder("quotation.client.retry.budget.denied", denied, LongAdder::sum)
+                .description("Hedges and retries skipped because the retry budget was spent")
+                .register(registry);
+        Gauge.builder("quotation.client.hedge.delay", this, hedger -> hedger.hedgeDelayNanos() / 1e6)
+                .description("Current hedging delay in milliseconds")
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that keeps retries a bounded fraction of the traffic. Every request deposits
+ * {@code ratio} of a token, up to {@code capacity} tokens, and every retry spends a whole one, so
+ * a dependency that fails everything receives at most {@code 1 + ratio} calls per request once
+ * the initial {@code capacity} is spent.
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int capacity) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Retry budget ratio must be between 0 and 1");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Retry budget capacity cannot be negative");
+        }
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    public void recordRequest() {
+        if (balance.get() < capacity) {
+            balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+        }
+    }
+
+    /**
+     * Spends one token, returning {@code false} when the budget cannot afford another retry.
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Whole tokens currently available.
+     */
+    public long available() {
+        return balance.get() / TOKEN;
+    }
+}
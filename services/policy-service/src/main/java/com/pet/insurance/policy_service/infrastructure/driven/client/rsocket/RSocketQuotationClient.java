@@ -0,0 +1,57 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.rsocket;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationDTO;
+import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Looks up quotations over the quoting service's RSocket routes. All calls share the requester's
+ * single connection, opened on first use and again on the next call after it is lost. A call
+ * that waits longer than the timeout for a response fails with a {@code TimeoutException}.
+ */
+public class RSocketQuotationClient implements QuotationClient {
+
+    static final String GET_ROUTE = "quotations.get";
+    static final String LOOKUP_ROUTE = "quotations.lookup";
+
+    private final RSocketRequester requester;
+    private final QuotationMapper mapper;
+    private final Duration timeout;
+
+    public RSocketQuotationClient(RSocketRequester requester, QuotationMapper mapper, Duration timeout) {
+        this.requester = requester;
+        this.mapper = mapper;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Mono<Quotation> findById(String quotationId) {
+        return requester.route(GET_ROUTE)
+                .data(quotationId)
+                .retrieveMono(QuotationDTO.class)
+                .timeout(timeout)
+                .map(mapper::toDomain)
+                .switchIfEmpty(Mono.error(new QuotationNotFoundException(quotationId)));
+    }
+
+    /**
+     * Streams the ids over one request-channel and emits the quotations that exist, in no
+     * particular order. The timeout applies to each quotation, not to the whole lookup.
+     */
+    @Override
+    public Flux<Quotation> findAllById(List<String> quotationIds) {
+        return requester.route(LOOKUP_ROUTE)
+                .data(Flux.fromIterable(quotationIds), String.class)
+                .retrieveFlux(QuotationDTO.class)
+                .timeout(timeout)
+                .map(mapper::toDomain);
+    }
+}
@@ -0,0 +1,83 @@
+package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
+
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
+import com.pet.insurance.policy_service.domain.port.PolicyRepository;
+import com.pet.insurance.policy_service.domain.model.Policy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Imperative adapter backed by the synchronous driver. Every blocking call is shifted onto
+ * the virtual-thread scheduler so the event loop is never blocked.
+ */
+public class BlockingPolicyRepositoryAdapter implements PolicyRepository {
+
+    private final MongoTemplate mongoTemplate;
+    private final Scheduler scheduler;
+    private final PolicyDocumentMapper mapper = new PolicyDocumentMapper();
+
+    public BlockingPolicyRepositoryAdapter(MongoTemplate mongoTemplate, Scheduler scheduler) {
+        this.mongoTemplate = mongoTemplate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Policy> save(Policy policy, String idempotencyKey) {
+        return Mono.fromCallable(() -> mongoTemplate.save(mapper.toDocument(policy, idempotencyKey)))
+                .subscribeOn(scheduler)
+                .map(mapper::toDomain)
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new PolicyAlreadyIssuedException(policy.getQuotationId().toString()));
+    }
+
+    @Override
+    public Mono<Map<Integer, RuntimeException>> saveAll(List<Policy> policies) {
+        return Mono.fromCallable(() -> mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)
+                        .insert(policies.stream().map(mapper::toDocument).toList())
+                        .execute())
+                .subscribeOn(scheduler)
+                .map(result -> Map.<Integer, RuntimeException>of())
+                .onErrorResume(error -> PolicyBulkWriteErrors.rejected(error, policies)
+                        .map(Mono::just)
+                        .orElseGet(() -> Mono.error(error)));
+    }
+
+    @Override
+    public Mono<Policy> findIssued(UUID quotationId, String idempotencyKey) {
+        Mono<PolicyDocument> byQuotation = findOne(Criteria.where("quotationId").is(quotationId));
+        Mono<PolicyDocument> document = idempotencyKey == null
+                ? byQuotation
+                : findOne(Criteria.where("idempotencyKey").is(idempotencyKey)).switchIfEmpty(byQuotation);
+        return document.map(mapper::toDomain);
+    }
+
+    @Override
+    public Flux<Policy> findAllByQuotationId(List<UUID> quotationIds) {
+        Query query = Query.query(Criteria.where("quotationId").in(quotationIds));
+        return Mono.fromCallable(() -> mongoTemplate.find(query, PolicyDocument.class))
+                .subscribeOn(scheduler)
+                .flatMapIterable(documents -> documents)
+                .map(mapper::toDomain);
+    }
+
+    public Mono<Policy> findById(UUID policyId) {
+        return Mono.fromCallable(() -> mongoTemplate.findById(policyId.toString(), PolicyDocument.class))
+                .subscribeOn(scheduler)
+                .map(mapper::toDomain);
+    }
+
+    private Mono<PolicyDocument> findOne(Criteria criteria) {
+        return Mono.fromCallable(() -> mongoTemplate.findOne(Query.query(criteria), PolicyDocument.class))
+                .subscribeOn(scheduler);
+    }
+}
@@ -1,57 +1,70 @@
 package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
 
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
 import com.pet.insurance.policy_service.domain.port.PolicyRepository;
-import com.pet.insurance.policy_service.domain.model.Owner;
 import com.pet.insurance.policy_service.domain.model.Policy;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class MongoPolicyRepositoryAdapter implements PolicyRepository {
 
     private final SpringDataPolicyRepository repository;
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final PolicyDocumentMapper mapper = new PolicyDocumentMapper();
 
-    public MongoPolicyRepositoryAdapter(SpringDataPolicyRepository repository) {
+    public MongoPolicyRepositoryAdapter(SpringDataPolicyRepository repository, ReactiveMongoTemplate mongoTemplate) {
         this.repository = repository;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Override
-    public Mono<Policy> save(Policy policy) {
+    public Mono<Policy> save(Policy policy, String idempotencyKey) {
 
-        PolicyDocument document = toDocument(policy);
+        PolicyDocument document = mapper.toDocument(policy, idempotencyKey);
 
         return repository.save(document)
-                .map(this::toDomain);
+                .map(mapper::toDomain)
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new PolicyAlreadyIssuedException(policy.getQuotationId().toString()));
     }
 
-    public Mono<Policy> findById(UUID policyId) {
-        return repository.findById(policyId.toString())
-                .map(this::toDomain);
+    @Override
+    public Mono<Map<Integer, RuntimeException>> saveAll(List<Policy> policies) {
+        List<PolicyDocument> documents = policies.stream().map(mapper::toDocument).toList();
+
+        return mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)
+                .insert(documents)
+                .execute()
+                .map(result -> Map.<Integer, RuntimeException>of())
+                .onErrorResume(error -> PolicyBulkWriteErrors.rejected(error, policies)
+                        .map(Mono::just)
+                        .orElseGet(() -> Mono.error(error)));
     }
 
-    private PolicyDocument toDocument(Policy policy) {
-        PolicyDocument doc = new PolicyDocument();
-
-        doc.setId(policy.getId().toString());
-        doc.setQuotationId(policy.getQuotationId());
-
-        doc.setOwnerId(policy.getOwner().id());
-        doc.setOwnerName(policy.getOwner().name());
-        doc.setOwnerEmail(policy.getOwner().email());
-
-        doc.setStartDate(policy.getStartDate());
-        doc.setEndDate(policy.getEndDate());
-        doc.setActive(policy.isActive());
-
-        return doc;
+    @Override
+    public Mono<Policy> findIssued(UUID quotationId, String idempotencyKey) {
+        Mono<PolicyDocument> byQuotation = repository.findByQuotationId(quotationId);
+        Mono<PolicyDocument> document = idempotencyKey == null
+                ? byQuotation
+                : repository.findByIdempotencyKey(idempotencyKey).switchIfEmpty(byQuotation);
+        return document.map(mapper::toDomain);
     }
 
-    private Policy toDomain(PolicyDocument doc) {
-        Owner owner = new Owner(
-                doc.getOwnerId(),
-                doc.getOwnerName(),
-                doc.getOwnerEmail());
+    @Override
+    public Flux<Policy> findAllByQuotationId(List<UUID> quotationIds) {
+        return repository.findByQuotationIdIn(quotationIds)
+                .map(mapper::toDomain);
+    }
 
-        return Policy.issue(doc.getQuotationId(), owner);
+    public Mono<Policy> findById(UUID policyId) {
+        return repository.findById(policyId.toString())
+                .map(mapper::toDomain);
     }
 }
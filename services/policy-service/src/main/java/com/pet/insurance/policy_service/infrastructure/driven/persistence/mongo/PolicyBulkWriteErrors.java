@@ -0,0 +1,55 @@
+package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
+import com.pet.insurance.policy_service.domain.model.Policy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Maps the failure of an unordered bulk insert of policies back to the policies it rejected.
+ * Both templates report such an insert as an exception caused by {@link MongoBulkWriteException},
+ * whose write errors carry the position of each rejected document; every other document was
+ * written.
+ */
+final class PolicyBulkWriteErrors {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private PolicyBulkWriteErrors() {
+    }
+
+    /**
+     * The error of each rejected policy by its position in {@code policies}, or empty when
+     * {@code error} is not a per-document failure, so nothing is known to have been written.
+     */
+    static Optional<Map<Integer, RuntimeException>> rejected(Throwable error, List<Policy> policies) {
+        MongoBulkWriteException bulkWriteException = bulkWriteException(error);
+        if (bulkWriteException == null || bulkWriteException.getWriteConcernError() != null) {
+            return Optional.empty();
+        }
+        Map<Integer, RuntimeException> rejected = new HashMap<>();
+        for (BulkWriteError writeError : bulkWriteException.getWriteErrors()) {
+            Policy policy = policies.get(writeError.getIndex());
+            rejected.put(writeError.getIndex(), writeError.getCode() == DUPLICATE_KEY
+                    ? new PolicyAlreadyIssuedException(policy.getQuotationId().toString())
+                    : new IllegalStateException("Policy write rejected: " + writeError.getMessage()));
+        }
+        return Optional.of(rejected);
+    }
+
+    private static MongoBulkWriteException bulkWriteException(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                return bulkWriteException;
+            }
+            cause = cause.getCause();
+        }
+        return null;
+    }
+}
@@ -6,6 +6,10 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDate;
 import java.util.UUID;
 
+/**
+ * Stored policy. {@code quotationId} and the optional {@code idempotencyKey} are unique, through
+ * the indexes {@link PolicyIndexInitializer} creates on startup.
+ */
 @Document(collection = "policies")
 public class PolicyDocument {
 
@@ -14,6 +18,8 @@ public class PolicyDocument {
 
     private UUID quotationId;
 
+    private String idempotencyKey;
+
     private String ownerId;
     private String ownerName;
     private String ownerEmail;
@@ -39,6 +45,14 @@ public class PolicyDocument {
         this.quotationId = quotationId;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public String getOwnerId() {
         return ownerId;
     }
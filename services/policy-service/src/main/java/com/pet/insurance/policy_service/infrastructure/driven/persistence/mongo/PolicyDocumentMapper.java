@@ -0,0 +1,46 @@
+package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
+
+import com.pet.insurance.policy_service.domain.model.Owner;
+import com.pet.insurance.policy_service.domain.model.Policy;
+
+import java.util.UUID;
+
+class PolicyDocumentMapper {
+
+    PolicyDocument toDocument(Policy policy) {
+        return toDocument(policy, null);
+    }
+
+    PolicyDocument toDocument(Policy policy, String idempotencyKey) {
+        PolicyDocument doc = new PolicyDocument();
+
+        doc.setId(policy.getId().toString());
+        doc.setQuotationId(policy.getQuotationId());
+        doc.setIdempotencyKey(idempotencyKey);
+
+        doc.setOwnerId(policy.getOwner().id());
+        doc.setOwnerName(policy.getOwner().name());
+        doc.setOwnerEmail(policy.getOwner().email());
+
+        doc.setStartDate(policy.getStartDate());
+        doc.setEndDate(policy.getEndDate());
+        doc.setActive(policy.isActive());
+
+        return doc;
+    }
+
+    Policy toDomain(PolicyDocument doc) {
+        Owner owner = new Owner(
+                doc.getOwnerId(),
+                doc.getOwnerName(),
+                doc.getOwnerEmail());
+
+        return Policy.reconstruct(
+                UUID.fromString(doc.getId()),
+                doc.getQuotationId(),
+                owner,
+                doc.getStartDate(),
+                doc.getEndDate(),
+                doc.isActive());
+    }
+}
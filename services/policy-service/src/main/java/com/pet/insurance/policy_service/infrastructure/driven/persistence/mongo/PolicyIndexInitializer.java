@@ -0,0 +1,71 @@
+package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Creates the unique indexes of the {@code policies} collection on startup, with whichever
+ * MongoDB template the persistence mode provides. It runs once every singleton exists and before
+ * the web server starts, so no request is served without them. Issuance relies on them to reject
+ * a second policy for a quotation or an idempotency key, so the service does not start without
+ * them; creating an index that already exists with the same definition does nothing. Only
+ * {@code policy.indexes.create-on-startup=false} skips the step, for contexts without MongoDB.
+ */
+@Component
+@ConditionalOnProperty(name = "policy.indexes.create-on-startup", havingValue = "true", matchIfMissing = true)
+public class PolicyIndexInitializer implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicyIndexInitializer.class);
+
+    static final List<IndexDefinition> INDEXES = List.of(
+            new Index().on("quotationId", Sort.Direction.ASC).named("quotationId").unique(),
+            new Index().on("idempotencyKey", Sort.Direction.ASC).named("idempotencyKey").unique().sparse());
+
+    private final ObjectProvider<ReactiveMongoTemplate> reactiveTemplate;
+    private final ObjectProvider<MongoTemplate> blockingTemplate;
+
+    public PolicyIndexInitializer(ObjectProvider<ReactiveMongoTemplate> reactiveTemplate,
+            ObjectProvider<MongoTemplate> blockingTemplate) {
+        this.reactiveTemplate = reactiveTemplate;
+        this.blockingTemplate = blockingTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            reactiveTemplate.ifAvailable(template -> createIndexes(template.indexOps(PolicyDocument.class)));
+            blockingTemplate.ifAvailable(template -> createIndexes(template.indexOps(PolicyDocument.class)));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Cannot create the unique indexes of the policies collection; "
+                    + "if it holds duplicate policies, remove them before starting the service", e);
+        }
+    }
+
+    void createIndexes(ReactiveIndexOperations indexOperations) {
+        Flux.fromIterable(INDEXES)
+                .concatMap(indexOperations::createIndex)
+                .doOnNext(name -> logger.info("Ensured unique index {} on policies", name))
+                .then()
+                .block();
+    }
+
+    void createIndexes(IndexOperations indexOperations) {
+        for (IndexDefinition index : INDEXES) {
+            logger.info("Ensured unique index {} on policies", indexOperations.createIndex(index));
+        }
+    }
+}
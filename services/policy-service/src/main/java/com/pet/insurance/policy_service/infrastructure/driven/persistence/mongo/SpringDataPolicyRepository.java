@@ -1,6 +1,17 @@
 package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.UUID;
 
 public interface SpringDataPolicyRepository
         extends ReactiveMongoRepository<PolicyDocument, String> {
+
+    Mono<PolicyDocument> findByQuotationId(UUID quotationId);
+
+    Mono<PolicyDocument> findByIdempotencyKey(String idempotencyKey);
+
+    Flux<PolicyDocument> findByQuotationIdIn(Collection<UUID> quotationIds);
 }
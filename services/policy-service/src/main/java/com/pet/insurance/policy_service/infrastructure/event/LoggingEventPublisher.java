@@ -6,6 +6,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Infrastructure adapter that simulates event publishing by logging events.
  */
@@ -26,4 +28,19 @@ public class LoggingEventPublisher implements DomainEventPublisher {
             logger.info("This event would be sent to external billing system for invoice generation");
         });
     }
+
+    @Override
+    public Mono<Void> publishPoliciesIssued(List<PolicyIssuedEvent> events) {
+        return Mono.fromRunnable(() -> {
+            logger.info("========================================");
+            logger.info("DOMAIN EVENTS PUBLISHED: {} PolicyIssuedEvent", events.size());
+            for (PolicyIssuedEvent event : events) {
+                logger.info("Policy ID: {} | Quotation ID: {} | Owner Email: {}",
+                        event.policyId(), event.quotationId(), event.ownerEmail());
+            }
+            logger.info("Timestamp: {}", java.time.Instant.now());
+            logger.info("========================================");
+            logger.info("These events would be sent to external billing system in one message");
+        });
+    }
 }
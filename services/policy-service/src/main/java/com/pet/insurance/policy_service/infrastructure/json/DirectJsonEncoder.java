@@ -0,0 +1,79 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Base for JSON encoders that write one response type by hand instead of through Jackson's bean
+ * serializers. Each value goes straight into a buffer of the response's {@link DataBufferFactory},
+ * pooled on Netty; a {@link Flux} is written as a JSON array, as Jackson's encoder does.
+ */
+public abstract class DirectJsonEncoder<T> extends AbstractEncoder<T> {
+
+    private static final int ESTIMATED_SIZE = 256;
+
+    private final Class<T> type;
+
+    protected DirectJsonEncoder(Class<T> type) {
+        super(MediaType.APPLICATION_JSON);
+        this.type = type;
+    }
+
+    /**
+     * Writes one value as a JSON object.
+     */
+    protected abstract void write(T value, DataBuffer out);
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return type.isAssignableFrom(elementType.toClass()) && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends T> inputStream, DataBufferFactory bufferFactory,
+            ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints))
+                    .flux();
+        }
+        return Flux.defer(() -> {
+            boolean[] opened = { false };
+            return Flux.from(inputStream)
+                    .map(value -> {
+                        DataBuffer buffer = bufferFactory.allocateBuffer(ESTIMATED_SIZE + 1);
+                        buffer.write(opened[0] ? (byte) ',' : (byte) '[');
+                        opened[0] = true;
+                        return writeOrRelease(value, buffer);
+                    })
+                    .concatWith(Mono.fromSupplier(() -> bufferFactory.wrap(
+                            JsonBytes.ascii(opened[0] ? "]" : "[]"))));
+        });
+    }
+
+    @Override
+    public DataBuffer encodeValue(T value, DataBufferFactory bufferFactory, ResolvableType valueType,
+            MimeType mimeType, Map<String, Object> hints) {
+        return writeOrRelease(value, bufferFactory.allocateBuffer(ESTIMATED_SIZE));
+    }
+
+    private DataBuffer writeOrRelease(T value, DataBuffer buffer) {
+        try {
+            write(value, buffer);
+            return buffer;
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+    }
+}
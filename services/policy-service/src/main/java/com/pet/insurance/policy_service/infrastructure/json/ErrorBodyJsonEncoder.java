@@ -0,0 +1,100 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Writes the flat error maps built by {@code GlobalExceptionHandler}. A map holding any value other
+ * than strings, numbers, booleans and local dates or date-times, such as Spring Boot's default
+ * error attributes, is handed to {@code fallback} unchanged.
+ */
+public class ErrorBodyJsonEncoder extends DirectJsonEncoder<Map<String, Object>> {
+
+    private final Encoder<Object> fallback;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ErrorBodyJsonEncoder(Encoder<Object> fallback) {
+        super((Class) Map.class);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        Class<?> keyType = elementType.asMap().getGeneric(0).resolve(String.class);
+        return keyType == String.class && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends Map<String, Object>> inputStream,
+            DataBufferFactory bufferFactory, ResolvableType elementType, MimeType mimeType,
+            Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+        return fallback.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+
+    @Override
+    public DataBuffer encodeValue(Map<String, Object> body, DataBufferFactory bufferFactory,
+            ResolvableType valueType, MimeType mimeType, Map<String, Object> hints) {
+        if (!isFlat(body)) {
+            return fallback.encodeValue(body, bufferFactory, valueType, mimeType, hints);
+        }
+        return super.encodeValue(body, bufferFactory, valueType, mimeType, hints);
+    }
+
+    @Override
+    protected void write(Map<String, Object> body, DataBuffer out) {
+        out.write((byte) '{');
+        boolean first = true;
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            if (!first) {
+                out.write((byte) ',');
+            }
+            first = false;
+            JsonBytes.writeString(entry.getKey(), out);
+            out.write((byte) ':');
+            writeValue(entry.getValue(), out);
+        }
+        out.write((byte) '}');
+    }
+
+    private static void writeValue(Object value, DataBuffer out) {
+        switch (value) {
+            case null -> out.write(JsonBytes.NULL);
+            case String text -> JsonBytes.writeString(text, out);
+            case Integer number -> JsonBytes.writeLong(number, out);
+            case Long number -> JsonBytes.writeLong(number, out);
+            case Short number -> JsonBytes.writeLong(number, out);
+            case BigDecimal number -> JsonBytes.writeDecimal(number, out);
+            case Boolean flag -> JsonBytes.writeBoolean(flag, out);
+            case LocalDateTime dateTime -> JsonBytes.writeDateTime(dateTime, out);
+            case LocalDate date -> JsonBytes.writeDate(date, out);
+            default -> throw new IllegalStateException("Unsupported error body value: " + value.getClass());
+        }
+    }
+
+    private static boolean isFlat(Map<?, ?> body) {
+        for (Map.Entry<?, ?> entry : body.entrySet()) {
+            Object value = entry.getValue();
+            boolean supported = value == null || value instanceof String || value instanceof Integer
+                    || value instanceof Long || value instanceof Short || value instanceof BigDecimal
+                    || value instanceof Boolean || value instanceof LocalDateTime || value instanceof LocalDate;
+            if (!(entry.getKey() instanceof String) || !supported) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import com.pet.insurance.policy_service.infrastructure.web.request.IssuePolicyRequest;
+import tools.jackson.core.JsonParser;
+
+public class IssuePolicyRequestJsonDecoder extends DirectJsonDecoder<IssuePolicyRequest> {
+
+    public IssuePolicyRequestJsonDecoder() {
+        super(IssuePolicyRequest.class);
+    }
+
+    @Override
+    protected IssuePolicyRequest read(JsonParser parser) {
+        String quotationId = null;
+        String ownerId = null;
+        String ownerName = null;
+        String ownerEmail = null;
+        for (String field = parser.nextName(); field != null; field = parser.nextName()) {
+            parser.nextToken();
+            switch (field) {
+                case "quotationId" -> quotationId = stringValue(parser);
+                case "ownerId" -> ownerId = stringValue(parser);
+                case "ownerName" -> ownerName = stringValue(parser);
+                case "ownerEmail" -> ownerEmail = stringValue(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new IssuePolicyRequest(quotationId, ownerId, ownerName, ownerEmail);
+    }
+}
@@ -0,0 +1,29 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import com.pet.insurance.policy_service.infrastructure.web.response.IssuePolicyResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import static com.pet.insurance.policy_service.infrastructure.json.JsonBytes.propertyName;
+
+public class IssuePolicyResponseJsonEncoder extends DirectJsonEncoder<IssuePolicyResponse> {
+
+    private static final byte[] POLICY_ID = propertyName("policyId", true);
+    private static final byte[] QUOTATION_ID = propertyName("quotationId", false);
+    private static final byte[] ACTIVE = propertyName("active", false);
+
+    public IssuePolicyResponseJsonEncoder() {
+        super(IssuePolicyResponse.class);
+    }
+
+    @Override
+    protected void write(IssuePolicyResponse response, DataBuffer out) {
+        out.write((byte) '{');
+        out.write(POLICY_ID);
+        JsonBytes.writeString(response.policyId(), out);
+        out.write(QUOTATION_ID);
+        JsonBytes.writeString(response.quotationId(), out);
+        out.write(ACTIVE);
+        JsonBytes.writeBoolean(response.active(), out);
+        out.write((byte) '}');
+    }
+}
@@ -0,0 +1,35 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationDTO;
+import tools.jackson.core.JsonParser;
+
+/**
+ * Reads the quoting service's quotation responses for {@code QuotationWebClient}. The computed
+ * {@code expired} flag is skipped, as with Jackson, since the DTO derives it from {@code expiresAt}.
+ */
+public class QuotationDtoJsonDecoder extends DirectJsonDecoder<QuotationDTO> {
+
+    public QuotationDtoJsonDecoder() {
+        super(QuotationDTO.class);
+    }
+
+    @Override
+    protected QuotationDTO read(JsonParser parser) {
+        QuotationDTO quotation = new QuotationDTO();
+        for (String field = parser.nextName(); field != null; field = parser.nextName()) {
+            parser.nextToken();
+            switch (field) {
+                case "id" -> quotation.setId(stringValue(parser));
+                case "petName" -> quotation.setPetName(stringValue(parser));
+                case "species" -> quotation.setSpecies(stringValue(parser));
+                case "breed" -> quotation.setBreed(stringValue(parser));
+                case "age" -> quotation.setAge(intValue(parser));
+                case "premiumPlan" -> quotation.setPremiumPlan(booleanValue(parser));
+                case "price" -> quotation.setPrice(decimalValue(parser));
+                case "expiresAt" -> quotation.setExpiresAt(dateValue(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return quotation;
+    }
+}
@@ -1,12 +1,22 @@
 package com.pet.insurance.policy_service.infrastructure.web.controller;
 
+import com.pet.insurance.policy_service.application.usecase.IssuePoliciesUseCase;
 import com.pet.insurance.policy_service.application.usecase.IssuePolicyUseCase;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
+import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.exception.QuotingServiceUnavailableException;
 import com.pet.insurance.policy_service.infrastructure.web.request.IssuePolicyRequest;
+import com.pet.insurance.policy_service.infrastructure.web.response.IssuePolicyBatchResponse;
 import com.pet.insurance.policy_service.infrastructure.web.response.IssuePolicyResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -14,20 +24,30 @@ import reactor.core.publisher.Mono;
 public class PolicyController {
 
     private final IssuePolicyUseCase issuePolicyUseCase;
+    private final IssuePoliciesUseCase issuePoliciesUseCase;
 
-    public PolicyController(IssuePolicyUseCase issuePolicyUseCase) {
+    public PolicyController(IssuePolicyUseCase issuePolicyUseCase, IssuePoliciesUseCase issuePoliciesUseCase) {
         this.issuePolicyUseCase = issuePolicyUseCase;
+        this.issuePoliciesUseCase = issuePoliciesUseCase;
     }
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Issues the policy of a quotation. Repeating the request, with or without the same
+     * {@code Idempotency-Key}, returns the policy issued the first time.
+     */
     @PostMapping
     public Mono<IssuePolicyResponse> issuePolicy(
-            @RequestBody IssuePolicyRequest request
+            @RequestBody IssuePolicyRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
         return issuePolicyUseCase.execute(
                         request.quotationId(),
                         request.ownerId(),
                         request.ownerName(),
-                        request.ownerEmail()
+                        request.ownerEmail(),
+                        idempotencyKey
                 )
                 .map(policy -> new IssuePolicyResponse(
                         policy.toEvent().policyId().toString(),
@@ -35,4 +55,47 @@ public class PolicyController {
                         policy.isActive()
                 ));
     }
+
+    /**
+     * Issues a JSON array of policies and streams one result per request, in the order their
+     * chunks complete. Asked for as {@code application/x-ndjson}, each result is sent as soon as
+     * it is known.
+     */
+    @PostMapping(value = "/batch", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<IssuePolicyBatchResponse> issuePolicies(
+            @RequestBody Flux<IssuePolicyRequest> requests
+    ) {
+        return issuePoliciesUseCase.execute(requests.map(request -> new IssuePoliciesUseCase.Request(
+                        request.quotationId(),
+                        request.ownerId(),
+                        request.ownerName(),
+                        request.ownerEmail())))
+                .map(PolicyController::toBatchResponse);
+    }
+
+    private static IssuePolicyBatchResponse toBatchResponse(IssuePoliciesUseCase.Result result) {
+        if (result.error() == null) {
+            return new IssuePolicyBatchResponse(
+                    result.index(),
+                    result.quotationId(),
+                    HttpStatus.OK.value(),
+                    result.policy().getId().toString(),
+                    result.policy().isActive(),
+                    null);
+        }
+        Throwable error = result.error();
+        HttpStatus status = switch (error) {
+            case QuotationNotFoundException e -> HttpStatus.NOT_FOUND;
+            case QuotationExpiredException e -> HttpStatus.BAD_REQUEST;
+            case PolicyAlreadyIssuedException e -> HttpStatus.CONFLICT;
+            case IllegalArgumentException e -> HttpStatus.BAD_REQUEST;
+            case QuotingServiceUnavailableException e -> HttpStatus.SERVICE_UNAVAILABLE;
+            default -> HttpStatus.INTERNAL_SERVER_ERROR;
+        };
+        String message = status == HttpStatus.INTERNAL_SERVER_ERROR
+                ? "An unexpected error occurred: " + error.getMessage()
+                : error.getMessage();
+        return new IssuePolicyBatchResponse(result.index(), result.quotationId(), status.value(), null, false,
+                message);
+    }
 }
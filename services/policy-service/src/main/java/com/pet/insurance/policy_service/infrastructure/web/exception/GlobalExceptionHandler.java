@@ -1,7 +1,10 @@
 package com.pet.insurance.policy_service.infrastructure.web.exception;
 
+import com.pet.insurance.policy_service.domain.exception.IdempotencyKeyReusedException;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
 import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
 import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.exception.QuotingServiceUnavailableException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -37,6 +40,42 @@ public class GlobalExceptionHandler {
         return Mono.just(new ResponseEntity<>(body, HttpStatus.BAD_REQUEST));
     }
 
+    @ExceptionHandler(QuotingServiceUnavailableException.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleQuotingServiceUnavailableException(
+            QuotingServiceUnavailableException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Service Unavailable");
+        body.put("message", ex.getMessage());
+
+        return Mono.just(new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @ExceptionHandler(PolicyAlreadyIssuedException.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handlePolicyAlreadyIssuedException(
+            PolicyAlreadyIssuedException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+
+        return Mono.just(new ResponseEntity<>(body, HttpStatus.CONFLICT));
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public Mono<ResponseEntity<Map<String, Object>>> handleIdempotencyKeyReusedException(
+            IdempotencyKeyReusedException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.UNPROCESSABLE_CONTENT.value());
+        body.put("error", "Unprocessable Content");
+        body.put("message", ex.getMessage());
+
+        return Mono.just(new ResponseEntity<>(body, HttpStatus.UNPROCESSABLE_CONTENT));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public Mono<ResponseEntity<Map<String, Object>>> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, Object> body = new LinkedHashMap<>();
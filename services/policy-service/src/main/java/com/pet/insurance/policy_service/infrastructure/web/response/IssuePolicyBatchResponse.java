@@ -0,0 +1,15 @@
+package com.pet.insurance.policy_service.infrastructure.web.response;
+
+/**
+ * Outcome of one request of a batch: {@code status} is the HTTP status {@code POST /policies}
+ * would have answered it with, {@code index} its position in the batch.
+ */
+public record IssuePolicyBatchResponse(
+        long index,
+        String quotationId,
+        int status,
+        String policyId,
+        boolean active,
+        String error
+) {
+}
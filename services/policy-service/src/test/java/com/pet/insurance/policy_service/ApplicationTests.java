@@ -3,7 +3,7 @@ package com.pet.insurance.policy_service;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "policy.indexes.create-on-startup=false")
 class ApplicationTests {
 
 	@Test
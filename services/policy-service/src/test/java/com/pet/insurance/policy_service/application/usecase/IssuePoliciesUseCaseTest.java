@@ -0,0 +1,321 @@
+package com.pet.insurance.policy_service.application.usecase;
+
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
+import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.exception.QuotingServiceUnavailableException;
+import com.pet.insurance.policy_service.domain.model.Owner;
+import com.pet.insurance.policy_service.domain.model.Policy;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.DomainEventPublisher;
+import com.pet.insurance.policy_service.domain.port.PolicyRepository;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IssuePoliciesUseCase Tests")
+class IssuePoliciesUseCaseTest {
+
+    @Mock
+    private PolicyRepository policyRepository;
+
+    @Mock
+    private QuotationClient quotationClient;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private IssuePoliciesUseCase issuePoliciesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        issuePoliciesUseCase = new IssuePoliciesUseCase(policyRepository, quotationClient, eventPublisher, 100, 4);
+        lenient().when(policyRepository.findAllByQuotationId(anyList())).thenReturn(Flux.empty());
+    }
+
+    @Test
+    @DisplayName("Should issue a chunk with one lookup and one write, failing invalid requests on their own")
+    void shouldIssueChunkWithOneLookupAndOneWrite() {
+        // Given
+        String valid = UUID.randomUUID().toString();
+        String expired = UUID.randomUUID().toString();
+        String missing = UUID.randomUUID().toString();
+        when(quotationClient.findAllById(List.of(valid, expired, missing)))
+                .thenReturn(Flux.just(quotation(valid, LocalDate.now().plusDays(30)),
+                        quotation(expired, LocalDate.now().minusDays(1))));
+        when(policyRepository.saveAll(anyList())).thenReturn(Mono.just(Map.of()));
+        when(eventPublisher.publishPoliciesIssued(anyList())).thenReturn(Mono.empty());
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.just(request(valid), request(expired), request(missing), request("not-a-uuid")));
+
+        // Then
+        StepVerifier.create(results)
+                .assertNext(result -> {
+                    assertEquals(0, result.index());
+                    assertNull(result.error());
+                    assertEquals(UUID.fromString(valid), result.policy().toEvent().quotationId());
+                })
+                .assertNext(result -> assertInstanceOf(QuotationExpiredException.class, result.error()))
+                .assertNext(result -> assertInstanceOf(QuotationNotFoundException.class, result.error()))
+                .assertNext(result -> {
+                    assertEquals(3, result.index());
+                    assertInstanceOf(IllegalArgumentException.class, result.error());
+                })
+                .verifyComplete();
+        verify(quotationClient, times(1)).findAllById(anyList());
+        verify(policyRepository, times(1)).saveAll(argThat(policies -> policies.size() == 1));
+        verify(eventPublisher, times(1)).publishPoliciesIssued(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should fail every request of a chunk whose quotation lookup fails")
+    void shouldFailChunkWhenLookupFails() {
+        // Given
+        when(quotationClient.findAllById(anyList()))
+                .thenReturn(Flux.error(new QuotingServiceUnavailableException("circuit open")));
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.just(request(UUID.randomUUID().toString()), request(UUID.randomUUID().toString())));
+
+        // Then
+        StepVerifier.create(results)
+                .expectNextMatches(result -> result.error() instanceof QuotingServiceUnavailableException)
+                .expectNextMatches(result -> result.error() instanceof QuotingServiceUnavailableException)
+                .verifyComplete();
+        verify(policyRepository, never()).saveAll(anyList());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should fail the issued requests of a chunk whose bulk write fails")
+    void shouldFailIssuedRequestsWhenWriteFails() {
+        // Given
+        String valid = UUID.randomUUID().toString();
+        when(quotationClient.findAllById(List.of(valid)))
+                .thenReturn(Flux.just(quotation(valid, LocalDate.now().plusDays(30))));
+        when(policyRepository.saveAll(anyList())).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.just(request(valid), request("not-a-uuid")));
+
+        // Then
+        StepVerifier.create(results)
+                .assertNext(result -> assertEquals("Database error", result.error().getMessage()))
+                .assertNext(result -> assertInstanceOf(IllegalArgumentException.class, result.error()))
+                .verifyComplete();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should fail only the requests whose policy the bulk write rejected and publish the others")
+    void shouldFailOnlyRejectedPoliciesOfPartialWrite() {
+        // Given
+        String written = UUID.randomUUID().toString();
+        String raced = UUID.randomUUID().toString();
+        when(quotationClient.findAllById(List.of(written, raced)))
+                .thenReturn(Flux.just(quotation(written, LocalDate.now().plusDays(30)),
+                        quotation(raced, LocalDate.now().plusDays(30))));
+        when(policyRepository.saveAll(anyList()))
+                .thenReturn(Mono.just(Map.of(1, new PolicyAlreadyIssuedException(raced))));
+        when(eventPublisher.publishPoliciesIssued(anyList())).thenReturn(Mono.empty());
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.just(request(written), request(raced), request(raced)));
+
+        // Then
+        StepVerifier.create(results)
+                .assertNext(result -> assertEquals(UUID.fromString(written), result.policy().getQuotationId()))
+                .assertNext(result -> assertInstanceOf(PolicyAlreadyIssuedException.class, result.error()))
+                .assertNext(result -> assertInstanceOf(PolicyAlreadyIssuedException.class, result.error()))
+                .verifyComplete();
+        verify(eventPublisher, times(1)).publishPoliciesIssued(argThat(events -> events.size() == 1
+                && events.get(0).quotationId().equals(UUID.fromString(written))));
+    }
+
+    @Test
+    @DisplayName("Should not publish anything when the bulk write rejected every policy")
+    void shouldNotPublishWhenEveryPolicyWasRejected() {
+        // Given
+        String raced = UUID.randomUUID().toString();
+        when(quotationClient.findAllById(List.of(raced)))
+                .thenReturn(Flux.just(quotation(raced, LocalDate.now().plusDays(30))));
+        when(policyRepository.saveAll(anyList()))
+                .thenReturn(Mono.just(Map.of(0, new PolicyAlreadyIssuedException(raced))));
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(Flux.just(request(raced)));
+
+        // Then
+        StepVerifier.create(results)
+                .assertNext(result -> assertInstanceOf(PolicyAlreadyIssuedException.class, result.error()))
+                .verifyComplete();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should split the requests into chunks of the configured size")
+    void shouldSplitRequestsIntoChunks() {
+        // Given
+        issuePoliciesUseCase = new IssuePoliciesUseCase(policyRepository, quotationClient, eventPublisher, 2, 1);
+        List<String> ids = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString());
+        when(quotationClient.findAllById(anyList())).thenAnswer(invocation -> Flux
+                .fromIterable(invocation.<List<String>>getArgument(0))
+                .map(id -> quotation(id, LocalDate.now().plusDays(30))));
+        when(policyRepository.saveAll(anyList())).thenReturn(Mono.just(Map.of()));
+        when(eventPublisher.publishPoliciesIssued(anyList())).thenReturn(Mono.empty());
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.fromIterable(ids).map(IssuePoliciesUseCaseTest::request));
+
+        // Then
+        StepVerifier.create(results.map(IssuePoliciesUseCase.Result::index))
+                .expectNext(0L, 1L, 2L)
+                .verifyComplete();
+        verify(quotationClient, times(2)).findAllById(anyList());
+        verify(policyRepository, times(2)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishPoliciesIssued(anyList());
+    }
+
+    @Test
+    @DisplayName("Should answer requests for quotations already issued with the stored policies")
+    void shouldAnswerIssuedQuotationsWithStoredPolicies() {
+        // Given
+        String issued = UUID.randomUUID().toString();
+        String fresh = UUID.randomUUID().toString();
+        Policy stored = Policy.issue(UUID.fromString(issued), new Owner("owner123", "John Doe", "john.doe@example.com"));
+        when(policyRepository.findAllByQuotationId(List.of(UUID.fromString(issued), UUID.fromString(fresh))))
+                .thenReturn(Flux.just(stored));
+        when(quotationClient.findAllById(List.of(fresh)))
+                .thenReturn(Flux.just(quotation(fresh, LocalDate.now().plusDays(30))));
+        when(policyRepository.saveAll(anyList())).thenReturn(Mono.just(Map.of()));
+        when(eventPublisher.publishPoliciesIssued(anyList())).thenReturn(Mono.empty());
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.just(request(issued), request(fresh), request(fresh)));
+
+        // Then
+        StepVerifier.create(results)
+                .assertNext(result -> assertSame(stored, result.policy()))
+                .assertNext(result -> assertEquals(UUID.fromString(fresh), result.policy().getQuotationId()))
+                .assertNext(result -> assertEquals(UUID.fromString(fresh), result.policy().getQuotationId()))
+                .verifyComplete();
+        verify(policyRepository, times(1)).saveAll(argThat(policies -> policies.size() == 1));
+        verify(eventPublisher, times(1)).publishPoliciesIssued(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should not look up quotations when every request was already issued")
+    void shouldSkipLookupWhenEveryRequestWasIssued() {
+        // Given
+        String issued = UUID.randomUUID().toString();
+        Policy stored = Policy.issue(UUID.fromString(issued), new Owner("owner123", "John Doe", "john.doe@example.com"));
+        when(policyRepository.findAllByQuotationId(anyList())).thenReturn(Flux.just(stored));
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(Flux.just(request(issued)));
+
+        // Then
+        StepVerifier.create(results)
+                .assertNext(result -> assertSame(stored, result.policy()))
+                .verifyComplete();
+        verifyNoInteractions(quotationClient, eventPublisher);
+        verify(policyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should issue one policy for a quotation requested from concurrent chunks")
+    void shouldShareOnePolicyAcrossConcurrentChunks() {
+        // Given
+        issuePoliciesUseCase = new IssuePoliciesUseCase(policyRepository, quotationClient, eventPublisher, 1, 4);
+        String shared = UUID.randomUUID().toString();
+        String other = UUID.randomUUID().toString();
+        when(quotationClient.findAllById(anyList())).thenAnswer(invocation -> Flux
+                .fromIterable(invocation.<List<String>>getArgument(0))
+                .map(id -> quotation(id, LocalDate.now().plusDays(30)))
+                .delayElements(Duration.ofMillis(50)));
+        when(policyRepository.saveAll(anyList())).thenReturn(Mono.just(Map.of()));
+        when(eventPublisher.publishPoliciesIssued(anyList())).thenReturn(Mono.empty());
+
+        // When
+        List<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                        Flux.just(request(shared), request(other), request(shared), request(shared)))
+                .collectSortedList(Comparator.comparingLong(IssuePoliciesUseCase.Result::index))
+                .block(Duration.ofSeconds(5));
+
+        // Then
+        assertNotNull(results);
+        assertEquals(4, results.size());
+        results.forEach(result -> assertNull(result.error()));
+        Policy policy = results.get(0).policy();
+        assertSame(policy, results.get(2).policy());
+        assertSame(policy, results.get(3).policy());
+        verify(quotationClient, times(2)).findAllById(anyList());
+        verify(policyRepository, times(2)).saveAll(argThat(policies -> policies.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should give requests in later chunks the failure of the chunk that claimed their quotation")
+    void shouldShareFailureAcrossChunks() {
+        // Given
+        issuePoliciesUseCase = new IssuePoliciesUseCase(policyRepository, quotationClient, eventPublisher, 1, 4);
+        String missing = UUID.randomUUID().toString();
+        when(quotationClient.findAllById(List.of(missing))).thenReturn(Flux.empty());
+
+        // When
+        Flux<IssuePoliciesUseCase.Result> results = issuePoliciesUseCase.execute(
+                Flux.just(request(missing), request(missing)));
+
+        // Then
+        StepVerifier.create(results.map(IssuePoliciesUseCase.Result::error))
+                .assertNext(error -> assertInstanceOf(QuotationNotFoundException.class, error))
+                .assertNext(error -> assertInstanceOf(QuotationNotFoundException.class, error))
+                .verifyComplete();
+        verify(quotationClient, times(1)).findAllById(anyList());
+        verify(policyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject a chunk size or concurrency that is not positive")
+    void shouldRejectNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IssuePoliciesUseCase(policyRepository, quotationClient, eventPublisher, 0, 4));
+        assertThrows(IllegalArgumentException.class,
+                () -> new IssuePoliciesUseCase(policyRepository, quotationClient, eventPublisher, 100, 0));
+    }
+
+    private static IssuePoliciesUseCase.Request request(String quotationId) {
+        return new IssuePoliciesUseCase.Request(quotationId, "owner123", "John Doe", "john.doe@example.com");
+    }
+
+    private static Quotation quotation(String id, LocalDate expiresAt) {
+        return Quotation.reconstruct(id, "Max", "Dog", "Labrador", 3, true, new BigDecimal("36.00"), expiresAt);
+    }
+}
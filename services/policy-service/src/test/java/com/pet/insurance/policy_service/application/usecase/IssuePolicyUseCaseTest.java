@@ -1,6 +1,9 @@
 package com.pet.insurance.policy_service.application.usecase;
 
+import com.pet.insurance.policy_service.domain.exception.IdempotencyKeyReusedException;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
 import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
+import com.pet.insurance.policy_service.domain.model.Owner;
 import com.pet.insurance.policy_service.domain.model.Policy;
 import com.pet.insurance.policy_service.domain.model.Quotation;
 import com.pet.insurance.policy_service.domain.port.PolicyRepository;
@@ -40,6 +43,7 @@ class IssuePolicyUseCaseTest {
     @BeforeEach
     void setUp() {
         issuePolicyUseCase = new IssuePolicyUseCase(policyRepository, quotationClient, eventPublisher);
+        lenient().when(policyRepository.findIssued(any(UUID.class), isNull())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -52,10 +56,12 @@ class IssuePolicyUseCaseTest {
 
         Quotation quotation = createValidQuotation(quotationId);
         Policy expectedPolicy = mock(Policy.class);
+        PolicyIssuedEvent event = new PolicyIssuedEvent(UUID.randomUUID(), UUID.fromString(quotationId), ownerEmail);
 
         when(quotationClient.findById(quotationId)).thenReturn(Mono.just(quotation));
-        when(policyRepository.save(any(Policy.class))).thenReturn(Mono.just(expectedPolicy));
-        when(eventPublisher.publishPolicyIssued(any(PolicyIssuedEvent.class))).thenReturn(Mono.empty());
+        when(policyRepository.save(any(Policy.class), isNull())).thenReturn(Mono.just(expectedPolicy));
+        when(expectedPolicy.toEvent()).thenReturn(event);
+        when(eventPublisher.publishPolicyIssued(event)).thenReturn(Mono.empty());
 
         // When
         Mono<Policy> result = issuePolicyUseCase.execute(quotationId, ownerId, ownerName, ownerEmail);
@@ -66,8 +72,8 @@ class IssuePolicyUseCaseTest {
                 .verifyComplete();
 
         verify(quotationClient, times(1)).findById(quotationId);
-        verify(policyRepository, times(1)).save(any(Policy.class));
-        verify(eventPublisher, times(1)).publishPolicyIssued(any(PolicyIssuedEvent.class));
+        verify(policyRepository, times(1)).save(any(Policy.class), isNull());
+        verify(eventPublisher, times(1)).publishPolicyIssued(event);
     }
 
     @Test
@@ -92,7 +98,7 @@ class IssuePolicyUseCaseTest {
                 .verify();
 
         verify(quotationClient, times(1)).findById(quotationId);
-        verify(policyRepository, never()).save(any(Policy.class));
+        verify(policyRepository, never()).save(any(Policy.class), isNull());
         verify(eventPublisher, never()).publishPolicyIssued(any(PolicyIssuedEvent.class));
     }
 
@@ -114,7 +120,7 @@ class IssuePolicyUseCaseTest {
                 .verifyComplete();
 
         verify(quotationClient, times(1)).findById(quotationId);
-        verify(policyRepository, never()).save(any(Policy.class));
+        verify(policyRepository, never()).save(any(Policy.class), isNull());
         verify(eventPublisher, never()).publishPolicyIssued(any(PolicyIssuedEvent.class));
     }
 
@@ -130,7 +136,7 @@ class IssuePolicyUseCaseTest {
         RuntimeException exception = new RuntimeException("Database error");
 
         when(quotationClient.findById(quotationId)).thenReturn(Mono.just(quotation));
-        when(policyRepository.save(any(Policy.class))).thenReturn(Mono.error(exception));
+        when(policyRepository.save(any(Policy.class), isNull())).thenReturn(Mono.error(exception));
 
         // When
         Mono<Policy> result = issuePolicyUseCase.execute(quotationId, ownerId, ownerName, ownerEmail);
@@ -142,7 +148,7 @@ class IssuePolicyUseCaseTest {
                 .verify();
 
         verify(quotationClient, times(1)).findById(quotationId);
-        verify(policyRepository, times(1)).save(any(Policy.class));
+        verify(policyRepository, times(1)).save(any(Policy.class), isNull());
         verify(eventPublisher, never()).publishPolicyIssued(any(PolicyIssuedEvent.class));
     }
 
@@ -157,7 +163,7 @@ class IssuePolicyUseCaseTest {
         Quotation quotation = createValidQuotation(quotationId);
 
         when(quotationClient.findById(quotationId)).thenReturn(Mono.just(quotation));
-        when(policyRepository.save(any(Policy.class))).thenAnswer(invocation -> {
+        when(policyRepository.save(any(Policy.class), isNull())).thenAnswer(invocation -> {
             Policy policy = invocation.getArgument(0);
             assertEquals(ownerId, policy.getOwner().id());
             assertEquals(ownerName, policy.getOwner().name());
@@ -188,7 +194,7 @@ class IssuePolicyUseCaseTest {
         Quotation quotation = createValidQuotation(quotationId);
 
         when(quotationClient.findById(quotationId)).thenReturn(Mono.just(quotation));
-        when(policyRepository.save(any(Policy.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(policyRepository.save(any(Policy.class), isNull())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         when(eventPublisher.publishPolicyIssued(any(PolicyIssuedEvent.class))).thenReturn(Mono.empty());
 
         // When
@@ -211,7 +217,7 @@ class IssuePolicyUseCaseTest {
         Quotation quotation = createValidQuotation(quotationId);
 
         when(quotationClient.findById(quotationId)).thenReturn(Mono.just(quotation));
-        when(policyRepository.save(any(Policy.class))).thenReturn(Mono.error(new RuntimeException("Save failed")));
+        when(policyRepository.save(any(Policy.class), isNull())).thenReturn(Mono.error(new RuntimeException("Save failed")));
 
         // When
         Mono<Policy> result = issuePolicyUseCase.execute(quotationId, "id", "name", "email@test.com");
@@ -232,7 +238,7 @@ class IssuePolicyUseCaseTest {
         RuntimeException exception = new RuntimeException("Event publishing failed");
 
         when(quotationClient.findById(quotationId)).thenReturn(Mono.just(quotation));
-        when(policyRepository.save(any(Policy.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(policyRepository.save(any(Policy.class), isNull())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
         when(eventPublisher.publishPolicyIssued(any(PolicyIssuedEvent.class))).thenReturn(Mono.error(exception));
 
         // When
@@ -245,6 +251,101 @@ class IssuePolicyUseCaseTest {
                 .verify();
     }
 
+    @Test
+    void shouldReturnStoredPolicyWithoutFetchingQuotation() {
+        // Given
+        UUID quotationId = UUID.randomUUID();
+        Policy stored = Policy.issue(quotationId, new Owner("owner123", "John Doe", "john.doe@example.com"));
+        when(policyRepository.findIssued(quotationId, null)).thenReturn(Mono.just(stored));
+
+        // When
+        Mono<Policy> result = issuePolicyUseCase.execute(quotationId.toString(), "owner123", "John Doe",
+                "john.doe@example.com");
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(stored)
+                .verifyComplete();
+
+        verifyNoInteractions(quotationClient, eventPublisher);
+        verify(policyRepository, never()).save(any(Policy.class), any());
+    }
+
+    @Test
+    void shouldStorePolicyUnderIdempotencyKey() {
+        // Given
+        String quotationId = UUID.randomUUID().toString();
+        when(policyRepository.findIssued(UUID.fromString(quotationId), "key-1")).thenReturn(Mono.empty());
+        when(quotationClient.findById(quotationId)).thenReturn(Mono.just(createValidQuotation(quotationId)));
+        when(policyRepository.save(any(Policy.class), eq("key-1")))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(eventPublisher.publishPolicyIssued(any(PolicyIssuedEvent.class))).thenReturn(Mono.empty());
+
+        // When
+        Mono<Policy> result = issuePolicyUseCase.execute(quotationId, "id", "name", "email@test.com", "key-1");
+
+        // Then
+        StepVerifier.create(result)
+                .expectNextMatches(policy -> policy.getQuotationId().toString().equals(quotationId))
+                .verifyComplete();
+
+        verify(policyRepository, times(1)).save(any(Policy.class), eq("key-1"));
+    }
+
+    @Test
+    void shouldReturnWinningPolicyWhenConcurrentIssuanceWins() {
+        // Given
+        String quotationId = UUID.randomUUID().toString();
+        Policy winner = Policy.issue(UUID.fromString(quotationId), new Owner("id", "name", "email@test.com"));
+        when(policyRepository.findIssued(UUID.fromString(quotationId), null))
+                .thenReturn(Mono.empty(), Mono.just(winner));
+        when(quotationClient.findById(quotationId)).thenReturn(Mono.just(createValidQuotation(quotationId)));
+        when(policyRepository.save(any(Policy.class), isNull()))
+                .thenReturn(Mono.error(new PolicyAlreadyIssuedException(quotationId)));
+
+        // When
+        Mono<Policy> result = issuePolicyUseCase.execute(quotationId, "id", "name", "email@test.com");
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(winner)
+                .verifyComplete();
+
+        verify(eventPublisher, never()).publishPolicyIssued(any(PolicyIssuedEvent.class));
+    }
+
+    @Test
+    void shouldRejectIdempotencyKeyUsedForAnotherQuotation() {
+        // Given
+        String quotationId = UUID.randomUUID().toString();
+        Policy other = Policy.issue(UUID.randomUUID(), new Owner("id", "name", "email@test.com"));
+        when(policyRepository.findIssued(UUID.fromString(quotationId), "key-1")).thenReturn(Mono.just(other));
+
+        // When
+        Mono<Policy> result = issuePolicyUseCase.execute(quotationId, "id", "name", "email@test.com", "key-1");
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(IdempotencyKeyReusedException.class)
+                .verify();
+
+        verifyNoInteractions(quotationClient, eventPublisher);
+    }
+
+    @Test
+    void shouldRejectInvalidQuotationIdAndIdempotencyKey() {
+        // When & Then
+        StepVerifier.create(issuePolicyUseCase.execute("not-a-uuid", "id", "name", "email@test.com"))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(issuePolicyUseCase.execute(UUID.randomUUID().toString(), "id", "name",
+                        "email@test.com", " "))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(quotationClient, eventPublisher);
+    }
+
     private Quotation createValidQuotation(String quotationId) {
         return Quotation.reconstruct(
                 quotationId,
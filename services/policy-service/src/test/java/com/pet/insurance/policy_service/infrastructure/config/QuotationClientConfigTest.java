@@ -0,0 +1,178 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.QuotationWebClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.inprocess.InProcessQuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
+import com.pet.insurance.policy_service.infrastructure.driven.client.resilience.RequestHedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the wire format negotiation of the quotation client against a local stand-in for the
+ * quoting service that answers in Smile when asked to, as the quoting service does.
+ */
+@DisplayName("QuotationClientConfig Tests")
+class QuotationClientConfigTest {
+
+    private static final SmileMapper SMILE = SmileMapper.builder().build();
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final LocalDate EXPIRES_AT = LocalDate.now().plusDays(30);
+
+    private DisposableServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/quotations/{id}", (request, response) -> respond(
+                                request.requestHeaders().get("Accept"), quotation(request.param("id")), response))
+                        .post("/quotations/lookup", (request, response) -> respond(
+                                request.requestHeaders().get("Accept"),
+                                List.of(quotation("q-1"), quotation("q-2")), response)))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("should bind the metrics of every client layer once and not expose the bean as a MeterBinder")
+    void shouldBindLayerMetricsOnce() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        QuotationClientProperties properties = new Binder(new MapConfigurationPropertySource(Map.of()))
+                .bindOrCreate("quoting.client", QuotationClientProperties.class);
+
+        // When
+        QuotationClient client = new QuotationClientConfig().quotationClient(WebClient.builder(),
+                new QuotationMapper(), properties, beans.getBeanProvider(RSocketRequester.class),
+                beans.getBeanProvider(InProcessQuotationClient.class), beans.getBeanProvider(MeterRegistry.class));
+
+        // Then
+        assertFalse(client instanceof MeterBinder);
+        assertEquals(2, registry.find("quotation.client.cache.gets").functionCounters().size());
+        assertEquals(1, registry.find("quotation.client.cache.size").gauges().size());
+    }
+
+    @Test
+    @DisplayName("should prefer Smile and keep JSON as a second choice")
+    void shouldPreferSmileOverJson() {
+        // Act
+        List<MediaType> accepted = QuotationClientConfig.buildAcceptedTypes("smile");
+
+        // Assert
+        assertEquals(QuotationClientConfig.APPLICATION_SMILE, accepted.get(0));
+        assertTrue(accepted.get(1).isCompatibleWith(MediaType.APPLICATION_JSON));
+        assertEquals(0.5, accepted.get(1).getQualityValue());
+        assertEquals(List.of(MediaType.APPLICATION_JSON), QuotationClientConfig.buildAcceptedTypes("json"));
+        assertThrows(IllegalArgumentException.class, () -> QuotationClientConfig.buildAcceptedTypes("xml"));
+    }
+
+    @Test
+    @DisplayName("should decode a quotation sent in Smile")
+    void shouldDecodeQuotationSentInSmile() {
+        // Arrange
+        QuotationWebClient client = client("smile");
+
+        // Act & Assert
+        StepVerifier.create(client.findById("q-1"))
+                .assertNext(quotation -> {
+                    assertEquals("q-1", quotation.id());
+                    assertEquals(new BigDecimal("36.40"), quotation.price());
+                    assertEquals(EXPIRES_AT, quotation.expiresAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should decode a bulk lookup answered in Smile")
+    void shouldDecodeBulkLookupSentInSmile() {
+        // Arrange
+        QuotationWebClient client = client("smile");
+
+        // Act & Assert
+        StepVerifier.create(client.findAllById(List.of("q-1", "q-2")).map(Quotation::id))
+                .expectNext("q-1", "q-2")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should keep reading JSON when configured for it")
+    void shouldReadJsonWhenConfiguredForIt() {
+        // Arrange
+        QuotationWebClient client = client("json");
+
+        // Act & Assert
+        StepVerifier.create(client.findById("q-1"))
+                .assertNext(quotation -> assertEquals(new BigDecimal("36.40"), quotation.price()))
+                .verifyComplete();
+    }
+
+    private QuotationWebClient client(String wireFormat) {
+        WebClient.Builder builder = WebClient.builder()
+                .defaultHeaders(headers -> headers.setAccept(QuotationClientConfig.buildAcceptedTypes(wireFormat)));
+        return new QuotationWebClient(builder, new QuotationMapper(),
+                "http://localhost:" + server.port() + "/quotations", RequestHedger.disabled());
+    }
+
+    private static Mono<Void> respond(String accept, Object body, HttpServerResponse response) {
+        if (accept != null && accept.startsWith("application/x-jackson-smile")) {
+            return response.header("Content-Type", "application/x-jackson-smile")
+                    .sendByteArray(Mono.just(SMILE.writeValueAsBytes(body)))
+                    .then();
+        }
+        return response.header("Content-Type", "application/json")
+                .sendString(Mono.just(JSON.writeValueAsString(body)))
+                .then();
+    }
+
+    /**
+     * A quotation as the quoting service writes it, including the {@code expired} flag the
+     * policy service does not read.
+     */
+    private static Map<String, Object> quotation(String id) {
+        Map<String, Object> quotation = new LinkedHashMap<>();
+        quotation.put("id", id);
+        quotation.put("petName", "Max");
+        quotation.put("species", "Dog");
+        quotation.put("breed", "Labrador");
+        quotation.put("age", 3);
+        quotation.put("premiumPlan", true);
+        quotation.put("price", new BigDecimal("36.40"));
+        quotation.put("expiresAt", EXPIRES_AT);
+        quotation.put("expired", false);
+        return quotation;
+    }
+}
@@ -0,0 +1,120 @@
+package com.pet.insurance.policy_service.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebClientConfig Tests")
+class WebClientConfigTest {
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/slow", (request, response) -> Mono.delay(Duration.ofMillis(300))
+                        .then(response.sendString(Mono.just("ok")).then())))
+                .bindNow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+        if (connectionProvider != null) {
+            connectionProvider.disposeLater().block();
+        }
+    }
+
+    @Test
+    @DisplayName("should apply pool settings")
+    void shouldApplyPoolSettings() {
+        // Act
+        connectionProvider = WebClientConfig.buildConnectionProvider(pool(50, 10));
+
+        // Assert
+        assertEquals(50, connectionProvider.maxConnections());
+    }
+
+    @Test
+    @DisplayName("should fail requests whose response takes longer than the response timeout")
+    void shouldFailSlowResponsesAfterResponseTimeout() {
+        // Arrange
+        connectionProvider = WebClientConfig.buildConnectionProvider(pool(10, 10));
+        WebClient webClient = webClient(properties(pool(10, 10), Duration.ofMillis(100), List.of("http11")));
+
+        // Act & Assert
+        StepVerifier.create(webClient.get().uri("/slow").retrieve().bodyToMono(String.class))
+                .expectError(WebClientRequestException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("should reject requests at once when too many are waiting for a connection")
+    void shouldRejectRequestsBeyondPendingAcquireLimit() {
+        // Arrange
+        WebClientProperties properties = properties(pool(1, 1), Duration.ofSeconds(5), List.of("http11"));
+        connectionProvider = WebClientConfig.buildConnectionProvider(properties.pool());
+        WebClient webClient = webClient(properties);
+
+        // Act
+        List<Throwable> errors = Flux.range(0, 3)
+                .flatMap(i -> webClient.get().uri("/slow").retrieve().bodyToMono(String.class)
+                        .then(Mono.<Throwable>empty())
+                        .onErrorResume(Mono::just))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).getMessage().contains("Pending acquire queue has reached its maximum size"));
+    }
+
+    @Test
+    @DisplayName("should reject unknown HTTP protocol")
+    void shouldRejectUnknownProtocol() {
+        // Arrange
+        connectionProvider = WebClientConfig.buildConnectionProvider(pool(10, 10));
+        WebClientProperties properties = properties(pool(10, 10), Duration.ofSeconds(5), List.of("spdy"));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> WebClientConfig.buildHttpClient(connectionProvider, properties));
+        assertTrue(exception.getMessage().contains("spdy"));
+    }
+
+    private WebClient webClient(WebClientProperties properties) {
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + server.port())
+                .clientConnector(new ReactorClientHttpConnector(
+                        WebClientConfig.buildHttpClient(connectionProvider, properties)))
+                .build();
+    }
+
+    private static WebClientProperties.Pool pool(int maxConnections, int pendingAcquireMaxCount) {
+        return new WebClientProperties.Pool(maxConnections, pendingAcquireMaxCount, Duration.ofSeconds(2),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    private static WebClientProperties properties(WebClientProperties.Pool pool, Duration responseTimeout,
+            List<String> protocols) {
+        return new WebClientProperties(pool, new WebClientProperties.Timeouts(Duration.ofSeconds(1), responseTimeout),
+                true, protocols);
+    }
+}
@@ -3,6 +3,7 @@ package com.pet.insurance.policy_service.infrastructure.driven.client;
 import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
 import com.pet.insurance.policy_service.domain.model.Quotation;
 import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationDTO;
+import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationLookupRequest;
 import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,11 +14,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -191,4 +194,27 @@ class QuotationWebClientTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    @DisplayName("should look up several quotations with one bulk call")
+    @SuppressWarnings("unchecked")
+    void shouldLookUpSeveralQuotationsWithOneBulkCall() {
+        // Arrange
+        WebClient.RequestBodyUriSpec requestBodyUriSpec = mock(WebClient.RequestBodyUriSpec.class);
+        WebClient.RequestBodySpec requestBodySpec = mock(WebClient.RequestBodySpec.class);
+        List<String> ids = List.of(testQuotationDTO.getId(), "missing");
+
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri("/lookup")).thenReturn(requestBodySpec);
+        when(requestBodySpec.bodyValue(new QuotationLookupRequest(ids))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(QuotationDTO.class)).thenReturn(Flux.just(testQuotationDTO));
+
+        // Act & Assert
+        StepVerifier.create(quotationWebClient.findAllById(ids))
+                .assertNext(quotation -> assertEquals(testQuotationDTO.getId(), quotation.id()))
+                .verifyComplete();
+
+        verify(webClient, never()).get();
+    }
 }
@@ -0,0 +1,165 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.batch;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("BatchingQuotationClient Tests")
+class BatchingQuotationClientTest {
+
+    private static final Duration MAX_DELAY = Duration.ofMillis(2);
+
+    private final Map<String, Quotation> stored = Map.of(
+            "quote-1", quotation("quote-1"),
+            "quote-2", quotation("quote-2"),
+            "quote-3", quotation("quote-3"));
+    private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+    private final Function<List<String>, Flux<Quotation>> loader = ids -> {
+        calls.add(ids);
+        return Flux.fromIterable(ids).filter(stored::containsKey).map(stored::get);
+    };
+
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.create();
+    }
+
+    @Test
+    @DisplayName("Should resolve lookups made within the batch window with one bulk call")
+    void shouldResolveConcurrentLookupsWithOneBulkCall() {
+        // Given
+        BatchingQuotationClient client = new BatchingQuotationClient(loader, 100, MAX_DELAY, scheduler);
+
+        // When
+        CompletableFuture<List<Quotation>> result = Flux.merge(
+                client.findById("quote-1"), client.findById("quote-2"), client.findById("quote-1"))
+                .collectList()
+                .toFuture();
+        assertTrue(calls.isEmpty());
+        scheduler.advanceTimeBy(MAX_DELAY);
+
+        // Then
+        assertEquals(List.of(List.of("quote-1", "quote-2")), calls);
+        List<String> ids = result.join().stream().map(Quotation::id).sorted().toList();
+        assertEquals(List.of("quote-1", "quote-1", "quote-2"), ids);
+    }
+
+    @Test
+    @DisplayName("Should send a batch as soon as it is full")
+    void shouldSendBatchAsSoonAsItIsFull() {
+        // Given
+        BatchingQuotationClient client = new BatchingQuotationClient(loader, 2, MAX_DELAY, scheduler);
+
+        // When
+        CompletableFuture<Quotation> first = client.findById("quote-1").toFuture();
+        CompletableFuture<Quotation> second = client.findById("quote-2").toFuture();
+        CompletableFuture<Quotation> third = client.findById("quote-3").toFuture();
+
+        // Then
+        assertEquals(List.of(List.of("quote-1", "quote-2")), calls);
+        assertEquals("quote-1", first.join().id());
+        assertEquals("quote-2", second.join().id());
+        assertFalse(third.isDone());
+
+        scheduler.advanceTimeBy(MAX_DELAY);
+        assertEquals(List.of("quote-3"), calls.get(1));
+        assertEquals("quote-3", third.join().id());
+    }
+
+    @Test
+    @DisplayName("Should fail lookups whose id is missing from the bulk response")
+    void shouldFailLookupsMissingFromResponse() {
+        // Given
+        BatchingQuotationClient client = new BatchingQuotationClient(loader, 100, MAX_DELAY, scheduler);
+
+        // When & Then
+        StepVerifier.create(Flux.merge(client.findById("quote-1"), client.findById("missing")))
+                .then(() -> scheduler.advanceTimeBy(MAX_DELAY))
+                .expectNextMatches(quotation -> quotation.id().equals("quote-1"))
+                .expectError(QuotationNotFoundException.class)
+                .verify();
+        assertEquals(List.of(List.of("quote-1", "missing")), calls);
+    }
+
+    @Test
+    @DisplayName("Should fail every lookup of a batch when the bulk call fails")
+    void shouldFailWholeBatchWhenBulkCallFails() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("quoting service unavailable");
+        BatchingQuotationClient client = new BatchingQuotationClient(ids -> Flux.error(failure), 100, MAX_DELAY,
+                scheduler);
+
+        // When
+        CompletableFuture<Quotation> first = client.findById("quote-1").toFuture();
+        CompletableFuture<Quotation> second = client.findById("quote-2").toFuture();
+        scheduler.advanceTimeBy(MAX_DELAY);
+
+        // Then
+        assertTrue(first.isCompletedExceptionally());
+        assertTrue(second.isCompletedExceptionally());
+        StepVerifier.create(Mono.fromFuture(first))
+                .expectErrorMatches(error -> error == failure)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should publish the number of bulk calls and of ids sent")
+    void shouldPublishBatchMetrics() {
+        // Given
+        BatchingQuotationClient client = new BatchingQuotationClient(loader, 100, MAX_DELAY, scheduler);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        client.bindTo(registry);
+
+        // When
+        CompletableFuture<List<Quotation>> result = Flux.merge(client.findById("quote-1"), client.findById("quote-2"))
+                .collectList()
+                .toFuture();
+        scheduler.advanceTimeBy(MAX_DELAY);
+        result.join();
+
+        // Then
+        assertEquals(1.0, registry.get("quotation.client.batch.requests").functionCounter().count());
+        assertEquals(2.0, registry.get("quotation.client.batch.lookups").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should send a bulk lookup at once, split into calls of at most the batch size")
+    void shouldSplitBulkLookupIntoBatchSizedCalls() {
+        // Given
+        BatchingQuotationClient client = new BatchingQuotationClient(loader, 2, MAX_DELAY, scheduler);
+
+        // When & Then
+        StepVerifier.create(client.findAllById(List.of("quote-1", "quote-2", "quote-1", "quote-3", "missing"))
+                        .map(Quotation::id))
+                .expectNext("quote-1", "quote-2", "quote-3")
+                .verifyComplete();
+        assertEquals(List.of(List.of("quote-1", "quote-2"), List.of("quote-3", "missing")), calls);
+    }
+
+    private static Quotation quotation(String id) {
+        return Quotation.reconstruct(id, "Max", "Dog", "Labrador", 3, true, new BigDecimal("36.00"),
+                LocalDate.now().plusDays(30));
+    }
+}
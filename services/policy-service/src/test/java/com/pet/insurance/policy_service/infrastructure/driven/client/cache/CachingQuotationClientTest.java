@@ -0,0 +1,138 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingQuotationClient Tests")
+class CachingQuotationClientTest {
+
+    @Mock
+    private QuotationClient delegate;
+
+    private OffHeapQuotationCache cache;
+    private CachingQuotationClient client;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OffHeapQuotationCache(100);
+        client = new CachingQuotationClient(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Should call the quoting service once and serve repeated lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        Quotation quotation = Quotation.reconstruct("quote-123", "Max", "Dog", "Labrador", 3, true,
+                new BigDecimal("36.00"), LocalDate.now().plusDays(30));
+        when(delegate.findById("quote-123")).thenReturn(Mono.just(quotation));
+
+        // When
+        StepVerifier.create(client.findById("quote-123")).expectNext(quotation).verifyComplete();
+        StepVerifier.create(client.findById("quote-123"))
+                .assertNext(found -> assertEquals(new BigDecimal("36.00"), found.price()))
+                .verifyComplete();
+
+        // Then
+        verify(delegate, times(1)).findById("quote-123");
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counters")
+    void shouldPublishMetrics() {
+        // Given
+        Quotation quotation = Quotation.reconstruct("quote-123", "Max", "Dog", "Labrador", 3, true,
+                new BigDecimal("36.00"), LocalDate.now().plusDays(30));
+        when(delegate.findById("quote-123")).thenReturn(Mono.just(quotation));
+        CachingQuotationClient heapClient = new CachingQuotationClient(delegate,
+                new ExpiringQuotationCache(100, Duration.ofMinutes(10)));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        heapClient.bindTo(registry);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(heapClient.findById("quote-123")).expectNextCount(1).verifyComplete();
+        }
+
+        // Then
+        assertEquals(2.0, registry.get("quotation.client.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("quotation.client.cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, registry.get("quotation.client.cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should fetch expired quotations again so callers still see them as expired")
+    void shouldNotServeExpiredQuotationsFromHeapCache() {
+        // Given
+        Quotation expired = Quotation.reconstruct("quote-123", "Max", "Dog", "Labrador", 3, true,
+                new BigDecimal("36.00"), LocalDate.now().minusDays(1));
+        when(delegate.findById("quote-123")).thenReturn(Mono.just(expired));
+        CachingQuotationClient heapClient = new CachingQuotationClient(delegate,
+                new ExpiringQuotationCache(100, Duration.ofMinutes(10)));
+
+        // When
+        StepVerifier.create(heapClient.findById("quote-123"))
+                .assertNext(found -> assertTrue(found.isExpired()))
+                .verifyComplete();
+        StepVerifier.create(heapClient.findById("quote-123")).expectNextCount(1).verifyComplete();
+
+        // Then
+        verify(delegate, times(2)).findById("quote-123");
+    }
+
+    @Test
+    @DisplayName("Should not cache quotations that were not found")
+    void shouldNotCacheFailures() {
+        // Given
+        when(delegate.findById("missing")).thenReturn(Mono.error(new QuotationNotFoundException("missing")));
+
+        // When
+        StepVerifier.create(client.findById("missing")).expectError(QuotationNotFoundException.class).verify();
+        StepVerifier.create(client.findById("missing")).expectError(QuotationNotFoundException.class).verify();
+
+        // Then
+        verify(delegate, times(2)).findById("missing");
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should fetch only the uncached quotations of a bulk lookup, with one call")
+    void shouldFetchOnlyUncachedQuotationsInBulk() {
+        // Given
+        cache.put(Quotation.reconstruct("quote-1", "Max", "Dog", "Labrador", 3, true,
+                new BigDecimal("36.00"), LocalDate.now().plusDays(30)));
+        Quotation fetched = Quotation.reconstruct("quote-2", "Luna", "Cat", "Siamese", 2, false,
+                new BigDecimal("20.00"), LocalDate.now().plusDays(30));
+        when(delegate.findAllById(List.of("quote-2", "quote-3"))).thenReturn(Flux.just(fetched));
+
+        // When & Then
+        StepVerifier.create(client.findAllById(List.of("quote-1", "quote-2", "quote-3")).map(Quotation::id))
+                .expectNext("quote-1", "quote-2")
+                .verifyComplete();
+        assertEquals(1, client.hits());
+        assertEquals(2, client.misses());
+        assertEquals(new BigDecimal("20.00"), cache.get("quote-2").price());
+    }
+}
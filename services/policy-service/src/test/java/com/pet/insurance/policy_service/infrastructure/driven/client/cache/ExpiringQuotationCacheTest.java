@@ -0,0 +1,118 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExpiringQuotationCache Tests")
+class ExpiringQuotationCacheTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    private final MutableClock clock = new MutableClock(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("Should drop an entry once its time to live has passed")
+    void shouldExpireAfterTtl() {
+        // Given
+        ExpiringQuotationCache cache = new ExpiringQuotationCache(10, Duration.ofMinutes(10), clock);
+        cache.put(quotation("q-1", TODAY.plusDays(30)));
+
+        // When & Then
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(cache.get("q-1")).isNotNull();
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get("q-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never keep an entry past the end of its quotation's expiry day")
+    void shouldNotOutliveQuotation() {
+        // Given
+        ExpiringQuotationCache cache = new ExpiringQuotationCache(10, Duration.ofDays(7), clock);
+        cache.put(quotation("q-1", TODAY));
+
+        // When & Then
+        clock.advance(Duration.ofHours(11));
+        assertThat(cache.get("q-1")).isNotNull();
+        clock.advance(Duration.ofHours(1));
+        assertThat(cache.get("q-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not cache a quotation that has already expired")
+    void shouldSkipExpiredQuotations() {
+        // Given
+        ExpiringQuotationCache cache = new ExpiringQuotationCache(10, Duration.ofMinutes(10), clock);
+
+        // When
+        cache.put(quotation("q-1", TODAY.minusDays(1)));
+
+        // Then
+        assertThat(cache.get("q-1")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        ExpiringQuotationCache cache = new ExpiringQuotationCache(2, Duration.ofMinutes(10), clock);
+        cache.put(quotation("q-1", TODAY.plusDays(30)));
+        cache.put(quotation("q-2", TODAY.plusDays(30)));
+        cache.get("q-1");
+
+        // When
+        cache.put(quotation("q-3", TODAY.plusDays(30)));
+
+        // Then
+        assertThat(cache.get("q-1")).isNotNull();
+        assertThat(cache.get("q-2")).isNull();
+        assertThat(cache.get("q-3")).isNotNull();
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+
+    private static Quotation quotation(String id, LocalDate expiresAt) {
+        return Quotation.reconstruct(id, "Max", "Dog", "Labrador", 3, true, new BigDecimal("36.00"), expiresAt);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.cache;
+
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OffHeapQuotationCache Tests")
+class OffHeapQuotationCacheTest {
+
+    @Test
+    @DisplayName("Should return a copy of the cached quotation")
+    void shouldReturnCachedQuotation() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(10);
+        cache.put(quotation("q-1", BigDecimal.valueOf(3600, 2)));
+
+        // When
+        Quotation found = cache.get("q-1");
+
+        // Then
+        assertThat(found.id()).isEqualTo("q-1");
+        assertThat(found.petName()).isEqualTo("Max");
+        assertThat(found.species()).isEqualTo("Dog");
+        assertThat(found.age()).isEqualTo(3);
+        assertThat(found.premiumPlan()).isTrue();
+        assertThat(found.price()).isEqualTo(new BigDecimal("36.00"));
+        assertThat(found.expiresAt()).isEqualTo(LocalDate.of(2026, 4, 1));
+        assertThat(cache.get("q-2")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep every resident entry reachable through repeated evictions")
+    void shouldKeepIndexConsistentUnderEviction() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(500);
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            cache.put(quotation("q-" + i, BigDecimal.valueOf(i)));
+        }
+
+        // Then
+        int resident = 0;
+        for (int i = 0; i < 5_000; i++) {
+            Quotation found = cache.get("q-" + i);
+            if (found != null) {
+                assertThat(found.price()).isEqualTo(BigDecimal.valueOf(i));
+                resident++;
+            }
+        }
+        assertThat(resident).isEqualTo(500);
+        assertThat(cache.size()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should skip quotations that do not fit the record layout")
+    void shouldSkipIncompleteQuotations() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(10);
+
+        // When
+        cache.put(Quotation.reconstruct("q-1", "Max", "Dog", "Labrador", 3, true, null, LocalDate.of(2026, 4, 1)));
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    private static Quotation quotation(String id, BigDecimal price) {
+        return Quotation.reconstruct(id, "Max", "Dog", "Labrador", 3, true, price, LocalDate.of(2026, 4, 1));
+    }
+}
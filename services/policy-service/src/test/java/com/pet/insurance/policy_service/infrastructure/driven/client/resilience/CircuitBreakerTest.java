@@ -0,0 +1,109 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CircuitBreaker Tests")
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final CircuitBreaker breaker = new CircuitBreaker(0.5, 4, Duration.ofSeconds(10), Duration.ofSeconds(5),
+            now::get);
+
+    @Test
+    @DisplayName("should open once the failure rate reaches the threshold over the minimum calls")
+    void shouldOpenOnFailureRate() {
+        // Arrange
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        // Act
+        boolean closedBefore = breaker.state() == CircuitBreaker.State.CLOSED;
+        breaker.onFailure();
+
+        // Assert
+        assertTrue(closedBefore);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("should forget outcomes of a previous window")
+    void shouldForgetPreviousWindow() {
+        // Arrange
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        now.addAndGet(Duration.ofSeconds(10).toMillis());
+
+        // Act
+        breaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("should let a single probe through after the open duration and close when it succeeds")
+    void shouldCloseAfterSuccessfulProbe() {
+        // Arrange
+        trip();
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+
+        // Act
+        boolean probe = breaker.tryAcquire();
+        boolean secondCall = breaker.tryAcquire();
+        breaker.onSuccess();
+
+        // Assert
+        assertTrue(probe);
+        assertFalse(secondCall);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("should open again when the probe fails")
+    void shouldReopenAfterFailedProbe() {
+        // Arrange
+        trip();
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+        assertTrue(breaker.tryAcquire());
+
+        // Act
+        breaker.onFailure();
+
+        // Assert
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("should let the next call probe when a probe is abandoned")
+    void shouldAllowNewProbeAfterAbandonedProbe() {
+        // Arrange
+        trip();
+        now.addAndGet(Duration.ofSeconds(5).toMillis());
+        assertTrue(breaker.tryAcquire());
+
+        // Act
+        breaker.onAbandoned();
+
+        // Assert
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    private void trip() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+}
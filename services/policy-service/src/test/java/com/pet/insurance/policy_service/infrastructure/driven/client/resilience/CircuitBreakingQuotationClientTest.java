@@ -0,0 +1,175 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.exception.QuotingServiceUnavailableException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.domain.port.QuotationClient;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.ExpiringQuotationCache;
+import com.pet.insurance.policy_service.infrastructure.driven.client.cache.QuotationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CircuitBreakingQuotationClient Tests")
+class CircuitBreakingQuotationClientTest {
+
+    private static final IllegalStateException FAILURE = new IllegalStateException("quoting service down");
+
+    @Mock
+    private QuotationClient delegate;
+
+    private CircuitBreaker breaker;
+    private QuotationCache fallback;
+    private CircuitBreakingQuotationClient client;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker(0.5, 2, Duration.ofSeconds(10), Duration.ofMinutes(1));
+        fallback = new ExpiringQuotationCache(100, Duration.ofHours(1));
+        client = new CircuitBreakingQuotationClient(delegate, breaker, new Bulkhead(10), fallback);
+    }
+
+    @Test
+    @DisplayName("Should fail fast without calling the quoting service once the circuit is open")
+    void shouldFailFastWhenOpen() {
+        // Given
+        when(delegate.findById(anyString())).thenReturn(Mono.error(FAILURE));
+        tripBreaker();
+
+        // When & Then
+        StepVerifier.create(client.findById("quote-123"))
+                .expectError(QuotingServiceUnavailableException.class)
+                .verify();
+        verify(delegate, times(2)).findById(anyString());
+        assertEquals(CircuitBreaker.State.OPEN, client.state());
+    }
+
+    @Test
+    @DisplayName("Should answer from the fallback store while the circuit is open")
+    void shouldServeFallbackWhenOpen() {
+        // Given
+        Quotation quotation = quotation("quote-123", LocalDate.now().plusDays(30));
+        when(delegate.findById("quote-123")).thenReturn(Mono.just(quotation));
+        StepVerifier.create(client.findById("quote-123")).expectNext(quotation).verifyComplete();
+        when(delegate.findById("other")).thenReturn(Mono.error(FAILURE));
+        tripBreaker();
+
+        // When & Then
+        StepVerifier.create(client.findById("quote-123"))
+                .expectNext(quotation)
+                .verifyComplete();
+        verify(delegate, times(1)).findById("quote-123");
+    }
+
+    @Test
+    @DisplayName("Should not answer with an expired quotation from the fallback store")
+    void shouldNotServeExpiredFallback() {
+        // Given
+        fallback.put(quotation("quote-123", LocalDate.now().minusDays(1)));
+        when(delegate.findById("quote-123")).thenReturn(Mono.error(FAILURE));
+
+        // When & Then
+        StepVerifier.create(client.findById("quote-123"))
+                .expectErrorMatches(error -> error == FAILURE)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should count a quotation that is not found as a healthy answer")
+    void shouldNotTripOnNotFound() {
+        // Given
+        when(delegate.findById(anyString())).thenReturn(Mono.error(new QuotationNotFoundException("missing")));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            StepVerifier.create(client.findById("missing"))
+                    .expectError(QuotationNotFoundException.class)
+                    .verify();
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, client.state());
+    }
+
+    @Test
+    @DisplayName("Should refuse lookups over the bulkhead limit and publish the rejection")
+    void shouldRejectLookupsOverBulkhead() {
+        // Given
+        client = new CircuitBreakingQuotationClient(delegate, breaker, new Bulkhead(1), null);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        client.bindTo(registry);
+        when(delegate.findById("slow")).thenReturn(Mono.never());
+
+        // When
+        client.findById("slow").subscribe();
+
+        // Then
+        StepVerifier.create(client.findById("quote-123"))
+                .expectError(QuotingServiceUnavailableException.class)
+                .verify();
+        assertEquals(1.0, registry.get("quotation.client.breaker.rejections").tag("reason", "bulkhead")
+                .functionCounter().count());
+        assertEquals(0.0, registry.get("quotation.client.breaker.state").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should take one bulkhead permit for a whole bulk lookup")
+    void shouldTakeOnePermitForBulkLookup() {
+        // Given
+        client = new CircuitBreakingQuotationClient(delegate, breaker, new Bulkhead(1), fallback);
+        List<String> ids = List.of("quote-1", "quote-2", "quote-3");
+        when(delegate.findAllById(ids)).thenReturn(Flux.fromIterable(ids)
+                .map(id -> quotation(id, LocalDate.now().plusDays(30))));
+
+        // When & Then
+        StepVerifier.create(client.findAllById(ids).map(Quotation::id))
+                .expectNext("quote-1", "quote-2", "quote-3")
+                .verifyComplete();
+        verify(delegate, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should answer a failed bulk lookup from the fallback only when every quotation is stored")
+    void shouldFallBackForBulkLookupOnlyWhenEveryQuotationIsStored() {
+        // Given
+        Quotation stored = quotation("quote-1", LocalDate.now().plusDays(30));
+        when(delegate.findAllById(List.of("quote-1"))).thenReturn(Flux.just(stored), Flux.error(FAILURE));
+        when(delegate.findAllById(List.of("quote-1", "quote-2"))).thenReturn(Flux.error(FAILURE));
+        StepVerifier.create(client.findAllById(List.of("quote-1"))).expectNext(stored).verifyComplete();
+
+        // When & Then
+        StepVerifier.create(client.findAllById(List.of("quote-1", "quote-2")))
+                .expectErrorMatches(error -> error == FAILURE)
+                .verify();
+        StepVerifier.create(client.findAllById(List.of("quote-1")))
+                .expectNext(stored)
+                .verifyComplete();
+    }
+
+    private void tripBreaker() {
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(client.findById("other")).expectError().verify();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.state());
+    }
+
+    private static Quotation quotation(String id, LocalDate expiresAt) {
+        return Quotation.reconstruct(id, "Max", "Dog", "Labrador", 3, true, new BigDecimal("36.00"), expiresAt);
+    }
+}
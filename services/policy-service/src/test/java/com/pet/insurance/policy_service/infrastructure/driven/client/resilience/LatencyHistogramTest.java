@@ -0,0 +1,63 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyHistogram Tests")
+class LatencyHistogramTest {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private final LatencyHistogram histogram = new LatencyHistogram(WINDOW, now::get);
+
+    @Test
+    @DisplayName("should estimate the percentile within one bucket")
+    void shouldEstimatePercentile() {
+        // Arrange
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        // Act
+        long p95 = histogram.percentile(0.95, 1);
+
+        // Assert
+        assertTrue(p95 >= TimeUnit.MILLISECONDS.toNanos(95), "p95 was " + p95);
+        assertTrue(p95 <= TimeUnit.MILLISECONDS.toNanos(95) * 1.2, "p95 was " + p95);
+    }
+
+    @Test
+    @DisplayName("should not estimate a percentile from too few samples")
+    void shouldRequireMinimumSamples() {
+        // Arrange
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        // Act & Assert
+        assertEquals(-1, histogram.percentile(0.95, 2));
+    }
+
+    @Test
+    @DisplayName("should forget samples older than two windows")
+    void shouldForgetOldSamples() {
+        // Arrange
+        histogram.record(TimeUnit.SECONDS.toNanos(2));
+
+        // Act
+        now.addAndGet(WINDOW);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        long withPreviousWindow = histogram.percentile(1.0, 1);
+        now.addAndGet(WINDOW);
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        long withoutOldestWindow = histogram.percentile(1.0, 1);
+
+        // Assert
+        assertTrue(withPreviousWindow >= TimeUnit.SECONDS.toNanos(2));
+        assertTrue(withoutOldestWindow < TimeUnit.SECONDS.toNanos(1));
+    }
+}
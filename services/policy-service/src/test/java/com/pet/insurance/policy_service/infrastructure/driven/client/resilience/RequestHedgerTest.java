@@ -0,0 +1,135 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the hedger against a local stand-in for the quoting service whose behaviour is chosen per
+ * request number.
+ */
+@DisplayName("RequestHedger Tests")
+class RequestHedgerTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile BiFunction<Integer, HttpServerResponse, Mono<Void>> behaviour;
+    private DisposableServer server;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/quotation",
+                        (request, response) -> behaviour.apply(requests.incrementAndGet(), response)))
+                .bindNow();
+        webClient = WebClient.create("http://localhost:" + server.port());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    @DisplayName("should answer with the hedged request when the first one is slow")
+    void shouldHedgeSlowRequest() {
+        // Arrange
+        behaviour = (request, response) -> request == 1
+                ? Mono.delay(Duration.ofSeconds(2)).then(response.sendString(Mono.just("slow")).then())
+                : response.sendString(Mono.just("fast")).then();
+        RequestHedger hedger = hedger(true, 0, new RetryBudget(0.1, 10));
+
+        // Act & Assert
+        StepVerifier.create(hedger.execute(this::call))
+                .expectNext("fast")
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertEquals(2, requests.get());
+        assertEquals(1, hedger.hedges());
+    }
+
+    @Test
+    @DisplayName("should not hedge requests that answer before the hedging delay")
+    void shouldNotHedgeFastRequest() {
+        // Arrange
+        behaviour = (request, response) -> response.sendString(Mono.just("fast")).then();
+        RequestHedger hedger = hedger(true, 0, new RetryBudget(0.1, 10));
+
+        // Act & Assert
+        StepVerifier.create(hedger.execute(this::call))
+                .expectNext("fast")
+                .verifyComplete();
+        assertEquals(1, requests.get());
+        assertEquals(0, hedger.hedges());
+    }
+
+    @Test
+    @DisplayName("should retry a transient failure while the budget allows it")
+    void shouldRetryTransientFailure() {
+        // Arrange
+        behaviour = (request, response) -> request == 1
+                ? response.status(503).send()
+                : response.sendString(Mono.just("recovered")).then();
+        RequestHedger hedger = hedger(false, 2, new RetryBudget(0.1, 10));
+
+        // Act & Assert
+        StepVerifier.create(hedger.execute(this::call))
+                .expectNext("recovered")
+                .verifyComplete();
+        assertEquals(2, requests.get());
+        assertEquals(1, hedger.retries());
+    }
+
+    @Test
+    @DisplayName("should stop retrying once the retry budget is spent")
+    void shouldStopRetryingWhenBudgetIsSpent() {
+        // Arrange
+        behaviour = (request, response) -> response.status(503).send();
+        RequestHedger hedger = hedger(false, 2, new RetryBudget(0, 1));
+
+        // Act & Assert
+        StepVerifier.create(hedger.execute(this::call))
+                .expectError(WebClientResponseException.ServiceUnavailable.class)
+                .verify(Duration.ofSeconds(5));
+        assertEquals(2, requests.get());
+        assertEquals(1, hedger.retries());
+    }
+
+    @Test
+    @DisplayName("should not retry client errors")
+    void shouldNotRetryClientErrors() {
+        // Arrange
+        behaviour = (request, response) -> response.status(404).send();
+        RequestHedger hedger = hedger(false, 2, new RetryBudget(0.1, 10));
+
+        // Act & Assert
+        StepVerifier.create(hedger.execute(this::call))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify(Duration.ofSeconds(5));
+        assertEquals(1, requests.get());
+    }
+
+    private Mono<String> call() {
+        return webClient.get().uri("/quotation").retrieve().bodyToMono(String.class);
+    }
+
+    private static RequestHedger hedger(boolean hedging, int maxRetries, RetryBudget budget) {
+        return new RequestHedger(hedging, 0.95, Duration.ofMillis(100), Duration.ofMillis(5), Duration.ofSeconds(1),
+                maxRetries, Duration.ofMillis(10), budget);
+    }
+}
@@ -0,0 +1,60 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RetryBudget Tests")
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("should start full and refuse retries once its tokens are spent")
+    void shouldRefuseRetriesOnceSpent() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.1, 2);
+
+        // Act & Assert
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+        assertEquals(0, budget.available());
+    }
+
+    @Test
+    @DisplayName("should earn one retry for every ten requests at a 10% ratio")
+    void shouldEarnRetriesFromRequests() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(0.1, 5);
+        while (budget.tryAcquire()) {
+            // drain the initial tokens
+        }
+
+        // Act
+        for (int i = 0; i < 9; i++) {
+            budget.recordRequest();
+        }
+        boolean beforeTenth = budget.tryAcquire();
+        budget.recordRequest();
+
+        // Assert
+        assertFalse(beforeTenth);
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("should not hold more tokens than its capacity")
+    void shouldCapTokensAtCapacity() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(1.0, 3);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        // Assert
+        assertEquals(3, budget.available());
+    }
+}
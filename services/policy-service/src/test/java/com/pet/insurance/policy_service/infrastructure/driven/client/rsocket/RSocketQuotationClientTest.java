@@ -0,0 +1,175 @@
+package com.pet.insurance.policy_service.infrastructure.driven.client.rsocket;
+
+import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.model.Quotation;
+import com.pet.insurance.policy_service.infrastructure.driven.client.mapper.QuotationMapper;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.JacksonCborDecoder;
+import org.springframework.http.codec.cbor.JacksonCborEncoder;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the client against a local stand-in for the quoting service's RSocket routes.
+ */
+@DisplayName("RSocketQuotationClient Tests")
+class RSocketQuotationClientTest {
+
+    private static final RSocketStrategies STRATEGIES = RSocketStrategies.builder()
+            .encoder(new JacksonCborEncoder())
+            .decoder(new JacksonCborDecoder())
+            .build();
+    private static final LocalDate EXPIRES_AT = LocalDate.now().plusDays(30);
+
+    private final StubQuotingService quotingService = new StubQuotingService();
+    private CloseableChannel server;
+    private RSocketRequester requester;
+    private RSocketQuotationClient client;
+
+    @BeforeEach
+    void setUp() {
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(STRATEGIES);
+        handler.setHandlers(List.of(quotingService));
+        handler.afterPropertiesSet();
+        server = RSocketServer.create(handler.responder())
+                .bind(TcpServerTransport.create("localhost", 0))
+                .block();
+        requester = RSocketRequester.builder()
+                .rsocketStrategies(STRATEGIES)
+                .dataMimeType(MediaType.APPLICATION_CBOR)
+                .tcp("localhost", server.address().getPort());
+        client = new RSocketQuotationClient(requester, new QuotationMapper(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        requester.dispose();
+        server.dispose();
+    }
+
+    @Test
+    @DisplayName("should find a quotation by id")
+    void shouldFindQuotationById() {
+        // Act & Assert
+        StepVerifier.create(client.findById("q-1"))
+                .assertNext(quotation -> {
+                    assertEquals("q-1", quotation.id());
+                    assertEquals(new BigDecimal("36.40"), quotation.price());
+                    assertEquals(EXPIRES_AT, quotation.expiresAt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should throw QuotationNotFoundException when the quotation does not exist")
+    void shouldFailWhenQuotationDoesNotExist() {
+        // Act & Assert
+        StepVerifier.create(client.findById("missing"))
+                .expectError(QuotationNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should stream the ids of a bulk lookup over one channel")
+    void shouldLookUpSeveralQuotationsOverOneChannel() {
+        // Act & Assert
+        StepVerifier.create(client.findAllById(List.of("q-1", "missing", "q-2")).map(Quotation::id))
+                .expectNext("q-1", "q-2")
+                .verifyComplete();
+        assertEquals(List.of("q-1", "missing", "q-2"), quotingService.channelIds);
+    }
+
+    @Test
+    @DisplayName("should time out when the quoting service does not answer a lookup")
+    void shouldTimeOutWhenQuotationIsNotAnswered() {
+        // Arrange
+        RSocketQuotationClient impatientClient = connectedClientWithTimeout(Duration.ofMillis(200));
+
+        // Act & Assert
+        StepVerifier.create(impatientClient.findById("slow"))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("should time out a bulk lookup when the next quotation does not arrive")
+    void shouldTimeOutWhenBulkLookupStalls() {
+        // Arrange
+        RSocketQuotationClient impatientClient = connectedClientWithTimeout(Duration.ofMillis(200));
+
+        // Act & Assert
+        StepVerifier.create(impatientClient.findAllById(List.of("q-1", "slow")).map(Quotation::id))
+                .expectNext("q-1")
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    /**
+     * A client on the shared requester, once its connection is open, so the timeout only measures
+     * the wait for responses.
+     */
+    private RSocketQuotationClient connectedClientWithTimeout(Duration timeout) {
+        client.findById("q-1").block();
+        return new RSocketQuotationClient(requester, new QuotationMapper(), timeout);
+    }
+
+    @Controller
+    static class StubQuotingService {
+
+        final List<String> channelIds = new CopyOnWriteArrayList<>();
+
+        @MessageMapping("quotations.get")
+        Mono<Map<String, Object>> get(String id) {
+            if ("slow".equals(id)) {
+                return Mono.never();
+            }
+            return "missing".equals(id) ? Mono.empty() : Mono.just(quotation(id));
+        }
+
+        @MessageMapping("quotations.lookup")
+        Flux<Map<String, Object>> lookup(Flux<String> ids) {
+            return ids.doOnNext(channelIds::add)
+                    .filter(id -> !"missing".equals(id))
+                    .concatMap(id -> "slow".equals(id) ? Mono.never() : Mono.just(quotation(id)));
+        }
+    }
+
+    private static Map<String, Object> quotation(String id) {
+        Map<String, Object> quotation = new LinkedHashMap<>();
+        quotation.put("id", id);
+        quotation.put("petName", "Max");
+        quotation.put("species", "Dog");
+        quotation.put("breed", "Labrador");
+        quotation.put("age", 3);
+        quotation.put("premiumPlan", true);
+        quotation.put("price", new BigDecimal("36.40"));
+        quotation.put("expiresAt", EXPIRES_AT);
+        quotation.put("expired", false);
+        return quotation;
+    }
+}
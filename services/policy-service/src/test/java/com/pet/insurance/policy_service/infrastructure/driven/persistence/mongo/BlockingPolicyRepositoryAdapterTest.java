@@ -0,0 +1,184 @@
+package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.pet.insurance.policy_service.domain.model.Owner;
+import com.pet.insurance.policy_service.domain.model.Policy;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import org.bson.BsonDocument;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlockingPolicyRepositoryAdapter Tests")
+class BlockingPolicyRepositoryAdapterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private BlockingPolicyRepositoryAdapter repositoryAdapter;
+
+    private Policy testPolicy;
+    private UUID quotationId;
+
+    @BeforeEach
+    void setUp() {
+        repositoryAdapter = new BlockingPolicyRepositoryAdapter(mongoTemplate, Schedulers.immediate());
+        quotationId = UUID.randomUUID();
+        testPolicy = Policy.issue(quotationId, new Owner("owner-123", "John Doe", "john.doe@email.com"));
+    }
+
+    @Test
+    @DisplayName("should save policy document through the blocking template")
+    void shouldSavePolicySuccessfully() {
+        // Arrange
+        when(mongoTemplate.save(any(PolicyDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.save(testPolicy))
+                .assertNext(savedPolicy -> {
+                    assertEquals(quotationId, savedPolicy.getQuotationId());
+                    assertEquals("owner-123", savedPolicy.getOwner().id());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<PolicyDocument> captor = ArgumentCaptor.forClass(PolicyDocument.class);
+        verify(mongoTemplate).save(captor.capture());
+        assertEquals(testPolicy.getId().toString(), captor.getValue().getId());
+        assertEquals("john.doe@email.com", captor.getValue().getOwnerEmail());
+    }
+
+    @Test
+    @DisplayName("should return empty when policy does not exist")
+    void shouldReturnEmptyWhenPolicyNotFound() {
+        // Arrange
+        UUID policyId = UUID.randomUUID();
+        when(mongoTemplate.findById(policyId.toString(), PolicyDocument.class)).thenReturn(null);
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.findById(policyId))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should insert several policies with one unordered bulk write through the blocking template")
+    void shouldInsertPoliciesInBulk() {
+        // Arrange
+        Policy otherPolicy = Policy.issue(UUID.randomUUID(), new Owner("owner-456", "Jane Doe", "jane.doe@email.com"));
+        List<PolicyDocument> inserted = new ArrayList<>();
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return bulkOperations;
+        });
+        when(bulkOperations.execute()).thenReturn(BulkWriteResult.unacknowledged());
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.saveAll(List.of(testPolicy, otherPolicy)))
+                .assertNext(rejected -> assertTrue(rejected.isEmpty()))
+                .verifyComplete();
+        assertEquals(List.of(testPolicy.getId().toString(), otherPolicy.getId().toString()),
+                inserted.stream().map(PolicyDocument::getId).toList());
+    }
+
+    @Test
+    @DisplayName("should report the policies a partial bulk write rejected through the blocking template")
+    void shouldReportRejectedPoliciesOfPartialBulkWrite() {
+        // Arrange
+        Policy otherPolicy = Policy.issue(UUID.randomUUID(), new Owner("owner-456", "Jane Doe", "jane.doe@email.com"));
+        MongoBulkWriteException bulkWriteException = new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 0)),
+                null, new ServerAddress(), Set.of());
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute())
+                .thenThrow(new BulkOperationException(bulkWriteException.getMessage(), bulkWriteException));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.saveAll(List.of(testPolicy, otherPolicy)))
+                .assertNext(rejected -> {
+                    assertEquals(Set.of(0), rejected.keySet());
+                    assertInstanceOf(PolicyAlreadyIssuedException.class, rejected.get(0));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should report a policy already issued for the quotation")
+    void shouldReportPolicyAlreadyIssued() {
+        // Arrange
+        when(mongoTemplate.save(any(PolicyDocument.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.save(testPolicy))
+                .expectError(PolicyAlreadyIssuedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should find the issued policy by idempotency key before falling back to the quotation")
+    void shouldFindIssuedPolicyByKeyThenQuotation() {
+        // Arrange
+        PolicyDocument document = new PolicyDocument();
+        document.setId(testPolicy.getId().toString());
+        document.setQuotationId(quotationId);
+        document.setOwnerId("owner-123");
+        document.setOwnerName("John Doe");
+        document.setOwnerEmail("john.doe@email.com");
+        document.setStartDate(testPolicy.getStartDate());
+        document.setEndDate(testPolicy.getEndDate());
+        document.setActive(true);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.findOne(query.capture(), eq(PolicyDocument.class))).thenReturn(null, document);
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.findIssued(quotationId, "key-1"))
+                .assertNext(policy -> assertEquals(testPolicy.getId(), policy.getId()))
+                .verifyComplete();
+        assertEquals("key-1", query.getAllValues().get(0).getQueryObject().get("idempotencyKey"));
+        assertEquals(quotationId, query.getAllValues().get(1).getQueryObject().get("quotationId"));
+        assertEquals(2, query.getAllValues().size());
+    }
+
+    @Test
+    @DisplayName("should propagate database errors")
+    void shouldPropagateDatabaseErrors() {
+        // Arrange
+        when(mongoTemplate.save(any(PolicyDocument.class))).thenThrow(new RuntimeException("Database error"));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.save(testPolicy))
+                .expectErrorMessage("Database error")
+                .verify();
+    }
+}
@@ -1,7 +1,12 @@
 package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.pet.insurance.policy_service.domain.model.Owner;
 import com.pet.insurance.policy_service.domain.model.Policy;
+import com.pet.insurance.policy_service.domain.exception.PolicyAlreadyIssuedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,14 +15,24 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.bson.BsonDocument;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +42,12 @@ class MongoPolicyRepositoryAdapterTest {
     @Mock
     private SpringDataPolicyRepository springDataRepository;
 
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Mock
+    private ReactiveBulkOperations bulkOperations;
+
     @InjectMocks
     private MongoPolicyRepositoryAdapter repositoryAdapter;
 
@@ -171,4 +192,118 @@ class MongoPolicyRepositoryAdapterTest {
 
         verify(springDataRepository, times(1)).findById(policyId.toString());
     }
+
+    @Test
+    @DisplayName("should insert several policies with one unordered bulk write")
+    void shouldInsertPoliciesInBulk() {
+        // Arrange
+        Policy otherPolicy = Policy.issue(UUID.randomUUID(), testOwner);
+        List<PolicyDocument> inserted = new ArrayList<>();
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return bulkOperations;
+        });
+        when(bulkOperations.execute()).thenReturn(Mono.just(BulkWriteResult.unacknowledged()));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.saveAll(List.of(testPolicy, otherPolicy)))
+                .assertNext(rejected -> assertTrue(rejected.isEmpty()))
+                .verifyComplete();
+        assertEquals(List.of(testPolicy.getId().toString(), otherPolicy.getId().toString()),
+                inserted.stream().map(PolicyDocument::getId).toList());
+    }
+
+    @Test
+    @DisplayName("should report by position the policies a partial bulk write rejected")
+    void shouldReportRejectedPoliciesOfPartialBulkWrite() {
+        // Arrange
+        Policy otherPolicy = Policy.issue(UUID.randomUUID(), testOwner);
+        Policy invalidPolicy = Policy.issue(UUID.randomUUID(), testOwner);
+        MongoBulkWriteException bulkWriteException = new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1),
+                        new BulkWriteError(121, "Document failed validation", new BsonDocument(), 2)),
+                null, new ServerAddress(), Set.of());
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(Mono.error(
+                new DuplicateKeyException(bulkWriteException.getMessage(), bulkWriteException)));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.saveAll(List.of(testPolicy, otherPolicy, invalidPolicy)))
+                .assertNext(rejected -> {
+                    assertEquals(Set.of(1, 2), rejected.keySet());
+                    assertInstanceOf(PolicyAlreadyIssuedException.class, rejected.get(1));
+                    assertTrue(rejected.get(1).getMessage().contains(otherPolicy.getQuotationId().toString()));
+                    assertInstanceOf(IllegalStateException.class, rejected.get(2));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("should fail the bulk write as a whole when no document is known to be written")
+    void shouldFailBulkWriteWithoutWriteErrors() {
+        // Arrange
+        when(mongoTemplate.bulkOps(BulkMode.UNORDERED, PolicyDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenReturn(Mono.error(new RuntimeException("Connection refused")));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.saveAll(List.of(testPolicy)))
+                .expectErrorMessage("Connection refused")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should report a policy already issued for the quotation")
+    void shouldReportPolicyAlreadyIssued() {
+        // Arrange
+        when(springDataRepository.save(any(PolicyDocument.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("E11000 duplicate key error")));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.save(testPolicy, "key-1"))
+                .expectError(PolicyAlreadyIssuedException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("should find the issued policy by idempotency key, then by quotation, keeping its id")
+    void shouldFindIssuedPolicy() {
+        // Arrange
+        when(springDataRepository.findByIdempotencyKey("key-1")).thenReturn(Mono.empty());
+        when(springDataRepository.findByQuotationId(quotationId)).thenReturn(Mono.just(testDocument));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.findIssued(quotationId, "key-1"))
+                .assertNext(policy -> assertEquals(testPolicy.getId(), policy.getId()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.findIssued(quotationId, null))
+                .assertNext(policy -> assertEquals(testPolicy.getId(), policy.getId()))
+                .verifyComplete();
+        verify(springDataRepository, times(1)).findByIdempotencyKey("key-1");
+    }
+
+    @Test
+    @DisplayName("should prefer the policy stored under the idempotency key over the one of the quotation")
+    void shouldPreferPolicyStoredUnderIdempotencyKey() {
+        // Arrange
+        PolicyDocument keyed = new PolicyDocument();
+        keyed.setId(UUID.randomUUID().toString());
+        keyed.setQuotationId(UUID.randomUUID());
+        keyed.setIdempotencyKey("key-1");
+        keyed.setOwnerId("owner-123");
+        keyed.setOwnerName("John Doe");
+        keyed.setOwnerEmail("john.doe@email.com");
+        keyed.setStartDate(LocalDate.now());
+        keyed.setEndDate(LocalDate.now().plusYears(1));
+        keyed.setActive(true);
+        when(springDataRepository.findByIdempotencyKey("key-1")).thenReturn(Mono.just(keyed));
+        when(springDataRepository.findByQuotationId(quotationId)).thenReturn(Mono.just(testDocument));
+
+        // Act & Assert
+        StepVerifier.create(repositoryAdapter.findIssued(quotationId, "key-1"))
+                .assertNext(policy -> assertEquals(keyed.getQuotationId(), policy.getQuotationId()))
+                .verifyComplete();
+    }
 }
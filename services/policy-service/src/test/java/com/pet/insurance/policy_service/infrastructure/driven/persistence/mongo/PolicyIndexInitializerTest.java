@@ -0,0 +1,105 @@
+package com.pet.insurance.policy_service.infrastructure.driven.persistence.mongo;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PolicyIndexInitializer Tests")
+class PolicyIndexInitializerTest {
+
+    @Mock
+    private ReactiveMongoTemplate reactiveTemplate;
+
+    @Mock
+    private ReactiveIndexOperations reactiveIndexOperations;
+
+    @Mock
+    private MongoTemplate blockingTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Test
+    @DisplayName("Should create the unique quotation and sparse unique idempotency key indexes")
+    void shouldCreateUniqueIndexes() {
+        // Arrange
+        when(reactiveTemplate.indexOps(PolicyDocument.class)).thenReturn(reactiveIndexOperations);
+        when(reactiveIndexOperations.createIndex(any())).thenReturn(Mono.just("index"));
+        PolicyIndexInitializer initializer = new PolicyIndexInitializer(
+                provider(ReactiveMongoTemplate.class, reactiveTemplate), provider(MongoTemplate.class, null));
+
+        // Act
+        initializer.afterSingletonsInstantiated();
+
+        // Assert
+        ArgumentCaptor<IndexDefinition> indexes = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(reactiveIndexOperations, times(2)).createIndex(indexes.capture());
+        Document quotationId = indexes.getAllValues().get(0).getIndexOptions();
+        Document idempotencyKey = indexes.getAllValues().get(1).getIndexOptions();
+        assertEquals(new Document("quotationId", 1), indexes.getAllValues().get(0).getIndexKeys());
+        assertEquals(true, quotationId.get("unique"));
+        assertNull(quotationId.get("sparse"));
+        assertEquals(new Document("idempotencyKey", 1), indexes.getAllValues().get(1).getIndexKeys());
+        assertEquals(true, idempotencyKey.get("unique"));
+        assertEquals(true, idempotencyKey.get("sparse"));
+    }
+
+    @Test
+    @DisplayName("Should create the indexes with the blocking template in imperative mode")
+    void shouldCreateIndexesWithBlockingTemplate() {
+        // Arrange
+        when(blockingTemplate.indexOps(PolicyDocument.class)).thenReturn(indexOperations);
+        when(indexOperations.createIndex(any())).thenReturn("index");
+        PolicyIndexInitializer initializer = new PolicyIndexInitializer(
+                provider(ReactiveMongoTemplate.class, null), provider(MongoTemplate.class, blockingTemplate));
+
+        // Act
+        initializer.afterSingletonsInstantiated();
+
+        // Assert
+        verify(indexOperations).createIndex(PolicyIndexInitializer.INDEXES.get(0));
+        verify(indexOperations).createIndex(PolicyIndexInitializer.INDEXES.get(1));
+    }
+
+    @Test
+    @DisplayName("Should fail startup when an index cannot be created")
+    void shouldFailWhenIndexCannotBeCreated() {
+        // Arrange
+        DuplicateKeyException duplicates = new DuplicateKeyException("E11000 duplicate key error");
+        when(reactiveTemplate.indexOps(PolicyDocument.class)).thenReturn(reactiveIndexOperations);
+        when(reactiveIndexOperations.createIndex(any())).thenReturn(Mono.error(duplicates));
+        PolicyIndexInitializer initializer = new PolicyIndexInitializer(
+                provider(ReactiveMongoTemplate.class, reactiveTemplate), provider(MongoTemplate.class, null));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, initializer::afterSingletonsInstantiated);
+        assertSame(duplicates, exception.getCause());
+        verify(reactiveIndexOperations, times(1)).createIndex(any());
+    }
+
+    private static <T> ObjectProvider<T> provider(Class<T> type, T bean) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (bean != null) {
+            beanFactory.addBean(type.getSimpleName(), bean);
+        }
+        return beanFactory.getBeanProvider(type);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,4 +102,20 @@ class LoggingEventPublisherTest {
             publisher.publishPolicyIssued(event).block();
         });
     }
+
+    @Test
+    @DisplayName("should publish a batch of PolicyIssuedEvents")
+    void shouldPublishPoliciesIssued() {
+        // Given
+        List<PolicyIssuedEvent> events = List.of(
+                new PolicyIssuedEvent(UUID.randomUUID(), UUID.randomUUID(), "first@example.com"),
+                new PolicyIssuedEvent(UUID.randomUUID(), UUID.randomUUID(), "second@example.com"));
+
+        // When
+        Mono<Void> result = publisher.publishPoliciesIssued(events);
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
+    }
 }
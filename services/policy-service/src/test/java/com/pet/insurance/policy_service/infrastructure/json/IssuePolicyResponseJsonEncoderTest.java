@@ -0,0 +1,62 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import com.pet.insurance.policy_service.infrastructure.web.response.IssuePolicyResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IssuePolicyResponseJsonEncoder Tests")
+class IssuePolicyResponseJsonEncoderTest {
+
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(IssuePolicyResponse.class);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final IssuePolicyResponseJsonEncoder encoder = new IssuePolicyResponseJsonEncoder();
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson")
+    void shouldMatchJackson() {
+        // Given
+        IssuePolicyResponse response = new IssuePolicyResponse("7c9e6679-7425-40de-944b-e07fc1f90ae7", "q-\"1\"", true);
+
+        // When
+        String json = encoder.encodeValue(response, DefaultDataBufferFactory.sharedInstance, RESPONSE_TYPE,
+                MediaType.APPLICATION_JSON, null).toString(StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(jsonMapper.readTree(json)).isEqualTo(jsonMapper.readTree(jsonMapper.writeValueAsString(response)));
+    }
+
+    @Test
+    @DisplayName("Should write a single value as an object and a stream as an array")
+    void shouldWriteObjectsAndArrays() {
+        // Given
+        IssuePolicyResponse first = new IssuePolicyResponse("p-1", "q-1", true);
+        IssuePolicyResponse second = new IssuePolicyResponse("p-2", null, false);
+
+        // When
+        String single = join(Mono.just(first));
+        String array = join(Flux.just(first, second));
+
+        // Then
+        assertThat(single).isEqualTo("{\"policyId\":\"p-1\",\"quotationId\":\"q-1\",\"active\":true}");
+        assertThat(array).isEqualTo("[{\"policyId\":\"p-1\",\"quotationId\":\"q-1\",\"active\":true},"
+                + "{\"policyId\":\"p-2\",\"quotationId\":null,\"active\":false}]");
+    }
+
+    private String join(Publisher<IssuePolicyResponse> input) {
+        return DataBufferUtils.join(encoder.encode(input, DefaultDataBufferFactory.sharedInstance, RESPONSE_TYPE,
+                MediaType.APPLICATION_JSON, null)).block().toString(StandardCharsets.UTF_8);
+    }
+}
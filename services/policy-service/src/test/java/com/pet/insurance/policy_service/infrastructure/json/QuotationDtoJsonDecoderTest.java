@@ -0,0 +1,102 @@
+package com.pet.insurance.policy_service.infrastructure.json;
+
+import com.pet.insurance.policy_service.infrastructure.driven.client.dto.QuotationDTO;
+import com.pet.insurance.policy_service.infrastructure.web.request.IssuePolicyRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Policy JSON decoders Tests")
+class QuotationDtoJsonDecoderTest {
+
+    private final QuotationDtoJsonDecoder quotationDecoder = new QuotationDtoJsonDecoder();
+    private final IssuePolicyRequestJsonDecoder requestDecoder = new IssuePolicyRequestJsonDecoder();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("Should decode a quoting-service response, skipping the computed expired flag")
+    void shouldDecodeQuotation() {
+        // Given
+        Flux<DataBuffer> body = Flux.just(
+                "{\"id\":\"q-1\",\"petName\":\"Ñandú\",\"species\":\"Dog\",\"breed\":null,\"age\":5,",
+                "\"premiumPlan\":true,\"price\":150.10,\"expiresAt\":\"2026-03-01\",\"expired\":false}")
+                .map(QuotationDtoJsonDecoderTest::buffer);
+
+        // When / Then
+        StepVerifier.create(quotationDecoder.decodeToMono(body, ResolvableType.forClass(QuotationDTO.class),
+                MediaType.APPLICATION_JSON, null))
+                .assertNext(quotation -> {
+                    assertThat(quotation.getId()).isEqualTo("q-1");
+                    assertThat(quotation.getPetName()).isEqualTo("Ñandú");
+                    assertThat(quotation.getSpecies()).isEqualTo("Dog");
+                    assertThat(quotation.getBreed()).isNull();
+                    assertThat(quotation.getAge()).isEqualTo(5);
+                    assertThat(quotation.isPremiumPlan()).isTrue();
+                    assertThat(quotation.getPrice()).isEqualTo(new BigDecimal("150.10"));
+                    assertThat(quotation.getExpiresAt()).isEqualTo(LocalDate.of(2026, 3, 1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed date")
+    void shouldRejectMalformedDate() {
+        StepVerifier.create(quotationDecoder.decodeToMono(Flux.just(buffer("{\"expiresAt\":\"01/03/2026\"}")),
+                ResolvableType.forClass(QuotationDTO.class), MediaType.APPLICATION_JSON, null))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject nulls for primitives, trailing tokens and arrays like JsonMapper")
+    void shouldBeStrictLikeJackson() {
+        List<String> rejected = List.of(
+                "{\"id\":\"q-1\",\"age\":null}",
+                "{\"id\":\"q-1\",\"premiumPlan\":null}",
+                "{\"id\":\"q-1\"} {\"id\":\"q-2\"}",
+                "[{\"id\":\"q-1\"}]");
+
+        for (String json : rejected) {
+            assertThatThrownBy(() -> jsonMapper.readValue(json, QuotationDTO.class))
+                    .as(json).isInstanceOf(JacksonException.class);
+            StepVerifier.create(quotationDecoder.decodeToMono(Flux.just(buffer(json)),
+                    ResolvableType.forClass(QuotationDTO.class), MediaType.APPLICATION_JSON, null))
+                    .expectError(DecodingException.class)
+                    .verify();
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode an issue request and ignore unknown properties")
+    void shouldDecodeIssueRequest() {
+        // Given
+        Flux<DataBuffer> body = Flux.just(buffer("{\"quotationId\":\"q-1\",\"ownerId\":\"o-1\","
+                + "\"ownerName\":\"Ana\",\"ownerEmail\":\"ana@example.com\",\"channel\":{\"web\":true}}"));
+
+        // When / Then
+        StepVerifier.create(requestDecoder.decodeToMono(body, ResolvableType.forClass(IssuePolicyRequest.class),
+                MediaType.APPLICATION_JSON, null))
+                .expectNext(new IssuePolicyRequest("q-1", "o-1", "Ana", "ana@example.com"))
+                .verifyComplete();
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
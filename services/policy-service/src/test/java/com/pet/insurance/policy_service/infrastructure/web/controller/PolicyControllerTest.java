@@ -58,10 +58,11 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.just(testPolicy));
+                anyString(),
+                isNull())).thenReturn(Mono.just(testPolicy));
 
         // Act & Assert
-        StepVerifier.create(policyController.issuePolicy(testRequest))
+        StepVerifier.create(policyController.issuePolicy(testRequest, null))
                 .assertNext(response -> {
                     assertNotNull(response);
                     assertEquals(testPolicy.getId().toString(), response.policyId());
@@ -74,7 +75,8 @@ class PolicyControllerTest {
                 testRequest.quotationId(),
                 testRequest.ownerId(),
                 testRequest.ownerName(),
-                testRequest.ownerEmail());
+                testRequest.ownerEmail(),
+                null);
     }
 
     @Test
@@ -85,17 +87,19 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.just(testPolicy));
+                anyString(),
+                isNull())).thenReturn(Mono.just(testPolicy));
 
         // Act
-        policyController.issuePolicy(testRequest).block();
+        policyController.issuePolicy(testRequest, null).block();
 
         // Assert
         verify(issuePolicyUseCase, times(1)).execute(
                 quotationId.toString(),
                 "owner-123",
                 "John Doe",
-                "john.doe@email.com");
+                "john.doe@email.com",
+                null);
     }
 
     @Test
@@ -106,10 +110,11 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.just(testPolicy));
+                anyString(),
+                isNull())).thenReturn(Mono.just(testPolicy));
 
         // Act
-        Mono<IssuePolicyResponse> responseMono = policyController.issuePolicy(testRequest);
+        Mono<IssuePolicyResponse> responseMono = policyController.issuePolicy(testRequest, null);
 
         // Assert
         StepVerifier.create(responseMono)
@@ -130,10 +135,11 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.error(expectedException));
+                anyString(),
+                isNull())).thenReturn(Mono.error(expectedException));
 
         // Act & Assert
-        StepVerifier.create(policyController.issuePolicy(testRequest))
+        StepVerifier.create(policyController.issuePolicy(testRequest, null))
                 .expectErrorMatches(throwable -> throwable instanceof RuntimeException &&
                         throwable.getMessage().equals("Use case error"))
                 .verify();
@@ -142,7 +148,8 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString());
+                anyString(),
+                isNull());
     }
 
     @Test
@@ -169,23 +176,25 @@ class PolicyControllerTest {
                 eq(request1.quotationId()),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.just(policy1));
+                anyString(),
+                isNull())).thenReturn(Mono.just(policy1));
 
         when(issuePolicyUseCase.execute(
                 eq(request2.quotationId()),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.just(policy2));
+                anyString(),
+                isNull())).thenReturn(Mono.just(policy2));
 
         // Act & Assert
-        StepVerifier.create(policyController.issuePolicy(request1))
+        StepVerifier.create(policyController.issuePolicy(request1, null))
                 .assertNext(response -> {
                     assertEquals(request1.quotationId(), response.quotationId());
                     assertTrue(response.active());
                 })
                 .verifyComplete();
 
-        StepVerifier.create(policyController.issuePolicy(request2))
+        StepVerifier.create(policyController.issuePolicy(request2, null))
                 .assertNext(response -> {
                     assertEquals(request2.quotationId(), response.quotationId());
                     assertTrue(response.active());
@@ -196,7 +205,8 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString());
+                anyString(),
+                isNull());
     }
 
     @Test
@@ -207,10 +217,11 @@ class PolicyControllerTest {
                 anyString(),
                 anyString(),
                 anyString(),
-                anyString())).thenReturn(Mono.just(testPolicy));
+                anyString(),
+                isNull())).thenReturn(Mono.just(testPolicy));
 
         // Act
-        Mono<IssuePolicyResponse> result = policyController.issuePolicy(testRequest);
+        Mono<IssuePolicyResponse> result = policyController.issuePolicy(testRequest, null);
 
         // Assert
         assertNotNull(result);
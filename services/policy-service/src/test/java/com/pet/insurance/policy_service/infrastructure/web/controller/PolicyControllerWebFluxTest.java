@@ -1,6 +1,8 @@
 package com.pet.insurance.policy_service.infrastructure.web.controller;
 
+import com.pet.insurance.policy_service.application.usecase.IssuePoliciesUseCase;
 import com.pet.insurance.policy_service.application.usecase.IssuePolicyUseCase;
+import com.pet.insurance.policy_service.domain.exception.IdempotencyKeyReusedException;
 import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
 import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
 import com.pet.insurance.policy_service.domain.model.Owner;
@@ -14,11 +16,16 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 @DisplayName("PolicyController WebFlux tests")
@@ -27,6 +34,9 @@ class PolicyControllerWebFluxTest {
     @Mock
     private IssuePolicyUseCase issuePolicyUseCase;
 
+    @Mock
+    private IssuePoliciesUseCase issuePoliciesUseCase;
+
     private WebTestClient webTestClient;
 
     private String quotationId;
@@ -38,7 +48,7 @@ class PolicyControllerWebFluxTest {
         quotationId = UUID.randomUUID().toString();
         owner = new Owner("owner-123", "John Doe", "john.doe@email.com");
 
-        PolicyController controller = new PolicyController(issuePolicyUseCase);
+        PolicyController controller = new PolicyController(issuePolicyUseCase, issuePoliciesUseCase);
         webTestClient = WebTestClient.bindToController(controller)
                 .controllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -48,7 +58,7 @@ class PolicyControllerWebFluxTest {
     @DisplayName("should issue policy successfully")
     void shouldIssuePolicySuccessfully() {
         Policy policy = Policy.issue(UUID.fromString(quotationId), owner);
-        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString()))
+        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString(), isNull()))
                 .thenReturn(Mono.just(policy));
 
         IssuePolicyRequest request = new IssuePolicyRequest(
@@ -73,7 +83,7 @@ class PolicyControllerWebFluxTest {
     @Test
     @DisplayName("should return 400 when quotation expired")
     void shouldReturnBadRequestWhenQuotationExpired() {
-        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString()))
+        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString(), isNull()))
                 .thenReturn(Mono.error(new QuotationExpiredException(quotationId)));
 
         IssuePolicyRequest request = new IssuePolicyRequest(
@@ -97,7 +107,7 @@ class PolicyControllerWebFluxTest {
     @Test
     @DisplayName("should return 404 when quotation not found")
     void shouldReturnNotFoundWhenQuotationMissing() {
-        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString()))
+        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString(), isNull()))
                 .thenReturn(Mono.error(new QuotationNotFoundException(quotationId)));
 
         IssuePolicyRequest request = new IssuePolicyRequest(
@@ -117,4 +127,69 @@ class PolicyControllerWebFluxTest {
                 .jsonPath("$.error").isEqualTo("Not Found")
                 .jsonPath("$.message").value(msg -> ((String) msg).contains(quotationId));
     }
+
+    @Test
+    @DisplayName("should stream one result per request of a batch")
+    void shouldIssuePoliciesInBatch() {
+        Policy policy = Policy.issue(UUID.fromString(quotationId), owner);
+        String missingId = UUID.randomUUID().toString();
+        when(issuePoliciesUseCase.execute(any())).thenReturn(Flux.just(
+                new IssuePoliciesUseCase.Result(0, quotationId, policy, null),
+                new IssuePoliciesUseCase.Result(1, missingId, null, new QuotationNotFoundException(missingId))));
+
+        List<IssuePolicyRequest> requests = List.of(
+                new IssuePolicyRequest(quotationId, owner.id(), owner.name(), owner.email()),
+                new IssuePolicyRequest(missingId, owner.id(), owner.name(), owner.email()));
+
+        webTestClient.post()
+                .uri("/policies/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(requests)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].index").isEqualTo(0)
+                .jsonPath("$[0].status").isEqualTo(200)
+                .jsonPath("$[0].policyId").isEqualTo(policy.getId().toString())
+                .jsonPath("$[1].quotationId").isEqualTo(missingId)
+                .jsonPath("$[1].status").isEqualTo(404)
+                .jsonPath("$[1].policyId").doesNotExist()
+                .jsonPath("$[1].error").exists();
+    }
+
+    @Test
+    @DisplayName("should pass the Idempotency-Key header to the use case")
+    void shouldPassIdempotencyKey() {
+        Policy policy = Policy.issue(UUID.fromString(quotationId), owner);
+        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString(), eq("key-1")))
+                .thenReturn(Mono.just(policy));
+
+        webTestClient.post()
+                .uri("/policies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "key-1")
+                .bodyValue(new IssuePolicyRequest(quotationId, owner.id(), owner.name(), owner.email()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.policyId").isEqualTo(policy.getId().toString());
+    }
+
+    @Test
+    @DisplayName("should return 422 when the idempotency key was used for another quotation")
+    void shouldReturnUnprocessableWhenIdempotencyKeyReused() {
+        when(issuePolicyUseCase.execute(anyString(), anyString(), anyString(), anyString(), eq("key-1")))
+                .thenReturn(Mono.error(new IdempotencyKeyReusedException("key-1")));
+
+        webTestClient.post()
+                .uri("/policies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", "key-1")
+                .bodyValue(new IssuePolicyRequest(quotationId, owner.id(), owner.name(), owner.email()))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Idempotency key already used for another quotation: key-1");
+    }
 }
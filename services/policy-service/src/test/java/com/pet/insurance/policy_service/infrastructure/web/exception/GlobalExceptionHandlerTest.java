@@ -2,6 +2,7 @@ package com.pet.insurance.policy_service.infrastructure.web.exception;
 
 import com.pet.insurance.policy_service.domain.exception.QuotationExpiredException;
 import com.pet.insurance.policy_service.domain.exception.QuotationNotFoundException;
+import com.pet.insurance.policy_service.domain.exception.QuotingServiceUnavailableException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,26 @@ class GlobalExceptionHandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("should handle QuotingServiceUnavailableException correctly")
+    void shouldHandleQuotingServiceUnavailableException() {
+        // Arrange
+        QuotingServiceUnavailableException exception = new QuotingServiceUnavailableException("circuit open");
+
+        // Act & Assert
+        StepVerifier.create(globalExceptionHandler.handleQuotingServiceUnavailableException(exception))
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+
+                    Map<String, Object> body = response.getBody();
+                    assertNotNull(body);
+                    assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), body.get("status"));
+                    assertEquals("Service Unavailable", body.get("error"));
+                    assertTrue(body.get("message").toString().contains("circuit open"));
+                })
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("should handle QuotationExpiredException correctly")
     void shouldHandleQuotationExpiredException() {
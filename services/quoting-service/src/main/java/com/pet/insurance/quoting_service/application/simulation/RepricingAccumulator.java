@@ -0,0 +1,92 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running totals and a histogram of price changes, one per batch; batches are merged into the
+ * book-wide {@link RepricingSummary}.
+ */
+public final class RepricingAccumulator {
+
+    static final int MIN_BUCKET = -100;
+    static final int MAX_BUCKET = 1000;
+
+    private static final double UNCHANGED_TOLERANCE = 0.005;
+    private static final int[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    private final long[] histogram = new long[MAX_BUCKET - MIN_BUCKET + 1];
+    private long count;
+    private double currentTotal;
+    private double simulatedTotal;
+    private long increased;
+    private long decreased;
+    private double minChange = Double.POSITIVE_INFINITY;
+    private double maxChange = Double.NEGATIVE_INFINITY;
+
+    public void add(double currentPrice, double simulatedPrice) {
+        count++;
+        currentTotal += currentPrice;
+        simulatedTotal += simulatedPrice;
+        double difference = simulatedPrice - currentPrice;
+        if (difference > UNCHANGED_TOLERANCE) {
+            increased++;
+        } else if (difference < -UNCHANGED_TOLERANCE) {
+            decreased++;
+        }
+        double change = currentPrice > 0 ? difference / currentPrice * 100 : 0;
+        minChange = Math.min(minChange, change);
+        maxChange = Math.max(maxChange, change);
+        long bucket = Math.round(change);
+        histogram[(int) (Math.max(MIN_BUCKET, Math.min(MAX_BUCKET, bucket)) - MIN_BUCKET)]++;
+    }
+
+    public RepricingAccumulator merge(RepricingAccumulator other) {
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        count += other.count;
+        currentTotal += other.currentTotal;
+        simulatedTotal += other.simulatedTotal;
+        increased += other.increased;
+        decreased += other.decreased;
+        minChange = Math.min(minChange, other.minChange);
+        maxChange = Math.max(maxChange, other.maxChange);
+        return this;
+    }
+
+    public RepricingSummary toSummary(String kernel) {
+        BigDecimal current = round(currentTotal);
+        BigDecimal simulated = round(simulatedTotal);
+        if (count == 0) {
+            return new RepricingSummary(0, current, simulated, null, 0, 0, 0, null, null, Map.of(), kernel);
+        }
+        Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+        for (int percentile : PERCENTILES) {
+            percentiles.put("p" + percentile, BigDecimal.valueOf(percentileBucket(percentile)));
+        }
+        BigDecimal totalChange = currentTotal > 0
+                ? round((simulatedTotal - currentTotal) / currentTotal * 100)
+                : null;
+        return new RepricingSummary(count, current, simulated, totalChange, increased, decreased,
+                count - increased - decreased, round(minChange), round(maxChange), percentiles, kernel);
+    }
+
+    private long percentileBucket(int percentile) {
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank) {
+                return i + MIN_BUCKET;
+            }
+        }
+        return MAX_BUCKET;
+    }
+
+    private static BigDecimal round(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_EVEN);
+    }
+}
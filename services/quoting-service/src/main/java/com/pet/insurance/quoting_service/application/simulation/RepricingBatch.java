@@ -0,0 +1,50 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+
+import java.util.List;
+
+/**
+ * A slice of the book laid out column by column, as the repricing kernels read it. Flags are
+ * stored as {@code 0} or {@code 1} so that every column is a {@code double[]}.
+ */
+public final class RepricingBatch {
+
+    final int size;
+    final double[] currentPrices;
+    final double[] dog;
+    final double[] breedFactors;
+    final double[] ages;
+    final double[] premium;
+
+    private RepricingBatch(int size) {
+        this.size = size;
+        this.currentPrices = new double[size];
+        this.dog = new double[size];
+        this.breedFactors = new double[size];
+        this.ages = new double[size];
+        this.premium = new double[size];
+    }
+
+    public static RepricingBatch of(List<Quotation> quotations, RepricingRates rates) {
+        RepricingBatch batch = new RepricingBatch(quotations.size());
+        for (int row = 0; row < batch.size; row++) {
+            Quotation quotation = quotations.get(row);
+            batch.currentPrices[row] = quotation.price().doubleValue();
+            batch.dog[row] = Tariff.isDog(quotation.species()) ? 1 : 0;
+            batch.breedFactors[row] = rates.breedFactor(quotation.breed());
+            batch.ages[row] = quotation.age();
+            batch.premium[row] = quotation.premiumPlan() ? 1 : 0;
+        }
+        return batch;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double currentPrice(int row) {
+        return currentPrices[row];
+    }
+}
@@ -0,0 +1,29 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+/**
+ * Prices every row of a {@link RepricingBatch} under candidate rates.
+ */
+public interface RepricingKernel {
+
+    /**
+     * Writes the simulated price of each row of {@code batch} into {@code prices}.
+     */
+    void reprice(RepricingBatch batch, RepricingRates rates, double[] prices);
+
+    String name();
+
+    /**
+     * The vectorized kernel when the JVM was started with {@code --add-modules jdk.incubator.vector},
+     * otherwise the scalar one.
+     */
+    static RepricingKernel preferred() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return new VectorRepricingKernel();
+            } catch (LinkageError e) {
+                return new ScalarRepricingKernel();
+            }
+        }
+        return new ScalarRepricingKernel();
+    }
+}
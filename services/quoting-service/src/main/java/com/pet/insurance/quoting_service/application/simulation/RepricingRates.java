@@ -0,0 +1,43 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+import com.pet.insurance.quoting_service.domain.model.PetDictionary;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+
+/**
+ * A {@link Tariff} turned into {@code double} factors for the repricing kernels, with the breed
+ * factors resolved once per dictionary code.
+ */
+public final class RepricingRates {
+
+    final double basePrice;
+    final double dogMultiplier;
+    final double otherSpeciesMultiplier;
+    final double ageThreshold;
+    final double agePremiumMultiplier;
+    final double premiumPlanMultiplier;
+
+    private final Tariff tariff;
+    private final double[] breedFactorsByCode;
+
+    public RepricingRates(Tariff tariff) {
+        this.tariff = tariff;
+        this.basePrice = tariff.basePrice().doubleValue();
+        this.dogMultiplier = tariff.dogMultiplier().doubleValue();
+        this.otherSpeciesMultiplier = tariff.otherSpeciesMultiplier().doubleValue();
+        this.ageThreshold = tariff.ageThreshold();
+        this.agePremiumMultiplier = tariff.agePremiumMultiplier().doubleValue();
+        this.premiumPlanMultiplier = tariff.premiumPlanMultiplier().doubleValue();
+        this.breedFactorsByCode = new double[PetDictionary.BREEDS.size()];
+        for (int code = 0; code < breedFactorsByCode.length; code++) {
+            breedFactorsByCode[code] = tariff.breedRiskFactors().factorFor(PetDictionary.BREEDS.name(code)).doubleValue();
+        }
+    }
+
+    double breedFactor(String breed) {
+        int code = PetDictionary.BREEDS.code(breed);
+        if (code != PetDictionary.UNKNOWN) {
+            return breedFactorsByCode[code];
+        }
+        return tariff.breedRiskFactors().factorFor(breed).doubleValue();
+    }
+}
@@ -0,0 +1,23 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Outcome of repricing the book under a candidate tariff. Changes are percentages of the current
+ * price; percentiles are given to the nearest percentage point and are {@code null}, like the
+ * minimum and maximum, for an empty book.
+ */
+public record RepricingSummary(
+        long count,
+        BigDecimal currentTotal,
+        BigDecimal simulatedTotal,
+        BigDecimal totalChangePercent,
+        long increased,
+        long decreased,
+        long unchanged,
+        BigDecimal minChangePercent,
+        BigDecimal maxChangePercent,
+        Map<String, BigDecimal> changePercentiles,
+        String kernel) {
+}
@@ -0,0 +1,27 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+/**
+ * Row-at-a-time kernel, applying the factors in the same order as {@code Tariff.price}.
+ */
+public final class ScalarRepricingKernel implements RepricingKernel {
+
+    @Override
+    public void reprice(RepricingBatch batch, RepricingRates rates, double[] prices) {
+        for (int row = 0; row < batch.size; row++) {
+            prices[row] = price(batch, rates, row);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    static double price(RepricingBatch batch, RepricingRates rates, int row) {
+        double price = rates.basePrice * (batch.dog[row] != 0 ? rates.dogMultiplier : rates.otherSpeciesMultiplier);
+        price *= batch.breedFactors[row];
+        price *= batch.ages[row] > rates.ageThreshold ? rates.agePremiumMultiplier : 1;
+        price *= batch.premium[row] != 0 ? rates.premiumPlanMultiplier : 1;
+        return price;
+    }
+}
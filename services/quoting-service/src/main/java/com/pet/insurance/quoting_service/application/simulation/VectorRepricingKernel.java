@@ -0,0 +1,46 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel on the incubating Vector API: the factors of as many rows as the CPU's widest vector
+ * holds are selected with masks and multiplied together, and the tail is left to the scalar
+ * kernel. The multiplications happen in the same order as in {@link ScalarRepricingKernel}, so
+ * both give identical results.
+ */
+final class VectorRepricingKernel implements RepricingKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void reprice(RepricingBatch batch, RepricingRates rates, double[] prices) {
+        DoubleVector otherSpecies = DoubleVector.broadcast(SPECIES, rates.otherSpeciesMultiplier);
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        int bound = SPECIES.loopBound(batch.size);
+        int row = 0;
+        for (; row < bound; row += SPECIES.length()) {
+            VectorMask<Double> dog = DoubleVector.fromArray(SPECIES, batch.dog, row).compare(VectorOperators.NE, 0);
+            VectorMask<Double> older = DoubleVector.fromArray(SPECIES, batch.ages, row)
+                    .compare(VectorOperators.GT, rates.ageThreshold);
+            VectorMask<Double> premium = DoubleVector.fromArray(SPECIES, batch.premium, row)
+                    .compare(VectorOperators.NE, 0);
+
+            DoubleVector price = otherSpecies.blend(rates.dogMultiplier, dog).mul(rates.basePrice)
+                    .mul(DoubleVector.fromArray(SPECIES, batch.breedFactors, row))
+                    .mul(one.blend(rates.agePremiumMultiplier, older))
+                    .mul(one.blend(rates.premiumPlanMultiplier, premium));
+            price.intoArray(prices, row);
+        }
+        for (; row < batch.size; row++) {
+            prices[row] = ScalarRepricingKernel.price(batch, rates, row);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "vector";
+    }
+}
@@ -1,6 +1,8 @@
 package com.pet.insurance.quoting_service.application.usecase;
 
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
 import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
 import reactor.core.publisher.Mono;
 
@@ -8,16 +10,20 @@ import java.math.BigDecimal;
 
 public class GenerateQuotationUseCase {
 
-    private static final BigDecimal DOG_PRICE_MULTIPLIER = BigDecimal.valueOf(1.2);
-    private static final BigDecimal OTHER_SPECIES_MULTIPLIER = BigDecimal.valueOf(1.1);
-    private static final int AGE_THRESHOLD = 5;
-    private static final BigDecimal AGE_PREMIUM_MULTIPLIER = BigDecimal.valueOf(1.5);
-    private static final BigDecimal PREMIUM_PLAN_MULTIPLIER = BigDecimal.valueOf(2);
-
     private final QuotationRepository repository;
+    private final Tariff tariff;
 
     public GenerateQuotationUseCase(QuotationRepository repository) {
+        this(repository, BreedRiskFactors.none());
+    }
+
+    public GenerateQuotationUseCase(QuotationRepository repository, BreedRiskFactors breedRiskFactors) {
+        this(repository, Tariff.standard(breedRiskFactors));
+    }
+
+    public GenerateQuotationUseCase(QuotationRepository repository, Tariff tariff) {
         this.repository = repository;
+        this.tariff = tariff;
     }
 
     public Mono<Quotation> execute(
@@ -28,31 +34,11 @@ public class GenerateQuotationUseCase {
             boolean premiumPlan) {
 
         try {
-            BigDecimal price = calculatePrice(species, age, premiumPlan);
+            BigDecimal price = tariff.price(species, breed, age, premiumPlan);
             Quotation quotation = Quotation.create(petName, species, breed, age, premiumPlan, price);
             return repository.save(quotation);
         } catch (Exception e) {
             return Mono.error(e);
         }
     }
-
-    private BigDecimal calculatePrice(String species, int age, boolean premium) {
-        BigDecimal price = BigDecimal.TEN;
-
-        if ("DOG".equalsIgnoreCase(species)) {
-            price = price.multiply(DOG_PRICE_MULTIPLIER);
-        } else {
-            price = price.multiply(OTHER_SPECIES_MULTIPLIER);
-        }
-
-        if (age > AGE_THRESHOLD) {
-            price = price.multiply(AGE_PREMIUM_MULTIPLIER);
-        }
-
-        if (premium) {
-            price = price.multiply(PREMIUM_PLAN_MULTIPLIER);
-        }
-
-        return price;
-    }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.pet.insurance.quoting_service.application.usecase;
 
 import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.ActiveQuotationIndex;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
@@ -9,12 +11,25 @@ import reactor.core.publisher.Flux;
 public class GetAllQuotationsUseCase {
 
     private final QuotationRepository repository;
+    private final ActiveQuotationIndex activeIndex;
 
     public GetAllQuotationsUseCase(QuotationRepository repository) {
+        this(repository, ActiveQuotationIndex.disabled());
+    }
+
+    @Autowired
+    public GetAllQuotationsUseCase(QuotationRepository repository, ActiveQuotationIndex activeIndex) {
         this.repository = repository;
+        this.activeIndex = activeIndex;
     }
 
     public Flux<Quotation> execute() {
         return repository.findAll();
     }
+
+    public Flux<Quotation> executeActive() {
+        return Flux.defer(() -> activeIndex.isReady()
+                ? Flux.fromIterable(activeIndex.findAll())
+                : repository.findAll().filter(quotation -> !quotation.isExpired()));
+    }
 }
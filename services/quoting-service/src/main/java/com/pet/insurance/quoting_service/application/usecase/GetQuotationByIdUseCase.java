@@ -1,20 +1,59 @@
 package com.pet.insurance.quoting_service.application.usecase;
 
 import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.ActiveQuotationIndex;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
 @Service
 public class GetQuotationByIdUseCase {
 
+    public static final int MAX_BATCH_SIZE = 500;
+
     private final QuotationRepository repository;
+    private final ActiveQuotationIndex activeIndex;
 
     public GetQuotationByIdUseCase(QuotationRepository repository) {
+        this(repository, ActiveQuotationIndex.disabled());
+    }
+
+    @Autowired
+    public GetQuotationByIdUseCase(QuotationRepository repository, ActiveQuotationIndex activeIndex) {
         this.repository = repository;
+        this.activeIndex = activeIndex;
     }
 
     public Mono<Quotation> execute(String id) {
-        return repository.findById(id);
+        return Mono.defer(() -> activeIndex.findById(id)
+                .map(Mono::just)
+                .orElseGet(() -> repository.findById(id)));
+    }
+
+    /**
+     * Looks up several quotations at once, answering what it can from the active index and
+     * fetching the rest in one repository call. Unknown ids are left out of the result.
+     */
+    public Flux<Quotation> execute(List<String> ids) {
+        return Flux.defer(() -> {
+            LinkedHashSet<String> distinct = new LinkedHashSet<>(ids);
+            if (distinct.size() > MAX_BATCH_SIZE) {
+                return Flux.error(new IllegalArgumentException(
+                        "Cannot look up more than " + MAX_BATCH_SIZE + " quotations at once"));
+            }
+            List<Quotation> indexed = new ArrayList<>();
+            List<String> remaining = new ArrayList<>();
+            for (String id : distinct) {
+                activeIndex.findById(id).ifPresentOrElse(indexed::add, () -> remaining.add(id));
+            }
+            Flux<Quotation> stored = remaining.isEmpty() ? Flux.empty() : repository.findAllById(remaining);
+            return Flux.fromIterable(indexed).concatWith(stored);
+        });
     }
 }
@@ -0,0 +1,59 @@
+package com.pet.insurance.quoting_service.application.usecase;
+
+import com.pet.insurance.quoting_service.application.simulation.RepricingAccumulator;
+import com.pet.insurance.quoting_service.application.simulation.RepricingBatch;
+import com.pet.insurance.quoting_service.application.simulation.RepricingKernel;
+import com.pet.insurance.quoting_service.application.simulation.RepricingRates;
+import com.pet.insurance.quoting_service.application.simulation.RepricingSummary;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Reprices every stored quotation under a candidate {@link Tariff} without saving anything. The
+ * book is read in batches that are laid out in columns and priced by a {@link RepricingKernel}
+ * on all cores; the per-batch results are merged into one {@link RepricingSummary}.
+ */
+public class SimulateRepricingUseCase {
+
+    private final QuotationRepository repository;
+    private final RepricingKernel kernel;
+    private final int batchSize;
+
+    public SimulateRepricingUseCase(QuotationRepository repository, RepricingKernel kernel, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.repository = repository;
+        this.kernel = kernel;
+        this.batchSize = batchSize;
+    }
+
+    public Mono<RepricingSummary> execute(Tariff candidate) {
+        RepricingRates rates = new RepricingRates(candidate);
+        return repository.findAll()
+                .filter(quotation -> quotation.price() != null)
+                .buffer(batchSize)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .map(quotations -> reprice(quotations, rates))
+                .reduce(RepricingAccumulator::merge)
+                .defaultIfEmpty(new RepricingAccumulator())
+                .map(accumulator -> accumulator.toSummary(kernel.name()));
+    }
+
+    private RepricingAccumulator reprice(List<Quotation> quotations, RepricingRates rates) {
+        RepricingBatch batch = RepricingBatch.of(quotations, rates);
+        double[] prices = new double[batch.size()];
+        kernel.reprice(batch, rates, prices);
+        RepricingAccumulator accumulator = new RepricingAccumulator();
+        for (int row = 0; row < batch.size(); row++) {
+            accumulator.add(batch.currentPrice(row), prices[row]);
+        }
+        return accumulator;
+    }
+}
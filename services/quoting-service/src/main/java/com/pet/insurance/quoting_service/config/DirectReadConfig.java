@@ -0,0 +1,52 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.QuotationReadRouter;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.QuotationSchemaStatus;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.RawQuotationReader;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller.DirectQuotationReadHandler;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationJsonWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller.ContentNegotiation.prefersJson;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.queryParam;
+
+/**
+ * Routes the quotation GET endpoints through {@link DirectQuotationReadHandler} when
+ * {@code quotation.read.direct-json} is enabled in reactive mode. Router functions are consulted
+ * before annotated controllers, so {@code QuotationController} keeps only the requests the direct
+ * path does not cover: {@code ?active=true}, lookups by id while the active-quotation replica
+ * serves them, and requests that prefer a format other than JSON. The routes only match once
+ * {@link QuotationSchemaStatus} reports every stored document as matching the schema; until then
+ * the controller serves every read, validating each document.
+ */
+@Configuration
+@ConditionalOnExpression("${quotation.read.direct-json:false} and '${persistence.mode:reactive}' == 'reactive'")
+public class DirectReadConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> directQuotationReadRoutes(ReactiveMongoTemplate mongoTemplate,
+            QuotationReadRouter readRouter,
+            QuotationSchemaStatus schemaStatus,
+            @Value("${quotation.read.batch-size:64}") int batchSize,
+            @Value("${quotation.replica.enabled:false}") boolean replicaEnabled) {
+        DirectQuotationReadHandler handler = new DirectQuotationReadHandler(
+                new RawQuotationReader(mongoTemplate, readRouter), new QuotationJsonWriter(), batchSize);
+        RequestPredicate trusted = request -> schemaStatus.isTrusted();
+        RequestPredicate listing = GET("/quotations").and(queryParam("active", value -> true).negate());
+        RouterFunctions.Builder routes = RouterFunctions.route()
+                .GET(listing.and(prefersJson()).and(trusted), handler::getAll);
+        if (!replicaEnabled) {
+            routes.GET("/quotations/{id}", prefersJson().and(trusted), handler::getById);
+        }
+        return routes.build();
+    }
+}
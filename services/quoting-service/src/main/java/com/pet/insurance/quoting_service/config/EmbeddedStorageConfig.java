@@ -0,0 +1,23 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded.QuotationLog;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "embedded")
+@EnableConfigurationProperties(EmbeddedStorageProperties.class)
+public class EmbeddedStorageConfig {
+
+    @Bean(destroyMethod = "close")
+    public QuotationLog quotationLog(EmbeddedStorageProperties properties) {
+        QuotationLog log = QuotationLog.open(
+                properties.directory(),
+                properties.segmentSize().toBytes(),
+                properties.compactionDeadRatio());
+        log.startMaintenance(properties.maintenanceInterval());
+        return log;
+    }
+}
@@ -0,0 +1,19 @@
+package com.pet.insurance.quoting_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the embedded quotation log used when {@code persistence.mode=embedded}.
+ */
+@ConfigurationProperties(prefix = "embedded.storage")
+public record EmbeddedStorageProperties(
+        @DefaultValue("data/quotations") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("1m") Duration maintenanceInterval,
+        @DefaultValue("0.5") double compactionDeadRatio) {
+}
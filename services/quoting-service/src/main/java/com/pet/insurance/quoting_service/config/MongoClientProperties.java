@@ -0,0 +1,43 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.mongodb.ReadConcernLevel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tuning knobs for the single MongoDB client of the service, bound from {@code mongodb.client.*}.
+ */
+@ConfigurationProperties(prefix = "mongodb.client")
+public record MongoClientProperties(
+        @DefaultValue Pool pool,
+        @DefaultValue Timeouts timeouts,
+        @DefaultValue({ "zstd", "snappy" }) List<String> compressors,
+        @DefaultValue("local") ReadConcernLevel readConcern,
+        @DefaultValue("acknowledged") String writeConcern,
+        String replicaSetName,
+        @DefaultValue Reads reads) {
+
+    public record Pool(
+            @DefaultValue("0") int minSize,
+            @DefaultValue("100") int maxSize,
+            @DefaultValue("2") int maxConnecting,
+            @DefaultValue("2s") Duration maxWaitTime,
+            @DefaultValue("0s") Duration maxIdleTime) {
+    }
+
+    public record Timeouts(
+            @DefaultValue("10s") Duration connect,
+            @DefaultValue("0s") Duration socket,
+            @DefaultValue("30s") Duration serverSelection) {
+    }
+
+    public record Reads(
+            @DefaultValue("false") boolean secondaryEnabled,
+            @DefaultValue("90s") Duration maxStaleness,
+            @DefaultValue("90s") Duration readYourWritesWindow,
+            @DefaultValue("10000") int maxTrackedWrites) {
+    }
+}
@@ -1,16 +1,29 @@
 package com.pet.insurance.quoting_service.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadConcern;
+import com.mongodb.WriteConcern;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.QuotationReadRouter;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.QuotationMongoRepository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties(MongoClientProperties.class)
 public class MongoConfig {
 
     @Value("${spring.data.mongodb.host:localhost}")
@@ -20,22 +33,87 @@ public class MongoConfig {
     private String port;
 
     @Bean
-    @Primary
-    public MongoClient reactiveMongoClient() {
+    public MongoClientSettings mongoClientSettings(MongoClientProperties properties) {
         String connectionString = String.format("mongodb://%s:%s", host, port);
-        return MongoClients.create(
-                MongoClientSettings.builder()
-                        .applyConnectionString(new ConnectionString(connectionString))
-                        .build());
+        return buildSettings(new ConnectionString(connectionString), properties);
     }
 
     @Bean
     @Primary
-    public com.mongodb.client.MongoClient mongoClient() {
-        String connectionString = String.format("mongodb://%s:%s", host, port);
-        return com.mongodb.client.MongoClients.create(
-                MongoClientSettings.builder()
-                        .applyConnectionString(new ConnectionString(connectionString))
-                        .build());
+    @ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive", matchIfMissing = true)
+    public MongoClient reactiveMongoClient(MongoClientSettings mongoClientSettings) {
+        return MongoClients.create(mongoClientSettings);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "persistence.mode", havingValue = "imperative")
+    public com.mongodb.client.MongoClient mongoClient(MongoClientSettings mongoClientSettings) {
+        return com.mongodb.client.MongoClients.create(mongoClientSettings);
+    }
+
+    @Bean
+    public QuotationReadRouter quotationReadRouter(MongoClientProperties properties) {
+        MongoClientProperties.Reads reads = properties.reads();
+        if (!reads.secondaryEnabled()) {
+            return QuotationReadRouter.primaryOnly();
+        }
+        return new QuotationReadRouter(reads.maxStaleness(), reads.readYourWritesWindow(), reads.maxTrackedWrites());
+    }
+
+    /**
+     * Spring Data repositories are only registered in reactive mode; the other modes run
+     * without a reactive client. Boot's repository auto-configuration is disabled through
+     * {@code spring.data.mongodb.repositories.type=none}.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive", matchIfMissing = true)
+    @EnableReactiveMongoRepositories(basePackageClasses = QuotationMongoRepository.class)
+    static class ReactiveRepositoriesConfig {
+    }
+
+    static MongoClientSettings buildSettings(ConnectionString connectionString, MongoClientProperties properties) {
+        MongoClientProperties.Pool pool = properties.pool();
+        MongoClientProperties.Timeouts timeouts = properties.timeouts();
+
+        return MongoClientSettings.builder()
+                .applyConnectionString(connectionString)
+                .applyToConnectionPoolSettings(builder -> builder
+                        .minSize(pool.minSize())
+                        .maxSize(pool.maxSize())
+                        .maxConnecting(pool.maxConnecting())
+                        .maxWaitTime(pool.maxWaitTime().toMillis(), TimeUnit.MILLISECONDS)
+                        .maxConnectionIdleTime(pool.maxIdleTime().toMillis(), TimeUnit.MILLISECONDS))
+                .applyToSocketSettings(builder -> builder
+                        .connectTimeout(timeouts.connect().toMillis(), TimeUnit.MILLISECONDS)
+                        .readTimeout(timeouts.socket().toMillis(), TimeUnit.MILLISECONDS))
+                .applyToClusterSettings(builder -> {
+                    builder.serverSelectionTimeout(timeouts.serverSelection().toMillis(), TimeUnit.MILLISECONDS);
+                    if (properties.replicaSetName() != null && !properties.replicaSetName().isBlank()) {
+                        builder.requiredReplicaSetName(properties.replicaSetName());
+                    }
+                })
+                .compressorList(toCompressors(properties.compressors()))
+                .readConcern(new ReadConcern(properties.readConcern()))
+                .writeConcern(toWriteConcern(properties.writeConcern()))
+                .build();
+    }
+
+    private static List<MongoCompressor> toCompressors(List<String> names) {
+        return names.stream()
+                .map(name -> switch (name.trim().toLowerCase(Locale.ROOT)) {
+                    case "zstd" -> MongoCompressor.createZstdCompressor();
+                    case "snappy" -> MongoCompressor.createSnappyCompressor();
+                    case "zlib" -> MongoCompressor.createZlibCompressor();
+                    default -> throw new IllegalArgumentException("Unsupported MongoDB compressor: " + name);
+                })
+                .toList();
+    }
+
+    private static WriteConcern toWriteConcern(String name) {
+        WriteConcern writeConcern = WriteConcern.valueOf(name);
+        if (writeConcern == null) {
+            throw new IllegalArgumentException("Unsupported MongoDB write concern: " + name);
+        }
+        return writeConcern;
     }
 }
@@ -0,0 +1,58 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics.IndexingQuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics.QuotationAnalyticsIndex;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics.QuotationAnalyticsLoader;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller.QuotationAnalyticsHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Keeps the columnar {@link QuotationAnalyticsIndex} and serves {@code GET /analytics/quotations}
+ * when {@code quotation.analytics.enabled} is set. The index is loaded from the repository at
+ * startup and then follows the quotations saved through it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "quotation.analytics.enabled", havingValue = "true")
+public class QuotationAnalyticsConfig {
+
+    @Bean
+    public QuotationAnalyticsIndex quotationAnalyticsIndex() {
+        return new QuotationAnalyticsIndex();
+    }
+
+    @Bean
+    public QuotationAnalyticsLoader quotationAnalyticsLoader(QuotationRepository repository,
+            QuotationAnalyticsIndex index) {
+        return new QuotationAnalyticsLoader(repository, index);
+    }
+
+    /**
+     * Static so that the post-processor is registered before the repositories it wraps are created.
+     */
+    @Bean
+    static BeanPostProcessor indexingQuotationRepositoryPostProcessor(ObjectProvider<QuotationAnalyticsIndex> index) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof QuotationRepository repository && !(bean instanceof IndexingQuotationRepository)) {
+                    return new IndexingQuotationRepository(repository, index.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> quotationAnalyticsRoutes(QuotationAnalyticsIndex index) {
+        QuotationAnalyticsHandler handler = new QuotationAnalyticsHandler(index);
+        return RouterFunctions.route().GET("/analytics/quotations", handler::getStats).build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.cache.CachingQuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.cache.OffHeapQuotationCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Puts the off-heap quotation cache in front of whichever {@link QuotationRepository} the
+ * persistence mode registered, when {@code quotation.cache.enabled} is set.
+ */
+@Configuration
+@EnableConfigurationProperties(QuotationCacheProperties.class)
+@ConditionalOnProperty(name = "quotation.cache.enabled", havingValue = "true")
+public class QuotationCacheConfig {
+
+    @Bean
+    public OffHeapQuotationCache offHeapQuotationCache(QuotationCacheProperties properties) {
+        return new OffHeapQuotationCache(properties.maxEntries());
+    }
+
+    /**
+     * Static so that the post-processor is registered before the repositories it wraps are created.
+     */
+    @Bean
+    static BeanPostProcessor cachingQuotationRepositoryPostProcessor(ObjectProvider<OffHeapQuotationCache> cache) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof QuotationRepository repository && !(bean instanceof CachingQuotationRepository)) {
+                    return new CachingQuotationRepository(repository, cache.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.pet.insurance.quoting_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the off-heap quotation cache in front of the repository, bound from
+ * {@code quotation.cache.*}.
+ */
+@ConfigurationProperties(prefix = "quotation.cache")
+public record QuotationCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1000000") int maxEntries) {
+}
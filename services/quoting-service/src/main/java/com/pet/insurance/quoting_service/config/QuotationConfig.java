@@ -1,17 +1,41 @@
 package com.pet.insurance.quoting_service.config;
 
 import com.pet.insurance.quoting_service.application.usecase.GenerateQuotationUseCase;
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 @Configuration
 public class QuotationConfig {
 
+    @Bean
+    BreedRiskFactors breedRiskFactors(
+            @Value("${pricing.breed-risk-factors:classpath:pricing/breed-risk-factors.csv}") Resource table
+    ) throws IOException {
+        try (Reader reader = new InputStreamReader(table.getInputStream(), StandardCharsets.UTF_8)) {
+            return BreedRiskFactors.parse(reader);
+        }
+    }
+
+    @Bean
+    Tariff tariff(BreedRiskFactors breedRiskFactors) {
+        return Tariff.standard(breedRiskFactors);
+    }
+
     @Bean
     GenerateQuotationUseCase generateQuotationUseCase(
-            QuotationRepository repository
+            QuotationRepository repository,
+            Tariff tariff
     ) {
-        return new GenerateQuotationUseCase(repository);
+        return new GenerateQuotationUseCase(repository, tariff);
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.domain.port.ActiveQuotationIndex;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.replica.ChangeStreamQuotationReplica;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.replica.ReplicaSnapshotStore;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+@Configuration
+@EnableConfigurationProperties(QuotationReplicaProperties.class)
+public class QuotationReplicaConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "quotation.replica.enabled", havingValue = "true")
+    public ChangeStreamQuotationReplica activeQuotationIndex(ReactiveMongoTemplate mongoTemplate,
+            QuotationMapper mapper, QuotationReplicaProperties properties) {
+        return new ChangeStreamQuotationReplica(mongoTemplate, mapper,
+                new ReplicaSnapshotStore(properties.snapshotFile()), properties.maxRetryBackoff());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "quotation.replica.enabled", havingValue = "false", matchIfMissing = true)
+    public ActiveQuotationIndex disabledActiveQuotationIndex() {
+        return ActiveQuotationIndex.disabled();
+    }
+}
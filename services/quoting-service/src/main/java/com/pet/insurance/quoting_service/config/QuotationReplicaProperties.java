@@ -0,0 +1,17 @@
+package com.pet.insurance.quoting_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of the node-local replica of active quotations, bound from {@code quotation.replica.*}.
+ */
+@ConfigurationProperties(prefix = "quotation.replica")
+public record QuotationReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/replica/quotations.snapshot") Path snapshotFile,
+        @DefaultValue("30s") Duration maxRetryBackoff) {
+}
@@ -0,0 +1,41 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.cache.QuotationResponseCache;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller.CachedQuotationReadHandler;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationDtoJsonEncoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller.ContentNegotiation.prefersJson;
+
+/**
+ * Serves {@code GET /quotations/{id}} from already encoded bodies when
+ * {@code quotation.response-cache.enabled} is set. The route is ordered ahead of the other quotation
+ * routes and of {@code QuotationController}, and only takes requests that prefer JSON.
+ */
+@Configuration
+@EnableConfigurationProperties(QuotationResponseCacheProperties.class)
+@ConditionalOnProperty(name = "quotation.response-cache.enabled", havingValue = "true")
+public class QuotationResponseCacheConfig {
+
+    @Bean
+    public QuotationResponseCache quotationResponseCache(QuotationResponseCacheProperties properties) {
+        return new QuotationResponseCache(properties.maxEntries(), properties.maxSize().toBytes());
+    }
+
+    @Bean
+    @Order(0)
+    public RouterFunction<ServerResponse> cachedQuotationReadRoutes(GetQuotationByIdUseCase getQuotationByIdUseCase,
+            QuotationResponseCache cache) {
+        CachedQuotationReadHandler handler = new CachedQuotationReadHandler(getQuotationByIdUseCase, cache,
+                new QuotationDtoJsonEncoder());
+        return RouterFunctions.route().GET("/quotations/{id}", prefersJson(), handler::getById).build();
+    }
+}
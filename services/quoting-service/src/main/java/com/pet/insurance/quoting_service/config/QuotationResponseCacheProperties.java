@@ -0,0 +1,16 @@
+package com.pet.insurance.quoting_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the encoded {@code GET /quotations/{id}} bodies cache, bound from
+ * {@code quotation.response-cache.*}.
+ */
+@ConfigurationProperties(prefix = "quotation.response-cache")
+public record QuotationResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100000") int maxEntries,
+        @DefaultValue("32MB") DataSize maxSize) {
+}
@@ -0,0 +1,44 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.application.simulation.RepricingKernel;
+import com.pet.insurance.quoting_service.application.simulation.ScalarRepricingKernel;
+import com.pet.insurance.quoting_service.application.usecase.SimulateRepricingUseCase;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller.RepricingSimulationHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * Serves {@code POST /simulations/repricing} when {@code simulation.repricing.enabled} is set. The
+ * vectorized kernel needs the JVM flag {@code --add-modules jdk.incubator.vector}; without it, or
+ * with {@code simulation.repricing.vectorized=false}, the scalar kernel is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "simulation.repricing.enabled", havingValue = "true")
+public class RepricingSimulationConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(RepricingSimulationConfig.class);
+
+    @Bean
+    public SimulateRepricingUseCase simulateRepricingUseCase(QuotationRepository repository,
+            @Value("${simulation.repricing.vectorized:true}") boolean vectorized,
+            @Value("${simulation.repricing.batch-size:4096}") int batchSize) {
+        RepricingKernel kernel = vectorized ? RepricingKernel.preferred() : new ScalarRepricingKernel();
+        logger.info("Repricing simulation uses the {} kernel", kernel.name());
+        return new SimulateRepricingUseCase(repository, kernel, batchSize);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> repricingSimulationRoutes(SimulateRepricingUseCase useCase, Tariff tariff) {
+        RepricingSimulationHandler handler = new RepricingSimulationHandler(useCase, tariff);
+        return RouterFunctions.route().POST("/simulations/repricing", handler::simulate).build();
+    }
+}
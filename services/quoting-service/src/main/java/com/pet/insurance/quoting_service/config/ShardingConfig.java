@@ -0,0 +1,44 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded.QuotationShards;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "sharded")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Value("${spring.data.mongodb.database:quoting_db}")
+    private String defaultDatabase;
+
+    @Bean(destroyMethod = "close")
+    public QuotationShards quotationShards(ShardingProperties sharding, MongoClientProperties properties,
+            MappingMongoConverter converter) {
+        if (sharding.uris().isEmpty()) {
+            throw new IllegalArgumentException("mongodb.sharding.uris must list at least one shard");
+        }
+        List<MongoClient> clients = new ArrayList<>();
+        List<ReactiveMongoTemplate> templates = new ArrayList<>();
+        for (String uri : sharding.uris()) {
+            ConnectionString connectionString = new ConnectionString(uri.trim());
+            MongoClient client = MongoClients.create(MongoConfig.buildSettings(connectionString, properties));
+            String database = connectionString.getDatabase() != null ? connectionString.getDatabase() : defaultDatabase;
+            clients.add(client);
+            templates.add(new ReactiveMongoTemplate(new SimpleReactiveMongoDatabaseFactory(client, database), converter));
+        }
+        return new QuotationShards(clients, templates);
+    }
+}
@@ -0,0 +1,17 @@
+package com.pet.insurance.quoting_service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Connection strings of the MongoDB shards used when {@code persistence.mode=sharded}. The order
+ * of the list decides where each quotation lives and must stay stable.
+ */
+@ConfigurationProperties(prefix = "mongodb.sharding")
+public record ShardingProperties(List<String> uris) {
+
+    public ShardingProperties {
+        uris = uris == null ? List.of() : List.copyOf(uris);
+    }
+}
@@ -0,0 +1,23 @@
+package com.pet.insurance.quoting_service.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Scheduler for the persistence modes whose storage calls block: the synchronous MongoDB driver
+ * and the embedded memory-mapped log.
+ */
+@Configuration
+@ConditionalOnExpression("'${persistence.mode:reactive}' == 'imperative' or '${persistence.mode:reactive}' == 'embedded'")
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler persistenceScheduler() {
+        return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "persistence-vt");
+    }
+}
@@ -0,0 +1,20 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.smile.SmileArrayEncoder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Besides JSON, the quotation endpoints answer in Smile, binary JSON, to clients that prefer
+ * {@code application/x-jackson-smile}, as the policy service does. Prices and dates are then
+ * read without parsing text, and property names repeated across a response are sent once.
+ */
+@Configuration
+public class WireFormatConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.defaultCodecs().jacksonSmileEncoder(new SmileArrayEncoder());
+    }
+}
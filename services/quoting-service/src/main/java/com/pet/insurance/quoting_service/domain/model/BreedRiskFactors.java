@@ -0,0 +1,88 @@
+package com.pet.insurance.quoting_service.domain.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Price multipliers by breed. Names are normalized once when the table is built and looked up
+ * through a {@link MinimalPerfectHash}, so pricing cost does not depend on the table size.
+ * Breeds missing from the table price with a factor of one.
+ */
+public final class BreedRiskFactors {
+
+    private static final BreedRiskFactors NONE = new BreedRiskFactors(List.of(), List.of());
+
+    private final MinimalPerfectHash index;
+    private final BigDecimal[] factors;
+
+    private BreedRiskFactors(List<String> breeds, List<BigDecimal> factors) {
+        this.index = new MinimalPerfectHash(breeds);
+        this.factors = factors.toArray(BigDecimal[]::new);
+    }
+
+    public static BreedRiskFactors none() {
+        return NONE;
+    }
+
+    public static BreedRiskFactors of(Map<String, BigDecimal> factorsByBreed) {
+        List<String> breeds = new ArrayList<>(factorsByBreed.size());
+        List<BigDecimal> factors = new ArrayList<>(factorsByBreed.size());
+        factorsByBreed.forEach((breed, factor) -> {
+            if (breed == null || breed.isBlank()) {
+                throw new IllegalArgumentException("Breed name cannot be null or empty");
+            }
+            if (factor == null || factor.signum() <= 0) {
+                throw new IllegalArgumentException("Risk factor for breed " + breed + " must be positive");
+            }
+            breeds.add(breed);
+            factors.add(factor);
+        });
+        return new BreedRiskFactors(breeds, factors);
+    }
+
+    /**
+     * Reads {@code breed,factor} lines; blank lines, {@code #} comments and a {@code breed,factor}
+     * header are skipped.
+     */
+    public static BreedRiskFactors parse(Reader source) throws IOException {
+        Map<String, BigDecimal> factorsByBreed = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(source);
+        int lineNumber = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            String content = line.strip();
+            if (content.isEmpty() || content.startsWith("#") || content.equalsIgnoreCase("breed,factor")) {
+                continue;
+            }
+            int separator = content.lastIndexOf(',');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid breed risk factor at line " + lineNumber + ": " + line);
+            }
+            String breed = content.substring(0, separator).strip();
+            try {
+                BigDecimal factor = new BigDecimal(content.substring(separator + 1).strip());
+                if (factorsByBreed.put(breed, factor) != null) {
+                    throw new IllegalArgumentException("Duplicate breed at line " + lineNumber + ": " + breed);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid breed risk factor at line " + lineNumber + ": " + line);
+            }
+        }
+        return of(factorsByBreed);
+    }
+
+    public BigDecimal factorFor(String breed) {
+        int position = index.indexOf(breed);
+        return position == MinimalPerfectHash.ABSENT ? BigDecimal.ONE : factors[position];
+    }
+
+    public int size() {
+        return factors.length;
+    }
+}
@@ -0,0 +1,182 @@
+package com.pet.insurance.quoting_service.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Minimal perfect hash (hash and displace) over a fixed set of names, built once and queried
+ * without allocating. Keys are compared after normalization: case is ignored, surrounding
+ * whitespace is dropped and inner whitespace runs count as a single space.
+ */
+final class MinimalPerfectHash {
+
+    static final int ABSENT = -1;
+
+    private static final int KEYS_PER_BUCKET = 4;
+
+    private final String[] keys;
+    private final int[] seeds;
+    private final int[] slots;
+    private final int slotMask;
+
+    MinimalPerfectHash(List<String> names) {
+        this.keys = names.stream().map(MinimalPerfectHash::normalize).toArray(String[]::new);
+        if (Arrays.stream(keys).distinct().count() != keys.length) {
+            throw new IllegalArgumentException("Names must be unique after normalization");
+        }
+        int slotCount = Integer.highestOneBit(Math.max(1, keys.length - 1)) << 1;
+        this.slotMask = slotCount - 1;
+        this.seeds = new int[Math.max(1, (keys.length + KEYS_PER_BUCKET - 1) / KEYS_PER_BUCKET)];
+        this.slots = new int[slotCount];
+        build();
+    }
+
+    /**
+     * Position of the name in the list given at construction, or {@link #ABSENT}.
+     */
+    int indexOf(String name) {
+        if (name == null) {
+            return ABSENT;
+        }
+        int bucket = Math.floorMod(hash(name, 0), seeds.length);
+        int index = slots[hash(name, seeds[bucket]) & slotMask] - 1;
+        return index >= 0 && matches(keys[index], name) ? index : ABSENT;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        boolean pendingSpace = false;
+        for (int i = firstNonSpace(name); i <= lastNonSpace(name); i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    private void build() {
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int i = 0; i < seeds.length; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (int index = 0; index < keys.length; index++) {
+            buckets.get(Math.floorMod(hash(keys[index], 0), seeds.length)).add(index);
+        }
+        Integer[] order = IntStream.range(0, seeds.length).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingInt(bucket -> -buckets.get(bucket).size()));
+
+        for (int bucket : order) {
+            List<Integer> indexes = buckets.get(bucket);
+            if (indexes.isEmpty()) {
+                continue;
+            }
+            int seed = 1;
+            while (!place(indexes, seed)) {
+                seed++;
+            }
+            seeds[bucket] = seed;
+        }
+    }
+
+    private boolean place(List<Integer> indexes, int seed) {
+        int[] taken = new int[indexes.size()];
+        for (int i = 0; i < indexes.size(); i++) {
+            int slot = hash(keys[indexes.get(i)], seed) & slotMask;
+            for (int j = 0; j < i; j++) {
+                if (taken[j] == slot) {
+                    return false;
+                }
+            }
+            if (slots[slot] != 0) {
+                return false;
+            }
+            taken[i] = slot;
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            slots[taken[i]] = indexes.get(i) + 1;
+        }
+        return true;
+    }
+
+    /**
+     * Hashes the normalized form of {@code name} without building it.
+     */
+    private static int hash(String name, int seed) {
+        int hash = 0x811c9dc5 ^ seed * 0x9e3779b9;
+        int end = lastNonSpace(name);
+        boolean pendingSpace = false;
+        for (int i = firstNonSpace(name); i <= end; i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                hash = (hash ^ ' ') * 0x01000193;
+                pendingSpace = false;
+            }
+            hash = (hash ^ Character.toLowerCase(c)) * 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Compares a normalized key with a raw name under the same rules as {@link #hash}.
+     */
+    private static boolean matches(String key, String name) {
+        int end = lastNonSpace(name);
+        int k = 0;
+        boolean pendingSpace = false;
+        for (int i = firstNonSpace(name); i <= end; i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                if (k >= key.length() || key.charAt(k++) != ' ') {
+                    return false;
+                }
+                pendingSpace = false;
+            }
+            if (k >= key.length() || key.charAt(k++) != Character.toLowerCase(c)) {
+                return false;
+            }
+        }
+        return k == key.length();
+    }
+
+    private static int firstNonSpace(String name) {
+        int i = 0;
+        while (i < name.length() && Character.isWhitespace(name.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int lastNonSpace(String name) {
+        int i = name.length() - 1;
+        while (i >= 0 && Character.isWhitespace(name.charAt(i))) {
+            i--;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,88 @@
+package com.pet.insurance.quoting_service.domain.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed dictionary of species or breed names, each identified by a small integer code. A code is
+ * the zero-based position of the name among the name lines of the bundled dictionary file; blank
+ * lines and {@code #} comments are skipped and take no code. Codes are therefore stable across
+ * nodes and safe to store. Lookups go through a {@link MinimalPerfectHash} built at startup.
+ */
+public final class PetDictionary {
+
+    public static final int UNKNOWN = -1;
+
+    public static final PetDictionary SPECIES = load("dictionary/species.txt");
+    public static final PetDictionary BREEDS = load("dictionary/breeds.txt");
+
+    private final String[] names;
+    private final MinimalPerfectHash index;
+
+    PetDictionary(List<String> names) {
+        this.names = names.toArray(String[]::new);
+        this.index = new MinimalPerfectHash(names);
+    }
+
+    /**
+     * Code of the name ignoring case and extra whitespace, or {@link #UNKNOWN}.
+     */
+    public int code(String name) {
+        int code = index.indexOf(name);
+        return code == MinimalPerfectHash.ABSENT ? UNKNOWN : code;
+    }
+
+    /**
+     * Code of the name only when it is spelled exactly as in the dictionary, so that decoding
+     * the code gives back the same string.
+     */
+    public int exactCode(String name) {
+        int code = code(name);
+        return code != UNKNOWN && names[code].equals(name) ? code : UNKNOWN;
+    }
+
+    public String name(int code) {
+        if (code < 0 || code >= names.length) {
+            throw new IllegalArgumentException("Unknown dictionary code: " + code);
+        }
+        return names[code];
+    }
+
+    /**
+     * Returns the dictionary's own instance for an exactly matching name, so repeated values share
+     * one string; other names are returned unchanged.
+     */
+    public String intern(String name) {
+        int code = exactCode(name);
+        return code == UNKNOWN ? name : names[code];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    private static PetDictionary load(String resource) {
+        try (InputStream in = PetDictionary.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing dictionary resource: " + resource);
+            }
+            List<String> names = new ArrayList<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                String name = line.strip();
+                if (!name.isEmpty() && !name.startsWith("#")) {
+                    names.add(name);
+                }
+            }
+            return new PetDictionary(names);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read dictionary resource " + resource, e);
+        }
+    }
+}
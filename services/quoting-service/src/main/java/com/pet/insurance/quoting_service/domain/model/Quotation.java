@@ -22,15 +22,22 @@ public class Quotation {
 
     private Quotation(String id, String petName, String species, String breed, int age, boolean premiumPlan,
             BigDecimal price, LocalDate expiresAt) {
-        validateAge(age);
-        validatePetName(petName);
-        validateSpecies(species);
-        validatePrice(price);
+        this(id, petName, species, breed, age, premiumPlan, price, expiresAt, true);
+    }
+
+    private Quotation(String id, String petName, String species, String breed, int age, boolean premiumPlan,
+            BigDecimal price, LocalDate expiresAt, boolean validate) {
+        if (validate) {
+            validateAge(age);
+            validatePetName(petName);
+            validateSpecies(species);
+            validatePrice(price);
+        }
 
         this.id = id;
         this.petName = petName;
-        this.species = species;
-        this.breed = breed;
+        this.species = PetDictionary.SPECIES.intern(species);
+        this.breed = PetDictionary.BREEDS.intern(breed);
         this.age = age;
         this.premiumPlan = premiumPlan;
         this.price = price;
@@ -55,6 +62,15 @@ public class Quotation {
         return new Quotation(id, petName, species, breed, age, premiumPlan, price, expiresAt);
     }
 
+    /**
+     * Rebuilds a quotation from storage that already enforces the rules checked by
+     * {@link #reconstruct}, without checking them again.
+     */
+    public static Quotation reconstructTrusted(String id, String petName, String species, String breed, int age,
+            boolean premiumPlan, BigDecimal price, LocalDate expiresAt) {
+        return new Quotation(id, petName, species, breed, age, premiumPlan, price, expiresAt, false);
+    }
+
     private void validateAge(int age) {
         if (age > MAX_INSURABLE_AGE) {
             throw new InvalidPetAgeException();
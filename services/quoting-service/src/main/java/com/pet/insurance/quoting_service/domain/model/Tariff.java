@@ -0,0 +1,73 @@
+package com.pet.insurance.quoting_service.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Rating rules of a quotation: a base price multiplied by the species, breed, age and plan
+ * factors that apply.
+ */
+public record Tariff(
+        BigDecimal basePrice,
+        BigDecimal dogMultiplier,
+        BigDecimal otherSpeciesMultiplier,
+        int ageThreshold,
+        BigDecimal agePremiumMultiplier,
+        BigDecimal premiumPlanMultiplier,
+        BreedRiskFactors breedRiskFactors) {
+
+    private static final int DOG = PetDictionary.SPECIES.code("Dog");
+
+    public Tariff {
+        requirePositive(basePrice, "Base price");
+        requirePositive(dogMultiplier, "Dog multiplier");
+        requirePositive(otherSpeciesMultiplier, "Other species multiplier");
+        requirePositive(agePremiumMultiplier, "Age premium multiplier");
+        requirePositive(premiumPlanMultiplier, "Premium plan multiplier");
+        if (breedRiskFactors == null) {
+            throw new IllegalArgumentException("Breed risk factors cannot be null");
+        }
+    }
+
+    /**
+     * The tariff quotations are priced with today.
+     */
+    public static Tariff standard(BreedRiskFactors breedRiskFactors) {
+        return new Tariff(BigDecimal.TEN, BigDecimal.valueOf(1.2), BigDecimal.valueOf(1.1), 5,
+                BigDecimal.valueOf(1.5), BigDecimal.valueOf(2), breedRiskFactors);
+    }
+
+    public static boolean isDog(String species) {
+        return PetDictionary.SPECIES.code(species) == DOG;
+    }
+
+    public BigDecimal price(String species, String breed, int age, boolean premiumPlan) {
+        BigDecimal price = basePrice;
+
+        if (isDog(species)) {
+            price = price.multiply(dogMultiplier);
+        } else {
+            price = price.multiply(otherSpeciesMultiplier);
+        }
+
+        BigDecimal breedFactor = breedRiskFactors.factorFor(breed);
+        if (breedFactor.compareTo(BigDecimal.ONE) != 0) {
+            price = price.multiply(breedFactor);
+        }
+
+        if (age > ageThreshold) {
+            price = price.multiply(agePremiumMultiplier);
+        }
+
+        if (premiumPlan) {
+            price = price.multiply(premiumPlanMultiplier);
+        }
+
+        return price;
+    }
+
+    private static void requirePositive(BigDecimal value, String name) {
+        if (value == null || value.signum() <= 0) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+    }
+}
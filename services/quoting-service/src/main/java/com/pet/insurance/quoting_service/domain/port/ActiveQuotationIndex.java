@@ -0,0 +1,41 @@
+package com.pet.insurance.quoting_service.domain.port;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Node-local view of the quotations that have not expired yet. A miss is not authoritative:
+ * expired quotations are never held, so callers fall back to {@link QuotationRepository}.
+ */
+public interface ActiveQuotationIndex {
+
+    /**
+     * Whether the index has been loaded and {@link #findAll()} reflects every active quotation.
+     */
+    boolean isReady();
+
+    Optional<Quotation> findById(String id);
+
+    List<Quotation> findAll();
+
+    static ActiveQuotationIndex disabled() {
+        return new ActiveQuotationIndex() {
+            @Override
+            public boolean isReady() {
+                return false;
+            }
+
+            @Override
+            public Optional<Quotation> findById(String id) {
+                return Optional.empty();
+            }
+
+            @Override
+            public List<Quotation> findAll() {
+                return List.of();
+            }
+        };
+    }
+}
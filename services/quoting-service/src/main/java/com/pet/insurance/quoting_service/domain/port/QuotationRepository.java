@@ -4,10 +4,20 @@ import com.pet.insurance.quoting_service.domain.model.Quotation;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface QuotationRepository {
     Mono<Quotation> save(Quotation quotation);
 
     Mono<Quotation> findById(String id);
 
     Flux<Quotation> findAll();
+
+    /**
+     * The quotations among {@code ids} that exist, in no particular order. Looks them up one by
+     * one; adapters that can fetch several quotations in a single round trip override it.
+     */
+    default Flux<Quotation> findAllById(Collection<String> ids) {
+        return Flux.fromIterable(ids).flatMap(this::findById);
+    }
 }
@@ -0,0 +1,42 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Feeds every quotation saved through the wrapped repository to the {@link QuotationAnalyticsIndex}.
+ */
+public class IndexingQuotationRepository implements QuotationRepository {
+
+    private final QuotationRepository delegate;
+    private final QuotationAnalyticsIndex index;
+
+    public IndexingQuotationRepository(QuotationRepository delegate, QuotationAnalyticsIndex index) {
+        this.delegate = delegate;
+        this.index = index;
+    }
+
+    @Override
+    public Mono<Quotation> save(Quotation quotation) {
+        return delegate.save(quotation).doOnNext(index::add);
+    }
+
+    @Override
+    public Mono<Quotation> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Flux<Quotation> findAllById(Collection<String> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Flux<Quotation> findAll() {
+        return delegate.findAll();
+    }
+}
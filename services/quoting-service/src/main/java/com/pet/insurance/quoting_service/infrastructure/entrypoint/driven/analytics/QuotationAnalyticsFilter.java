@@ -0,0 +1,20 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics;
+
+import java.time.LocalDate;
+
+/**
+ * Conditions of an analytics query; {@code null} leaves a column unfiltered. Ranges are
+ * inclusive.
+ */
+public record QuotationAnalyticsFilter(
+        String species,
+        Integer minAge,
+        Integer maxAge,
+        Boolean premiumPlan,
+        LocalDate expiresFrom,
+        LocalDate expiresTo) {
+
+    public static QuotationAnalyticsFilter all() {
+        return new QuotationAnalyticsFilter(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,302 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics;
+
+import com.pet.insurance.quoting_service.domain.model.PetDictionary;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * In-process copy of the quotations held column by column in primitive arrays, for filter and
+ * aggregate queries that would otherwise scan the whole collection.
+ *
+ * <ul>
+ *   <li>Columns: age as {@code byte}, species dictionary code as {@code short}, price in cents
+ *   as {@code long}, expiry as epoch day {@code int}, and the premium plan flag as a bitmap.
+ *   A 64-bit hash of each id is kept to reconcile the startup scan with concurrent writes.</li>
+ *   <li>Rows are only appended: quotations never change once saved. A single writer appends
+ *   under the monitor and publishes the new row count; queries read the count first and only
+ *   look at rows below it.</li>
+ *   <li>Queries split the rows into ranges evaluated in parallel on the common fork/join pool.</li>
+ * </ul>
+ *
+ * Until {@link #completeScan()} is called, quotations passed to {@link #add} are held back so
+ * that the ones the scan also returns are counted once. Quotations whose values do not fit the
+ * columns are left out.
+ */
+public class QuotationAnalyticsIndex {
+
+    static final int LEAF_ROWS = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int ANY = Integer.MIN_VALUE;
+
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    private volatile int size;
+
+    private boolean scanning = true;
+    private final List<Quotation> pending = new ArrayList<>();
+
+    /**
+     * Indexes a quotation that has just been saved.
+     */
+    public synchronized void add(Quotation quotation) {
+        if (scanning) {
+            pending.add(quotation);
+        } else {
+            append(quotation);
+        }
+    }
+
+    /**
+     * Indexes a quotation read by the startup scan.
+     */
+    public synchronized void addScanned(Quotation quotation) {
+        append(quotation);
+    }
+
+    /**
+     * Ends the startup scan and indexes the quotations saved meanwhile that it did not return.
+     */
+    public synchronized void completeScan() {
+        if (!scanning) {
+            return;
+        }
+        Set<Long> pendingHashes = new HashSet<>();
+        for (Quotation quotation : pending) {
+            pendingHashes.add(idHash(quotation.id()));
+        }
+        Columns current = columns;
+        for (int row = 0; row < size && !pendingHashes.isEmpty(); row++) {
+            pendingHashes.remove(current.idHashes[row]);
+        }
+        for (Quotation quotation : pending) {
+            if (pendingHashes.remove(idHash(quotation.id()))) {
+                append(quotation);
+            }
+        }
+        pending.clear();
+        scanning = false;
+    }
+
+    public synchronized boolean isScanning() {
+        return scanning;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public QuotationStats query(QuotationAnalyticsFilter filter) {
+        int rows = size;
+        Columns snapshot = columns;
+        Predicate predicate = Predicate.of(filter);
+        Partial result = predicate == null
+                ? Partial.EMPTY
+                : ForkJoinPool.commonPool().invoke(new AggregateTask(snapshot, predicate, 0, rows));
+        return result.toStats();
+    }
+
+    private void append(Quotation quotation) {
+        if (quotation.expiresAt() == null || quotation.price() == null
+                || quotation.age() < 0 || quotation.age() > Byte.MAX_VALUE) {
+            return;
+        }
+        long cents;
+        try {
+            cents = quotation.price().setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return;
+        }
+        int row = size;
+        Columns current = columns;
+        if (row == current.capacity()) {
+            current = current.grow();
+            columns = current;
+        }
+        current.idHashes[row] = idHash(quotation.id());
+        current.ages[row] = (byte) quotation.age();
+        current.speciesCodes[row] = (short) PetDictionary.SPECIES.code(quotation.species());
+        current.prices[row] = cents;
+        current.expiryDays[row] = (int) quotation.expiresAt().toEpochDay();
+        if (quotation.premiumPlan()) {
+            current.premium[row >>> 6] |= 1L << row;
+        }
+        size = row + 1;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the id, used in place of the id itself to spot duplicates.
+     */
+    static long idHash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static final class Columns {
+
+        final long[] idHashes;
+        final byte[] ages;
+        final short[] speciesCodes;
+        final long[] prices;
+        final int[] expiryDays;
+        final long[] premium;
+
+        Columns(int capacity) {
+            this(new long[capacity], new byte[capacity], new short[capacity], new long[capacity],
+                    new int[capacity], new long[capacity >>> 6]);
+        }
+
+        private Columns(long[] idHashes, byte[] ages, short[] speciesCodes, long[] prices, int[] expiryDays,
+                long[] premium) {
+            this.idHashes = idHashes;
+            this.ages = ages;
+            this.speciesCodes = speciesCodes;
+            this.prices = prices;
+            this.expiryDays = expiryDays;
+            this.premium = premium;
+        }
+
+        int capacity() {
+            return ages.length;
+        }
+
+        Columns grow() {
+            int capacity = capacity() << 1;
+            if (capacity < 0) {
+                throw new IllegalStateException("Analytics index is full");
+            }
+            return new Columns(Arrays.copyOf(idHashes, capacity), Arrays.copyOf(ages, capacity),
+                    Arrays.copyOf(speciesCodes, capacity), Arrays.copyOf(prices, capacity),
+                    Arrays.copyOf(expiryDays, capacity), Arrays.copyOf(premium, capacity >>> 6));
+        }
+    }
+
+    /**
+     * A filter resolved to column values; {@link #ANY} leaves a column unfiltered.
+     */
+    private record Predicate(int species, int minAge, int maxAge, int premium, int expiresFrom, int expiresTo) {
+
+        /**
+         * The predicate for {@code filter}, or {@code null} when no row can match it.
+         */
+        static Predicate of(QuotationAnalyticsFilter filter) {
+            int species = ANY;
+            if (filter.species() != null) {
+                species = PetDictionary.SPECIES.code(filter.species());
+                if (species == PetDictionary.UNKNOWN) {
+                    return null;
+                }
+            }
+            return new Predicate(
+                    species,
+                    filter.minAge() == null ? Integer.MIN_VALUE : filter.minAge(),
+                    filter.maxAge() == null ? Integer.MAX_VALUE : filter.maxAge(),
+                    filter.premiumPlan() == null ? ANY : filter.premiumPlan() ? 1 : 0,
+                    epochDay(filter.expiresFrom(), Integer.MIN_VALUE),
+                    epochDay(filter.expiresTo(), Integer.MAX_VALUE));
+        }
+
+        private static int epochDay(LocalDate date, int unbounded) {
+            if (date == null) {
+                return unbounded;
+            }
+            long day = date.toEpochDay();
+            return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, day));
+        }
+    }
+
+    private static final class AggregateTask extends RecursiveTask<Partial> {
+
+        private final Columns columns;
+        private final Predicate predicate;
+        private final int from;
+        private final int to;
+
+        AggregateTask(Columns columns, Predicate predicate, int from, int to) {
+            this.columns = columns;
+            this.predicate = predicate;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from <= LEAF_ROWS) {
+                return scan();
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(columns, predicate, from, middle);
+            left.fork();
+            Partial right = new AggregateTask(columns, predicate, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        private Partial scan() {
+            byte[] ages = columns.ages;
+            short[] speciesCodes = columns.speciesCodes;
+            long[] prices = columns.prices;
+            int[] expiryDays = columns.expiryDays;
+            long[] premium = columns.premium;
+            int species = predicate.species();
+            int minAge = predicate.minAge();
+            int maxAge = predicate.maxAge();
+            int premiumFlag = predicate.premium();
+            int expiresFrom = predicate.expiresFrom();
+            int expiresTo = predicate.expiresTo();
+
+            long count = 0;
+            long total = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int row = from; row < to; row++) {
+                int age = ages[row];
+                int expiry = expiryDays[row];
+                if (age < minAge || age > maxAge || expiry < expiresFrom || expiry > expiresTo
+                        || (species != ANY && speciesCodes[row] != species)
+                        || (premiumFlag != ANY && (int) (premium[row >>> 6] >>> row & 1) != premiumFlag)) {
+                    continue;
+                }
+                long price = prices[row];
+                count++;
+                total += price;
+                min = Math.min(min, price);
+                max = Math.max(max, price);
+            }
+            return new Partial(count, total, min, max);
+        }
+    }
+
+    private record Partial(long count, long total, long min, long max) {
+
+        static final Partial EMPTY = new Partial(0, 0, Long.MAX_VALUE, Long.MIN_VALUE);
+
+        Partial merge(Partial other) {
+            return new Partial(count + other.count, total + other.total,
+                    Math.min(min, other.min), Math.max(max, other.max));
+        }
+
+        QuotationStats toStats() {
+            BigDecimal totalPrice = BigDecimal.valueOf(total, 2);
+            if (count == 0) {
+                return new QuotationStats(0, totalPrice, null, null, null);
+            }
+            return new QuotationStats(count, totalPrice,
+                    totalPrice.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_EVEN),
+                    BigDecimal.valueOf(min, 2), BigDecimal.valueOf(max, 2));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics;
+
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import reactor.core.Disposable;
+
+/**
+ * Fills the {@link QuotationAnalyticsIndex} with the stored quotations once at startup. If the
+ * scan fails the index keeps what it read and goes on with live writes only.
+ */
+public class QuotationAnalyticsLoader implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuotationAnalyticsLoader.class);
+
+    private final QuotationRepository repository;
+    private final QuotationAnalyticsIndex index;
+
+    private volatile Disposable subscription;
+
+    public QuotationAnalyticsLoader(QuotationRepository repository, QuotationAnalyticsIndex index) {
+        this.repository = repository;
+        this.index = index;
+    }
+
+    @Override
+    public void start() {
+        subscription = repository.findAll()
+                .subscribe(
+                        index::addScanned,
+                        error -> {
+                            logger.warn("Analytics index scan failed after {} quotations - {}", index.size(),
+                                    error.getMessage());
+                            index.completeScan();
+                        },
+                        () -> {
+                            index.completeScan();
+                            logger.info("Analytics index loaded {} quotations", index.size());
+                        });
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregates of the quotations matching an analytics query. Average, minimum and maximum are
+ * {@code null} when nothing matched.
+ */
+public record QuotationStats(
+        long count,
+        BigDecimal totalPrice,
+        BigDecimal averagePrice,
+        BigDecimal minPrice,
+        BigDecimal maxPrice) {
+}
@@ -0,0 +1,230 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.replica;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.ActiveQuotationIndex;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * In-memory copy of the non-expired quotations, loaded by a collection scan and kept current
+ * from the {@code quotations} change stream. On shutdown the contents are written to a
+ * {@link ReplicaSnapshotStore} together with the last resume token, or the cluster time of the
+ * scan while no change has arrived yet, so the next start only replays the changes it missed.
+ * Change streams require a replica set; a single-node one is enough.
+ */
+public class ChangeStreamQuotationReplica implements ActiveQuotationIndex, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamQuotationReplica.class);
+
+    private static final String COLLECTION = "quotations";
+
+    /** ChangeStreamHistoryLost and ChangeStreamFatalError: the resume token is no longer usable. */
+    private static final Set<Integer> UNRESUMABLE_ERROR_CODES = Set.of(280, 286);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final QuotationMapper mapper;
+    private final ReplicaSnapshotStore snapshotStore;
+    private final Duration maxRetryBackoff;
+    private final Map<String, Quotation> active = new ConcurrentHashMap<>();
+
+    private volatile BsonDocument resumeToken;
+    private volatile BsonTimestamp operationTime;
+    private volatile boolean ready;
+    private volatile Disposable subscription;
+
+    public ChangeStreamQuotationReplica(ReactiveMongoTemplate mongoTemplate, QuotationMapper mapper,
+            ReplicaSnapshotStore snapshotStore, Duration maxRetryBackoff) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.snapshotStore = snapshotStore;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public Optional<Quotation> findById(String id) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Quotation quotation = active.get(id);
+        if (quotation != null && quotation.isExpired()) {
+            active.remove(id, quotation);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(quotation);
+    }
+
+    @Override
+    public List<Quotation> findAll() {
+        active.values().removeIf(Quotation::isExpired);
+        return List.copyOf(active.values());
+    }
+
+    @Override
+    public void start() {
+        snapshotStore.load().ifPresent(snapshot -> {
+            snapshot.quotations().stream()
+                    .filter(quotation -> !quotation.isExpired())
+                    .forEach(quotation -> active.put(quotation.id(), quotation));
+            resumeToken = snapshot.resumeToken();
+            operationTime = snapshot.operationTime();
+            ready = true;
+            logger.info("Restored {} active quotations from snapshot", active.size());
+        });
+        subscription = Flux.defer(() -> resumeToken != null || operationTime != null ? resume() : bootstrap())
+                .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(maxRetryBackoff)
+                        .doBeforeRetry(signal -> logger.warn("Quotation change stream failed, retrying - {}",
+                                signal.failure().getMessage())))
+                .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+            subscription = null;
+        }
+        if (ready && (resumeToken != null || operationTime != null)) {
+            snapshotStore.save(resumeToken, operationTime, findAll());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+
+    /**
+     * Scans the collection, then follows the change stream from the cluster time read before the
+     * scan so no write in between is lost. Events carry the current document, so replaying a
+     * change the scan already saw is harmless. That cluster time is kept as the stream position
+     * until the first event brings a resume token, so an idle node restarts without a rescan.
+     */
+    private Flux<ChangeStreamEvent<QuotationEntity>> bootstrap() {
+        return mongoTemplate.executeCommand(new Document("ping", 1))
+                .map(ChangeStreamQuotationReplica::operationTime)
+                .flatMapMany(startAt -> {
+                    active.clear();
+                    ready = false;
+                    Query activeOnly = new Query(where("expiresAt").gte(LocalDate.now()));
+                    return mongoTemplate.find(activeOnly, QuotationEntity.class)
+                            .doOnNext(entity -> toDomain(entity).ifPresent(q -> active.put(q.id(), q)))
+                            .then(Mono.fromRunnable(() -> {
+                                operationTime = startAt;
+                                ready = true;
+                                logger.info("Loaded {} active quotations into the replica", active.size());
+                            }))
+                            .thenMany(follow(ChangeStreamOptions.builder().resumeAt(startAt)));
+                });
+    }
+
+    private Flux<ChangeStreamEvent<QuotationEntity>> resume() {
+        ChangeStreamOptions.ChangeStreamOptionsBuilder options = resumeToken != null
+                ? ChangeStreamOptions.builder().resumeAfter(resumeToken)
+                : ChangeStreamOptions.builder().resumeAt(operationTime);
+        return follow(options)
+                .onErrorResume(ChangeStreamQuotationReplica::isUnresumable, e -> {
+                    logger.warn("Quotation change stream cannot resume, reloading - {}", e.getMessage());
+                    resumeToken = null;
+                    operationTime = null;
+                    return bootstrap();
+                });
+    }
+
+    private Flux<ChangeStreamEvent<QuotationEntity>> follow(ChangeStreamOptions.ChangeStreamOptionsBuilder options) {
+        return mongoTemplate.changeStream(COLLECTION,
+                        options.fullDocumentLookup(FullDocument.UPDATE_LOOKUP).build(), QuotationEntity.class)
+                .doOnNext(this::apply);
+    }
+
+    void apply(ChangeStreamEvent<QuotationEntity> event) {
+        OperationType operationType = event.getOperationType();
+        if (operationType == OperationType.INVALIDATE || operationType == OperationType.DROP
+                || operationType == OperationType.RENAME || operationType == OperationType.DROP_DATABASE) {
+            // The stream ends after these events; the next round starts over with a fresh scan.
+            resumeToken = null;
+            operationTime = null;
+            return;
+        }
+        String id = documentId(event);
+        QuotationEntity body = event.getBody();
+        Optional<Quotation> quotation = body == null ? Optional.empty() : toDomain(body);
+        if (quotation.isPresent() && !quotation.get().isExpired()) {
+            active.put(quotation.get().id(), quotation.get());
+        } else if (id != null) {
+            active.remove(id);
+        }
+        BsonValue token = event.getResumeToken();
+        if (token != null) {
+            resumeToken = token.asDocument();
+        }
+    }
+
+    private Optional<Quotation> toDomain(QuotationEntity entity) {
+        try {
+            return Optional.of(mapper.toDomain(entity));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping invalid quotation record with id: {} - {}", entity.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String documentId(ChangeStreamEvent<QuotationEntity> event) {
+        if (event.getRaw() == null || event.getRaw().getDocumentKey() == null) {
+            return null;
+        }
+        BsonValue id = event.getRaw().getDocumentKey().get("_id");
+        if (id == null) {
+            return null;
+        }
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    private static BsonTimestamp operationTime(Document reply) {
+        Object operationTime = reply.get("operationTime");
+        if (!(operationTime instanceof BsonTimestamp timestamp)) {
+            throw new IllegalStateException("Quotation replica requires MongoDB to run as a replica set");
+        }
+        return timestamp;
+    }
+
+    private static boolean isUnresumable(Throwable error) {
+        return error instanceof MongoCommandException commandException
+                && UNRESUMABLE_ERROR_CODES.contains(commandException.getErrorCode());
+    }
+}
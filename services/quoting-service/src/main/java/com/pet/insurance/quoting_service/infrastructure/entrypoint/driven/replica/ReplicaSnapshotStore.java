@@ -0,0 +1,135 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.replica;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Local file holding the replica contents together with the change stream position they
+ * correspond to, so a restarted node resumes the stream instead of scanning the collection. The
+ * position is the last resume token, or the cluster time of the scan when no change has been
+ * seen since.
+ */
+public class ReplicaSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaSnapshotStore.class);
+
+    private static final int MAGIC = 0x51525332;
+
+    private final Path file;
+
+    public ReplicaSnapshotStore(Path file) {
+        this.file = file;
+    }
+
+    /** Exactly one of {@code resumeToken} and {@code operationTime} is set. */
+    public record Snapshot(BsonDocument resumeToken, BsonTimestamp operationTime, List<Quotation> quotations) {
+    }
+
+    public Optional<Snapshot> load() {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                logger.warn("Ignoring quotation replica snapshot {} with unknown format", file);
+                return Optional.empty();
+            }
+            BsonDocument resumeToken = null;
+            BsonTimestamp operationTime = null;
+            if (in.readBoolean()) {
+                resumeToken = BsonDocument.parse(in.readUTF());
+            } else {
+                operationTime = new BsonTimestamp(in.readLong());
+            }
+            int count = in.readInt();
+            List<Quotation> quotations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                quotations.add(readQuotation(in));
+            }
+            return Optional.of(new Snapshot(resumeToken, operationTime, quotations));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable quotation replica snapshot {} - {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(BsonDocument resumeToken, Collection<Quotation> quotations) {
+        save(resumeToken, null, quotations);
+    }
+
+    /**
+     * Writes the snapshot at the given stream position; the resume token takes precedence when
+     * both are given.
+     */
+    public void save(BsonDocument resumeToken, BsonTimestamp operationTime, Collection<Quotation> quotations) {
+        if (resumeToken == null && operationTime == null) {
+            throw new IllegalArgumentException("Replica snapshot requires a resume token or an operation time");
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeBoolean(resumeToken != null);
+                if (resumeToken != null) {
+                    out.writeUTF(resumeToken.toJson());
+                } else {
+                    out.writeLong(operationTime.getValue());
+                }
+                out.writeInt(quotations.size());
+                for (Quotation quotation : quotations) {
+                    writeQuotation(out, quotation);
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write quotation replica snapshot " + file, e);
+        }
+    }
+
+    private static void writeQuotation(DataOutputStream out, Quotation quotation) throws IOException {
+        out.writeUTF(quotation.id());
+        out.writeUTF(quotation.petName());
+        out.writeUTF(quotation.species());
+        out.writeBoolean(quotation.breed() != null);
+        if (quotation.breed() != null) {
+            out.writeUTF(quotation.breed());
+        }
+        out.writeInt(quotation.age());
+        out.writeBoolean(quotation.premiumPlan());
+        out.writeUTF(quotation.price().toString());
+        out.writeLong(quotation.expiresAt().toEpochDay());
+    }
+
+    private static Quotation readQuotation(DataInputStream in) throws IOException {
+        String id = in.readUTF();
+        String petName = in.readUTF();
+        String species = in.readUTF();
+        String breed = in.readBoolean() ? in.readUTF() : null;
+        int age = in.readInt();
+        boolean premiumPlan = in.readBoolean();
+        BigDecimal price = new BigDecimal(in.readUTF());
+        LocalDate expiresAt = LocalDate.ofEpochDay(in.readLong());
+        return Quotation.reconstructTrusted(id, petName, species, breed, age, premiumPlan, price, expiresAt);
+    }
+}
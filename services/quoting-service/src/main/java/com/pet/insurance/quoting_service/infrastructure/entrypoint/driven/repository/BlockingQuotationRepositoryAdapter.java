@@ -0,0 +1,85 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Imperative adapter backed by the synchronous driver. Every blocking call is shifted onto
+ * the virtual-thread scheduler so the event loop is never blocked.
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "imperative")
+public class BlockingQuotationRepositoryAdapter implements QuotationRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockingQuotationRepositoryAdapter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final QuotationMapper mapper;
+    private final Scheduler scheduler;
+    private final QuotationReadRouter readRouter;
+
+    public BlockingQuotationRepositoryAdapter(MongoTemplate mongoTemplate, QuotationMapper mapper,
+            @Qualifier("persistenceScheduler") Scheduler scheduler, QuotationReadRouter readRouter) {
+        this.mongoTemplate = mongoTemplate;
+        this.mapper = mapper;
+        this.scheduler = scheduler;
+        this.readRouter = readRouter;
+    }
+
+    @Override
+    public Mono<Quotation> save(Quotation quotation) {
+        return Mono.fromCallable(() -> mongoTemplate.save(mapper.toEntity(quotation)))
+                .subscribeOn(scheduler)
+                .doOnNext(entity -> readRouter.recordWrite(entity.getId()))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<Quotation> findById(String id) {
+        return Mono.fromCallable(() -> {
+                    Query query = new Query(where("_id").is(id)).withReadPreference(readRouter.forId(id));
+                    return mongoTemplate.findOne(query, QuotationEntity.class);
+                })
+                .subscribeOn(scheduler)
+                .flatMap(entity -> {
+                    try {
+                        return Mono.just(mapper.toDomain(entity));
+                    } catch (IllegalArgumentException e) {
+                        logger.error("Invalid quotation record with id: {} - {}", id, e.getMessage());
+                        return Mono.error(e);
+                    }
+                });
+    }
+
+    @Override
+    public Flux<Quotation> findAll() {
+        return Flux.defer(() -> {
+                    Query query = new Query().withReadPreference(readRouter.forScan());
+                    return Flux.fromStream(mongoTemplate.stream(query, QuotationEntity.class));
+                })
+                .subscribeOn(scheduler)
+                .flatMap(entity -> {
+                    try {
+                        return Mono.just(mapper.toDomain(entity));
+                    } catch (IllegalArgumentException e) {
+                        logger.warn("Skipping invalid quotation record with id: {} - {}",
+                                entity.getId(), e.getMessage());
+                        return Mono.empty();
+                    }
+                });
+    }
+}
@@ -0,0 +1,107 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository;
+
+import com.mongodb.ReadPreference;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides where quotation reads are sent. Reads go to secondaries with bounded staleness,
+ * except for quotations written by this node within the read-your-writes window, which are
+ * read from the primary. Writes always go to the primary.
+ */
+public class QuotationReadRouter {
+
+    private static final long MIN_MAX_STALENESS_SECONDS = 90;
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final ReadPreference secondaryPreference;
+    private final long windowNanos;
+    private final int maxTrackedWrites;
+    private final LongSupplier clock;
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+    private final AtomicLong lastWriteAt = new AtomicLong(NEVER);
+    private final AtomicLong overflowAt = new AtomicLong(NEVER);
+
+    public QuotationReadRouter(Duration maxStaleness, Duration readYourWritesWindow, int maxTrackedWrites) {
+        this(maxStaleness, readYourWritesWindow, maxTrackedWrites, System::nanoTime);
+    }
+
+    QuotationReadRouter(Duration maxStaleness, Duration readYourWritesWindow, int maxTrackedWrites,
+            LongSupplier clock) {
+        if (maxStaleness.toSeconds() < MIN_MAX_STALENESS_SECONDS) {
+            throw new IllegalArgumentException(
+                    "maxStaleness must be at least " + MIN_MAX_STALENESS_SECONDS + " seconds");
+        }
+        this.secondaryPreference = ReadPreference.secondaryPreferred(maxStaleness.toSeconds(), TimeUnit.SECONDS);
+        this.windowNanos = readYourWritesWindow.toNanos();
+        this.maxTrackedWrites = maxTrackedWrites;
+        this.clock = clock;
+    }
+
+    private QuotationReadRouter() {
+        this.secondaryPreference = ReadPreference.primary();
+        this.windowNanos = 0;
+        this.maxTrackedWrites = 0;
+        this.clock = System::nanoTime;
+    }
+
+    public static QuotationReadRouter primaryOnly() {
+        return new QuotationReadRouter();
+    }
+
+    public void recordWrite(String id) {
+        if (isPrimaryOnly()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        lastWriteAt.set(now);
+        recentWrites.put(id, now);
+        if (recentWrites.size() > maxTrackedWrites) {
+            recentWrites.values().removeIf(writtenAt -> !isWithinWindow(writtenAt, now));
+            if (recentWrites.size() > maxTrackedWrites) {
+                // Too many writes to track individually: send every read to the primary for one window.
+                recentWrites.clear();
+                overflowAt.set(now);
+            }
+        }
+    }
+
+    public ReadPreference forId(String id) {
+        if (isPrimaryOnly()) {
+            return ReadPreference.primary();
+        }
+        long now = clock.getAsLong();
+        if (isWithinWindow(overflowAt.get(), now)) {
+            return ReadPreference.primary();
+        }
+        Long writtenAt = recentWrites.get(id);
+        if (writtenAt == null) {
+            return secondaryPreference;
+        }
+        if (isWithinWindow(writtenAt, now)) {
+            return ReadPreference.primary();
+        }
+        recentWrites.remove(id, writtenAt);
+        return secondaryPreference;
+    }
+
+    public ReadPreference forScan() {
+        if (isPrimaryOnly() || isWithinWindow(lastWriteAt.get(), clock.getAsLong())) {
+            return ReadPreference.primary();
+        }
+        return secondaryPreference;
+    }
+
+    private boolean isPrimaryOnly() {
+        return secondaryPreference.equals(ReadPreference.primary());
+    }
+
+    private boolean isWithinWindow(long writtenAt, long now) {
+        return writtenAt != NEVER && now - writtenAt < windowNanos;
+    }
+}
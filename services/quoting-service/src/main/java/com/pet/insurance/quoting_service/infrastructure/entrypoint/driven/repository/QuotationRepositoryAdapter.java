@@ -1,26 +1,41 @@
 package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository;
 
+import com.mongodb.ReadPreference;
 import com.pet.insurance.quoting_service.domain.model.Quotation;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.QuotationMongoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
 @Repository
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "reactive", matchIfMissing = true)
 public class QuotationRepositoryAdapter implements QuotationRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(QuotationRepositoryAdapter.class);
 
     private final QuotationMongoRepository mongoRepository;
+    private final ReactiveMongoTemplate mongoTemplate;
     private final QuotationMapper mapper;
+    private final QuotationReadRouter readRouter;
 
-    public QuotationRepositoryAdapter(QuotationMongoRepository mongoRepository, QuotationMapper mapper) {
+    public QuotationRepositoryAdapter(QuotationMongoRepository mongoRepository, ReactiveMongoTemplate mongoTemplate,
+            QuotationMapper mapper, QuotationReadRouter readRouter) {
         this.mongoRepository = mongoRepository;
+        this.mongoTemplate = mongoTemplate;
         this.mapper = mapper;
+        this.readRouter = readRouter;
     }
 
     @Override
@@ -28,12 +43,13 @@ public class QuotationRepositoryAdapter implements QuotationRepository {
         return Mono.just(quotation)
                 .map(mapper::toEntity)
                 .flatMap(mongoRepository::save)
+                .doOnNext(entity -> readRouter.recordWrite(entity.getId()))
                 .map(mapper::toDomain);
     }
 
     @Override
     public Mono<Quotation> findById(String id) {
-        return mongoRepository.findById(id)
+        return Mono.defer(() -> findEntityById(id))
                 .flatMap(entity -> {
                     try {
                         return Mono.just(mapper.toDomain(entity));
@@ -46,7 +62,7 @@ public class QuotationRepositoryAdapter implements QuotationRepository {
 
     @Override
     public Flux<Quotation> findAll() {
-        return mongoRepository.findAll()
+        return Flux.defer(this::findAllEntities)
                 .flatMap(entity -> {
                     try {
                         return Mono.just(mapper.toDomain(entity));
@@ -57,4 +73,45 @@ public class QuotationRepositoryAdapter implements QuotationRepository {
                     }
                 });
     }
+
+    /**
+     * Fetches all the quotations with one {@code $in} query. The batch goes to the primary as
+     * soon as one of its ids was written recently by this node.
+     */
+    @Override
+    public Flux<Quotation> findAllById(Collection<String> ids) {
+        return Flux.defer(() -> {
+            ReadPreference readPreference = ids.stream()
+                    .map(readRouter::forId)
+                    .filter(ReadPreference.primary()::equals)
+                    .findAny()
+                    .orElseGet(readRouter::forScan);
+            Query query = new Query(where("_id").in(ids)).withReadPreference(readPreference);
+            return mongoTemplate.find(query, QuotationEntity.class);
+        }).flatMap(entity -> {
+            try {
+                return Mono.just(mapper.toDomain(entity));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping invalid quotation record with id: {} - {}", entity.getId(), e.getMessage());
+                return Mono.empty();
+            }
+        });
+    }
+
+    private Mono<QuotationEntity> findEntityById(String id) {
+        ReadPreference readPreference = readRouter.forId(id);
+        if (ReadPreference.primary().equals(readPreference)) {
+            return mongoRepository.findById(id);
+        }
+        Query query = new Query(where("_id").is(id)).withReadPreference(readPreference);
+        return mongoTemplate.findOne(query, QuotationEntity.class);
+    }
+
+    private Flux<QuotationEntity> findAllEntities() {
+        ReadPreference readPreference = readRouter.forScan();
+        if (ReadPreference.primary().equals(readPreference)) {
+            return mongoRepository.findAll();
+        }
+        return mongoTemplate.find(new Query().withReadPreference(readPreference), QuotationEntity.class);
+    }
 }
@@ -0,0 +1,67 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.cache;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read-through cache in front of any {@link QuotationRepository}. Quotations are immutable, so
+ * saved and loaded quotations are cached as they pass and never need invalidating. Listings
+ * always go to the delegate.
+ */
+public class CachingQuotationRepository implements QuotationRepository {
+
+    private final QuotationRepository delegate;
+    private final OffHeapQuotationCache cache;
+
+    public CachingQuotationRepository(QuotationRepository delegate, OffHeapQuotationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Mono<Quotation> save(Quotation quotation) {
+        return delegate.save(quotation).doOnNext(cache::put);
+    }
+
+    @Override
+    public Mono<Quotation> findById(String id) {
+        return Mono.defer(() -> {
+            Quotation cached = cache.get(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return delegate.findById(id).doOnNext(cache::put);
+        });
+    }
+
+    @Override
+    public Flux<Quotation> findAllById(Collection<String> ids) {
+        return Flux.defer(() -> {
+            List<Quotation> cached = new ArrayList<>();
+            List<String> missing = new ArrayList<>();
+            for (String id : ids) {
+                Quotation quotation = cache.get(id);
+                if (quotation != null) {
+                    cached.add(quotation);
+                } else {
+                    missing.add(id);
+                }
+            }
+            Flux<Quotation> loaded = missing.isEmpty()
+                    ? Flux.empty()
+                    : delegate.findAllById(missing).doOnNext(cache::put);
+            return Flux.fromIterable(cached).concatWith(loaded);
+        });
+    }
+
+    @Override
+    public Flux<Quotation> findAll() {
+        return delegate.findAll();
+    }
+}
@@ -0,0 +1,69 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+
+/**
+ * Adapter over the embedded memory-mapped {@link QuotationLog}, for single-node deployments
+ * and benchmarks that run without MongoDB. Reads and writes touch mapped pages that may fault in
+ * from disk, so they run on the virtual-thread scheduler rather than the event loop; {@link #findAll}
+ * streams the log in pages of {@value #SCAN_PAGE_SIZE} quotations as they are requested.
+ *
+ * <p>Records have fixed-size text slots, so this mode alone limits a pet name to 64 UTF-8 bytes,
+ * a species to 32 and a breed to 64; {@link #save} fails with an {@link IllegalArgumentException}
+ * for longer values and stores nothing.
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "embedded")
+public class EmbeddedQuotationRepositoryAdapter implements QuotationRepository {
+
+    static final int SCAN_PAGE_SIZE = 256;
+
+    private final QuotationLog log;
+    private final Scheduler scheduler;
+
+    public EmbeddedQuotationRepositoryAdapter(QuotationLog log,
+            @Qualifier("persistenceScheduler") Scheduler scheduler) {
+        this.log = log;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Quotation> save(Quotation quotation) {
+        return Mono.fromCallable(() -> {
+            log.append(quotation);
+            return quotation;
+        }).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Quotation> findById(String id) {
+        return Mono.fromCallable(() -> log.find(id))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Flux<Quotation> findAll() {
+        return Flux.defer(() -> {
+                    QuotationLog.Cursor cursor = log.cursor();
+                    return Flux.<List<Quotation>>generate(sink -> {
+                        List<Quotation> page = cursor.next(SCAN_PAGE_SIZE);
+                        if (page.isEmpty()) {
+                            sink.complete();
+                        } else {
+                            sink.next(page);
+                        }
+                    });
+                })
+                .subscribeOn(scheduler)
+                .concatMapIterable(page -> page);
+    }
+}
@@ -0,0 +1,113 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongPredicate;
+
+/**
+ * Open-addressing hash index from quotation id to record number, kept in a direct buffer so
+ * millions of entries add no objects to the heap. Each slot stores the 64-bit id hash and the
+ * record number plus one (zero marks an empty slot). Hash collisions are resolved by asking the
+ * caller whether a candidate record really holds the searched id.
+ */
+final class OffHeapIdIndex {
+
+    static final long ABSENT = -1;
+
+    private static final int SLOT_BYTES = 16;
+    private static final int MIN_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = 1 << 26;
+
+    private ByteBuffer slots;
+    private int mask;
+    private int size;
+
+    OffHeapIdIndex(int expectedEntries) {
+        allocate(capacityFor(expectedEntries));
+    }
+
+    static long hash(byte[] id) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : id) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    long get(long hash, LongPredicate isKey) {
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            long stored = slots.getLong(slot * SLOT_BYTES + 8);
+            if (stored == 0) {
+                return ABSENT;
+            }
+            if (slots.getLong(slot * SLOT_BYTES) == hash && isKey.test(stored - 1)) {
+                return stored - 1;
+            }
+        }
+    }
+
+    /**
+     * Points the id at {@code recordNumber}, returning the record it previously pointed at or
+     * {@link #ABSENT}.
+     */
+    long put(long hash, long recordNumber, LongPredicate isKey) {
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            int position = slot * SLOT_BYTES;
+            long stored = slots.getLong(position + 8);
+            if (stored == 0) {
+                slots.putLong(position, hash);
+                slots.putLong(position + 8, recordNumber + 1);
+                if (++size > (mask + 1) / 2) {
+                    resize();
+                }
+                return ABSENT;
+            }
+            if (slots.getLong(position) == hash && isKey.test(stored - 1)) {
+                slots.putLong(position + 8, recordNumber + 1);
+                return stored - 1;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        ByteBuffer previous = slots;
+        allocate((mask + 1) * 2);
+        for (int position = 0; position < previous.capacity(); position += SLOT_BYTES) {
+            long stored = previous.getLong(position + 8);
+            if (stored != 0) {
+                long hash = previous.getLong(position);
+                int slot = (int) hash & mask;
+                while (slots.getLong(slot * SLOT_BYTES + 8) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots.putLong(slot * SLOT_BYTES, hash);
+                slots.putLong(slot * SLOT_BYTES + 8, stored);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Embedded quotation index cannot grow beyond " + MAX_CAPACITY + " slots");
+        }
+        slots = ByteBuffer.allocateDirect(capacity * SLOT_BYTES);
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedEntries) {
+        int target = Math.max(MIN_CAPACITY, expectedEntries * 2);
+        return Integer.highestOneBit(target - 1) << 1;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,462 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded.QuotationRecordCodec.RECORD_SIZE;
+
+/**
+ * Append-only log of fixed-size quotation records stored in memory-mapped segment files.
+ *
+ * <p>Saving a quotation whose id already exists appends a new record and repoints the off-heap
+ * index at it, leaving the old record dead. Compaction rewrites the live records into a new
+ * generation of segment files, published atomically through the {@code CURRENT} file. On open
+ * the log is scanned, the index is rebuilt, and everything from the first torn record onwards
+ * is discarded.
+ */
+public class QuotationLog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuotationLog.class);
+
+    private static final String CURRENT_FILE = "CURRENT";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("quotations-(\\d+)-(\\d+)\\.log");
+    private static final int COMPACTION_CHUNK = 4096;
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final double compactionDeadRatio;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private ScheduledExecutorService maintenance;
+
+    private Generation current;
+
+    private QuotationLog(Path directory, int recordsPerSegment, double compactionDeadRatio) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.compactionDeadRatio = compactionDeadRatio;
+    }
+
+    public static QuotationLog open(Path directory, long segmentBytes, double compactionDeadRatio) {
+        long records = segmentBytes / RECORD_SIZE;
+        if (records < 1 || records * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must hold between one record and 2 GiB: " + segmentBytes);
+        }
+        QuotationLog log = new QuotationLog(directory, (int) records, compactionDeadRatio);
+        try {
+            Files.createDirectories(directory);
+            log.current = log.recover(log.readCurrentGeneration());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open embedded quotation log in " + directory, e);
+        }
+        return log;
+    }
+
+    public void startMaintenance(Duration interval) {
+        maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "quotation-log-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+                compactIfNeeded();
+            } catch (RuntimeException e) {
+                logger.error("Embedded quotation log maintenance failed - {}", e.getMessage(), e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void append(Quotation quotation) {
+        byte[] id = QuotationRecordCodec.encodeId(quotation.id());
+        lock.writeLock().lock();
+        try {
+            Generation generation = open();
+            long recordNumber = generation.recordCount;
+            QuotationRecordCodec.encode(quotation, generation.segmentFor(recordNumber), generation.offsetOf(recordNumber));
+            generation.indexAppended(recordNumber, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Quotation find(String id) {
+        byte[] key;
+        try {
+            key = QuotationRecordCodec.encodeId(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            Generation generation = open();
+            long recordNumber = generation.lookup(key);
+            if (recordNumber == OffHeapIdIndex.ABSENT) {
+                return null;
+            }
+            return QuotationRecordCodec.decode(generation.segmentFor(recordNumber), generation.offsetOf(recordNumber));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the live quotations in the order they were last written.
+     */
+    public List<Quotation> scan() {
+        lock.readLock().lock();
+        try {
+            Generation generation = open();
+            List<Quotation> quotations = new ArrayList<>((int) Math.min(generation.liveCount, Integer.MAX_VALUE));
+            for (long recordNumber = 0; recordNumber < generation.recordCount; recordNumber++) {
+                if (generation.isLive(recordNumber)) {
+                    quotations.add(QuotationRecordCodec.decode(
+                            generation.segmentFor(recordNumber), generation.offsetOf(recordNumber)));
+                }
+            }
+            return quotations;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Opens a cursor over the live quotations, read page by page without holding the lock between
+     * pages. The cursor stays on the generation it was opened on, so a compaction meanwhile neither
+     * skips nor repeats records; quotations written after that compaction are not returned.
+     */
+    public Cursor cursor() {
+        lock.readLock().lock();
+        try {
+            return new Cursor(open());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long recordCount() {
+        lock.readLock().lock();
+        try {
+            return open().recordCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long liveCount() {
+        lock.readLock().lock();
+        try {
+            return open().liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void flush() {
+        lock.readLock().lock();
+        try {
+            open().segments.forEach(MappedByteBuffer::force);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void compactIfNeeded() {
+        long records;
+        long dead;
+        lock.readLock().lock();
+        try {
+            Generation generation = open();
+            records = generation.recordCount;
+            dead = records - generation.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (dead > 0 && dead >= records * compactionDeadRatio) {
+            compact();
+        }
+    }
+
+    /**
+     * Copies live records into a new generation. Live records are copied in chunks under the
+     * read lock so lookups keep being served; records appended meanwhile are copied under the
+     * write lock right before the new generation is published.
+     */
+    public void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Generation source;
+            long end;
+            lock.readLock().lock();
+            try {
+                source = open();
+                end = source.recordCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Generation target = new Generation(source.number + 1, (int) Math.min(source.liveCount, Integer.MAX_VALUE / 2));
+            deleteGeneration(target.number);
+
+            for (long start = 0; start < end; start += COMPACTION_CHUNK) {
+                lock.readLock().lock();
+                try {
+                    if (current != source) {
+                        return;
+                    }
+                    copyLive(source, target, start, Math.min(end, start + COMPACTION_CHUNK));
+                } finally {
+                    lock.readLock().unlock();
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                if (current != source) {
+                    return;
+                }
+                copyLive(source, target, end, source.recordCount);
+                target.segments.forEach(MappedByteBuffer::force);
+                writeCurrentGeneration(target.number);
+                current = target;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            deleteGeneration(source.number);
+            logger.info("Compacted embedded quotation log from {} to {} records", source.recordCount, target.recordCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot compact embedded quotation log in " + directory, e);
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                current.segments.forEach(MappedByteBuffer::force);
+                current = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Generation open() {
+        if (current == null) {
+            throw new IllegalStateException("Embedded quotation log is closed");
+        }
+        return current;
+    }
+
+    private void copyLive(Generation source, Generation target, long from, long to) {
+        byte[] record = new byte[RECORD_SIZE];
+        for (long recordNumber = from; recordNumber < to; recordNumber++) {
+            if (source.isLive(recordNumber)) {
+                source.segmentFor(recordNumber).get(source.offsetOf(recordNumber), record);
+                long targetNumber = target.recordCount;
+                target.segmentFor(targetNumber).put(target.offsetOf(targetNumber), record);
+                target.indexAppended(targetNumber, QuotationRecordCodec.readId(source.segmentFor(recordNumber),
+                        source.offsetOf(recordNumber)));
+            }
+        }
+    }
+
+    private Generation recover(long number) throws IOException {
+        deleteOtherGenerations(number);
+        Generation generation = new Generation(number, 0);
+        while (Files.exists(segmentPath(number, generation.segments.size()))) {
+            generation.segments.add(map(number, generation.segments.size()));
+        }
+
+        long capacity = (long) generation.segments.size() * recordsPerSegment;
+        while (generation.recordCount < capacity) {
+            long recordNumber = generation.recordCount;
+            ByteBuffer segment = generation.segmentFor(recordNumber);
+            int offset = generation.offsetOf(recordNumber);
+            if (!QuotationRecordCodec.hasMagic(segment, offset)) {
+                break;
+            }
+            if (!QuotationRecordCodec.isIntact(segment, offset)) {
+                logger.warn("Discarding torn quotation record {} and everything after it in {}", recordNumber, directory);
+                break;
+            }
+            generation.indexAppended(recordNumber, QuotationRecordCodec.readId(segment, offset));
+        }
+        discardTail(generation);
+        return generation;
+    }
+
+    private void discardTail(Generation generation) throws IOException {
+        long recordCount = generation.recordCount;
+        int keptSegments = (int) ((recordCount + recordsPerSegment - 1) / recordsPerSegment);
+        if (recordCount % recordsPerSegment != 0) {
+            ByteBuffer segment = generation.segmentFor(recordCount);
+            for (int offset = generation.offsetOf(recordCount); offset < segment.capacity(); offset += RECORD_SIZE) {
+                QuotationRecordCodec.clear(segment, offset);
+            }
+        }
+        while (generation.segments.size() > keptSegments) {
+            int last = generation.segments.size() - 1;
+            generation.segments.remove(last);
+            Files.deleteIfExists(segmentPath(generation.number, last));
+        }
+    }
+
+    private long readCurrentGeneration() throws IOException {
+        Path current = directory.resolve(CURRENT_FILE);
+        if (!Files.exists(current)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(current, StandardCharsets.US_ASCII).trim());
+    }
+
+    private void writeCurrentGeneration(long number) throws IOException {
+        Path temporary = directory.resolve(CURRENT_FILE + ".tmp");
+        Files.writeString(temporary, Long.toString(number), StandardCharsets.US_ASCII);
+        Files.move(temporary, directory.resolve(CURRENT_FILE),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void deleteOtherGenerations(long keep) throws IOException {
+        deleteSegments(number -> number != keep);
+    }
+
+    private void deleteGeneration(long number) throws IOException {
+        deleteSegments(candidate -> candidate == number);
+    }
+
+    private void deleteSegments(LongPredicate generationFilter) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && generationFilter.test(Long.parseLong(matcher.group(1)))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path segmentPath(long generation, int segment) {
+        return directory.resolve(String.format("quotations-%d-%06d.log", generation, segment));
+    }
+
+    private MappedByteBuffer map(long generation, int segment) {
+        try (FileChannel channel = FileChannel.open(segmentPath(generation, segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map embedded quotation segment " + segment, e);
+        }
+    }
+
+    public final class Cursor {
+
+        private final Generation generation;
+        private long next;
+
+        private Cursor(Generation generation) {
+            this.generation = generation;
+        }
+
+        /**
+         * The next live quotations, at most {@code max} of them; empty once the cursor is exhausted.
+         */
+        public List<Quotation> next(int max) {
+            lock.readLock().lock();
+            try {
+                open();
+                List<Quotation> page = new ArrayList<>(max);
+                while (next < generation.recordCount && page.size() < max) {
+                    if (generation.isLive(next)) {
+                        page.add(QuotationRecordCodec.decode(generation.segmentFor(next), generation.offsetOf(next)));
+                    }
+                    next++;
+                }
+                return page;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    private final class Generation {
+
+        private final long number;
+        private final List<MappedByteBuffer> segments = new ArrayList<>();
+        private final OffHeapIdIndex index;
+        private long recordCount;
+        private long liveCount;
+
+        private Generation(long number, int expectedEntries) {
+            this.number = number;
+            this.index = new OffHeapIdIndex(expectedEntries);
+        }
+
+        private ByteBuffer segmentFor(long recordNumber) {
+            int segment = (int) (recordNumber / recordsPerSegment);
+            while (segments.size() <= segment) {
+                segments.add(map(number, segments.size()));
+            }
+            return segments.get(segment);
+        }
+
+        private int offsetOf(long recordNumber) {
+            return (int) (recordNumber % recordsPerSegment) * RECORD_SIZE;
+        }
+
+        private void indexAppended(long recordNumber, byte[] id) {
+            long previous = index.put(OffHeapIdIndex.hash(id), recordNumber, candidate -> holdsId(candidate, id));
+            if (previous == OffHeapIdIndex.ABSENT) {
+                liveCount++;
+            }
+            recordCount = recordNumber + 1;
+        }
+
+        private long lookup(byte[] id) {
+            return index.get(OffHeapIdIndex.hash(id), candidate -> holdsId(candidate, id));
+        }
+
+        private boolean isLive(long recordNumber) {
+            byte[] id = QuotationRecordCodec.readId(segmentFor(recordNumber), offsetOf(recordNumber));
+            return lookup(id) == recordNumber;
+        }
+
+        private boolean holdsId(long recordNumber, byte[] id) {
+            return QuotationRecordCodec.idEquals(segmentFor(recordNumber), offsetOf(recordNumber), id);
+        }
+    }
+}
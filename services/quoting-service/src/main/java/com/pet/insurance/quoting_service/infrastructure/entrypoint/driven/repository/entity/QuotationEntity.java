@@ -1,11 +1,16 @@
 package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity;
 
+import com.pet.insurance.quoting_service.domain.model.PetDictionary;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+/**
+ * Species and breed spelled exactly as a {@link PetDictionary} entry are stored as its integer code
+ * in {@code speciesCode}/{@code breedCode}; any other value is kept as text in {@code species}/{@code breed}.
+ */
 @Document(collection = "quotations")
 public class QuotationEntity {
 
@@ -13,7 +18,9 @@ public class QuotationEntity {
     private String id;
     private String petName;
     private String species;
+    private Integer speciesCode;
     private String breed;
+    private Integer breedCode;
     private int age;
     private boolean premiumPlan;
     private BigDecimal price;
@@ -26,8 +33,8 @@ public class QuotationEntity {
             BigDecimal price, LocalDate expiresAt) {
         this.id = id;
         this.petName = petName;
-        this.species = species;
-        this.breed = breed;
+        setSpecies(species);
+        setBreed(breed);
         this.age = age;
         this.premiumPlan = premiumPlan;
         this.price = price;
@@ -67,19 +74,31 @@ public class QuotationEntity {
     }
 
     public String getSpecies() {
-        return species;
+        return speciesCode != null ? PetDictionary.SPECIES.name(speciesCode) : species;
     }
 
     public void setSpecies(String species) {
-        this.species = species;
+        int code = PetDictionary.SPECIES.exactCode(species);
+        this.speciesCode = code == PetDictionary.UNKNOWN ? null : code;
+        this.species = code == PetDictionary.UNKNOWN ? species : null;
+    }
+
+    public Integer getSpeciesCode() {
+        return speciesCode;
     }
 
     public String getBreed() {
-        return breed;
+        return breedCode != null ? PetDictionary.BREEDS.name(breedCode) : breed;
     }
 
     public void setBreed(String breed) {
-        this.breed = breed;
+        int code = PetDictionary.BREEDS.exactCode(breed);
+        this.breedCode = code == PetDictionary.UNKNOWN ? null : code;
+        this.breed = code == PetDictionary.UNKNOWN ? breed : null;
+    }
+
+    public Integer getBreedCode() {
+        return breedCode;
     }
 
     public int getAge() {
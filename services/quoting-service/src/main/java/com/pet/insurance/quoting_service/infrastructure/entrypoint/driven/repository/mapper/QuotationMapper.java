@@ -2,11 +2,34 @@ package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repos
 
 import com.pet.insurance.quoting_service.domain.model.Quotation;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.QuotationSchemaStatus;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.function.BooleanSupplier;
+
 @Component
 public class QuotationMapper {
 
+    private final BooleanSupplier trustStoredDocuments;
+
+    public QuotationMapper() {
+        this(() -> false);
+    }
+
+    /**
+     * @param schemaStatus reports once every stored document is known to match the collection
+     *                     schema, so it can be rebuilt without re-running domain validation
+     */
+    @Autowired
+    public QuotationMapper(QuotationSchemaStatus schemaStatus) {
+        this(schemaStatus::isTrusted);
+    }
+
+    QuotationMapper(BooleanSupplier trustStoredDocuments) {
+        this.trustStoredDocuments = trustStoredDocuments;
+    }
+
     public QuotationEntity toEntity(Quotation quotation) {
         return new QuotationEntity(
                 quotation.id(),
@@ -20,6 +43,17 @@ public class QuotationMapper {
     }
 
     public Quotation toDomain(QuotationEntity entity) {
+        if (trustStoredDocuments.getAsBoolean()) {
+            return Quotation.reconstructTrusted(
+                    entity.getId(),
+                    entity.getPetName(),
+                    entity.getSpecies(),
+                    entity.getBreed(),
+                    entity.getAge(),
+                    entity.isPremiumPlan(),
+                    entity.getPrice(),
+                    entity.getExpiresAt());
+        }
         return Quotation.reconstruct(
                 entity.getId(),
                 entity.getPetName(),
@@ -0,0 +1,75 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.validation.Validator;
+
+import java.util.List;
+
+/**
+ * MongoDB {@code $jsonSchema} for the {@code quotations} collection, mirroring the checks of
+ * {@code Quotation}. Species and breed may be stored as text or as dictionary codes. A price
+ * stored as text must spell a non-negative decimal, since {@code minimum} only constrains numbers.
+ */
+public final class QuotationSchema {
+
+    public static final String COLLECTION = "quotations";
+    public static final String QUARANTINE_COLLECTION = "quotations_quarantine";
+
+    private static final Document JSON_SCHEMA = Document.parse("""
+            {
+              "bsonType": "object",
+              "required": ["_id", "petName", "age", "premiumPlan", "price", "expiresAt"],
+              "anyOf": [
+                {"required": ["species"]},
+                {"required": ["speciesCode"]}
+              ],
+              "properties": {
+                "_id": {"bsonType": ["string", "objectId"]},
+                "petName": {"bsonType": "string", "pattern": "\\\\S"},
+                "species": {"bsonType": "string", "pattern": "\\\\S"},
+                "speciesCode": {"bsonType": ["int", "long"], "minimum": 0},
+                "breed": {"bsonType": "string"},
+                "breedCode": {"bsonType": ["int", "long"], "minimum": 0},
+                "age": {"bsonType": ["int", "long"], "minimum": 0, "maximum": 10},
+                "premiumPlan": {"bsonType": "bool"},
+                "price": {
+                  "bsonType": ["decimal", "double", "string"],
+                  "minimum": 0,
+                  "pattern": "^\\\\d+(\\\\.\\\\d+)?([eE][+-]?\\\\d+)?$"
+                },
+                "expiresAt": {"bsonType": "date"}
+              }
+            }
+            """);
+
+    private QuotationSchema() {
+    }
+
+    public static Document jsonSchema() {
+        return new Document(JSON_SCHEMA);
+    }
+
+    public static CollectionOptions collectionOptions() {
+        return CollectionOptions.empty()
+                .validator(Validator.document(new Document("$jsonSchema", jsonSchema())))
+                .strictValidation()
+                .failOnValidationError();
+    }
+
+    public static Document collModCommand() {
+        return new Document("collMod", COLLECTION)
+                .append("validator", new Document("$jsonSchema", jsonSchema()))
+                .append("validationLevel", "strict")
+                .append("validationAction", "error");
+    }
+
+    /**
+     * Matches the stored documents that do not satisfy the schema.
+     */
+    public static Query invalidDocuments() {
+        return new BasicQuery(new Document("$nor", List.of(new Document("$jsonSchema", jsonSchema()))));
+    }
+}
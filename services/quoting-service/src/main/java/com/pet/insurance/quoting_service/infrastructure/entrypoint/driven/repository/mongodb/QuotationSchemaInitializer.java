@@ -0,0 +1,175 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb;
+
+import com.mongodb.MongoCommandException;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded.QuotationShards;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Prepares the {@code quotations} collection of whichever MongoDB persistence mode is active.
+ * With {@code quotation.schema.quarantine-sweep} it first moves every stored document that
+ * fails {@link QuotationSchema} to {@code quotations_quarantine}; with
+ * {@code quotation.schema.enforce} it installs the schema as the collection validator. When
+ * that leaves every collection holding only conforming documents it reports so through
+ * {@link QuotationSchemaStatus}; any failure is logged and leaves reads validating.
+ */
+@Component
+public class QuotationSchemaInitializer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuotationSchemaInitializer.class);
+
+    private static final int NAMESPACE_EXISTS = 48;
+
+    private final boolean enforce;
+    private final boolean quarantineSweep;
+    private final ObjectProvider<ReactiveMongoTemplate> reactiveTemplate;
+    private final ObjectProvider<MongoTemplate> blockingTemplate;
+    private final ObjectProvider<QuotationShards> shards;
+    private final QuotationSchemaStatus status;
+
+    public QuotationSchemaInitializer(@Value("${quotation.schema.enforce:false}") boolean enforce,
+            @Value("${quotation.schema.quarantine-sweep:false}") boolean quarantineSweep,
+            ObjectProvider<ReactiveMongoTemplate> reactiveTemplate, ObjectProvider<MongoTemplate> blockingTemplate,
+            ObjectProvider<QuotationShards> shards, QuotationSchemaStatus status) {
+        this.status = status;
+        this.enforce = enforce;
+        this.quarantineSweep = quarantineSweep;
+        this.reactiveTemplate = reactiveTemplate;
+        this.blockingTemplate = blockingTemplate;
+        this.shards = shards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enforce && !quarantineSweep) {
+            return;
+        }
+        List<ReactiveMongoTemplate> reactiveTemplates = new ArrayList<>();
+        reactiveTemplate.ifAvailable(reactiveTemplates::add);
+        shards.ifAvailable(available -> reactiveTemplates.addAll(available.all()));
+        if (!reactiveTemplates.isEmpty()) {
+            Flux.fromIterable(reactiveTemplates)
+                    .flatMap(template -> prepare(template).onErrorResume(error -> {
+                        logger.error("Cannot prepare quotations collection - {}", error.getMessage());
+                        return Mono.just(false);
+                    }))
+                    .all(Boolean::booleanValue)
+                    .subscribe(this::report);
+        }
+
+        blockingTemplate.ifAvailable(template -> {
+            try {
+                report(prepare(template));
+            } catch (RuntimeException e) {
+                logger.error("Cannot prepare quotations collection - {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Emits whether the collection now holds only documents matching the schema: the validator
+     * is installed and the collection was either just created or swept.
+     */
+    Mono<Boolean> prepare(ReactiveMongoTemplate template) {
+        Mono<Void> sweep = !quarantineSweep ? Mono.empty() : template
+                .find(QuotationSchema.invalidDocuments(), Document.class, QuotationSchema.COLLECTION)
+                .concatMap(document -> template.save(quarantined(document), QuotationSchema.QUARANTINE_COLLECTION)
+                        .then(template.remove(byId(document), QuotationSchema.COLLECTION)))
+                .count()
+                .doOnNext(moved -> logger.info("Moved {} invalid quotations to {}", moved,
+                        QuotationSchema.QUARANTINE_COLLECTION))
+                .then();
+        Mono<Boolean> validator = !enforce ? Mono.just(false) : template.collectionExists(QuotationSchema.COLLECTION)
+                .flatMap(exists -> exists
+                        ? template.executeCommand(QuotationSchema.collModCommand()).thenReturn(quarantineSweep)
+                        : template.createCollection(QuotationSchema.COLLECTION, QuotationSchema.collectionOptions())
+                                .thenReturn(true))
+                .onErrorResume(QuotationSchemaInitializer::isNamespaceExists,
+                        e -> template.executeCommand(QuotationSchema.collModCommand()).thenReturn(quarantineSweep))
+                .doOnSuccess(ignored -> logger.info("Schema validation enabled on {}", QuotationSchema.COLLECTION));
+        return sweep.then(validator);
+    }
+
+    boolean prepare(MongoTemplate template) {
+        if (quarantineSweep) {
+            long moved = 0;
+            try (Stream<Document> invalid = template.stream(QuotationSchema.invalidDocuments(), Document.class,
+                    QuotationSchema.COLLECTION)) {
+                for (Document document : (Iterable<Document>) invalid::iterator) {
+                    template.save(quarantined(document), QuotationSchema.QUARANTINE_COLLECTION);
+                    template.remove(byId(document), QuotationSchema.COLLECTION);
+                    moved++;
+                }
+            }
+            logger.info("Moved {} invalid quotations to {}", moved, QuotationSchema.QUARANTINE_COLLECTION);
+        }
+        if (!enforce) {
+            return false;
+        }
+        boolean conforming = quarantineSweep;
+        if (template.collectionExists(QuotationSchema.COLLECTION)) {
+            template.executeCommand(QuotationSchema.collModCommand());
+        } else {
+            try {
+                template.createCollection(QuotationSchema.COLLECTION, QuotationSchema.collectionOptions());
+                conforming = true;
+            } catch (RuntimeException e) {
+                if (!isNamespaceExists(e)) {
+                    throw e;
+                }
+                template.executeCommand(QuotationSchema.collModCommand());
+            }
+        }
+        logger.info("Schema validation enabled on {}", QuotationSchema.COLLECTION);
+        return conforming;
+    }
+
+    private void report(boolean conforming) {
+        if (conforming) {
+            status.markTrusted();
+            logger.info("Stored quotations match the schema, reads skip domain validation");
+        } else if (enforce) {
+            logger.info("Stored quotations were not swept, reads keep running domain validation");
+        }
+    }
+
+    private static Document quarantined(Document document) {
+        return new Document("_id", document.get("_id"))
+                .append("document", document)
+                .append("quarantinedAt", new Date());
+    }
+
+    private static Query byId(Document document) {
+        return new Query(where("_id").is(document.get("_id")));
+    }
+
+    private static boolean isNamespaceExists(Throwable error) {
+        Throwable cause = error;
+        while (cause != null) {
+            if (cause instanceof MongoCommandException commandException
+                    && commandException.getErrorCode() == NAMESPACE_EXISTS) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+}
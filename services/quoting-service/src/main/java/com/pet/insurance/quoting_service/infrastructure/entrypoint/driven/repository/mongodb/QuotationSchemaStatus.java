@@ -0,0 +1,24 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Whether every stored quotation is known to match {@link QuotationSchema}. Set by
+ * {@link QuotationSchemaInitializer} once the validator is installed on every {@code quotations}
+ * collection and none of them can still hold documents written before it: either the collection
+ * was created with the validator or the quarantine sweep finished. {@code collMod} alone does not
+ * re-check existing documents, so until then reads keep running domain validation.
+ */
+@Component
+public class QuotationSchemaStatus {
+
+    private volatile boolean trusted;
+
+    public boolean isTrusted() {
+        return trusted;
+    }
+
+    void markTrusted() {
+        trusted = true;
+    }
+}
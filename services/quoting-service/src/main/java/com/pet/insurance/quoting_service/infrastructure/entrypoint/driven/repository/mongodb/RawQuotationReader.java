@@ -0,0 +1,40 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb;
+
+import com.mongodb.client.model.Filters;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.QuotationReadRouter;
+import org.bson.RawBsonDocument;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads quotation documents as undecoded {@link RawBsonDocument}s for the direct JSON read path,
+ * routing each read the same way {@code QuotationRepositoryAdapter} does.
+ */
+public class RawQuotationReader {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final QuotationReadRouter readRouter;
+
+    public RawQuotationReader(ReactiveMongoTemplate mongoTemplate, QuotationReadRouter readRouter) {
+        this.mongoTemplate = mongoTemplate;
+        this.readRouter = readRouter;
+    }
+
+    public Mono<RawBsonDocument> findById(String id) {
+        return mongoTemplate.getCollection(QuotationSchema.COLLECTION)
+                .flatMap(collection -> Mono.from(collection
+                        .withDocumentClass(RawBsonDocument.class)
+                        .withReadPreference(readRouter.forId(id))
+                        .find(Filters.eq("_id", id))
+                        .first()));
+    }
+
+    public Flux<RawBsonDocument> findAll() {
+        return mongoTemplate.getCollection(QuotationSchema.COLLECTION)
+                .flatMapMany(collection -> collection
+                        .withDocumentClass(RawBsonDocument.class)
+                        .withReadPreference(readRouter.forScan())
+                        .find());
+    }
+}
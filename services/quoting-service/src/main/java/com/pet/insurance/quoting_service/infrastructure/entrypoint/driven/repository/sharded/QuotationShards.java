@@ -0,0 +1,55 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * Fixed set of MongoDB shards for quotations. A quotation lives on the shard picked by hashing
+ * its id, so the shard list must not be reordered or resized without migrating the data.
+ */
+public class QuotationShards implements Closeable {
+
+    private final List<MongoClient> clients;
+    private final List<ReactiveMongoTemplate> templates;
+
+    public QuotationShards(List<MongoClient> clients, List<ReactiveMongoTemplate> templates) {
+        if (templates.isEmpty()) {
+            throw new IllegalArgumentException("At least one quotation shard is required");
+        }
+        if (clients.size() != templates.size()) {
+            throw new IllegalArgumentException("Each quotation shard needs exactly one client");
+        }
+        this.clients = List.copyOf(clients);
+        this.templates = List.copyOf(templates);
+    }
+
+    public ReactiveMongoTemplate forId(String id) {
+        return templates.get(shardFor(id, templates.size()));
+    }
+
+    public List<ReactiveMongoTemplate> all() {
+        return templates;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    static int shardFor(String id, int shardCount) {
+        int hash = id.hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, shardCount);
+    }
+
+    @Override
+    public void close() {
+        clients.forEach(MongoClient::close);
+    }
+}
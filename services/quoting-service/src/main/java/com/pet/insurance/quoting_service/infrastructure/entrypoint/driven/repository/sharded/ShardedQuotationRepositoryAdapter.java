@@ -0,0 +1,80 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Spreads quotations over {@link QuotationShards} by id. {@link #findAll()} queries every shard
+ * in {@code _id} order and merges the streams, requesting from each shard only what the
+ * subscriber has asked for.
+ */
+@Repository
+@ConditionalOnProperty(name = "persistence.mode", havingValue = "sharded")
+public class ShardedQuotationRepositoryAdapter implements QuotationRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedQuotationRepositoryAdapter.class);
+
+    private static final int MERGE_PREFETCH = 256;
+
+    private final QuotationShards shards;
+    private final QuotationMapper mapper;
+
+    public ShardedQuotationRepositoryAdapter(QuotationShards shards, QuotationMapper mapper) {
+        this.shards = shards;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<Quotation> save(Quotation quotation) {
+        return Mono.just(quotation)
+                .map(mapper::toEntity)
+                .flatMap(entity -> shards.forId(entity.getId()).save(entity))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Mono<Quotation> findById(String id) {
+        return Mono.defer(() -> shards.forId(id).findOne(new Query(where("_id").is(id)), QuotationEntity.class))
+                .flatMap(entity -> {
+                    try {
+                        return Mono.just(mapper.toDomain(entity));
+                    } catch (IllegalArgumentException e) {
+                        logger.error("Invalid quotation record with id: {} - {}", id, e.getMessage());
+                        return Mono.error(e);
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Flux<Quotation> findAll() {
+        return Flux.defer(() -> {
+            Query byId = new Query().with(Sort.by(Sort.Direction.ASC, "_id"));
+            Flux<QuotationEntity>[] sources = shards.all().stream()
+                    .map(template -> template.find(byId, QuotationEntity.class))
+                    .toArray(Flux[]::new);
+            return Flux.mergeComparing(MERGE_PREFETCH, Comparator.comparing(QuotationEntity::getId), sources);
+        }).concatMap(entity -> {
+            try {
+                return Mono.just(mapper.toDomain(entity));
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping invalid quotation record with id: {} - {}", entity.getId(), e.getMessage());
+                return Mono.empty();
+            }
+        });
+    }
+}
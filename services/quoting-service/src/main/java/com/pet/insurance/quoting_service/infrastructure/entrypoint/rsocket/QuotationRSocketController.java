@@ -0,0 +1,65 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.rsocket;
+
+import com.pet.insurance.quoting_service.application.usecase.GenerateQuotationUseCase;
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto.QuotationDTO;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationRequest;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * RSocket routes for internal callers, served when {@code spring.rsocket.server.port} is set. They
+ * carry the same payloads as the HTTP endpoints, over one long-lived multiplexed connection per
+ * caller:
+ *
+ * <ul>
+ *   <li>{@code quotations.get}: request-response with a quotation id; an unknown id completes
+ *   without a quotation.</li>
+ *   <li>{@code quotations.lookup}: request-channel of ids answered with the quotations that exist,
+ *   in no particular order. Ids are looked up in groups of up to
+ *   {@link GetQuotationByIdUseCase#MAX_BATCH_SIZE} as they arrive.</li>
+ *   <li>{@code quotations.generate}: request-response that prices and stores a quotation.</li>
+ * </ul>
+ */
+@Controller
+public class QuotationRSocketController {
+
+    private static final Duration LOOKUP_GROUP_DELAY = Duration.ofMillis(1);
+
+    private final GenerateQuotationUseCase generateQuotationUseCase;
+    private final GetQuotationByIdUseCase getQuotationByIdUseCase;
+
+    public QuotationRSocketController(GenerateQuotationUseCase generateQuotationUseCase,
+            GetQuotationByIdUseCase getQuotationByIdUseCase) {
+        this.generateQuotationUseCase = generateQuotationUseCase;
+        this.getQuotationByIdUseCase = getQuotationByIdUseCase;
+    }
+
+    @MessageMapping("quotations.get")
+    public Mono<QuotationDTO> getById(String id) {
+        return getQuotationByIdUseCase.execute(id)
+                .map(QuotationDTO::fromDomain);
+    }
+
+    @MessageMapping("quotations.lookup")
+    public Flux<QuotationDTO> lookup(Flux<String> ids) {
+        return ids.bufferTimeout(GetQuotationByIdUseCase.MAX_BATCH_SIZE, LOOKUP_GROUP_DELAY, true)
+                .concatMap(getQuotationByIdUseCase::execute)
+                .map(QuotationDTO::fromDomain);
+    }
+
+    @MessageMapping("quotations.generate")
+    public Mono<QuotationDTO> generate(QuotationRequest request) {
+        return generateQuotationUseCase.execute(
+                request.name(),
+                request.species(),
+                request.breed(),
+                request.age(),
+                request.premium())
+                .map(QuotationDTO::fromDomain);
+    }
+}
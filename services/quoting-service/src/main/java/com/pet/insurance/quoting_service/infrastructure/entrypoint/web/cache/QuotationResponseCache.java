@@ -0,0 +1,221 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.cache;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Encoded {@code GET /quotations/{id}} bodies, kept in direct memory outside the Java heap.
+ * Quotations never change once issued, so a body stays valid until the quotation crosses its
+ * {@code expiresAt} and the {@code expired} flag it carries flips; the entry is dropped at that
+ * point and the next request encodes the body again.
+ *
+ * <ul>
+ *   <li>Bodies are copied into fixed-size slots of direct segments holding {@value #SEGMENT_SLOTS}
+ *   slots each, allocated as the cache fills up and never released. The memory held is therefore
+ *   the allocated segments, whatever the eviction churn. Bodies larger than a slot are not
+ *   cached.</li>
+ *   <li>The slot count is the smaller of the entry limit and the byte limit divided by the slot
+ *   size. A slot freed by an expired or replaced body is reused first; when every slot is taken, a
+ *   CLOCK hand evicts the first slot not read since the hand last passed it.</li>
+ *   <li>Slots are overwritten in place, so a hit is copied into a response buffer while the read
+ *   lock is held rather than handed out as a view.</li>
+ * </ul>
+ */
+public class QuotationResponseCache {
+
+    static final int SLOT_SIZE = 512;
+    static final int SEGMENT_SLOTS = 1024;
+
+    private final int slotSize;
+    private final int capacity;
+    private final ByteBuffer[] segments;
+    private final String[] owners;
+    private final byte[] referenced;
+    private final int[] freeSlots;
+    private final Map<String, CachedResponse> responses = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int freeCount;
+    private int allocated;
+    private int hand;
+    private long usedBytes;
+
+    public QuotationResponseCache(int maxEntries, long maxBytes) {
+        this(maxEntries, maxBytes, SLOT_SIZE);
+    }
+
+    QuotationResponseCache(int maxEntries, long maxBytes, int slotSize) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Response cache limits must be positive");
+        }
+        if (maxBytes < slotSize) {
+            throw new IllegalArgumentException("Response cache size must hold at least one " + slotSize + "-byte slot");
+        }
+        this.slotSize = slotSize;
+        this.capacity = (int) Math.min(maxEntries, maxBytes / slotSize);
+        this.segments = new ByteBuffer[(capacity + SEGMENT_SLOTS - 1) / SEGMENT_SLOTS];
+        this.owners = new String[capacity];
+        this.referenced = new byte[capacity];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * Whether a body is cached for the quotation's expiry state on {@code today}.
+     */
+    public boolean contains(String id, LocalDate today) {
+        CachedResponse stale;
+        lock.readLock().lock();
+        try {
+            CachedResponse response = responses.get(id);
+            if (response == null) {
+                return false;
+            }
+            if (!response.isStaleOn(today)) {
+                return true;
+            }
+            stale = response;
+        } finally {
+            lock.readLock().unlock();
+        }
+        remove(id, stale);
+        return false;
+    }
+
+    /**
+     * Copy of the cached body in a buffer from {@code factory}, or {@code null} when there is
+     * none for the quotation's expiry state on {@code today}.
+     */
+    public DataBuffer get(String id, LocalDate today, DataBufferFactory factory) {
+        CachedResponse stale;
+        lock.readLock().lock();
+        try {
+            CachedResponse response = responses.get(id);
+            if (response == null) {
+                return null;
+            }
+            if (!response.isStaleOn(today)) {
+                int slot = response.slot();
+                referenced[slot] = 1;
+                DataBuffer buffer = factory.allocateBuffer(response.length());
+                buffer.write(segment(slot).slice(offset(slot), response.length()));
+                return buffer;
+            }
+            stale = response;
+        } finally {
+            lock.readLock().unlock();
+        }
+        remove(id, stale);
+        return null;
+    }
+
+    /**
+     * Copies an encoded body into a slot. {@code expired} is the flag written in the body.
+     */
+    public void put(String id, LocalDate expiresAt, boolean expired, byte[] body) {
+        if (body.length > slotSize) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            CachedResponse previous = responses.get(id);
+            int slot = previous != null ? previous.slot() : claimSlot();
+            segment(slot).put(offset(slot), body);
+            owners[slot] = id;
+            referenced[slot] = 1;
+            responses.put(id, new CachedResponse(slot, body.length, expiresAt.toEpochDay(), expired));
+            usedBytes += body.length - (previous == null ? 0 : previous.length());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return responses.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bytes of the cached bodies, at most the slot count times the slot size.
+     */
+    public long usedBytes() {
+        lock.readLock().lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int claimSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (allocated < capacity) {
+            int slot = allocated++;
+            if (segments[slot / SEGMENT_SLOTS] == null) {
+                int slots = Math.min(SEGMENT_SLOTS, capacity - slot);
+                segments[slot / SEGMENT_SLOTS] = ByteBuffer.allocateDirect(slots * slotSize);
+            }
+            return slot;
+        }
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % capacity;
+            if (referenced[slot] != 0) {
+                referenced[slot] = 0;
+            } else {
+                CachedResponse evicted = responses.remove(owners[slot]);
+                usedBytes -= evicted.length();
+                return slot;
+            }
+        }
+    }
+
+    private void remove(String id, CachedResponse response) {
+        lock.writeLock().lock();
+        try {
+            if (responses.remove(id, response)) {
+                int slot = response.slot();
+                owners[slot] = null;
+                referenced[slot] = 0;
+                freeSlots[freeCount++] = slot;
+                usedBytes -= response.length();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ByteBuffer segment(int slot) {
+        return segments[slot / SEGMENT_SLOTS];
+    }
+
+    private int offset(int slot) {
+        return (slot % SEGMENT_SLOTS) * slotSize;
+    }
+
+    private record CachedResponse(int slot, int length, long expiresAtEpochDay, boolean expired) {
+
+        /**
+         * Whether the quotation's expiry state on {@code today} no longer matches the body.
+         */
+        boolean isStaleOn(LocalDate today) {
+            return expired != (expiresAtEpochDay < today.toEpochDay());
+        }
+    }
+}
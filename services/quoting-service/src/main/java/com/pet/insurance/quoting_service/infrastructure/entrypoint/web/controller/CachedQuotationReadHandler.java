@@ -0,0 +1,75 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.cache.QuotationResponseCache;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto.QuotationDTO;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationDtoJsonEncoder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * Serves {@code GET /quotations/{id}} from {@link QuotationResponseCache}. A hit is copied from
+ * its off-heap slot into a response buffer when the body is written; a miss goes through
+ * {@link GetQuotationByIdUseCase} and caches the encoded body on the way out. A body evicted
+ * between the two steps is encoded again.
+ */
+public class CachedQuotationReadHandler {
+
+    private static final ResolvableType DTO_TYPE = ResolvableType.forClass(QuotationDTO.class);
+
+    private final GetQuotationByIdUseCase getQuotationByIdUseCase;
+    private final QuotationResponseCache cache;
+    private final QuotationDtoJsonEncoder encoder;
+
+    public CachedQuotationReadHandler(GetQuotationByIdUseCase getQuotationByIdUseCase,
+            QuotationResponseCache cache, QuotationDtoJsonEncoder encoder) {
+        this.getQuotationByIdUseCase = getQuotationByIdUseCase;
+        this.cache = cache;
+        this.encoder = encoder;
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        String id = request.pathVariable("id");
+        DataBufferFactory factory = request.exchange().getResponse().bufferFactory();
+        LocalDate today = LocalDate.now();
+        if (cache.contains(id, today)) {
+            return respond(Mono.defer(() -> Mono.justOrEmpty(cache.get(id, today, factory)))
+                    .switchIfEmpty(Mono.defer(() -> getQuotationByIdUseCase.execute(id)
+                            .map(quotation -> factory.wrap(encodeAndCache(QuotationDTO.fromDomain(quotation)))))));
+        }
+        return getQuotationByIdUseCase.execute(id)
+                .map(QuotationDTO::fromDomain)
+                .flatMap(dto -> respond(Mono.fromSupplier(() -> factory.wrap(encodeAndCache(dto)))))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().build()));
+    }
+
+    private ByteBuffer encodeAndCache(QuotationDTO dto) {
+        DataBuffer encoded = encoder.encodeValue(dto, DefaultDataBufferFactory.sharedInstance, DTO_TYPE,
+                MediaType.APPLICATION_JSON, null);
+        try {
+            byte[] body = new byte[encoded.readableByteCount()];
+            encoded.read(body);
+            cache.put(dto.id(), dto.expiresAt(), dto.expired(), body);
+            return ByteBuffer.wrap(body);
+        } finally {
+            DataBufferUtils.release(encoded);
+        }
+    }
+
+    private static Mono<ServerResponse> respond(Mono<DataBuffer> body) {
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+}
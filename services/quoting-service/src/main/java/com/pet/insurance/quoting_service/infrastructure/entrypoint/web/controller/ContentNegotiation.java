@@ -0,0 +1,41 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicate;
+
+import java.util.List;
+
+/**
+ * The router functions that write JSON bytes themselves only take requests that prefer JSON.
+ * Requests for another format, such as the Smile used by the policy service, fall through to
+ * {@link QuotationController}, whose responses are negotiated through the registered codecs.
+ */
+public final class ContentNegotiation {
+
+    private ContentNegotiation() {
+    }
+
+    public static RequestPredicate prefersJson() {
+        return request -> prefersJson(request.headers().accept());
+    }
+
+    /**
+     * Whether the most preferred of the accepted types is compatible with JSON: the one with the
+     * highest quality, a concrete type winning over a wildcard of the same quality. No
+     * {@code Accept} header means anything goes.
+     */
+    static boolean prefersJson(List<MediaType> accepted) {
+        MediaType preferred = null;
+        for (MediaType type : accepted) {
+            if (preferred == null || isPreferredOver(type, preferred)) {
+                preferred = type;
+            }
+        }
+        return preferred == null || preferred.isCompatibleWith(MediaType.APPLICATION_JSON);
+    }
+
+    private static boolean isPreferredOver(MediaType type, MediaType current) {
+        int quality = Double.compare(type.getQualityValue(), current.getQualityValue());
+        return quality > 0 || quality == 0 && current.isWildcardType() && !type.isWildcardType();
+    }
+}
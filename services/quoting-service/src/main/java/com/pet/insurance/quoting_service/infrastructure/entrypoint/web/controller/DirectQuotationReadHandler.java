@@ -0,0 +1,116 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.RawQuotationReader;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationJsonWriter;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Serves the quotation GET endpoints by writing stored BSON straight into response buffers. The
+ * JSON matches what {@link QuotationController} produces for the same documents. A document the
+ * writer cannot render is logged and left out, so it never breaks a listing whose status has
+ * already been sent; by id it is answered like a missing quotation.
+ */
+public class DirectQuotationReadHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectQuotationReadHandler.class);
+
+    private static final int ESTIMATED_DOCUMENT_SIZE = 256;
+    private static final byte[] OPEN_ARRAY = "[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CLOSE_ARRAY = "]".getBytes(StandardCharsets.US_ASCII);
+
+    private final RawQuotationReader reader;
+    private final QuotationJsonWriter writer;
+    private final int batchSize;
+
+    public DirectQuotationReadHandler(RawQuotationReader reader, QuotationJsonWriter writer, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.reader = reader;
+        this.writer = writer;
+        this.batchSize = batchSize;
+    }
+
+    public Mono<ServerResponse> getById(ServerRequest request) {
+        DataBufferFactory factory = request.exchange().getResponse().bufferFactory();
+        LocalDate today = LocalDate.now();
+        return reader.findById(request.pathVariable("id"))
+                .mapNotNull(document -> encodeOne(document, today, factory))
+                .flatMap(buffer -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BodyInserters.fromDataBuffers(Mono.just(buffer))))
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.ok().build()));
+    }
+
+    /**
+     * Streams the collection as one JSON array, encoding {@code batchSize} documents per buffer so
+     * that a large listing is not written to the socket one small chunk at a time.
+     */
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        DataBufferFactory factory = request.exchange().getResponse().bufferFactory();
+        LocalDate today = LocalDate.now();
+        Flux<DataBuffer> body = Flux.defer(() -> {
+            boolean[] written = { false };
+            return Mono.fromSupplier(() -> factory.wrap(OPEN_ARRAY))
+                    .concatWith(reader.findAll()
+                            .buffer(batchSize)
+                            .mapNotNull(batch -> encode(batch, written, today, factory)))
+                    .concatWith(Mono.fromSupplier(() -> factory.wrap(CLOSE_ARRAY)));
+        });
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromDataBuffers(body));
+    }
+
+    private DataBuffer encodeOne(RawBsonDocument document, LocalDate today, DataBufferFactory factory) {
+        return encode(List.of(document), new boolean[] { false }, today, factory);
+    }
+
+    /**
+     * Encodes the documents comma-separated into one buffer, with a leading comma once
+     * {@code written} records that an earlier buffer already holds a document. Returns
+     * {@code null} when none of the documents could be written.
+     */
+    private DataBuffer encode(List<RawBsonDocument> documents, boolean[] written, LocalDate today,
+            DataBufferFactory factory) {
+        DataBuffer buffer = factory.allocateBuffer(documents.size() * ESTIMATED_DOCUMENT_SIZE + 1);
+        try {
+            for (RawBsonDocument document : documents) {
+                int start = buffer.writePosition();
+                if (written[0]) {
+                    buffer.write((byte) ',');
+                }
+                if (writer.write(document, today, buffer)) {
+                    written[0] = true;
+                } else {
+                    buffer.writePosition(start);
+                    logger.warn("Skipped stored quotation {}: it holds an unknown dictionary code or a non-numeric age",
+                            document.get("_id"));
+                }
+            }
+        } catch (RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e;
+        }
+        if (buffer.readableByteCount() == 0) {
+            DataBufferUtils.release(buffer);
+            return null;
+        }
+        return buffer;
+    }
+}
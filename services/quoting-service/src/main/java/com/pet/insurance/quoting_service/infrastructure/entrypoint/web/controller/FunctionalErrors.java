@@ -0,0 +1,28 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Error bodies for the functional handlers, shaped like those of {@code GlobalExceptionHandler},
+ * which only covers annotated controllers.
+ */
+final class FunctionalErrors {
+
+    private FunctionalErrors() {
+    }
+
+    static Mono<ServerResponse> badRequest(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Bad Request");
+        body.put("message", message);
+        return ServerResponse.badRequest().bodyValue(body);
+    }
+}
@@ -0,0 +1,63 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics.QuotationAnalyticsFilter;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics.QuotationAnalyticsIndex;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * Serves {@code GET /analytics/quotations} from the {@link QuotationAnalyticsIndex}. Every query
+ * parameter is optional: {@code species}, {@code minAge}, {@code maxAge}, {@code premiumPlan},
+ * and {@code expiresFrom}/{@code expiresTo} as ISO dates. Queries run off the event loop.
+ */
+public class QuotationAnalyticsHandler {
+
+    private final QuotationAnalyticsIndex index;
+
+    public QuotationAnalyticsHandler(QuotationAnalyticsIndex index) {
+        this.index = index;
+    }
+
+    public Mono<ServerResponse> getStats(ServerRequest request) {
+        QuotationAnalyticsFilter filter;
+        try {
+            filter = new QuotationAnalyticsFilter(
+                    request.queryParam("species").orElse(null),
+                    param(request, "minAge", Integer::valueOf),
+                    param(request, "maxAge", Integer::valueOf),
+                    param(request, "premiumPlan", QuotationAnalyticsHandler::parseBoolean),
+                    param(request, "expiresFrom", LocalDate::parse),
+                    param(request, "expiresTo", LocalDate::parse));
+        } catch (IllegalArgumentException e) {
+            return FunctionalErrors.badRequest(e.getMessage());
+        }
+        return Mono.fromCallable(() -> index.query(filter))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(stats -> ServerResponse.ok().bodyValue(stats));
+    }
+
+    private static <T> T param(ServerRequest request, String name, Function<String, T> parser) {
+        String value = request.queryParam(name).orElse(null);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value for " + name + ": " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException(value);
+        }
+        return Boolean.valueOf(value);
+    }
+}
@@ -4,11 +4,14 @@ import com.pet.insurance.quoting_service.application.usecase.GenerateQuotationUs
 import com.pet.insurance.quoting_service.application.usecase.GetAllQuotationsUseCase;
 import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto.QuotationDTO;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationLookupRequest;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationRequest;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/quotations")
 public class QuotationController {
@@ -42,10 +45,27 @@ public class QuotationController {
                 .map(QuotationDTO::fromDomain);
     }
 
+    @GetMapping(params = "active=true")
+    public Flux<QuotationDTO> getActive() {
+        return getAllQuotationsUseCase.executeActive()
+                .map(QuotationDTO::fromDomain);
+    }
+
     @GetMapping("/{id}")
     public Mono<QuotationDTO> getById(@PathVariable String id) {
         return getQuotationByIdUseCase.execute(id)
                 .map(QuotationDTO::fromDomain);
     }
 
+    /**
+     * Bulk lookup used by clients that batch their reads: returns the quotations that exist
+     * among the requested ids, in no particular order.
+     */
+    @PostMapping("/lookup")
+    public Flux<QuotationDTO> lookup(@RequestBody QuotationLookupRequest request) {
+        List<String> ids = request.ids() == null ? List.of() : request.ids();
+        return getQuotationByIdUseCase.execute(ids)
+                .map(QuotationDTO::fromDomain);
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.application.usecase.SimulateRepricingUseCase;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.RepricingSimulationRequest;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves {@code POST /simulations/repricing}: the body is a {@link RepricingSimulationRequest}
+ * overriding parts of the current tariff, and the response is the resulting
+ * {@code RepricingSummary}. An empty body simulates the current tariff.
+ */
+public class RepricingSimulationHandler {
+
+    private final SimulateRepricingUseCase simulateRepricingUseCase;
+    private final Tariff currentTariff;
+
+    public RepricingSimulationHandler(SimulateRepricingUseCase simulateRepricingUseCase, Tariff currentTariff) {
+        this.simulateRepricingUseCase = simulateRepricingUseCase;
+        this.currentTariff = currentTariff;
+    }
+
+    public Mono<ServerResponse> simulate(ServerRequest request) {
+        return request.bodyToMono(RepricingSimulationRequest.class)
+                .map(body -> body.toTariff(currentTariff))
+                .defaultIfEmpty(currentTariff)
+                .flatMap(simulateRepricingUseCase::execute)
+                .flatMap(summary -> ServerResponse.ok().bodyValue(summary))
+                .onErrorResume(IllegalArgumentException.class, e -> FunctionalErrors.badRequest(e.getMessage()));
+    }
+}
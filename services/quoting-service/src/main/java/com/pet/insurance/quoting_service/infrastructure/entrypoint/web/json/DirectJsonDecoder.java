@@ -0,0 +1,165 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base for JSON decoders that read one request type with Jackson's streaming parser instead of
+ * its bean deserializers. The body is joined into a single buffer and parsed in place. It follows
+ * the defaults of Jackson 3's {@code JsonMapper}: unknown properties are skipped and missing ones
+ * keep their defaults, while a null for a primitive field, tokens after the root value and an
+ * array where a single object is expected are rejected.
+ */
+public abstract class DirectJsonDecoder<T> extends AbstractDecoder<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
+    private final Class<T> type;
+    private int maxInMemorySize = DEFAULT_MAX_IN_MEMORY_SIZE;
+
+    protected DirectJsonDecoder(Class<T> type) {
+        super(MediaType.APPLICATION_JSON);
+        this.type = type;
+    }
+
+    /**
+     * Reads one value from a parser positioned on its {@link JsonToken#START_OBJECT}, leaving it
+     * on the matching {@link JsonToken#END_OBJECT}.
+     */
+    protected abstract T read(JsonParser parser);
+
+    public void setMaxInMemorySize(int maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == type && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<T> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType,
+            Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream, maxInMemorySize)
+                .flatMapIterable(buffer -> readAll(buffer, true));
+    }
+
+    @Override
+    public Mono<T> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType,
+            Map<String, Object> hints) {
+        return DataBufferUtils.join(inputStream, maxInMemorySize)
+                .map(buffer -> decode(buffer, elementType, mimeType, hints));
+    }
+
+    @Override
+    public T decode(DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+        return readAll(buffer, false).get(0);
+    }
+
+    /**
+     * Reads one object or, when {@code allowArray}, an array of objects, releasing the buffer
+     * afterwards. Nothing but whitespace may follow the root value.
+     */
+    private List<T> readAll(DataBuffer buffer, boolean allowArray) {
+        try (InputStream in = buffer.asInputStream(true);
+                JsonParser parser = JSON_FACTORY.createParser(ObjectReadContext.empty(), in)) {
+            JsonToken token = parser.nextToken();
+            List<T> values = new ArrayList<>();
+            if (allowArray && token == JsonToken.START_ARRAY) {
+                while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                    values.add(read(parser));
+                }
+                expect(token, JsonToken.END_ARRAY);
+            } else {
+                expect(token, JsonToken.START_OBJECT);
+                values.add(read(parser));
+            }
+            JsonToken trailing = parser.nextToken();
+            if (trailing != null) {
+                throw new DecodingException("Cannot decode " + type.getSimpleName() + ": unexpected " + trailing
+                        + " after the root value");
+            }
+            return values;
+        } catch (JacksonException | IOException e) {
+            throw new DecodingException("JSON decoding error: " + e.getMessage(), e);
+        }
+    }
+
+    private void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new DecodingException("Cannot decode " + type.getSimpleName() + ": expected " + expected
+                    + " but found " + actual);
+        }
+    }
+
+    /**
+     * Text of the current value, with {@code null} for a JSON null.
+     */
+    protected static String stringValue(JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new DecodingException("Expected a string for '" + parser.currentName() + "' but found " + token);
+        }
+        return parser.getValueAsString();
+    }
+
+    /**
+     * Integer value of the current token; numeric strings are accepted and null is rejected.
+     */
+    protected static int intValue(JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return Integer.parseInt(parser.getString().trim());
+            } catch (NumberFormatException e) {
+                throw new DecodingException("Expected an integer for '" + parser.currentName() + "'", e);
+            }
+        }
+        throw new DecodingException("Expected an integer for '" + parser.currentName() + "' but found " + token);
+    }
+
+    /**
+     * Boolean value of the current token; {@code "true"} and {@code "false"} strings are accepted
+     * and null is rejected.
+     */
+    protected static boolean booleanValue(JsonParser parser) {
+        JsonToken token = parser.currentToken();
+        return switch (token) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_STRING -> switch (parser.getString().trim()) {
+                case "true" -> true;
+                case "false" -> false;
+                default -> throw new DecodingException("Expected a boolean for '" + parser.currentName() + "'");
+            };
+            default -> throw new DecodingException(
+                    "Expected a boolean for '" + parser.currentName() + "' but found " + token);
+        };
+    }
+}
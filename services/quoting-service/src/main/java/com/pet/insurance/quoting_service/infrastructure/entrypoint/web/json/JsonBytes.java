@@ -0,0 +1,212 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Low-level JSON output shared by the hand-written writers of this package. Values are written
+ * into a {@link DataBuffer} the way the service's Jackson configuration writes them: decimals with
+ * {@link BigDecimal#toString()}, dates and date-times as ISO-8601 strings.
+ */
+public final class JsonBytes {
+
+    static final byte[] NULL = ascii("null");
+    static final byte[] TRUE = ascii("true");
+    static final byte[] FALSE = ascii("false");
+
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    private JsonBytes() {
+    }
+
+    /**
+     * Precomputes {@code "name":}, preceded by a comma unless the property comes first.
+     */
+    public static byte[] propertyName(String name, boolean first) {
+        return ((first ? "\"" : ",\"") + name + "\":").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void writeString(String value, DataBuffer out) {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write((byte) '"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    out.write((byte) c);
+                } else {
+                    writeEscape(c, out);
+                }
+            } else if (c < 0x800) {
+                out.write((byte) (0xC0 | c >> 6));
+                out.write((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.write((byte) (0xF0 | codePoint >> 18));
+                out.write((byte) (0x80 | codePoint >> 12 & 0x3F));
+                out.write((byte) (0x80 | codePoint >> 6 & 0x3F));
+                out.write((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.write((byte) '?');
+            } else {
+                out.write((byte) (0xE0 | c >> 12));
+                out.write((byte) (0x80 | c >> 6 & 0x3F));
+                out.write((byte) (0x80 | c & 0x3F));
+            }
+        }
+        out.write((byte) '"');
+    }
+
+    /**
+     * Writes {@code length} bytes of UTF-8 text starting at absolute index {@code start} of
+     * {@code source} as a JSON string, copying unescaped runs in bulk.
+     */
+    public static void writeUtf8String(ByteBuffer source, int start, int length, DataBuffer out) {
+        out.write((byte) '"');
+        int runStart = start;
+        int end = start + length;
+        for (int i = start; i < end; i++) {
+            int b = source.get(i) & 0xFF;
+            if (b >= 0x20 && b != '"' && b != '\\') {
+                continue;
+            }
+            if (i > runStart) {
+                out.write(source.slice(runStart, i - runStart));
+            }
+            writeEscape(b, out);
+            runStart = i + 1;
+        }
+        if (end > runStart) {
+            out.write(source.slice(runStart, end - runStart));
+        }
+        out.write((byte) '"');
+    }
+
+    public static void writeLong(long value, DataBuffer out) {
+        if (value < 0) {
+            out.write((byte) '-');
+            if (value == Long.MIN_VALUE) {
+                out.write(ascii(Long.toString(value).substring(1)));
+                return;
+            }
+            value = -value;
+        }
+        long divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.write((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    public static void writeBoolean(boolean value, DataBuffer out) {
+        out.write(value ? TRUE : FALSE);
+    }
+
+    public static void writeDecimal(BigDecimal value, DataBuffer out) {
+        out.write(value == null ? NULL : ascii(value.toString()));
+    }
+
+    public static void writeDate(LocalDate date, DataBuffer out) {
+        if (date == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write((byte) '"');
+        writeDateDigits(date, out);
+        out.write((byte) '"');
+    }
+
+    public static void writeDateTime(LocalDateTime dateTime, DataBuffer out) {
+        if (dateTime == null) {
+            out.write(NULL);
+            return;
+        }
+        out.write((byte) '"');
+        LocalDate date = dateTime.toLocalDate();
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            out.write(ascii(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime)));
+        } else {
+            writeDateDigits(date, out);
+            out.write((byte) 'T');
+            writeDigits(dateTime.getHour(), 10, out);
+            out.write((byte) ':');
+            writeDigits(dateTime.getMinute(), 10, out);
+            out.write((byte) ':');
+            writeDigits(dateTime.getSecond(), 10, out);
+            writeFraction(dateTime.getNano(), out);
+        }
+        out.write((byte) '"');
+    }
+
+    /**
+     * Same digits as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}: as many as needed, none for
+     * whole seconds.
+     */
+    private static void writeFraction(int nanos, DataBuffer out) {
+        if (nanos == 0) {
+            return;
+        }
+        out.write((byte) '.');
+        for (int divisor = 100_000_000; nanos > 0; divisor /= 10) {
+            out.write((byte) ('0' + nanos / divisor));
+            nanos %= divisor;
+        }
+    }
+
+    private static void writeDateDigits(LocalDate date, DataBuffer out) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            out.write(ascii(date.toString()));
+            return;
+        }
+        writeDigits(year, 1000, out);
+        out.write((byte) '-');
+        writeDigits(date.getMonthValue(), 10, out);
+        out.write((byte) '-');
+        writeDigits(date.getDayOfMonth(), 10, out);
+    }
+
+    private static void writeDigits(int value, int highestDivisor, DataBuffer out) {
+        for (int divisor = highestDivisor; divisor > 0; divisor /= 10) {
+            out.write((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    private static void writeEscape(int c, DataBuffer out) {
+        out.write((byte) '\\');
+        switch (c) {
+            case '"', '\\' -> out.write((byte) c);
+            case '\n' -> out.write((byte) 'n');
+            case '\r' -> out.write((byte) 'r');
+            case '\t' -> out.write((byte) 't');
+            default -> {
+                out.write((byte) 'u');
+                out.write((byte) '0');
+                out.write((byte) '0');
+                out.write(HEX[c >>> 4]);
+                out.write(HEX[c & 0x0F]);
+            }
+        }
+    }
+
+    static void writeHex(int value, DataBuffer out) {
+        out.write(HEX[value >>> 4 & 0x0F]);
+        out.write(HEX[value & 0x0F]);
+    }
+
+    static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,47 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto.QuotationDTO;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import static com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.JsonBytes.propertyName;
+
+public class QuotationDtoJsonEncoder extends DirectJsonEncoder<QuotationDTO> {
+
+    private static final byte[] ID = propertyName("id", true);
+    private static final byte[] PET_NAME = propertyName("petName", false);
+    private static final byte[] SPECIES = propertyName("species", false);
+    private static final byte[] BREED = propertyName("breed", false);
+    private static final byte[] AGE = propertyName("age", false);
+    private static final byte[] PREMIUM_PLAN = propertyName("premiumPlan", false);
+    private static final byte[] PRICE = propertyName("price", false);
+    private static final byte[] EXPIRES_AT = propertyName("expiresAt", false);
+    private static final byte[] EXPIRED = propertyName("expired", false);
+
+    public QuotationDtoJsonEncoder() {
+        super(QuotationDTO.class);
+    }
+
+    @Override
+    protected void write(QuotationDTO quotation, DataBuffer out) {
+        out.write((byte) '{');
+        out.write(ID);
+        JsonBytes.writeString(quotation.id(), out);
+        out.write(PET_NAME);
+        JsonBytes.writeString(quotation.petName(), out);
+        out.write(SPECIES);
+        JsonBytes.writeString(quotation.species(), out);
+        out.write(BREED);
+        JsonBytes.writeString(quotation.breed(), out);
+        out.write(AGE);
+        JsonBytes.writeLong(quotation.age(), out);
+        out.write(PREMIUM_PLAN);
+        JsonBytes.writeBoolean(quotation.premiumPlan(), out);
+        out.write(PRICE);
+        JsonBytes.writeDecimal(quotation.price(), out);
+        out.write(EXPIRES_AT);
+        JsonBytes.writeDate(quotation.expiresAt(), out);
+        out.write(EXPIRED);
+        JsonBytes.writeBoolean(quotation.expired(), out);
+        out.write((byte) '}');
+    }
+}
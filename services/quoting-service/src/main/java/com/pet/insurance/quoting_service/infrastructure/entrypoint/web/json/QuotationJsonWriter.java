@@ -0,0 +1,296 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import com.pet.insurance.quoting_service.domain.model.PetDictionary;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.JsonBytes.ascii;
+import static com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.JsonBytes.propertyName;
+
+/**
+ * Writes stored quotation documents as the JSON body of {@code QuotationDTO} straight from their
+ * BSON bytes, without building an entity, a domain object or a DTO. The document is walked once
+ * to locate each field and the values are then emitted in the DTO's property order; strings are
+ * copied as UTF-8 bytes and only escaped where JSON requires it.
+ *
+ * <p>Documents are expected to have passed the collection's JSON schema, so nothing is
+ * re-validated here; the only check left is that a species or breed code names a dictionary
+ * entry, and a document that fails it is not written at all. Dates follow Spring Data's mapping
+ * of {@link LocalDate}: midnight of the JVM's default zone.
+ */
+public final class QuotationJsonWriter {
+
+    private static final byte TYPE_DOUBLE = 0x01;
+    private static final byte TYPE_STRING = 0x02;
+    private static final byte TYPE_DOCUMENT = 0x03;
+    private static final byte TYPE_ARRAY = 0x04;
+    private static final byte TYPE_BINARY = 0x05;
+    private static final byte TYPE_OBJECT_ID = 0x07;
+    private static final byte TYPE_BOOLEAN = 0x08;
+    private static final byte TYPE_DATE_TIME = 0x09;
+    private static final byte TYPE_REGEX = 0x0B;
+    private static final byte TYPE_DB_POINTER = 0x0C;
+    private static final byte TYPE_JAVASCRIPT = 0x0D;
+    private static final byte TYPE_SYMBOL = 0x0E;
+    private static final byte TYPE_JAVASCRIPT_WITH_SCOPE = 0x0F;
+    private static final byte TYPE_INT32 = 0x10;
+    private static final byte TYPE_TIMESTAMP = 0x11;
+    private static final byte TYPE_INT64 = 0x12;
+    private static final byte TYPE_DECIMAL128 = 0x13;
+
+    private static final int ID = 0;
+    private static final int PET_NAME = 1;
+    private static final int SPECIES = 2;
+    private static final int SPECIES_CODE = 3;
+    private static final int BREED = 4;
+    private static final int BREED_CODE = 5;
+    private static final int AGE = 6;
+    private static final int PREMIUM_PLAN = 7;
+    private static final int PRICE = 8;
+    private static final int EXPIRES_AT = 9;
+    private static final int FIELD_COUNT = 10;
+
+    private static final byte[][] FIELD_NAMES = {
+            ascii("_id"), ascii("petName"), ascii("species"), ascii("speciesCode"), ascii("breed"),
+            ascii("breedCode"), ascii("age"), ascii("premiumPlan"), ascii("price"), ascii("expiresAt")
+    };
+
+    private static final byte[] ID_KEY = propertyName("id", true);
+    private static final byte[] PET_NAME_KEY = propertyName("petName", false);
+    private static final byte[] SPECIES_KEY = propertyName("species", false);
+    private static final byte[] BREED_KEY = propertyName("breed", false);
+    private static final byte[] AGE_KEY = propertyName("age", false);
+    private static final byte[] PREMIUM_PLAN_KEY = propertyName("premiumPlan", false);
+    private static final byte[] PRICE_KEY = propertyName("price", false);
+    private static final byte[] EXPIRES_AT_KEY = propertyName("expiresAt", false);
+    private static final byte[] EXPIRED_KEY = propertyName("expired", false);
+
+    private static final byte[][] SPECIES_NAMES = encodeNames(PetDictionary.SPECIES);
+    private static final byte[][] BREED_NAMES = encodeNames(PetDictionary.BREEDS);
+
+    private final ZoneId zone;
+
+    public QuotationJsonWriter() {
+        this(ZoneId.systemDefault());
+    }
+
+    QuotationJsonWriter(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Appends the JSON object for one stored quotation to {@code out}. {@code today} decides the
+     * {@code expired} flag, so a whole page is judged against the same date. Returns
+     * {@code false}, leaving {@code out} untouched, when the document holds a species or breed
+     * code outside the dictionary or an age that is not a number.
+     */
+    public boolean write(RawBsonDocument document, LocalDate today, DataBuffer out) {
+        ByteBuffer bson = document.getByteBuffer().asNIO().order(ByteOrder.LITTLE_ENDIAN);
+        int base = bson.position();
+        int[] types = new int[FIELD_COUNT];
+        int[] offsets = new int[FIELD_COUNT];
+        index(bson, base, types, offsets);
+        if (!isCodeKnown(bson, types[SPECIES_CODE], offsets[SPECIES_CODE], SPECIES_NAMES)
+                || !isCodeKnown(bson, types[BREED_CODE], offsets[BREED_CODE], BREED_NAMES)
+                || !isInteger(types[AGE])) {
+            return false;
+        }
+
+        out.write((byte) '{');
+        out.write(ID_KEY);
+        writeString(bson, types[ID], offsets[ID], out);
+        out.write(PET_NAME_KEY);
+        writeString(bson, types[PET_NAME], offsets[PET_NAME], out);
+        out.write(SPECIES_KEY);
+        writeCodedString(bson, types, offsets, SPECIES, SPECIES_CODE, SPECIES_NAMES, out);
+        out.write(BREED_KEY);
+        writeCodedString(bson, types, offsets, BREED, BREED_CODE, BREED_NAMES, out);
+        out.write(AGE_KEY);
+        JsonBytes.writeLong(types[AGE] == 0 ? 0 : readInteger(bson, types[AGE], offsets[AGE]), out);
+        out.write(PREMIUM_PLAN_KEY);
+        JsonBytes.writeBoolean(types[PREMIUM_PLAN] == TYPE_BOOLEAN && bson.get(offsets[PREMIUM_PLAN]) != 0, out);
+        out.write(PRICE_KEY);
+        writePrice(bson, types[PRICE], offsets[PRICE], out);
+        out.write(EXPIRES_AT_KEY);
+        LocalDate expiresAt = types[EXPIRES_AT] == TYPE_DATE_TIME
+                ? LocalDate.ofInstant(Instant.ofEpochMilli(bson.getLong(offsets[EXPIRES_AT])), zone)
+                : null;
+        JsonBytes.writeDate(expiresAt, out);
+        out.write(EXPIRED_KEY);
+        JsonBytes.writeBoolean(expiresAt != null && expiresAt.isBefore(today), out);
+        out.write((byte) '}');
+        return true;
+    }
+
+    /**
+     * Records the type and value offset of every field the DTO needs; unrelated fields such as
+     * {@code _class} are skipped over.
+     */
+    private static void index(ByteBuffer bson, int base, int[] types, int[] offsets) {
+        int end = base + bson.getInt(base) - 1;
+        int position = base + 4;
+        while (position < end) {
+            byte type = bson.get(position++);
+            int nameStart = position;
+            while (bson.get(position) != 0) {
+                position++;
+            }
+            int field = fieldOf(bson, nameStart, position - nameStart);
+            position++;
+            if (field >= 0) {
+                types[field] = type;
+                offsets[field] = position;
+            }
+            position = skipValue(bson, type, position);
+        }
+    }
+
+    private static int fieldOf(ByteBuffer bson, int start, int length) {
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            byte[] name = FIELD_NAMES[field];
+            if (name.length == length && nameEquals(bson, start, name)) {
+                return field;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean nameEquals(ByteBuffer bson, int start, byte[] name) {
+        for (int i = 0; i < name.length; i++) {
+            if (bson.get(start + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipValue(ByteBuffer bson, byte type, int position) {
+        return switch (type) {
+            case TYPE_DOUBLE, TYPE_DATE_TIME, TYPE_TIMESTAMP, TYPE_INT64 -> position + 8;
+            case TYPE_STRING, TYPE_JAVASCRIPT, TYPE_SYMBOL -> position + 4 + bson.getInt(position);
+            case TYPE_DOCUMENT, TYPE_ARRAY, TYPE_JAVASCRIPT_WITH_SCOPE -> position + bson.getInt(position);
+            case TYPE_BINARY -> position + 5 + bson.getInt(position);
+            case TYPE_OBJECT_ID -> position + 12;
+            case TYPE_BOOLEAN -> position + 1;
+            case TYPE_REGEX -> skipCString(bson, skipCString(bson, position));
+            case TYPE_DB_POINTER -> position + 4 + bson.getInt(position) + 12;
+            case TYPE_INT32 -> position + 4;
+            case TYPE_DECIMAL128 -> position + 16;
+            default -> position;
+        };
+    }
+
+    private static int skipCString(ByteBuffer bson, int position) {
+        while (bson.get(position) != 0) {
+            position++;
+        }
+        return position + 1;
+    }
+
+    private static void writeString(ByteBuffer bson, int type, int offset, DataBuffer out) {
+        if (type == TYPE_STRING) {
+            JsonBytes.writeUtf8String(bson, offset + 4, bson.getInt(offset) - 1, out);
+        } else if (type == TYPE_OBJECT_ID) {
+            out.write((byte) '"');
+            for (int i = 0; i < 12; i++) {
+                JsonBytes.writeHex(bson.get(offset + i), out);
+            }
+            out.write((byte) '"');
+        } else {
+            out.write(JsonBytes.NULL);
+        }
+    }
+
+    private static void writeCodedString(ByteBuffer bson, int[] types, int[] offsets, int nameField,
+            int codeField, byte[][] dictionary, DataBuffer out) {
+        if (types[nameField] == TYPE_STRING) {
+            writeString(bson, TYPE_STRING, offsets[nameField], out);
+            return;
+        }
+        int codeType = types[codeField];
+        if (codeType == TYPE_INT32 || codeType == TYPE_INT64) {
+            out.write(dictionary[(int) readInteger(bson, codeType, offsets[codeField])]);
+            return;
+        }
+        out.write(JsonBytes.NULL);
+    }
+
+    /**
+     * Whether a code field, when present as an integer, names an entry of {@code dictionary}.
+     * Other types are never read as codes, so they do not make the document unwritable.
+     */
+    private static boolean isCodeKnown(ByteBuffer bson, int type, int offset, byte[][] dictionary) {
+        if (type != TYPE_INT32 && type != TYPE_INT64) {
+            return true;
+        }
+        long code = readInteger(bson, type, offset);
+        return code >= 0 && code < dictionary.length;
+    }
+
+    private static boolean isInteger(int type) {
+        return type == 0 || type == TYPE_INT32 || type == TYPE_INT64 || type == TYPE_DOUBLE;
+    }
+
+    private static long readInteger(ByteBuffer bson, int type, int offset) {
+        return switch (type) {
+            case TYPE_INT32 -> bson.getInt(offset);
+            case TYPE_INT64 -> bson.getLong(offset);
+            case TYPE_DOUBLE -> (long) bson.getDouble(offset);
+            default -> throw new IllegalArgumentException("Unexpected BSON type for an integer: " + type);
+        };
+    }
+
+    /**
+     * Writes the price as the JSON number Jackson would produce for the mapped {@link BigDecimal}.
+     * A string or double that is not a finite number is written as {@code null} rather than
+     * copied into the body unchecked.
+     */
+    private static void writePrice(ByteBuffer bson, int type, int offset, DataBuffer out) {
+        BigDecimal price;
+        try {
+            price = switch (type) {
+                case TYPE_DECIMAL128 -> Decimal128.fromIEEE754BIDEncoding(bson.getLong(offset + 8), bson.getLong(offset))
+                        .bigDecimalValue();
+                case TYPE_STRING -> new BigDecimal(
+                        new String(bytes(bson, offset + 4, bson.getInt(offset) - 1), StandardCharsets.UTF_8));
+                case TYPE_DOUBLE -> BigDecimal.valueOf(bson.getDouble(offset));
+                case TYPE_INT32, TYPE_INT64 -> BigDecimal.valueOf(readInteger(bson, type, offset));
+                default -> null;
+            };
+        } catch (NumberFormatException | ArithmeticException e) {
+            price = null;
+        }
+        out.write(price == null ? JsonBytes.NULL : ascii(price.toString()));
+    }
+
+    private static byte[][] encodeNames(PetDictionary dictionary) {
+        byte[][] names = new byte[dictionary.size()][];
+        for (int code = 0; code < names.length; code++) {
+            StringBuilder json = new StringBuilder("\"");
+            for (char c : dictionary.name(code).toCharArray()) {
+                if (c == '"' || c == '\\') {
+                    json.append('\\');
+                }
+                json.append(c);
+            }
+            names[code] = json.append('"').toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+
+    private static byte[] bytes(ByteBuffer bson, int start, int length) {
+        byte[] bytes = new byte[length];
+        bson.get(start, bytes);
+        return bytes;
+    }
+
+}
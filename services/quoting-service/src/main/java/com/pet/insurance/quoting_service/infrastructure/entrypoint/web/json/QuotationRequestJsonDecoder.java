@@ -0,0 +1,32 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationRequest;
+import tools.jackson.core.JsonParser;
+
+public class QuotationRequestJsonDecoder extends DirectJsonDecoder<QuotationRequest> {
+
+    public QuotationRequestJsonDecoder() {
+        super(QuotationRequest.class);
+    }
+
+    @Override
+    protected QuotationRequest read(JsonParser parser) {
+        String name = null;
+        String species = null;
+        String breed = null;
+        int age = 0;
+        boolean premium = false;
+        for (String field = parser.nextName(); field != null; field = parser.nextName()) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> name = stringValue(parser);
+                case "species" -> species = stringValue(parser);
+                case "breed" -> breed = stringValue(parser);
+                case "age" -> age = intValue(parser);
+                case "premium" -> premium = booleanValue(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new QuotationRequest(name, species, breed, age, premium);
+    }
+}
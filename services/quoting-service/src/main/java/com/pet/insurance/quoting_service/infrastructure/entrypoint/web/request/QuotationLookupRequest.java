@@ -0,0 +1,6 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request;
+
+import java.util.List;
+
+public record QuotationLookupRequest(List<String> ids) {
+}
@@ -0,0 +1,32 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request;
+
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Candidate tariff of a repricing simulation. Fields left out keep the current value; a
+ * {@code breedRiskFactors} map replaces the whole current table.
+ */
+public record RepricingSimulationRequest(
+        BigDecimal basePrice,
+        BigDecimal dogMultiplier,
+        BigDecimal otherSpeciesMultiplier,
+        Integer ageThreshold,
+        BigDecimal agePremiumMultiplier,
+        BigDecimal premiumPlanMultiplier,
+        Map<String, BigDecimal> breedRiskFactors) {
+
+    public Tariff toTariff(Tariff current) {
+        return new Tariff(
+                basePrice != null ? basePrice : current.basePrice(),
+                dogMultiplier != null ? dogMultiplier : current.dogMultiplier(),
+                otherSpeciesMultiplier != null ? otherSpeciesMultiplier : current.otherSpeciesMultiplier(),
+                ageThreshold != null ? ageThreshold : current.ageThreshold(),
+                agePremiumMultiplier != null ? agePremiumMultiplier : current.agePremiumMultiplier(),
+                premiumPlanMultiplier != null ? premiumPlanMultiplier : current.premiumPlanMultiplier(),
+                breedRiskFactors != null ? BreedRiskFactors.of(breedRiskFactors) : current.breedRiskFactors());
+    }
+}
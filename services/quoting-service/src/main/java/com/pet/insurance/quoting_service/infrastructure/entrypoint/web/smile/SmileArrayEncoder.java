@@ -0,0 +1,40 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.smile;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.smile.JacksonSmileEncoder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Smile encoder that writes a multi-value response as one Smile array. The stock encoder joins the
+ * values with the JSON array bytes {@code [ , ]}, which is not valid Smile. Writing the array as a
+ * single value also lets Smile refer back to property names and short strings seen earlier in the
+ * response, which is where most of its saving over JSON comes from. Streaming media types are
+ * still written value by value.
+ */
+public class SmileArrayEncoder extends JacksonSmileEncoder {
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+            ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono || isStreaming(mimeType)) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream)
+                .collectList()
+                .map(values -> encodeValue(values, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+
+    private boolean isStreaming(MimeType mimeType) {
+        return mimeType != null && getStreamingMediaTypes().stream().anyMatch(mimeType::isCompatibleWith);
+    }
+}
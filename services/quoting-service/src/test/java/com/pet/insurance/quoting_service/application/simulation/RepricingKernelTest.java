@@ -0,0 +1,79 @@
+package com.pet.insurance.quoting_service.application.simulation;
+
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RepricingKernel Tests")
+class RepricingKernelTest {
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit"};
+    private static final String[] BREEDS = {"Labrador", "Mixed", "Siamese", "Unlisted Breed"};
+
+    private final Tariff tariff = new Tariff(new BigDecimal("12"), new BigDecimal("1.3"), new BigDecimal("1.05"), 6,
+            new BigDecimal("1.4"), new BigDecimal("1.8"),
+            BreedRiskFactors.of(Map.of("Labrador", new BigDecimal("1.1"), "Unlisted Breed", new BigDecimal("1.25"))));
+
+    @Test
+    @DisplayName("Should price every row like the tariff does")
+    void scalarKernelShouldMatchTariff() {
+        // Given
+        List<Quotation> quotations = book(1_003);
+        RepricingRates rates = new RepricingRates(tariff);
+        RepricingBatch batch = RepricingBatch.of(quotations, rates);
+        double[] prices = new double[batch.size()];
+
+        // When
+        new ScalarRepricingKernel().reprice(batch, rates, prices);
+
+        // Then
+        for (int row = 0; row < quotations.size(); row++) {
+            Quotation quotation = quotations.get(row);
+            double expected = tariff.price(quotation.species(), quotation.breed(), quotation.age(),
+                    quotation.premiumPlan()).doubleValue();
+            assertThat(prices[row]).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same prices with the preferred kernel as with the scalar one")
+    void preferredKernelShouldMatchScalarKernel() {
+        // Given
+        RepricingRates rates = new RepricingRates(tariff);
+        RepricingBatch batch = RepricingBatch.of(book(1_003), rates);
+        double[] scalar = new double[batch.size()];
+        double[] preferred = new double[batch.size()];
+        RepricingKernel kernel = RepricingKernel.preferred();
+
+        // When
+        new ScalarRepricingKernel().reprice(batch, rates, scalar);
+        kernel.reprice(batch, rates, preferred);
+
+        // Then
+        assertThat(kernel.name()).isEqualTo("vector");
+        assertThat(preferred).containsExactly(scalar);
+    }
+
+    private static List<Quotation> book(int size) {
+        Random random = new Random(7);
+        List<Quotation> quotations = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            quotations.add(Quotation.reconstructTrusted("q-" + i, "Max", SPECIES[random.nextInt(SPECIES.length)],
+                    BREEDS[random.nextInt(BREEDS.length)], random.nextInt(11), random.nextBoolean(),
+                    new BigDecimal("20.00"), LocalDate.of(2026, 4, 1)));
+        }
+        return quotations;
+    }
+}
@@ -1,6 +1,7 @@
 package com.pet.insurance.quoting_service.application.usecase;
 
 import com.pet.insurance.quoting_service.domain.exception.InvalidPetAgeException;
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
 import com.pet.insurance.quoting_service.domain.model.Quotation;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -300,4 +302,27 @@ class GenerateQuotationUseCaseTest {
         assertNotNull(savedQuotation.id());
         assertNotNull(savedQuotation.expiresAt());
     }
+
+    @Test
+    void shouldApplyBreedRiskFactor() {
+        // Given
+        BreedRiskFactors breedRiskFactors = BreedRiskFactors.of(Map.of("French Bulldog", new BigDecimal("1.40")));
+        useCase = new GenerateQuotationUseCase(repository, breedRiskFactors);
+
+        when(repository.save(any(Quotation.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        Mono<Quotation> bulldog = useCase.execute("Rocky", "DOG", "french bulldog", 3, false);
+        Mono<Quotation> unlisted = useCase.execute("Max", "DOG", "Golden Retriever", 3, false);
+
+        // Then
+        // Price: 10 * 1.2 (DOG) * 1.40 (French Bulldog) = 16.8
+        StepVerifier.create(bulldog)
+                .assertNext(quotation -> assertEquals(0, new BigDecimal("16.8").compareTo(quotation.price())))
+                .verifyComplete();
+        StepVerifier.create(unlisted)
+                .assertNext(quotation -> assertEquals(new BigDecimal("12.0"), quotation.price()))
+                .verifyComplete();
+    }
 }
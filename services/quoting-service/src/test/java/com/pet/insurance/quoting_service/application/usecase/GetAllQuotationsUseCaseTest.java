@@ -1,6 +1,7 @@
 package com.pet.insurance.quoting_service.application.usecase;
 
 import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.ActiveQuotationIndex;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +148,41 @@ class GetAllQuotationsUseCaseTest {
 
         verify(repository, times(1)).findAll();
     }
+
+    @Test
+    void shouldListActiveQuotationsFromReadyIndex() {
+        // Given
+        ActiveQuotationIndex activeIndex = mock(ActiveQuotationIndex.class);
+        Quotation quotation = Quotation.create("Max", "DOG", "Golden Retriever", 3, false, BigDecimal.TEN);
+        when(activeIndex.isReady()).thenReturn(true);
+        when(activeIndex.findAll()).thenReturn(List.of(quotation));
+        useCase = new GetAllQuotationsUseCase(repository, activeIndex);
+
+        // When
+        Flux<Quotation> result = useCase.executeActive();
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(quotation)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldFilterExpiredQuotationsWhenIndexIsNotReady() {
+        // Given
+        Quotation active = Quotation.create("Max", "DOG", "Golden Retriever", 3, false, BigDecimal.TEN);
+        Quotation expired = Quotation.reconstruct("expired-id", "Luna", "CAT", null, 2, false, BigDecimal.TEN,
+                LocalDate.now().minusDays(1));
+        when(repository.findAll()).thenReturn(Flux.just(expired, active));
+
+        // When
+        Flux<Quotation> result = useCase.executeActive();
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(active)
+                .verifyComplete();
+    }
 }
@@ -1,17 +1,22 @@
 package com.pet.insurance.quoting_service.application.usecase;
 
 import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.ActiveQuotationIndex;
 import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -223,4 +228,97 @@ class GetQuotationByIdUseCaseTest {
 
         verify(repository, times(1)).findById(quotationId);
     }
+
+    @Test
+    void shouldServeQuotationFromActiveIndexWithoutRepository() {
+        // Given
+        ActiveQuotationIndex activeIndex = mock(ActiveQuotationIndex.class);
+        Quotation quotation = Quotation.create("Max", "DOG", "Golden Retriever", 3, false, BigDecimal.TEN);
+        when(activeIndex.findById(quotation.id())).thenReturn(Optional.of(quotation));
+        useCase = new GetQuotationByIdUseCase(repository, activeIndex);
+
+        // When
+        Mono<Quotation> result = useCase.execute(quotation.id());
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(quotation)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldFallBackToRepositoryWhenActiveIndexMisses() {
+        // Given
+        ActiveQuotationIndex activeIndex = mock(ActiveQuotationIndex.class);
+        Quotation expired = Quotation.reconstruct("expired-id", "Max", "DOG", null, 3, false, BigDecimal.TEN,
+                LocalDate.now().minusDays(1));
+        when(activeIndex.findById("expired-id")).thenReturn(Optional.empty());
+        when(repository.findById("expired-id")).thenReturn(Mono.just(expired));
+        useCase = new GetQuotationByIdUseCase(repository, activeIndex);
+
+        // When
+        Mono<Quotation> result = useCase.execute("expired-id");
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(expired)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldLookUpSeveralQuotationsWithOneRepositoryCall() {
+        // Given
+        ActiveQuotationIndex activeIndex = mock(ActiveQuotationIndex.class);
+        Quotation active = Quotation.create("Max", "DOG", "Golden Retriever", 3, false, BigDecimal.TEN);
+        Quotation stored = Quotation.reconstruct("stored-id", "Luna", "CAT", "Persian", 2, true,
+                new BigDecimal("20.00"), LocalDate.now().minusDays(1));
+        when(activeIndex.findById(active.id())).thenReturn(Optional.of(active));
+        when(activeIndex.findById("stored-id")).thenReturn(Optional.empty());
+        when(activeIndex.findById("missing-id")).thenReturn(Optional.empty());
+        when(repository.findAllById(List.of("stored-id", "missing-id"))).thenReturn(Flux.just(stored));
+        useCase = new GetQuotationByIdUseCase(repository, activeIndex);
+
+        // When
+        Flux<Quotation> result = useCase.execute(List.of(active.id(), "stored-id", "missing-id", "stored-id"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(active, stored)
+                .verifyComplete();
+
+        verify(repository, never()).findById(anyString());
+    }
+
+    @Test
+    void shouldRejectLookupsAboveTheBatchLimit() {
+        // Given
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= GetQuotationByIdUseCase.MAX_BATCH_SIZE; i++) {
+            ids.add("id-" + i);
+        }
+
+        // When
+        Flux<Quotation> result = useCase.execute(ids);
+
+        // Then
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldNotCallRepositoryForEmptyLookup() {
+        // When
+        Flux<Quotation> result = useCase.execute(List.<String>of());
+
+        // Then
+        StepVerifier.create(result)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
 }
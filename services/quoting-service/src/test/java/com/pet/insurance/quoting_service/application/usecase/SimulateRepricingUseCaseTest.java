@@ -0,0 +1,102 @@
+package com.pet.insurance.quoting_service.application.usecase;
+
+import com.pet.insurance.quoting_service.application.simulation.ScalarRepricingKernel;
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SimulateRepricingUseCaseTest {
+
+    private final Tariff current = Tariff.standard(BreedRiskFactors.none());
+
+    @Mock
+    private QuotationRepository repository;
+
+    @Test
+    @DisplayName("Should report no change when simulating the tariff the book was priced with")
+    void shouldReportNoChangeForCurrentTariff() {
+        // Given
+        when(repository.findAll()).thenReturn(Flux.fromIterable(book(250)));
+        SimulateRepricingUseCase useCase = new SimulateRepricingUseCase(repository, new ScalarRepricingKernel(), 16);
+
+        // When & Then
+        StepVerifier.create(useCase.execute(current))
+                .assertNext(summary -> {
+                    assertEquals(250, summary.count());
+                    assertEquals(250, summary.unchanged());
+                    assertEquals(0, summary.currentTotal().compareTo(summary.simulatedTotal()));
+                    assertEquals(0, summary.changePercentiles().get("p50").signum());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should summarize the change of a higher premium plan multiplier")
+    void shouldSummarizePremiumPlanIncrease() {
+        // Given
+        when(repository.findAll()).thenReturn(Flux.fromIterable(book(200)));
+        SimulateRepricingUseCase useCase = new SimulateRepricingUseCase(repository, new ScalarRepricingKernel(), 16);
+        Tariff candidate = new Tariff(current.basePrice(), current.dogMultiplier(), current.otherSpeciesMultiplier(),
+                current.ageThreshold(), current.agePremiumMultiplier(), new BigDecimal("2.5"),
+                current.breedRiskFactors());
+
+        // When & Then
+        StepVerifier.create(useCase.execute(candidate))
+                .assertNext(summary -> {
+                    assertEquals(200, summary.count());
+                    assertEquals(100, summary.increased());
+                    assertEquals(100, summary.unchanged());
+                    assertEquals(0, summary.maxChangePercent().compareTo(new BigDecimal("25.00")));
+                    assertEquals(0, summary.changePercentiles().get("p25").signum());
+                    assertEquals(0, summary.changePercentiles().get("p95").compareTo(BigDecimal.valueOf(25)));
+                    assertEquals("scalar", summary.kernel());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return an empty summary for an empty book")
+    void shouldSummarizeEmptyBook() {
+        // Given
+        when(repository.findAll()).thenReturn(Flux.empty());
+        SimulateRepricingUseCase useCase = new SimulateRepricingUseCase(repository, new ScalarRepricingKernel(), 16);
+
+        // When & Then
+        StepVerifier.create(useCase.execute(current))
+                .assertNext(summary -> {
+                    assertEquals(0, summary.count());
+                    assertNull(summary.totalChangePercent());
+                })
+                .verifyComplete();
+    }
+
+    private List<Quotation> book(int size) {
+        List<Quotation> quotations = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String species = i % 3 == 0 ? "Dog" : "Cat";
+            int age = i % 11;
+            boolean premiumPlan = i % 2 == 0;
+            quotations.add(Quotation.reconstruct("q-" + i, "Max", species, "Mixed", age, premiumPlan,
+                    current.price(species, "Mixed", age, premiumPlan), LocalDate.now().plusDays(30)));
+        }
+        return quotations;
+    }
+}
@@ -0,0 +1,35 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.QuotationReadRouter;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.QuotationSchemaStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DirectReadConfig Tests")
+class DirectReadConfigTest {
+
+    @Test
+    @DisplayName("should leave every read to the controller until the stored documents are trusted")
+    void shouldRouteOnlyTrustedReads() {
+        // Arrange
+        ReactiveMongoTemplate mongoTemplate = mock(ReactiveMongoTemplate.class);
+        when(mongoTemplate.getCollection(anyString())).thenReturn(Mono.empty());
+        QuotationSchemaStatus schemaStatus = mock(QuotationSchemaStatus.class);
+        WebTestClient client = WebTestClient.bindToRouterFunction(new DirectReadConfig().directQuotationReadRoutes(
+                mongoTemplate, QuotationReadRouter.primaryOnly(), schemaStatus, 64, false)).build();
+
+        // Act & Assert
+        client.get().uri("/quotations").exchange().expectStatus().isNotFound();
+        client.get().uri("/quotations/q-1").exchange().expectStatus().isNotFound();
+        verifyNoInteractions(mongoTemplate);
+
+        when(schemaStatus.isTrusted()).thenReturn(true);
+        client.get().uri("/quotations").exchange().expectStatus().isOk().expectBody().json("[]");
+    }
+}
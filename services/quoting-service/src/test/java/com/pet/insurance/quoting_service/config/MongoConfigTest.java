@@ -0,0 +1,92 @@
+package com.pet.insurance.quoting_service.config;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadConcernLevel;
+import com.mongodb.WriteConcern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MongoConfig Tests")
+class MongoConfigTest {
+
+    private static final ConnectionString CONNECTION_STRING = new ConnectionString("mongodb://localhost:27017");
+
+    @Test
+    @DisplayName("should apply pool, timeout, compression and concern settings")
+    void shouldApplyTypedProperties() {
+        // Arrange
+        MongoClientProperties properties = new MongoClientProperties(
+                new MongoClientProperties.Pool(5, 50, 4, Duration.ofMillis(500), Duration.ofMinutes(1)),
+                new MongoClientProperties.Timeouts(Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofSeconds(2)),
+                List.of("zstd", "snappy"),
+                ReadConcernLevel.MAJORITY,
+                "majority",
+                "rs0",
+                defaultReads());
+
+        // Act
+        MongoClientSettings settings = MongoConfig.buildSettings(CONNECTION_STRING, properties);
+
+        // Assert
+        assertEquals(5, settings.getConnectionPoolSettings().getMinSize());
+        assertEquals(50, settings.getConnectionPoolSettings().getMaxSize());
+        assertEquals(4, settings.getConnectionPoolSettings().getMaxConnecting());
+        assertEquals(500, settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS));
+        assertEquals(60_000, settings.getConnectionPoolSettings().getMaxConnectionIdleTime(TimeUnit.MILLISECONDS));
+        assertEquals(1_000, settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(3_000, settings.getSocketSettings().getReadTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(2_000, settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS));
+        assertEquals(List.of("zstd", "snappy"),
+                settings.getCompressorList().stream().map(c -> c.getName()).toList());
+        assertEquals(ReadConcern.MAJORITY, settings.getReadConcern());
+        assertEquals(WriteConcern.MAJORITY, settings.getWriteConcern());
+        assertEquals("rs0", settings.getClusterSettings().getRequiredReplicaSetName());
+    }
+
+    @Test
+    @DisplayName("should reject unknown compressor")
+    void shouldRejectUnknownCompressor() {
+        // Arrange
+        MongoClientProperties properties = defaults(List.of("lz4"), "acknowledged");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MongoConfig.buildSettings(CONNECTION_STRING, properties));
+        assertTrue(exception.getMessage().contains("lz4"));
+    }
+
+    @Test
+    @DisplayName("should reject unknown write concern")
+    void shouldRejectUnknownWriteConcern() {
+        // Arrange
+        MongoClientProperties properties = defaults(List.of(), "sometimes");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> MongoConfig.buildSettings(CONNECTION_STRING, properties));
+        assertTrue(exception.getMessage().contains("sometimes"));
+    }
+
+    private MongoClientProperties defaults(List<String> compressors, String writeConcern) {
+        return new MongoClientProperties(
+                new MongoClientProperties.Pool(0, 100, 2, Duration.ofSeconds(2), Duration.ZERO),
+                new MongoClientProperties.Timeouts(Duration.ofSeconds(10), Duration.ZERO, Duration.ofSeconds(30)),
+                compressors,
+                ReadConcernLevel.LOCAL,
+                writeConcern,
+                null,
+                defaultReads());
+    }
+
+    private MongoClientProperties.Reads defaultReads() {
+        return new MongoClientProperties.Reads(false, Duration.ofSeconds(90), Duration.ofSeconds(90), 10_000);
+    }
+}
@@ -0,0 +1,77 @@
+package com.pet.insurance.quoting_service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreedRiskFactorsTest {
+
+    @Test
+    void shouldLookUpFactorsIgnoringCaseAndWhitespace() throws IOException {
+        BreedRiskFactors factors = BreedRiskFactors.parse(new StringReader("""
+                # comment
+                breed,factor
+                Golden Retriever,1.08
+                Pug, 1.35
+                """));
+
+        assertEquals(2, factors.size());
+        assertEquals(new BigDecimal("1.08"), factors.factorFor("Golden Retriever"));
+        assertEquals(new BigDecimal("1.08"), factors.factorFor("  golden   RETRIEVER "));
+        assertEquals(new BigDecimal("1.35"), factors.factorFor("pug"));
+    }
+
+    @Test
+    void shouldUseNeutralFactorForUnknownOrMissingBreed() {
+        BreedRiskFactors factors = BreedRiskFactors.of(Map.of("Pug", new BigDecimal("1.35")));
+
+        assertEquals(BigDecimal.ONE, factors.factorFor("Golden Retriever"));
+        assertEquals(BigDecimal.ONE, factors.factorFor("Pu g"));
+        assertEquals(BigDecimal.ONE, factors.factorFor(null));
+        assertEquals(BigDecimal.ONE, BreedRiskFactors.none().factorFor("Pug"));
+    }
+
+    @Test
+    void shouldResolveEveryBreedOfALargeTable() {
+        Map<String, BigDecimal> table = new LinkedHashMap<>();
+        IntStream.range(0, 5_000).forEach(i -> table.put("Breed " + i, BigDecimal.valueOf(100 + i, 2)));
+
+        BreedRiskFactors factors = BreedRiskFactors.of(table);
+
+        table.forEach((breed, factor) -> assertSame(factor, factors.factorFor(breed)));
+        assertEquals(BigDecimal.ONE, factors.factorFor("Breed 5000"));
+    }
+
+    @Test
+    void shouldRejectInvalidTables() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BreedRiskFactors.parse(new StringReader("Pug,abc")));
+        assertThrows(IllegalArgumentException.class,
+                () -> BreedRiskFactors.parse(new StringReader("Pug")));
+        assertThrows(IllegalArgumentException.class,
+                () -> BreedRiskFactors.parse(new StringReader("Pug,1.1\nPug,1.2")));
+        assertThrows(IllegalArgumentException.class,
+                () -> BreedRiskFactors.parse(new StringReader("Pug,1.1\n pug ,1.2")));
+        assertThrows(IllegalArgumentException.class,
+                () -> BreedRiskFactors.of(Map.of("Pug", BigDecimal.ZERO)));
+    }
+
+    @Test
+    void shouldLoadBundledTable() throws IOException {
+        try (InputStreamReader reader = new InputStreamReader(
+                getClass().getClassLoader().getResourceAsStream("pricing/breed-risk-factors.csv"))) {
+            BreedRiskFactors factors = BreedRiskFactors.parse(reader);
+
+            assertTrue(factors.size() > 0);
+            assertEquals(0, new BigDecimal("1.45").compareTo(factors.factorFor("Bulldog")));
+        }
+    }
+}
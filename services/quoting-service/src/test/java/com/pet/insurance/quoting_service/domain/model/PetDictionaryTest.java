@@ -0,0 +1,66 @@
+package com.pet.insurance.quoting_service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PetDictionaryTest {
+
+    @Test
+    void shouldResolveEveryEntryToItsOwnCode() {
+        for (PetDictionary dictionary : List.of(PetDictionary.SPECIES, PetDictionary.BREEDS)) {
+            IntStream.range(0, dictionary.size()).forEach(code -> {
+                String name = dictionary.name(code);
+                assertEquals(code, dictionary.code(name));
+                assertEquals(code, dictionary.exactCode(name));
+            });
+        }
+    }
+
+    @Test
+    void shouldKeepStoredCodesStable() {
+        assertEquals(0, PetDictionary.SPECIES.code("Dog"));
+        assertEquals(1, PetDictionary.SPECIES.code("Cat"));
+        assertEquals("Labrador", PetDictionary.BREEDS.name(1));
+        assertEquals("Golden Retriever", PetDictionary.BREEDS.name(3));
+    }
+
+    @Test
+    void shouldIgnoreCaseOnlyForLookups() {
+        assertEquals(PetDictionary.SPECIES.code("Dog"), PetDictionary.SPECIES.code("DOG"));
+        assertEquals(PetDictionary.UNKNOWN, PetDictionary.SPECIES.exactCode("DOG"));
+        assertEquals("DOG", PetDictionary.SPECIES.intern("DOG"));
+    }
+
+    @Test
+    void shouldReturnUnknownForValuesOutsideTheDictionary() {
+        assertEquals(PetDictionary.UNKNOWN, PetDictionary.SPECIES.code("Dragon"));
+        assertEquals(PetDictionary.UNKNOWN, PetDictionary.BREEDS.code(null));
+        assertNull(PetDictionary.BREEDS.intern(null));
+        assertThrows(IllegalArgumentException.class, () -> PetDictionary.SPECIES.name(PetDictionary.SPECIES.size()));
+    }
+
+    @Test
+    void shouldShareOneInstancePerDictionaryValue() {
+        String fromRequest = new String("Golden Retriever");
+
+        Quotation quotation = Quotation.create("Max", new String("Dog"), fromRequest, 3, false, BigDecimal.TEN);
+
+        assertSame(PetDictionary.SPECIES.name(0), quotation.species());
+        assertSame(PetDictionary.BREEDS.name(3), quotation.breed());
+    }
+
+    @Test
+    void shouldBuildPerfectHashForAnyKeySet() {
+        List<String> names = IntStream.range(0, 500).mapToObj(i -> "Breed " + i).toList();
+
+        PetDictionary dictionary = new PetDictionary(names);
+
+        IntStream.range(0, names.size()).forEach(code -> assertEquals(code, dictionary.code(names.get(code))));
+        assertEquals(PetDictionary.UNKNOWN, dictionary.code("Breed 500"));
+    }
+}
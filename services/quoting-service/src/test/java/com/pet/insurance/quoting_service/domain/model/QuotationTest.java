@@ -284,4 +284,30 @@ class QuotationTest {
         assertEquals(new BigDecimal("30.00"), quotation.price());
         assertEquals(expectedExpiresAt, quotation.expiresAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReconstructTrustedQuotationWithoutValidation() {
+        Quotation quotation = Quotation.reconstructTrusted(
+                "legacy-id",
+                "Bella",
+                "CAT",
+                null,
+                12,
+                false,
+                new BigDecimal("30.00"),
+                LocalDate.of(2026, 1, 1));
+
+        assertEquals(12, quotation.age());
+        assertThrows(InvalidPetAgeException.class, () -> Quotation.reconstruct(
+                "legacy-id", "Bella", "CAT", null, 12, false, new BigDecimal("30.00"), LocalDate.of(2026, 1, 1)));
+    }
+
+    @Test
+    void shouldAcceptLongTextRegardlessOfPersistenceMode() {
+        String longName = "ñ".repeat(40);
+
+        Quotation quotation = Quotation.create(longName, "DOG", "Mix", 5, false, BigDecimal.TEN);
+
+        assertEquals(longName, quotation.petName());
+    }
+}
@@ -0,0 +1,127 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QuotationAnalyticsIndex Tests")
+class QuotationAnalyticsIndexTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2026, 3, 1);
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit"};
+
+    @Test
+    @DisplayName("Should aggregate the quotations matching every filter")
+    void shouldAggregateMatchingRows() {
+        // Given
+        QuotationAnalyticsIndex index = loadedIndex();
+        index.add(quotation("q-1", "Dog", 6, true, "150.00", MARCH.plusDays(5)));
+        index.add(quotation("q-2", "Dog", 7, true, "100.00", MARCH.plusDays(20)));
+        index.add(quotation("q-3", "Dog", 3, true, "80.00", MARCH.plusDays(5)));
+        index.add(quotation("q-4", "Dog", 6, false, "60.00", MARCH.plusDays(5)));
+        index.add(quotation("q-5", "Cat", 6, true, "90.00", MARCH.plusDays(5)));
+        index.add(quotation("q-6", "Dog", 6, true, "70.00", MARCH.plusMonths(1)));
+
+        // When
+        QuotationStats stats = index.query(new QuotationAnalyticsFilter("dog", 5, null, true,
+                MARCH, MARCH.plusMonths(1).minusDays(1)));
+
+        // Then
+        assertThat(stats.count()).isEqualTo(2);
+        assertThat(stats.totalPrice()).isEqualByComparingTo("250.00");
+        assertThat(stats.averagePrice()).isEqualByComparingTo("125.00");
+        assertThat(stats.minPrice()).isEqualByComparingTo("100.00");
+        assertThat(stats.maxPrice()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force aggregation across many parallel ranges")
+    void shouldMatchSequentialAggregation() {
+        // Given
+        QuotationAnalyticsIndex index = loadedIndex();
+        List<Quotation> quotations = new ArrayList<>();
+        Random random = new Random(42);
+        int rows = QuotationAnalyticsIndex.LEAF_ROWS * 5 + 123;
+        for (int i = 0; i < rows; i++) {
+            Quotation quotation = quotation("q-" + i, SPECIES[random.nextInt(SPECIES.length)], random.nextInt(11),
+                    random.nextBoolean(), BigDecimal.valueOf(1_000 + random.nextInt(20_000), 2).toPlainString(),
+                    MARCH.plusDays(random.nextInt(90)));
+            quotations.add(quotation);
+            index.add(quotation);
+        }
+        QuotationAnalyticsFilter filter = new QuotationAnalyticsFilter("Cat", 2, 8, false, MARCH.plusDays(10), null);
+
+        // When
+        QuotationStats stats = index.query(filter);
+
+        // Then
+        List<BigDecimal> expected = quotations.stream()
+                .filter(q -> q.species().equals("Cat") && q.age() >= 2 && q.age() <= 8 && !q.premiumPlan()
+                        && !q.expiresAt().isBefore(MARCH.plusDays(10)))
+                .map(Quotation::price)
+                .toList();
+        assertThat(index.size()).isEqualTo(rows);
+        assertThat(stats.count()).isEqualTo(expected.size());
+        assertThat(stats.totalPrice()).isEqualByComparingTo(expected.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+        assertThat(stats.minPrice()).isEqualByComparingTo(expected.stream().min(BigDecimal::compareTo).orElseThrow());
+        assertThat(stats.maxPrice()).isEqualByComparingTo(expected.stream().max(BigDecimal::compareTo).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should count once the quotations both saved and returned by the startup scan")
+    void shouldReconcileScanWithConcurrentWrites() {
+        // Given
+        QuotationAnalyticsIndex index = new QuotationAnalyticsIndex();
+        Quotation stored = quotation("q-1", "Dog", 4, true, "50.00", MARCH);
+        Quotation savedDuringScan = quotation("q-2", "Dog", 4, true, "60.00", MARCH);
+        Quotation savedAfterScanRead = quotation("q-3", "Dog", 4, true, "70.00", MARCH);
+
+        // When
+        index.addScanned(stored);
+        index.add(savedDuringScan);
+        index.add(savedAfterScanRead);
+        index.addScanned(savedAfterScanRead);
+        index.completeScan();
+
+        // Then
+        assertThat(index.isScanning()).isFalse();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.query(QuotationAnalyticsFilter.all()).totalPrice()).isEqualByComparingTo("180.00");
+    }
+
+    @Test
+    @DisplayName("Should return no matches for a species outside the dictionary")
+    void shouldReturnEmptyStatsForUnknownSpecies() {
+        // Given
+        QuotationAnalyticsIndex index = loadedIndex();
+        index.add(quotation("q-1", "Dog", 4, true, "50.00", MARCH));
+
+        // When
+        QuotationStats stats = index.query(new QuotationAnalyticsFilter("Dragon", null, null, null, null, null));
+
+        // Then
+        assertThat(stats.count()).isZero();
+        assertThat(stats.totalPrice()).isEqualByComparingTo("0");
+        assertThat(stats.averagePrice()).isNull();
+    }
+
+    private static QuotationAnalyticsIndex loadedIndex() {
+        QuotationAnalyticsIndex index = new QuotationAnalyticsIndex();
+        index.completeScan();
+        return index;
+    }
+
+    private static Quotation quotation(String id, String species, int age, boolean premiumPlan, String price,
+            LocalDate expiresAt) {
+        return Quotation.reconstructTrusted(id, "Max", species, "Mixed", age, premiumPlan, new BigDecimal(price),
+                expiresAt);
+    }
+}
@@ -0,0 +1,200 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.replica;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeStreamQuotationReplicaTest {
+
+    private static final BsonDocument TOKEN = new BsonDocument("_data", new BsonString("826300000001"));
+
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @TempDir
+    Path directory;
+
+    private ChangeStreamQuotationReplica replica;
+
+    @AfterEach
+    void tearDown() {
+        if (replica != null && replica.isRunning()) {
+            replica.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load active quotations and then follow the change stream")
+    void shouldBootstrapAndFollowChanges() {
+        // Given
+        Sinks.Many<ChangeStreamEvent<QuotationEntity>> events = Sinks.many().unicast().onBackpressureBuffer();
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenReturn(Mono.just(new Document("ok", 1.0).append("operationTime", new BsonTimestamp(1, 1))));
+        when(mongoTemplate.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.just(entity("q-1", "Max"), entity("q-2", "Luna")));
+        when(mongoTemplate.changeStream(eq("quotations"), any(ChangeStreamOptions.class), eq(QuotationEntity.class)))
+                .thenReturn(events.asFlux());
+        replica = replica("bootstrap.snapshot");
+
+        // When
+        replica.start();
+        events.tryEmitNext(event(OperationType.REPLACE, "q-1", entity("q-1", "Rocky")));
+        events.tryEmitNext(event(OperationType.DELETE, "q-2", null));
+        events.tryEmitNext(event(OperationType.INSERT, "q-3", entity("q-3", "Bella")));
+
+        // Then
+        assertTrue(replica.isReady());
+        assertEquals("Rocky", replica.findById("q-1").orElseThrow().petName());
+        assertTrue(replica.findById("q-2").isEmpty());
+        assertEquals(List.of("q-1", "q-3"), replica.findAll().stream().map(Quotation::id).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should drop quotations that expire while held")
+    void shouldNotServeExpiredQuotations() {
+        // Given
+        Sinks.Many<ChangeStreamEvent<QuotationEntity>> events = Sinks.many().unicast().onBackpressureBuffer();
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenReturn(Mono.just(new Document("operationTime", new BsonTimestamp(1, 1))));
+        when(mongoTemplate.find(any(Query.class), eq(QuotationEntity.class))).thenReturn(Flux.empty());
+        when(mongoTemplate.changeStream(eq("quotations"), any(ChangeStreamOptions.class), eq(QuotationEntity.class)))
+                .thenReturn(events.asFlux());
+        replica = replica("expired.snapshot");
+        replica.start();
+
+        // When
+        QuotationEntity expired = entity("q-1", "Max");
+        expired.setExpiresAt(LocalDate.now().minusDays(1));
+        events.tryEmitNext(event(OperationType.INSERT, "q-1", expired));
+
+        // Then
+        assertTrue(replica.findById("q-1").isEmpty());
+        assertTrue(replica.findAll().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should restore from the snapshot on restart and resume without scanning")
+    void shouldResumeFromSnapshot() {
+        // Given
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenReturn(Mono.just(new Document("operationTime", new BsonTimestamp(1, 1))));
+        when(mongoTemplate.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.just(entity("q-1", "Max")));
+        Sinks.Many<ChangeStreamEvent<QuotationEntity>> firstRun = Sinks.many().unicast().onBackpressureBuffer();
+        when(mongoTemplate.changeStream(eq("quotations"), any(ChangeStreamOptions.class), eq(QuotationEntity.class)))
+                .thenReturn(firstRun.asFlux())
+                .thenReturn(Flux.never());
+        replica = replica("restart.snapshot");
+        replica.start();
+        firstRun.tryEmitNext(event(OperationType.INSERT, "q-2", entity("q-2", "Luna")));
+        replica.stop();
+
+        // When
+        replica = replica("restart.snapshot");
+        replica.start();
+
+        // Then
+        assertTrue(replica.isReady());
+        assertEquals(List.of("q-1", "q-2"), replica.findAll().stream().map(Quotation::id).sorted().toList());
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(QuotationEntity.class));
+        verify(mongoTemplate, times(1)).executeCommand(any(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should resume from the scan cluster time when no change arrived before shutdown")
+    void shouldResumeIdleReplicaFromScanTime() {
+        // Given
+        BsonTimestamp scanTime = new BsonTimestamp(1700000000, 7);
+        when(mongoTemplate.executeCommand(any(Document.class)))
+                .thenReturn(Mono.just(new Document("operationTime", scanTime)));
+        when(mongoTemplate.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.just(entity("q-1", "Max")));
+        when(mongoTemplate.changeStream(eq("quotations"), any(ChangeStreamOptions.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.never());
+        replica = replica("idle.snapshot");
+        replica.start();
+        replica.stop();
+
+        // When
+        replica = replica("idle.snapshot");
+        replica.start();
+
+        // Then
+        assertTrue(replica.isReady());
+        assertEquals(List.of("q-1"), replica.findAll().stream().map(Quotation::id).toList());
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(QuotationEntity.class));
+        verify(mongoTemplate, times(2)).changeStream(eq("quotations"),
+                argThat(options -> options.getResumeBsonTimestamp().map(scanTime::equals).orElse(false)),
+                eq(QuotationEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should not report ready nor serve reads before the scan completes")
+    void shouldNotServeBeforeReady() {
+        // Given
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(Mono.never());
+        replica = replica("pending.snapshot");
+
+        // When
+        replica.start();
+
+        // Then
+        assertFalse(replica.isReady());
+        assertTrue(replica.findById("q-1").isEmpty());
+    }
+
+    private ChangeStreamQuotationReplica replica(String snapshotFile) {
+        return new ChangeStreamQuotationReplica(mongoTemplate, new QuotationMapper(),
+                new ReplicaSnapshotStore(directory.resolve(snapshotFile)), Duration.ofSeconds(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ChangeStreamEvent<QuotationEntity> event(OperationType operationType, String id,
+            QuotationEntity body) {
+        ChangeStreamEvent<QuotationEntity> event = mock(ChangeStreamEvent.class);
+        ChangeStreamDocument<Document> raw = mock(ChangeStreamDocument.class);
+        lenient().when(raw.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonString(id)));
+        lenient().when(event.getRaw()).thenReturn(raw);
+        lenient().when(event.getOperationType()).thenReturn(operationType);
+        lenient().when(event.getBody()).thenReturn(body);
+        lenient().when(event.getResumeToken()).thenReturn(TOKEN);
+        return event;
+    }
+
+    private static QuotationEntity entity(String id, String petName) {
+        return new QuotationEntity(id, petName, "Dog", "Labrador", 3, true, new BigDecimal("36.00"),
+                LocalDate.now().plusDays(30));
+    }
+}
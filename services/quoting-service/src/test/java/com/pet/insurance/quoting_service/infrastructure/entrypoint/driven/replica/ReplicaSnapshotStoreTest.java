@@ -0,0 +1,78 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.replica;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should restore quotations and resume token written on shutdown")
+    void shouldRoundTripSnapshot() {
+        // Given
+        ReplicaSnapshotStore store = new ReplicaSnapshotStore(directory.resolve("replica/quotations.snapshot"));
+        BsonDocument token = new BsonDocument("_data", new BsonString("8263A1B2C3000000012B"));
+        Quotation withBreed = Quotation.reconstruct("q-1", "Max", "Dog", "Labrador", 3, true,
+                new BigDecimal("36.00"), LocalDate.of(2026, 3, 1));
+        Quotation withoutBreed = Quotation.reconstruct("q-2", "Luna", "Cat", null, 5, false,
+                new BigDecimal("20.5"), LocalDate.of(2026, 4, 1));
+
+        // When
+        store.save(token, List.of(withBreed, withoutBreed));
+        ReplicaSnapshotStore.Snapshot snapshot = store.load().orElseThrow();
+
+        // Then
+        assertEquals(token, snapshot.resumeToken());
+        assertEquals(2, snapshot.quotations().size());
+        Quotation first = snapshot.quotations().get(0);
+        assertEquals("Labrador", first.breed());
+        assertEquals(new BigDecimal("36.00"), first.price());
+        assertNull(snapshot.quotations().get(1).breed());
+        assertEquals(LocalDate.of(2026, 4, 1), snapshot.quotations().get(1).expiresAt());
+    }
+
+    @Test
+    @DisplayName("Should restore the operation time of a snapshot written before any change arrived")
+    void shouldRoundTripOperationTime() {
+        // Given
+        ReplicaSnapshotStore store = new ReplicaSnapshotStore(directory.resolve("quotations.snapshot"));
+        BsonTimestamp operationTime = new BsonTimestamp(1700000000, 3);
+
+        // When
+        store.save(null, operationTime, List.of());
+        ReplicaSnapshotStore.Snapshot snapshot = store.load().orElseThrow();
+
+        // Then
+        assertNull(snapshot.resumeToken());
+        assertEquals(operationTime, snapshot.operationTime());
+        assertTrue(snapshot.quotations().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore a missing or unreadable snapshot")
+    void shouldIgnoreUnreadableSnapshot() throws IOException {
+        Path file = directory.resolve("quotations.snapshot");
+        ReplicaSnapshotStore store = new ReplicaSnapshotStore(file);
+
+        assertTrue(store.load().isEmpty());
+
+        Files.write(file, new byte[] { 1, 2, 3 });
+        assertTrue(store.load().isEmpty());
+    }
+}
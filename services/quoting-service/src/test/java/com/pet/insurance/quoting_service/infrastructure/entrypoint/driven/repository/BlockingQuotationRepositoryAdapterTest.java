@@ -0,0 +1,138 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlockingQuotationRepositoryAdapterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private QuotationMapper mapper;
+
+    private BlockingQuotationRepositoryAdapter repositoryAdapter;
+
+    private Quotation testQuotation;
+    private QuotationEntity testEntity;
+
+    @BeforeEach
+    void setUp() {
+        repositoryAdapter = new BlockingQuotationRepositoryAdapter(mongoTemplate, mapper, Schedulers.immediate(),
+                QuotationReadRouter.primaryOnly());
+
+        testQuotation = Quotation.reconstruct(
+                "123",
+                "Max",
+                "Dog",
+                "Labrador",
+                5,
+                true,
+                new BigDecimal("150.00"),
+                LocalDate.of(2026, 2, 20));
+
+        testEntity = new QuotationEntity(
+                "123",
+                "Max",
+                "Dog",
+                "Labrador",
+                5,
+                true,
+                new BigDecimal("150.00"),
+                LocalDate.of(2026, 2, 20));
+    }
+
+    @Test
+    @DisplayName("Should save quotation through the blocking template")
+    void shouldSaveQuotationSuccessfully() {
+        // Given
+        when(mapper.toEntity(testQuotation)).thenReturn(testEntity);
+        when(mongoTemplate.save(testEntity)).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testQuotation);
+
+        // When
+        Mono<Quotation> result = repositoryAdapter.save(testQuotation);
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(testQuotation)
+                .verifyComplete();
+
+        verify(mongoTemplate).save(testEntity);
+    }
+
+    @Test
+    @DisplayName("Should not touch the database until subscribed")
+    void shouldBeLazyUntilSubscribed() {
+        // When
+        repositoryAdapter.save(testQuotation);
+        repositoryAdapter.findById("123");
+        repositoryAdapter.findAll();
+
+        // Then
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Should find quotation by id successfully")
+    void shouldFindQuotationByIdSuccessfully() {
+        // Given
+        when(mongoTemplate.findOne(any(Query.class), eq(QuotationEntity.class))).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testQuotation);
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.findById("123"))
+                .expectNext(testQuotation)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return empty when quotation not found by id")
+    void shouldReturnEmptyWhenQuotationNotFound() {
+        // Given
+        when(mongoTemplate.findOne(any(Query.class), eq(QuotationEntity.class))).thenReturn(null);
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.findById("missing"))
+                .verifyComplete();
+
+        verify(mapper, never()).toDomain(any());
+    }
+
+    @Test
+    @DisplayName("Should skip invalid quotations in findAll")
+    void shouldSkipInvalidQuotationsInFindAll() {
+        // Given
+        QuotationEntity invalidEntity = new QuotationEntity();
+        invalidEntity.setId("invalid");
+        when(mongoTemplate.stream(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Stream.of(testEntity, invalidEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testQuotation);
+        when(mapper.toDomain(invalidEntity)).thenThrow(new IllegalArgumentException("Invalid quotation data"));
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.findAll())
+                .expectNext(testQuotation)
+                .verifyComplete();
+    }
+}
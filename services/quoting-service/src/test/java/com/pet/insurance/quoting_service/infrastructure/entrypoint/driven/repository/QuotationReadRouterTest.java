@@ -0,0 +1,87 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotationReadRouterTest {
+
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(90);
+    private static final Duration WINDOW = Duration.ofSeconds(90);
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private QuotationReadRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new QuotationReadRouter(MAX_STALENESS, WINDOW, 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should read from secondaries with bounded staleness by default")
+    void shouldReadFromSecondariesByDefault() {
+        ReadPreference preference = router.forId("123");
+
+        assertEquals(ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS), preference);
+        assertEquals(90L, ((TaggableReadPreference) preference).getMaxStaleness(TimeUnit.SECONDS));
+        assertEquals(preference, router.forScan());
+    }
+
+    @Test
+    @DisplayName("Should read own writes from the primary within the window")
+    void shouldReadOwnWritesFromPrimary() {
+        router.recordWrite("123");
+
+        assertEquals(ReadPreference.primary(), router.forId("123"));
+        assertEquals(ReadPreference.primary(), router.forScan());
+        assertNotEquals(ReadPreference.primary(), router.forId("456"));
+    }
+
+    @Test
+    @DisplayName("Should go back to secondaries once the window has elapsed")
+    void shouldReturnToSecondariesAfterWindow() {
+        router.recordWrite("123");
+        clock.addAndGet(WINDOW.toNanos());
+
+        assertNotEquals(ReadPreference.primary(), router.forId("123"));
+        assertNotEquals(ReadPreference.primary(), router.forScan());
+    }
+
+    @Test
+    @DisplayName("Should route every read to the primary when too many writes are tracked")
+    void shouldFallBackToPrimaryOnOverflow() {
+        router.recordWrite("1");
+        router.recordWrite("2");
+        router.recordWrite("3");
+
+        assertEquals(ReadPreference.primary(), router.forId("unrelated"));
+
+        clock.addAndGet(WINDOW.toNanos());
+        assertNotEquals(ReadPreference.primary(), router.forId("unrelated"));
+    }
+
+    @Test
+    @DisplayName("Should always read from the primary when secondary reads are disabled")
+    void shouldAlwaysUsePrimaryWhenDisabled() {
+        QuotationReadRouter primaryOnly = QuotationReadRouter.primaryOnly();
+        primaryOnly.recordWrite("123");
+
+        assertEquals(ReadPreference.primary(), primaryOnly.forId("456"));
+        assertEquals(ReadPreference.primary(), primaryOnly.forScan());
+    }
+
+    @Test
+    @DisplayName("Should reject a max staleness below the server minimum")
+    void shouldRejectTooLowMaxStaleness() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuotationReadRouter(Duration.ofSeconds(30), WINDOW, 10));
+    }
+}
@@ -1,25 +1,35 @@
 package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository;
 
+import com.mongodb.ReadPreference;
 import com.pet.insurance.quoting_service.domain.model.Quotation;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.QuotationMongoRepository;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,9 +38,15 @@ class QuotationRepositoryAdapterTest {
     @Mock
     private QuotationMongoRepository mongoRepository;
 
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
     @Mock
     private QuotationMapper mapper;
 
+    @Spy
+    private QuotationReadRouter readRouter = QuotationReadRouter.primaryOnly();
+
     @InjectMocks
     private QuotationRepositoryAdapter repositoryAdapter;
 
@@ -228,6 +244,28 @@ class QuotationRepositoryAdapterTest {
         verify(mapper, never()).toDomain(any(QuotationEntity.class));
     }
 
+    @Test
+    @DisplayName("Should fetch several quotations with a single $in query")
+    void shouldFetchSeveralQuotationsWithSingleQuery() {
+        // Given
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        when(mongoTemplate.find(query.capture(), eq(QuotationEntity.class))).thenReturn(Flux.just(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testQuotation);
+
+        // When
+        Flux<Quotation> result = repositoryAdapter.findAllById(List.of("123", "missing"));
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(testQuotation)
+                .verifyComplete();
+
+        assertEquals(List.of("123", "missing"),
+                query.getValue().getQueryObject().get("_id", Document.class).get("$in"));
+        assertEquals(ReadPreference.primary(), query.getValue().getReadPreference());
+        verify(mongoRepository, never()).findById(anyString());
+    }
+
     @Test
     @DisplayName("Should handle error when saving quotation")
     void shouldHandleErrorWhenSavingQuotation() {
@@ -248,4 +286,44 @@ class QuotationRepositoryAdapterTest {
         verify(mongoRepository).save(testEntity);
         verify(mapper, never()).toDomain(any(QuotationEntity.class));
     }
+
+    @Test
+    @DisplayName("Should read quotation from secondaries when the router allows it")
+    void shouldReadFromSecondaryWhenRouted() {
+        // Given
+        ReadPreference secondary = ReadPreference.secondaryPreferred(90, TimeUnit.SECONDS);
+        doReturn(secondary).when(readRouter).forId("123");
+        when(mongoTemplate.findOne(any(Query.class), eq(QuotationEntity.class))).thenReturn(Mono.just(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testQuotation);
+
+        // When
+        Mono<Quotation> result = repositoryAdapter.findById("123");
+
+        // Then
+        StepVerifier.create(result)
+                .expectNext(testQuotation)
+                .verifyComplete();
+
+        ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(captor.capture(), eq(QuotationEntity.class));
+        assertEquals(secondary, captor.getValue().getReadPreference());
+        verify(mongoRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should record saved quotation ids for read-your-writes routing")
+    void shouldRecordWriteAfterSave() {
+        // Given
+        when(mapper.toEntity(testQuotation)).thenReturn(testEntity);
+        when(mongoRepository.save(testEntity)).thenReturn(Mono.just(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testQuotation);
+
+        // When
+        StepVerifier.create(repositoryAdapter.save(testQuotation))
+                .expectNext(testQuotation)
+                .verifyComplete();
+
+        // Then
+        verify(readRouter).recordWrite("123");
+    }
 }
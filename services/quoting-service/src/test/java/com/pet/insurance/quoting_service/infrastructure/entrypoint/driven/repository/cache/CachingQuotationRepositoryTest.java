@@ -0,0 +1,103 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.cache;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingQuotationRepositoryTest {
+
+    @Mock
+    private QuotationRepository delegate;
+
+    private OffHeapQuotationCache cache;
+    private CachingQuotationRepository repository;
+
+    private final Quotation quotation = Quotation.reconstruct("quote-123", "Max", "Dog", "Labrador", 3, true,
+            new BigDecimal("36.00"), LocalDate.now().plusDays(30));
+
+    @BeforeEach
+    void setUp() {
+        cache = new OffHeapQuotationCache(100);
+        repository = new CachingQuotationRepository(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Should cache saved quotations and serve them without the delegate")
+    void shouldServeSavedQuotationFromCache() {
+        // Given
+        when(delegate.save(quotation)).thenReturn(Mono.just(quotation));
+
+        // When
+        StepVerifier.create(repository.save(quotation).then(repository.findById("quote-123")))
+                .assertNext(found -> assertEquals(new BigDecimal("36.00"), found.price()))
+                .verifyComplete();
+
+        // Then
+        verify(delegate, never()).findById("quote-123");
+    }
+
+    @Test
+    @DisplayName("Should read through to the delegate on a miss and cache the result")
+    void shouldReadThroughOnMiss() {
+        // Given
+        when(delegate.findById("quote-123")).thenReturn(Mono.just(quotation));
+
+        // When
+        StepVerifier.create(repository.findById("quote-123"))
+                .expectNext(quotation)
+                .verifyComplete();
+
+        // Then
+        assertNotNull(cache.get("quote-123"));
+    }
+
+    @Test
+    @DisplayName("Should complete empty when the delegate does not have the quotation")
+    void shouldCompleteEmptyWhenNotFound() {
+        // Given
+        when(delegate.findById("missing")).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(repository.findById("missing"))
+                .verifyComplete();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should only send the uncached ids of a bulk lookup to the delegate")
+    void shouldSendOnlyMissesOfBulkLookupToDelegate() {
+        // Given
+        Quotation other = Quotation.reconstruct("quote-456", "Luna", "Cat", "Persian", 2, false,
+                new BigDecimal("24.00"), LocalDate.now().plusDays(30));
+        cache.put(quotation);
+        when(delegate.findAllById(List.of("quote-456", "missing"))).thenReturn(Flux.just(other));
+
+        // When
+        StepVerifier.create(repository.findAllById(List.of("quote-123", "quote-456", "missing")))
+                .assertNext(found -> assertEquals("quote-123", found.id()))
+                .expectNext(other)
+                .verifyComplete();
+
+        // Then
+        assertNotNull(cache.get("quote-456"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.cache;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OffHeapQuotationCache Tests")
+class OffHeapQuotationCacheTest {
+
+    @Test
+    @DisplayName("Should return a copy of the cached quotation")
+    void shouldReturnCachedQuotation() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(10);
+        cache.put(quotation("q-1", "Max", new BigDecimal("36.00")));
+
+        // When
+        Quotation found = cache.get("q-1");
+
+        // Then
+        assertThat(found.id()).isEqualTo("q-1");
+        assertThat(found.petName()).isEqualTo("Max");
+        assertThat(found.breed()).isEqualTo("Labrador");
+        assertThat(found.price()).isEqualTo(new BigDecimal("36.00"));
+        assertThat(found.expiresAt()).isEqualTo(LocalDate.of(2026, 4, 1));
+        assertThat(cache.get("q-2")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should overwrite the record of an id already cached")
+    void shouldOverwriteExistingEntry() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(10);
+        cache.put(quotation("q-1", "Max", new BigDecimal("36.00")));
+
+        // When
+        cache.put(quotation("q-1", "Luna", new BigDecimal("40.00")));
+
+        // Then
+        assertThat(cache.get("q-1").petName()).isEqualTo("Luna");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict entries that were not read since the last sweep")
+    void shouldEvictUnreferencedEntriesFirst() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(3);
+        cache.put(quotation("q-1", "Max", BigDecimal.ONE));
+        cache.put(quotation("q-2", "Max", BigDecimal.ONE));
+        cache.put(quotation("q-3", "Max", BigDecimal.ONE));
+        cache.put(quotation("q-4", "Max", BigDecimal.ONE));
+        cache.get("q-2");
+
+        // When
+        cache.put(quotation("q-5", "Max", BigDecimal.ONE));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("q-2")).isNotNull();
+        assertThat(cache.get("q-4")).isNotNull();
+        assertThat(cache.get("q-5")).isNotNull();
+        assertThat(cache.get("q-1")).isNull();
+        assertThat(cache.get("q-3")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep every resident entry reachable through repeated evictions")
+    void shouldKeepIndexConsistentUnderEviction() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(500);
+
+        // When
+        for (int i = 0; i < 5_000; i++) {
+            cache.put(quotation("q-" + i, "Max", BigDecimal.valueOf(i)));
+        }
+
+        // Then
+        int resident = 0;
+        for (int i = 0; i < 5_000; i++) {
+            Quotation found = cache.get("q-" + i);
+            if (found != null) {
+                assertThat(found.price()).isEqualTo(BigDecimal.valueOf(i));
+                resident++;
+            }
+        }
+        assertThat(resident).isEqualTo(500);
+        assertThat(cache.size()).isEqualTo(500);
+        for (int i = 4_500; i < 5_000; i++) {
+            assertThat(cache.get("q-" + i)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip quotations that do not fit the record layout")
+    void shouldSkipOversizedQuotations() {
+        // Given
+        OffHeapQuotationCache cache = new OffHeapQuotationCache(10);
+        String longName = "x".repeat(100);
+
+        // When
+        cache.put(quotation("q-1", longName, BigDecimal.ONE));
+        cache.put(quotation("q-".repeat(20), "Max", BigDecimal.ONE));
+
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("q-1")).isNull();
+        assertThat(cache.get("q-".repeat(20))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive capacity")
+    void shouldRejectInvalidCapacity() {
+        assertThatThrownBy(() -> new OffHeapQuotationCache(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Quotation quotation(String id, String petName, BigDecimal price) {
+        return Quotation.reconstructTrusted(id, petName, "Dog", "Labrador", 3, true, price, LocalDate.of(2026, 4, 1));
+    }
+}
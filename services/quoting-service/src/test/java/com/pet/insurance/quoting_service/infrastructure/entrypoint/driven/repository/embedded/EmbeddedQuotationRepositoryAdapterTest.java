@@ -0,0 +1,121 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmbeddedQuotationRepositoryAdapterTest {
+
+    @TempDir
+    Path directory;
+
+    private QuotationLog log;
+    private EmbeddedQuotationRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        log = QuotationLog.open(directory, 1024L * QuotationRecordCodec.RECORD_SIZE, 0.5);
+        adapter = new EmbeddedQuotationRepositoryAdapter(log, Schedulers.immediate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        log.close();
+    }
+
+    @Test
+    @DisplayName("Should save quotation and find it by id")
+    void shouldSaveAndFindById() {
+        // Given
+        Quotation quotation = Quotation.reconstruct("quote-123", "Max", "Dog", "Labrador", 3, true,
+                new BigDecimal("36.00"), LocalDate.now().plusDays(30));
+
+        // When & Then
+        StepVerifier.create(adapter.save(quotation).then(adapter.findById("quote-123")))
+                .assertNext(found -> {
+                    assertEquals("Max", found.petName());
+                    assertEquals("Labrador", found.breed());
+                    assertEquals(new BigDecimal("36.00"), found.price());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject text longer than its record slot and store nothing")
+    void shouldRejectTextThatDoesNotFitTheRecord() {
+        // Given
+        LocalDate expiresAt = LocalDate.now().plusDays(30);
+        Quotation longName = Quotation.create("ñ".repeat(QuotationRecordCodec.PET_NAME_CAPACITY / 2 + 1), "DOG",
+                "Mix", 5, false, BigDecimal.TEN);
+        Quotation longSpecies = Quotation.reconstruct("quote-2", "Max",
+                "D".repeat(QuotationRecordCodec.SPECIES_CAPACITY + 1), "Mix", 5, false, BigDecimal.TEN, expiresAt);
+        Quotation longBreed = Quotation.reconstruct("quote-3", "Max", "DOG",
+                "B".repeat(QuotationRecordCodec.BREED_CAPACITY + 1), 5, false, BigDecimal.TEN, expiresAt);
+
+        // When & Then
+        StepVerifier.create(adapter.save(longName))
+                .expectErrorMessage("Quotation petName exceeds 64 bytes in the embedded record layout")
+                .verify();
+        StepVerifier.create(adapter.save(longSpecies))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(adapter.save(longBreed))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(adapter.findAll())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when quotation does not exist")
+    void shouldReturnEmptyWhenNotFound() {
+        StepVerifier.create(adapter.findById("missing"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should return every saved quotation once")
+    void shouldFindAll() {
+        // Given
+        LocalDate expiresAt = LocalDate.now().plusDays(30);
+        Quotation first = Quotation.reconstruct("quote-1", "Max", "Dog", null, 3, false,
+                new BigDecimal("10.00"), expiresAt);
+        Quotation second = Quotation.reconstruct("quote-2", "Luna", "Cat", "Persian", 5, true,
+                new BigDecimal("20.00"), expiresAt);
+
+        // When & Then
+        StepVerifier.create(adapter.save(first).then(adapter.save(second)).then(adapter.save(first))
+                        .thenMany(adapter.findAll().map(Quotation::id)))
+                .expectNext("quote-2", "quote-1")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream every live quotation across several pages")
+    void shouldStreamFindAllInPages() {
+        // Given
+        int count = EmbeddedQuotationRepositoryAdapter.SCAN_PAGE_SIZE * 2 + 3;
+        LocalDate expiresAt = LocalDate.now().plusDays(30);
+        IntStream.range(0, count).forEach(i -> log.append(Quotation.reconstruct("quote-" + i, "Max", "Dog",
+                null, 3, false, new BigDecimal("10.00"), expiresAt)));
+
+        // When & Then
+        StepVerifier.create(adapter.findAll().map(Quotation::id), 1)
+                .expectNext("quote-0")
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(count - 1)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,46 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapIdIndexTest {
+
+    @Test
+    @DisplayName("Should find every entry after growing past the initial capacity")
+    void shouldGrowAndKeepEntries() {
+        OffHeapIdIndex index = new OffHeapIdIndex(0);
+        List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            byte[] key = ("id-" + i).getBytes(StandardCharsets.UTF_8);
+            keys.add(key);
+            assertEquals(OffHeapIdIndex.ABSENT, index.put(OffHeapIdIndex.hash(key), i, candidate -> false));
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            long recordNumber = i;
+            assertEquals(i, index.get(OffHeapIdIndex.hash(keys.get(i)), candidate -> candidate == recordNumber));
+        }
+        assertEquals(10_000, index.size());
+    }
+
+    @Test
+    @DisplayName("Should fall through colliding hashes that belong to a different key")
+    void shouldResolveHashCollisions() {
+        OffHeapIdIndex index = new OffHeapIdIndex(0);
+
+        index.put(42L, 1, candidate -> false);
+        index.put(42L, 2, candidate -> false);
+
+        assertEquals(2, index.get(42L, candidate -> candidate == 2));
+        assertEquals(1, index.put(42L, 7, candidate -> candidate == 1));
+        assertEquals(7, index.get(42L, candidate -> candidate == 7));
+        assertEquals(OffHeapIdIndex.ABSENT, index.get(43L, candidate -> true));
+        assertEquals(2, index.size());
+    }
+}
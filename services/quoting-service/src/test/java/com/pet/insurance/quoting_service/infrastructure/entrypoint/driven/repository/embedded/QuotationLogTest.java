@@ -0,0 +1,245 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.embedded;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotationLogTest {
+
+    private static final long SEGMENT_BYTES = 16L * QuotationRecordCodec.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private QuotationLog log;
+
+    @AfterEach
+    void tearDown() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should save and find quotations by id")
+    void shouldSaveAndFindById() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        Quotation quotation = quotation("q-1", "Max", null);
+
+        log.append(quotation);
+        Quotation found = log.find("q-1");
+
+        assertNotNull(found);
+        assertEquals("q-1", found.id());
+        assertEquals("Max", found.petName());
+        assertEquals("Dog", found.species());
+        assertNull(found.breed());
+        assertEquals(4, found.age());
+        assertTrue(found.premiumPlan());
+        assertEquals(new BigDecimal("36.00"), found.price());
+        assertEquals(LocalDate.of(2026, 3, 1), found.expiresAt());
+        assertNull(log.find("missing"));
+    }
+
+    @Test
+    @DisplayName("Should keep the latest record when an id is saved twice")
+    void shouldKeepLatestRecordForSameId() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        log.append(quotation("q-1", "Max", "Labrador"));
+        log.append(quotation("q-2", "Luna", "Persian"));
+        log.append(quotation("q-1", "Rocky", "Beagle"));
+
+        assertEquals("Rocky", log.find("q-1").petName());
+        assertEquals(List.of("q-2", "q-1"), ids(log.scan()));
+        assertEquals(3, log.recordCount());
+        assertEquals(2, log.liveCount());
+    }
+
+    @Test
+    @DisplayName("Should scan across segments in write order")
+    void shouldScanAcrossSegments() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        IntStream.range(0, 40).forEach(i -> log.append(quotation("q-" + i, "Pet" + i, "Mixed")));
+
+        assertEquals(IntStream.range(0, 40).mapToObj(i -> "q-" + i).toList(), ids(log.scan()));
+        assertEquals("Pet33", log.find("q-33").petName());
+    }
+
+    @Test
+    @DisplayName("Should page through the generation a cursor was opened on across a compaction")
+    void shouldPageThroughCursorAcrossCompaction() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        IntStream.range(0, 20).forEach(i -> log.append(quotation("q-" + i, "Pet" + i, "Mixed")));
+        log.append(quotation("q-0", "Rocky", "Beagle"));
+
+        QuotationLog.Cursor cursor = log.cursor();
+        List<Quotation> first = cursor.next(8);
+        log.compact();
+        log.append(quotation("q-new", "Luna", "Persian"));
+        List<Quotation> rest = Stream.concat(cursor.next(8).stream(), cursor.next(8).stream()).toList();
+
+        assertEquals(IntStream.range(1, 9).mapToObj(i -> "q-" + i).toList(), ids(first));
+        assertEquals(Stream.concat(IntStream.range(9, 20).mapToObj(i -> "q-" + i), Stream.of("q-0")).toList(),
+                ids(rest));
+        assertTrue(cursor.next(8).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject values that do not fit the record layout")
+    void shouldRejectOversizedValues() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> log.append(quotation("q-1", "x".repeat(QuotationRecordCodec.PET_NAME_CAPACITY + 1), null)));
+        assertEquals(0, log.recordCount());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index from the log after a restart")
+    void shouldRecoverAfterRestart() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        IntStream.range(0, 20).forEach(i -> log.append(quotation("q-" + i, "Pet" + i, null)));
+        log.append(quotation("q-5", "Updated", null));
+        log.close();
+
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertEquals(21, log.recordCount());
+        assertEquals(20, log.liveCount());
+        assertEquals("Updated", log.find("q-5").petName());
+        assertEquals("Pet19", log.find("q-19").petName());
+    }
+
+    @Test
+    @DisplayName("Should drop a record torn by truncating the log mid-record")
+    void shouldDropTornRecordAfterTruncation() throws IOException {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        IntStream.range(0, 5).forEach(i -> log.append(quotation("q-" + i, "Pet" + i, null)));
+        log.close();
+
+        truncate(segment(0, 0), 4L * QuotationRecordCodec.RECORD_SIZE + 100);
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertEquals(4, log.recordCount());
+        assertNull(log.find("q-4"));
+        assertEquals(List.of("q-0", "q-1", "q-2", "q-3"), ids(log.scan()));
+
+        log.append(quotation("q-new", "Fresh", null));
+        log.close();
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertEquals(List.of("q-0", "q-1", "q-2", "q-3", "q-new"), ids(log.scan()));
+    }
+
+    @Test
+    @DisplayName("Should not resurrect records written after a torn one")
+    void shouldDiscardEverythingAfterTornRecord() throws IOException {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        IntStream.range(0, 20).forEach(i -> log.append(quotation("q-" + i, "Pet" + i, null)));
+        log.close();
+
+        corrupt(segment(0, 0), 2L * QuotationRecordCodec.RECORD_SIZE + 60);
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertEquals(List.of("q-0", "q-1"), ids(log.scan()));
+        assertFalse(Files.exists(segment(0, 1)));
+
+        log.append(quotation("q-new", "Fresh", null));
+        log.close();
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertEquals(List.of("q-0", "q-1", "q-new"), ids(log.scan()));
+    }
+
+    @Test
+    @DisplayName("Should compact dead records into a new generation")
+    void shouldCompactDeadRecords() throws IOException {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        IntStream.range(0, 30).forEach(i -> log.append(quotation("q-" + (i % 10), "Pet" + i, null)));
+
+        log.compactIfNeeded();
+
+        assertEquals(10, log.recordCount());
+        assertEquals(10, log.liveCount());
+        assertEquals("Pet27", log.find("q-7").petName());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(".log"))
+                    .allMatch(name -> name.startsWith("quotations-1-")));
+        }
+
+        log.close();
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        assertEquals(10, log.recordCount());
+        assertEquals("Pet29", log.find("q-9").petName());
+    }
+
+    @Test
+    @DisplayName("Should not compact while the dead ratio is below the threshold")
+    void shouldSkipCompactionBelowThreshold() {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        IntStream.range(0, 10).forEach(i -> log.append(quotation("q-" + i, "Pet" + i, null)));
+        log.append(quotation("q-0", "Again", null));
+
+        log.compactIfNeeded();
+
+        assertEquals(11, log.recordCount());
+    }
+
+    @Test
+    @DisplayName("Should ignore leftovers of an interrupted compaction")
+    void shouldIgnoreUnpublishedGeneration() throws IOException {
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+        log.append(quotation("q-1", "Max", null));
+        log.close();
+        Files.write(directory.resolve("quotations-1-000000.log"), new byte[QuotationRecordCodec.RECORD_SIZE]);
+
+        log = QuotationLog.open(directory, SEGMENT_BYTES, 0.5);
+
+        assertEquals("Max", log.find("q-1").petName());
+        assertFalse(Files.exists(directory.resolve("quotations-1-000000.log")));
+    }
+
+    private Path segment(int generation, int number) {
+        return directory.resolve(String.format("quotations-%d-%06d.log", generation, number));
+    }
+
+    private static void truncate(Path file, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    private static void corrupt(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), position);
+        }
+    }
+
+    private static List<String> ids(List<Quotation> quotations) {
+        return quotations.stream().map(Quotation::id).toList();
+    }
+
+    private static Quotation quotation(String id, String petName, String breed) {
+        return Quotation.reconstruct(id, petName, "Dog", breed, 4, true, new BigDecimal("36.00"),
+                LocalDate.of(2026, 3, 1));
+    }
+}
@@ -165,4 +165,40 @@ class QuotationMapperTest {
         assertTrue(entityWithPremium.isPremiumPlan());
         assertFalse(entityWithoutPremium.isPremiumPlan());
     }
+
+    @Test
+    @DisplayName("Should store dictionary species and breed as codes and keep other values as text")
+    void shouldEncodeDictionaryValuesAsCodes() {
+        // Given
+        Quotation known = Quotation.reconstruct("001", "Rocky", "Dog", "Rottweiler", 6, true,
+                new BigDecimal("200.00"), LocalDate.of(2026, 6, 15));
+        Quotation custom = Quotation.reconstruct("002", "Spike", "DOG", "Wolfdog mix", 6, true,
+                new BigDecimal("200.00"), LocalDate.of(2026, 6, 15));
+
+        // When
+        QuotationEntity knownEntity = mapper.toEntity(known);
+        QuotationEntity customEntity = mapper.toEntity(custom);
+
+        // Then
+        assertEquals(0, knownEntity.getSpeciesCode());
+        assertEquals("Dog", knownEntity.getSpecies());
+        assertNotNull(knownEntity.getBreedCode());
+        assertEquals("Rottweiler", mapper.toDomain(knownEntity).breed());
+        assertNull(customEntity.getSpeciesCode());
+        assertNull(customEntity.getBreedCode());
+        assertEquals("DOG", mapper.toDomain(customEntity).species());
+        assertEquals("Wolfdog mix", mapper.toDomain(customEntity).breed());
+    }
+
+    @Test
+    @DisplayName("Should skip domain validation when stored documents are schema-validated")
+    void shouldTrustStoredDocumentsWhenSchemaIsEnforced() {
+        // Given
+        QuotationEntity legacy = new QuotationEntity("legacy", "Rocky", "Dog", null, 6, false,
+                new BigDecimal("-1.00"), LocalDate.of(2026, 6, 15));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> mapper.toDomain(legacy));
+        assertEquals(new BigDecimal("-1.00"), new QuotationMapper(() -> true).toDomain(legacy).price());
+    }
 }
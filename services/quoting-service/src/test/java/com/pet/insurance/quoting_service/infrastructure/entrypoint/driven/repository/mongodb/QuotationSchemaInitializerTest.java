@@ -0,0 +1,196 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded.QuotationShards;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuotationSchemaInitializerTest {
+
+    @Mock
+    private ReactiveMongoTemplate template;
+
+    @Mock
+    private ObjectProvider<ReactiveMongoTemplate> reactiveTemplate;
+
+    @Mock
+    private ObjectProvider<MongoTemplate> blockingTemplate;
+
+    @Mock
+    private ObjectProvider<QuotationShards> shards;
+
+    private final QuotationSchemaStatus status = new QuotationSchemaStatus();
+
+    @Test
+    @DisplayName("Should move invalid documents to quarantine before installing the validator")
+    void shouldQuarantineInvalidDocumentsThenEnforceSchema() {
+        // Given
+        Document invalid = new Document("_id", "legacy-1").append("petName", "");
+        when(template.find(any(Query.class), eq(Document.class), eq(QuotationSchema.COLLECTION)))
+                .thenReturn(Flux.just(invalid));
+        when(template.save(any(Document.class), eq(QuotationSchema.QUARANTINE_COLLECTION)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(template.remove(any(Query.class), eq(QuotationSchema.COLLECTION))).thenReturn(Mono.empty());
+        when(template.collectionExists(QuotationSchema.COLLECTION)).thenReturn(Mono.just(true));
+        when(template.executeCommand(any(Document.class))).thenReturn(Mono.just(new Document("ok", 1)));
+
+        // When
+        StepVerifier.create(initializer(true, true).prepare(template))
+                .expectNext(true)
+                .verifyComplete();
+
+        // Then
+        ArgumentCaptor<Document> quarantined = ArgumentCaptor.forClass(Document.class);
+        verify(template).save(quarantined.capture(), eq(QuotationSchema.QUARANTINE_COLLECTION));
+        assertEquals("legacy-1", quarantined.getValue().get("_id"));
+        assertSame(invalid, quarantined.getValue().get("document"));
+        ArgumentCaptor<Document> command = ArgumentCaptor.forClass(Document.class);
+        verify(template).executeCommand(command.capture());
+        assertEquals(QuotationSchema.COLLECTION, command.getValue().get("collMod"));
+        assertEquals("strict", command.getValue().get("validationLevel"));
+    }
+
+    @Test
+    @DisplayName("Should create the collection with the validator when it does not exist")
+    void shouldCreateValidatedCollection() {
+        // Given
+        when(template.collectionExists(QuotationSchema.COLLECTION)).thenReturn(Mono.just(false));
+        when(template.createCollection(eq(QuotationSchema.COLLECTION), any(CollectionOptions.class)))
+                .thenReturn(Mono.empty());
+
+        // When
+        StepVerifier.create(initializer(true, false).prepare(template))
+                .expectNext(true)
+                .verifyComplete();
+
+        // Then
+        verify(template, never()).find(any(Query.class), eq(Document.class), any(String.class));
+        verify(template, never()).executeCommand(any(Document.class));
+    }
+
+    @Test
+    @DisplayName("Should keep reads validating when the validator is added to an unswept collection")
+    void shouldNotTrustUnsweptCollection() {
+        // Given
+        givenReactiveTemplate();
+        when(template.collectionExists(QuotationSchema.COLLECTION)).thenReturn(Mono.just(true));
+        when(template.executeCommand(any(Document.class))).thenReturn(Mono.just(new Document("ok", 1)));
+
+        // When
+        initializer(true, false).run(null);
+
+        // Then
+        verify(template).executeCommand(any(Document.class));
+        assertFalse(status.isTrusted());
+    }
+
+    @Test
+    @DisplayName("Should trust stored documents once every collection is validated and swept")
+    void shouldTrustSweptCollections() {
+        // Given
+        givenReactiveTemplate();
+        when(template.find(any(Query.class), eq(Document.class), eq(QuotationSchema.COLLECTION)))
+                .thenReturn(Flux.empty());
+        when(template.collectionExists(QuotationSchema.COLLECTION)).thenReturn(Mono.just(true));
+        when(template.executeCommand(any(Document.class))).thenReturn(Mono.just(new Document("ok", 1)));
+
+        // When
+        initializer(true, true).run(null);
+
+        // Then
+        assertTrue(status.isTrusted());
+    }
+
+    @Test
+    @DisplayName("Should keep reads validating when the validator cannot be installed")
+    void shouldNotTrustWhenValidatorFails() {
+        // Given
+        givenReactiveTemplate();
+        when(template.find(any(Query.class), eq(Document.class), eq(QuotationSchema.COLLECTION)))
+                .thenReturn(Flux.empty());
+        when(template.collectionExists(QuotationSchema.COLLECTION)).thenReturn(Mono.just(true));
+        when(template.executeCommand(any(Document.class))).thenReturn(Mono.error(new RuntimeException("not authorized")));
+
+        // When
+        initializer(true, true).run(null);
+
+        // Then
+        assertFalse(status.isTrusted());
+    }
+
+    @Test
+    @DisplayName("Should not touch MongoDB when both steps are disabled")
+    void shouldDoNothingWhenDisabled() {
+        // When
+        initializer(false, false).run(null);
+
+        // Then
+        verifyNoInteractions(reactiveTemplate, blockingTemplate, shards);
+    }
+
+    @Test
+    @DisplayName("Should select documents failing the schema")
+    void shouldQueryDocumentsNotMatchingSchema() {
+        Document query = QuotationSchema.invalidDocuments().getQueryObject();
+
+        @SuppressWarnings("unchecked")
+        List<Document> nor = (List<Document>) query.get("$nor");
+        Document schema = (Document) nor.get(0).get("$jsonSchema");
+        assertTrue(schema.getList("required", String.class).containsAll(List.of("petName", "price", "expiresAt")));
+    }
+
+    @Test
+    @DisplayName("Should sweep prices stored as negative or non-numeric text")
+    void shouldQueryStringPricesThatAreNotNonNegativeDecimals() {
+        Document query = QuotationSchema.invalidDocuments().getQueryObject();
+
+        @SuppressWarnings("unchecked")
+        List<Document> nor = (List<Document>) query.get("$nor");
+        Document price = nor.get(0).get("$jsonSchema", Document.class)
+                .get("properties", Document.class)
+                .get("price", Document.class);
+        Pattern pattern = Pattern.compile(price.getString("pattern"));
+        assertEquals(0, price.get("minimum"));
+        assertTrue(pattern.matcher("42.50").find());
+        assertTrue(pattern.matcher("0").find());
+        assertFalse(pattern.matcher("-5").find());
+        assertFalse(pattern.matcher("-0.01").find());
+        assertFalse(pattern.matcher("abc").find());
+        assertFalse(pattern.matcher("1,5").find());
+        assertFalse(pattern.matcher("").find());
+    }
+
+    private void givenReactiveTemplate() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<ReactiveMongoTemplate>>getArgument(0).accept(template);
+            return null;
+        }).when(reactiveTemplate).ifAvailable(any());
+    }
+
+    private QuotationSchemaInitializer initializer(boolean enforce, boolean quarantineSweep) {
+        return new QuotationSchemaInitializer(enforce, quarantineSweep, reactiveTemplate, blockingTemplate, shards,
+                status);
+    }
+}
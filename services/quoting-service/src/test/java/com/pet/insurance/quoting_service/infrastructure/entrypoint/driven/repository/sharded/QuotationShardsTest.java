@@ -0,0 +1,42 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotationShardsTest {
+
+    @Test
+    @DisplayName("Should always route the same id to the same shard")
+    void shouldRouteDeterministically() {
+        String id = "3f2b1c9e-0d4a-4e8b-9a61-2c7f5e8d1b30";
+
+        assertEquals(QuotationShards.shardFor(id, 4), QuotationShards.shardFor(id, 4));
+        assertEquals(0, QuotationShards.shardFor(id, 1));
+    }
+
+    @Test
+    @DisplayName("Should spread random ids evenly across shards")
+    void shouldSpreadIdsEvenly() {
+        int shardCount = 4;
+        int[] counts = new int[shardCount];
+
+        for (int i = 0; i < 40_000; i++) {
+            counts[QuotationShards.shardFor(UUID.randomUUID().toString(), shardCount)]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "Unbalanced shard with " + count + " ids");
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an empty shard list")
+    void shouldRejectEmptyShards() {
+        assertThrows(IllegalArgumentException.class, () -> new QuotationShards(List.of(), List.of()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.sharded;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.entity.QuotationEntity;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mapper.QuotationMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedQuotationRepositoryAdapterTest {
+
+    @Mock
+    private ReactiveMongoTemplate firstShard;
+
+    @Mock
+    private ReactiveMongoTemplate secondShard;
+
+    @Mock
+    private MongoClient client;
+
+    private ShardedQuotationRepositoryAdapter repositoryAdapter;
+
+    @BeforeEach
+    void setUp() {
+        QuotationShards shards = new QuotationShards(List.of(client, client), List.of(firstShard, secondShard));
+        repositoryAdapter = new ShardedQuotationRepositoryAdapter(shards, new QuotationMapper());
+    }
+
+    @Test
+    @DisplayName("Should save and read a quotation on the shard chosen by its id")
+    void shouldRouteSaveAndFindByIdToOwningShard() {
+        // Given
+        String id = idOnShard(1);
+        QuotationEntity entity = entity(id);
+        when(secondShard.save(any(QuotationEntity.class))).thenReturn(Mono.just(entity));
+        when(secondShard.findOne(any(Query.class), eq(QuotationEntity.class))).thenReturn(Mono.just(entity));
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.save(new QuotationMapper().toDomain(entity)))
+                .assertNext(saved -> assertEquals(id, saved.id()))
+                .verifyComplete();
+        StepVerifier.create(repositoryAdapter.findById(id))
+                .assertNext(found -> assertEquals(id, found.id()))
+                .verifyComplete();
+        verifyNoInteractions(firstShard);
+    }
+
+    @Test
+    @DisplayName("Should merge every shard into a single stream ordered by id")
+    void shouldMergeShardsOrderedById() {
+        // Given
+        when(firstShard.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.just(entity("a"), entity("c"), entity("d")));
+        when(secondShard.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.just(entity("b"), entity("e")));
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.findAll().map(Quotation::id))
+                .expectNext("a", "b", "c", "d", "e")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should only pull from shards what the subscriber requested")
+    void shouldRespectBackpressure() {
+        // Given
+        AtomicLong requestedFromFirst = new AtomicLong();
+        when(firstShard.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.range(0, 10_000).map(i -> entity(String.format("a%05d", i)))
+                        .doOnRequest(requestedFromFirst::addAndGet));
+        when(secondShard.find(any(Query.class), eq(QuotationEntity.class)))
+                .thenReturn(Flux.range(0, 10_000).map(i -> entity(String.format("b%05d", i))));
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.findAll(), 3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+        assertTrue(requestedFromFirst.get() < 10_000);
+    }
+
+    @Test
+    @DisplayName("Should skip invalid records while merging")
+    void shouldSkipInvalidRecords() {
+        // Given
+        QuotationEntity invalid = entity("b");
+        invalid.setPrice(new BigDecimal("-1"));
+        when(firstShard.find(any(Query.class), eq(QuotationEntity.class))).thenReturn(Flux.just(entity("a")));
+        when(secondShard.find(any(Query.class), eq(QuotationEntity.class))).thenReturn(Flux.just(invalid, entity("c")));
+
+        // When & Then
+        StepVerifier.create(repositoryAdapter.findAll().map(Quotation::id))
+                .expectNext("a", "c")
+                .verifyComplete();
+    }
+
+    private static String idOnShard(int shard) {
+        for (int i = 0; ; i++) {
+            String id = "quote-" + i;
+            if (QuotationShards.shardFor(id, 2) == shard) {
+                return id;
+            }
+        }
+    }
+
+    private static QuotationEntity entity(String id) {
+        return new QuotationEntity(id, "Max", "Dog", "Labrador", 5, true, new BigDecimal("150.00"),
+                LocalDate.of(2026, 2, 20));
+    }
+}
@@ -0,0 +1,139 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.rsocket;
+
+import com.pet.insurance.quoting_service.application.usecase.GenerateQuotationUseCase;
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationRequest;
+import io.rsocket.core.RSocketServer;
+import io.rsocket.transport.netty.server.CloseableChannel;
+import io.rsocket.transport.netty.server.TcpServerTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.JacksonCborDecoder;
+import org.springframework.http.codec.cbor.JacksonCborEncoder;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+import org.springframework.messaging.rsocket.annotation.support.RSocketMessageHandler;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tools.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+
+/**
+ * Runs the controller behind a local RSocket server with the CBOR payloads Spring Boot configures.
+ */
+@DisplayName("QuotationRSocketController Tests")
+class QuotationRSocketControllerTest {
+
+    private static final RSocketStrategies STRATEGIES = RSocketStrategies.builder()
+            .encoder(new JacksonCborEncoder())
+            .decoder(new JacksonCborDecoder())
+            .build();
+
+    private GenerateQuotationUseCase generateQuotationUseCase;
+    private GetQuotationByIdUseCase getQuotationByIdUseCase;
+    private CloseableChannel server;
+    private RSocketRequester requester;
+
+    @BeforeEach
+    void setUp() {
+        generateQuotationUseCase = Mockito.mock(GenerateQuotationUseCase.class);
+        getQuotationByIdUseCase = Mockito.mock(GetQuotationByIdUseCase.class);
+
+        RSocketMessageHandler handler = new RSocketMessageHandler();
+        handler.setRSocketStrategies(STRATEGIES);
+        handler.setHandlers(List.of(new QuotationRSocketController(generateQuotationUseCase, getQuotationByIdUseCase)));
+        handler.afterPropertiesSet();
+        server = RSocketServer.create(handler.responder())
+                .bind(TcpServerTransport.create("localhost", 0))
+                .block();
+        requester = RSocketRequester.builder()
+                .rsocketStrategies(STRATEGIES)
+                .dataMimeType(MediaType.APPLICATION_CBOR)
+                .tcp("localhost", server.address().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        requester.dispose();
+        server.dispose();
+    }
+
+    @Test
+    @DisplayName("Should answer a lookup by id with the quotation")
+    void shouldGetQuotationById() {
+        // Given
+        Mockito.when(getQuotationByIdUseCase.execute("q-1")).thenReturn(Mono.just(quotation("q-1")));
+
+        // When & Then
+        StepVerifier.create(requester.route("quotations.get").data("q-1").retrieveMono(JsonNode.class))
+                .assertNext(quotation -> {
+                    assertThat(quotation.get("id").asString()).isEqualTo("q-1");
+                    assertThat(quotation.get("price").decimalValue()).isEqualTo(new BigDecimal("36.40"));
+                    assertThat(quotation.get("expiresAt").asString()).isEqualTo(quotation("q-1").expiresAt().toString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete without a quotation when the id is unknown")
+    void shouldCompleteEmptyForUnknownId() {
+        // Given
+        Mockito.when(getQuotationByIdUseCase.execute("missing")).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(requester.route("quotations.get").data("missing").retrieveMono(JsonNode.class))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer a channel of ids with the quotations that exist")
+    void shouldLookUpIdsStreamedOverChannel() {
+        // Given: ids may reach the use case in more than one group
+        Mockito.when(getQuotationByIdUseCase.execute(anyList())).thenAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            return Flux.fromIterable(ids)
+                    .filter(id -> !id.equals("missing"))
+                    .map(QuotationRSocketControllerTest::quotation);
+        });
+
+        // When & Then
+        StepVerifier.create(requester.route("quotations.lookup")
+                        .data(Flux.just("q-1", "q-2", "missing"), String.class)
+                        .retrieveFlux(JsonNode.class)
+                        .map(quotation -> quotation.get("id").asString()))
+                .expectNext("q-1", "q-2")
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should price and return a new quotation")
+    void shouldGenerateQuotation() {
+        // Given
+        Mockito.when(generateQuotationUseCase.execute(eq("Max"), eq("DOG"), eq("Labrador"), eq(3), eq(true)))
+                .thenReturn(Mono.just(quotation("q-new")));
+
+        // When & Then
+        StepVerifier.create(requester.route("quotations.generate")
+                        .data(new QuotationRequest("Max", "DOG", "Labrador", 3, true))
+                        .retrieveMono(JsonNode.class))
+                .assertNext(quotation -> assertThat(quotation.get("id").asString()).isEqualTo("q-new"))
+                .verifyComplete();
+    }
+
+    private static Quotation quotation(String id) {
+        return Quotation.reconstruct(id, "Max", "DOG", "Labrador", 3, true, new BigDecimal("36.40"),
+                LocalDate.now().plusDays(30));
+    }
+}
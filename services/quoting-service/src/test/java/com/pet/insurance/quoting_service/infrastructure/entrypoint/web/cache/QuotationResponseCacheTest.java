@@ -0,0 +1,155 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QuotationResponseCache Tests")
+class QuotationResponseCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 1);
+
+    @Test
+    @DisplayName("Should copy the cached body into a response buffer")
+    void shouldReturnCachedBody() {
+        // Given
+        QuotationResponseCache cache = new QuotationResponseCache(10, 1024);
+        cache.put("q-1", TODAY.plusDays(30), false, bytes("{\"id\":\"q-1\"}"));
+
+        // When / Then
+        assertThat(cache.contains("q-1", TODAY)).isTrue();
+        assertThat(body(cache, "q-1", TODAY)).isEqualTo("{\"id\":\"q-1\"}");
+        assertThat(cache.contains("q-2", TODAY)).isFalse();
+        assertThat(cache.get("q-2", TODAY, DefaultDataBufferFactory.sharedInstance)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop a body once the quotation crosses its expiry date")
+    void shouldInvalidateWhenExpiryStateChanges() {
+        // Given
+        QuotationResponseCache cache = new QuotationResponseCache(10, 1024);
+        cache.put("q-1", TODAY, false, bytes("{\"expired\":false}"));
+
+        // When / Then
+        assertThat(cache.contains("q-1", TODAY)).isTrue();
+        assertThat(cache.contains("q-1", TODAY.plusDays(1))).isFalse();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.usedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep a body encoded as expired after the expiry date")
+    void shouldKeepExpiredBodies() {
+        // Given
+        QuotationResponseCache cache = new QuotationResponseCache(10, 1024);
+        cache.put("q-1", TODAY.minusDays(1), true, bytes("{\"expired\":true}"));
+
+        // When / Then
+        assertThat(body(cache, "q-1", TODAY)).isEqualTo("{\"expired\":true}");
+        assertThat(body(cache, "q-1", TODAY.plusDays(100))).isEqualTo("{\"expired\":true}");
+    }
+
+    @Test
+    @DisplayName("Should size the slots from the entry and byte limits and skip bodies larger than a slot")
+    void shouldEvictBeyondLimits() {
+        // Given
+        QuotationResponseCache byCount = new QuotationResponseCache(2, 1024, 10);
+        QuotationResponseCache bySize = new QuotationResponseCache(10, 25, 10);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            byCount.put("q-" + i, TODAY, false, bytes("0123456789"));
+            bySize.put("q-" + i, TODAY, false, bytes("0123456789"));
+        }
+        bySize.put("huge", TODAY, false, new byte[11]);
+
+        // Then
+        assertThat(byCount.capacity()).isEqualTo(2);
+        assertThat(byCount.size()).isEqualTo(2);
+        assertThat(byCount.contains("q-4", TODAY)).isTrue();
+        assertThat(bySize.capacity()).isEqualTo(2);
+        assertThat(bySize.usedBytes()).isEqualTo(20);
+        assertThat(body(bySize, "q-4", TODAY)).isEqualTo("0123456789");
+        assertThat(bySize.contains("huge", TODAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should evict the slot not read since the hand last passed it")
+    void shouldEvictUnreadSlotsFirst() {
+        // Given
+        QuotationResponseCache cache = new QuotationResponseCache(3, 1024, 10);
+        cache.put("q-1", TODAY, false, bytes("one"));
+        cache.put("q-2", TODAY, false, bytes("two"));
+        cache.put("q-3", TODAY, false, bytes("three"));
+        cache.put("q-4", TODAY, false, bytes("four"));
+
+        // When
+        body(cache, "q-3", TODAY);
+        cache.put("q-5", TODAY, false, bytes("five"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.contains("q-3", TODAY)).isTrue();
+        assertThat(body(cache, "q-4", TODAY)).isEqualTo("four");
+        assertThat(body(cache, "q-5", TODAY)).isEqualTo("five");
+    }
+
+    @Test
+    @DisplayName("Should reuse the slot of a dropped body without overwriting live ones")
+    void shouldReuseFreedSlots() {
+        // Given
+        QuotationResponseCache cache = new QuotationResponseCache(2, 1024, 10);
+        cache.put("q-1", TODAY, false, bytes("first"));
+        cache.put("q-2", TODAY.plusDays(30), false, bytes("second"));
+        cache.contains("q-1", TODAY.plusDays(1));
+
+        // When
+        cache.put("q-3", TODAY.plusDays(30), false, bytes("third"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(body(cache, "q-2", TODAY)).isEqualTo("second");
+        assertThat(body(cache, "q-3", TODAY)).isEqualTo("third");
+    }
+
+    @Test
+    @DisplayName("Should overwrite the slot and account the replaced body when a quotation is cached again")
+    void shouldTrackUsedBytesOnReplace() {
+        // Given
+        QuotationResponseCache cache = new QuotationResponseCache(10, 1024);
+        cache.put("q-1", TODAY, false, bytes("0123456789"));
+
+        // When
+        cache.put("q-1", TODAY, false, bytes("01234"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.usedBytes()).isEqualTo(5);
+        assertThat(body(cache, "q-1", TODAY)).isEqualTo("01234");
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive limits and a byte limit below one slot")
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> new QuotationResponseCache(0, 1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuotationResponseCache(1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuotationResponseCache(1, QuotationResponseCache.SLOT_SIZE - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String body(QuotationResponseCache cache, String id, LocalDate today) {
+        DataBuffer buffer = cache.get(id, today, DefaultDataBufferFactory.sharedInstance);
+        return buffer == null ? null : buffer.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.cache.QuotationResponseCache;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationDtoJsonEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedQuotationReadHandlerTest {
+
+    private GetQuotationByIdUseCase getQuotationByIdUseCase;
+    private QuotationResponseCache cache;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        getQuotationByIdUseCase = Mockito.mock(GetQuotationByIdUseCase.class);
+        cache = new QuotationResponseCache(100, 1024 * 1024);
+        CachedQuotationReadHandler handler = new CachedQuotationReadHandler(getQuotationByIdUseCase, cache,
+                new QuotationDtoJsonEncoder());
+
+        webTestClient = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+                .GET("/quotations/{id}", handler::getById)
+                .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /quotations/{id} codifica la cotización una vez y sirve las siguientes desde la caché")
+    void shouldServeRepeatedRequestsFromCache() {
+        Quotation quotation = Quotation.reconstruct("q-1", "Max", "Dog", "Labrador", 5, true,
+                new BigDecimal("150.00"), LocalDate.now().plusDays(30));
+        Mockito.when(getQuotationByIdUseCase.execute("q-1")).thenReturn(Mono.just(quotation));
+
+        for (int i = 0; i < 3; i++) {
+            webTestClient.get()
+                    .uri("/quotations/q-1")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                    .expectBody()
+                    .jsonPath("$.id").isEqualTo("q-1")
+                    .jsonPath("$.breed").isEqualTo("Labrador")
+                    .jsonPath("$.expired").isEqualTo(false);
+        }
+
+        Mockito.verify(getQuotationByIdUseCase, Mockito.times(1)).execute("q-1");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /quotations/{id} responde sin cuerpo y no guarda nada cuando no existe")
+    void shouldNotCacheMissingQuotations() {
+        Mockito.when(getQuotationByIdUseCase.execute("missing")).thenReturn(Mono.empty());
+
+        webTestClient.get()
+                .uri("/quotations/missing")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().isEmpty();
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,33 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ContentNegotiation Tests")
+class ContentNegotiationTest {
+
+    @Test
+    @DisplayName("Should take requests without a preference or that prefer JSON")
+    void shouldTakeJsonRequests() {
+        assertThat(ContentNegotiation.prefersJson(List.of())).isTrue();
+        assertThat(ContentNegotiation.prefersJson(MediaType.parseMediaTypes("*/*"))).isTrue();
+        assertThat(ContentNegotiation.prefersJson(
+                MediaType.parseMediaTypes("application/json, application/x-jackson-smile"))).isTrue();
+        assertThat(ContentNegotiation.prefersJson(
+                MediaType.parseMediaTypes("application/x-jackson-smile;q=0.2, application/*"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave requests that prefer another format to the controller")
+    void shouldLeaveOtherFormats() {
+        assertThat(ContentNegotiation.prefersJson(
+                MediaType.parseMediaTypes("application/x-jackson-smile, application/json;q=0.5"))).isFalse();
+        assertThat(ContentNegotiation.prefersJson(
+                MediaType.parseMediaTypes("*/*, application/x-jackson-smile"))).isFalse();
+    }
+}
@@ -0,0 +1,149 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.repository.mongodb.RawQuotationReader;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationJsonWriter;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+class DirectQuotationReadHandlerTest {
+
+    private RawQuotationReader reader;
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        reader = Mockito.mock(RawQuotationReader.class);
+        DirectQuotationReadHandler handler = new DirectQuotationReadHandler(reader, new QuotationJsonWriter(), 2);
+
+        webTestClient = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+                .GET("/quotations", handler::getAll)
+                .GET("/quotations/{id}", handler::getById)
+                .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /quotations escribe todas las cotizaciones en un único arreglo JSON")
+    void shouldWriteAllQuotationsAsOneArray() {
+        Mockito.when(reader.findAll()).thenReturn(Flux.just(stored("q-1"), stored("q-2"), stored("q-3")));
+
+        webTestClient.get()
+                .uri("/quotations")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(3)
+                .jsonPath("$[0].id").isEqualTo("q-1")
+                .jsonPath("$[2].id").isEqualTo("q-3")
+                .jsonPath("$[1].species").isEqualTo("Dog")
+                .jsonPath("$[1].price").isEqualTo(150.00);
+    }
+
+    @Test
+    @DisplayName("GET /quotations omite los documentos con un código desconocido sin cortar el arreglo")
+    void shouldSkipDocumentsWithUnknownCodes() {
+        Mockito.when(reader.findAll()).thenReturn(Flux.just(
+                unknownSpecies("q-0"), stored("q-1"), unknownSpecies("q-2"), unknownSpecies("q-3"), stored("q-4")));
+
+        webTestClient.get()
+                .uri("/quotations")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo("q-1")
+                .jsonPath("$[1].id").isEqualTo("q-4");
+    }
+
+    @Test
+    @DisplayName("GET /quotations/{id} responde como si no existiera cuando el código es desconocido")
+    void shouldRespondEmptyForUnknownCode() {
+        Mockito.when(reader.findById("q-1")).thenReturn(Mono.just(unknownSpecies("q-1")));
+
+        webTestClient.get()
+                .uri("/quotations/q-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("GET /quotations devuelve un arreglo vacío cuando no hay cotizaciones")
+    void shouldWriteEmptyArray() {
+        Mockito.when(reader.findAll()).thenReturn(Flux.empty());
+
+        webTestClient.get()
+                .uri("/quotations")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+    }
+
+    @Test
+    @DisplayName("GET /quotations/{id} devuelve la cotización encontrada")
+    void shouldWriteQuotationById() {
+        Mockito.when(reader.findById("q-1")).thenReturn(Mono.just(stored("q-1")));
+
+        webTestClient.get()
+                .uri("/quotations/q-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("q-1")
+                .jsonPath("$.petName").isEqualTo("Max")
+                .jsonPath("$.expired").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("GET /quotations/{id} responde sin cuerpo cuando no existe, como el controlador")
+    void shouldRespondEmptyWhenMissing() {
+        Mockito.when(reader.findById("missing")).thenReturn(Mono.empty());
+
+        webTestClient.get()
+                .uri("/quotations/missing")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().isEmpty();
+    }
+
+    private static RawBsonDocument unknownSpecies(String id) {
+        Document document = new Document("_id", id)
+                .append("petName", "Max")
+                .append("speciesCode", 9999)
+                .append("age", 5)
+                .append("premiumPlan", true)
+                .append("price", new Decimal128(new BigDecimal("150.00")))
+                .append("expiresAt", new Date());
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+    private static RawBsonDocument stored(String id) {
+        Document document = new Document("_id", id)
+                .append("petName", "Max")
+                .append("speciesCode", 0)
+                .append("breed", "Labrador")
+                .append("age", 5)
+                .append("premiumPlan", true)
+                .append("price", new Decimal128(new BigDecimal("150.00")))
+                .append("expiresAt", Date.from(LocalDate.now().plusDays(30)
+                        .atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+}
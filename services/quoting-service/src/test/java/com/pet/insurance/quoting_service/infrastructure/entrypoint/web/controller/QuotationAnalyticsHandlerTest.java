@@ -0,0 +1,61 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.driven.analytics.QuotationAnalyticsIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+class QuotationAnalyticsHandlerTest {
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        QuotationAnalyticsIndex index = new QuotationAnalyticsIndex();
+        index.completeScan();
+        index.add(Quotation.reconstruct("q-1", "Max", "Dog", "Labrador", 6, true,
+                new BigDecimal("150.00"), LocalDate.of(2026, 3, 10)));
+        index.add(Quotation.reconstruct("q-2", "Rex", "Dog", "Beagle", 7, true,
+                new BigDecimal("100.00"), LocalDate.of(2026, 3, 20)));
+        index.add(Quotation.reconstruct("q-3", "Tom", "Cat", "Siamese", 8, true,
+                new BigDecimal("90.00"), LocalDate.of(2026, 3, 20)));
+        QuotationAnalyticsHandler handler = new QuotationAnalyticsHandler(index);
+
+        webTestClient = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+                .GET("/analytics/quotations", handler::getStats)
+                .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("GET /analytics/quotations agrega las cotizaciones que cumplen los filtros")
+    void shouldAggregateMatchingQuotations() {
+        webTestClient.get()
+                .uri("/analytics/quotations?species=dog&minAge=5&premiumPlan=true&expiresFrom=2026-03-01&expiresTo=2026-03-31")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.count").isEqualTo(2)
+                .jsonPath("$.totalPrice").isEqualTo(250.0)
+                .jsonPath("$.averagePrice").isEqualTo(125.0)
+                .jsonPath("$.minPrice").isEqualTo(100.0)
+                .jsonPath("$.maxPrice").isEqualTo(150.0);
+    }
+
+    @Test
+    @DisplayName("GET /analytics/quotations responde 400 con un parámetro inválido")
+    void shouldRejectInvalidParameters() {
+        webTestClient.get()
+                .uri("/analytics/quotations?minAge=five")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value for minAge: five");
+    }
+}
@@ -306,4 +306,22 @@ class QuotationControllerTest {
 
         verify(generateQuotationUseCase).execute("Milo", "Cat", "Siamese", 2, false);
     }
+
+    @Test
+    @DisplayName("Should list active quotations")
+    void shouldListActiveQuotations() {
+        // Given
+        when(getAllQuotationsUseCase.executeActive()).thenReturn(Flux.just(quotation));
+
+        // When
+        Flux<QuotationDTO> result = quotationController.getActive();
+
+        // Then
+        StepVerifier.create(result)
+                .assertNext(dto -> assertThat(dto.id()).isEqualTo("test-id-123"))
+                .verifyComplete();
+
+        verify(getAllQuotationsUseCase).executeActive();
+        verify(getAllQuotationsUseCase, never()).execute();
+    }
 }
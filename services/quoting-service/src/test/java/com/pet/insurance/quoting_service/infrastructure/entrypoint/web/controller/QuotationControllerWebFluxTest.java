@@ -4,6 +4,8 @@ import com.pet.insurance.quoting_service.application.usecase.GenerateQuotationUs
 import com.pet.insurance.quoting_service.application.usecase.GetAllQuotationsUseCase;
 import com.pet.insurance.quoting_service.application.usecase.GetQuotationByIdUseCase;
 import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationLookupRequest;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.smile.SmileArrayEncoder;
 import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,14 +15,20 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.smile.SmileMapper;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 
 class QuotationControllerWebFluxTest {
 
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
     private WebTestClient webTestClient;
 
     private GenerateQuotationUseCase generateQuotationUseCase;
@@ -39,6 +47,7 @@ class QuotationControllerWebFluxTest {
                 getAllQuotationsUseCase);
 
         webTestClient = WebTestClient.bindToController(controller)
+                .httpMessageCodecs(configurer -> configurer.defaultCodecs().jacksonSmileEncoder(new SmileArrayEncoder()))
                 .configureClient()
                 .baseUrl("/")
                 .build();
@@ -125,4 +134,56 @@ class QuotationControllerWebFluxTest {
                 .jsonPath("$.id").isEqualTo("q-42")
                 .jsonPath("$.petName").isEqualTo("Rocky");
     }
+
+    @Test
+    @DisplayName("POST /quotations/lookup devuelve las cotizaciones encontradas")
+    void shouldLookUpSeveralQuotations() {
+        Quotation q1 = Quotation.reconstruct("q-1", "Max", "DOG", "Beagle", 2, false, BigDecimal.valueOf(12.00),
+                LocalDate.now().plusDays(30));
+        Quotation q2 = Quotation.reconstruct("q-2", "Misu", "CAT", "Siames", 6, true, BigDecimal.valueOf(33.00),
+                LocalDate.now().plusDays(30));
+
+        Mockito.when(getQuotationByIdUseCase.execute(List.of("q-1", "q-2", "q-404"))).thenReturn(Flux.just(q1, q2));
+
+        webTestClient.post()
+                .uri("/quotations/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new QuotationLookupRequest(List.of("q-1", "q-2", "q-404")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].id").isEqualTo("q-1")
+                .jsonPath("$[1].id").isEqualTo("q-2");
+    }
+
+    @Test
+    @DisplayName("POST /quotations/lookup responde en Smile cuando el cliente lo prefiere")
+    void shouldLookUpSeveralQuotationsInSmile() {
+        Quotation q1 = Quotation.reconstruct("q-1", "Max", "DOG", "Beagle", 2, false, new BigDecimal("12.40"),
+                LocalDate.now().plusDays(30));
+        Quotation q2 = Quotation.reconstruct("q-2", "Misu", "CAT", "Siames", 6, true, new BigDecimal("33.00"),
+                LocalDate.now().plusDays(30));
+
+        Mockito.when(getQuotationByIdUseCase.execute(List.of("q-1", "q-2"))).thenReturn(Flux.just(q1, q2));
+
+        byte[] body = webTestClient.post()
+                .uri("/quotations/lookup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(SMILE, MediaType.parseMediaType("application/json;q=0.5"))
+                .bodyValue(new QuotationLookupRequest(List.of("q-1", "q-2")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(SMILE)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        JsonNode quotations = SmileMapper.builder().build().readTree(body);
+        assertEquals(2, quotations.size());
+        assertEquals("q-1", quotations.get(0).get("id").asString());
+        assertEquals(new BigDecimal("12.40"), quotations.get(0).get("price").decimalValue());
+        assertEquals(q2.expiresAt().toString(), quotations.get(1).get("expiresAt").asString());
+    }
 }
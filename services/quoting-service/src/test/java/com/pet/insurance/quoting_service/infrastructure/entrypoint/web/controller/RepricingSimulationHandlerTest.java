@@ -0,0 +1,72 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.controller;
+
+import com.pet.insurance.quoting_service.application.simulation.ScalarRepricingKernel;
+import com.pet.insurance.quoting_service.application.usecase.SimulateRepricingUseCase;
+import com.pet.insurance.quoting_service.domain.model.BreedRiskFactors;
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.domain.model.Tariff;
+import com.pet.insurance.quoting_service.domain.port.QuotationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+class RepricingSimulationHandlerTest {
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setup() {
+        QuotationRepository repository = Mockito.mock(QuotationRepository.class);
+        Mockito.when(repository.findAll()).thenReturn(Flux.just(
+                Quotation.reconstruct("q-1", "Max", "Dog", "Labrador", 3, false,
+                        new BigDecimal("12.0"), LocalDate.now().plusDays(30)),
+                Quotation.reconstruct("q-2", "Tom", "Cat", "Siamese", 3, false,
+                        new BigDecimal("11.0"), LocalDate.now().plusDays(30))));
+        RepricingSimulationHandler handler = new RepricingSimulationHandler(
+                new SimulateRepricingUseCase(repository, new ScalarRepricingKernel(), 100),
+                Tariff.standard(BreedRiskFactors.none()));
+
+        webTestClient = WebTestClient.bindToRouterFunction(RouterFunctions.route()
+                .POST("/simulations/repricing", handler::simulate)
+                .build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("POST /simulations/repricing resume el efecto de los multiplicadores candidatos")
+    void shouldSimulateCandidateTariff() {
+        webTestClient.post()
+                .uri("/simulations/repricing")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"basePrice\": 20}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.count").isEqualTo(2)
+                .jsonPath("$.currentTotal").isEqualTo(23.0)
+                .jsonPath("$.simulatedTotal").isEqualTo(46.0)
+                .jsonPath("$.increased").isEqualTo(2)
+                .jsonPath("$.changePercentiles.p50").isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("POST /simulations/repricing responde 400 con un multiplicador no positivo")
+    void shouldRejectInvalidTariff() {
+        webTestClient.post()
+                .uri("/simulations/repricing")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"dogMultiplier\": 0}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Dog multiplier must be positive");
+    }
+}
@@ -0,0 +1,82 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json.QuotationDtoJsonEncoder;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.smile.SmileArrayEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the payload of a bulk lookup response in JSON, as written by
+ * {@link QuotationDtoJsonEncoder}, and in Smile, as written by {@link SmileArrayEncoder}.
+ */
+@DisplayName("QuotationDTO wire format Tests")
+class QuotationDtoWireFormatTest {
+
+    private static final ResolvableType DTO_TYPE = ResolvableType.forClass(QuotationDTO.class);
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final List<QuotationDTO> quotations = IntStream.range(0, 100)
+            .mapToObj(i -> QuotationDTO.fromDomain(Quotation.reconstruct(
+                    "0b7e6a52-4c1f-4f5e-9d3a-" + String.format("%012d", i), "Max", "DOG", "Labrador Retriever",
+                    i % 10, i % 2 == 0, new BigDecimal("36.40").add(BigDecimal.valueOf(i)),
+                    LocalDate.now().plusDays(30))))
+            .toList();
+
+    @Test
+    @DisplayName("Should write a smaller bulk lookup response in Smile than in JSON")
+    void shouldWriteSmallerSmilePayload() {
+        // When
+        byte[] json = encode(new QuotationDtoJsonEncoder(), MediaType.APPLICATION_JSON);
+        byte[] smile = encode(new SmileArrayEncoder(), SMILE);
+
+        // Then
+        assertThat(smile.length).isLessThan(json.length * 3 / 4);
+    }
+
+    @Test
+    @DisplayName("Should read back prices and dates exactly from Smile")
+    void shouldRoundTripSmile() {
+        // When
+        JsonNode decoded = SmileMapper.builder().build().readTree(encode(new SmileArrayEncoder(), SMILE));
+
+        // Then
+        assertThat(decoded.size()).isEqualTo(quotations.size());
+        for (int i = 0; i < quotations.size(); i++) {
+            QuotationDTO quotation = quotations.get(i);
+            assertThat(decoded.get(i).get("id").asString()).isEqualTo(quotation.id());
+            assertThat(decoded.get(i).get("price").decimalValue()).isEqualTo(quotation.price());
+            assertThat(decoded.get(i).get("expiresAt").asString()).isEqualTo(quotation.expiresAt().toString());
+        }
+    }
+
+    private byte[] encode(Encoder<?> encoder, MediaType mediaType) {
+        @SuppressWarnings("unchecked")
+        Encoder<QuotationDTO> typed = (Encoder<QuotationDTO>) encoder;
+        DataBuffer joined = DataBufferUtils.join(typed.encode(Flux.fromIterable(quotations),
+                DefaultDataBufferFactory.sharedInstance, DTO_TYPE, mediaType, null)).block();
+        try {
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(joined);
+        }
+    }
+}
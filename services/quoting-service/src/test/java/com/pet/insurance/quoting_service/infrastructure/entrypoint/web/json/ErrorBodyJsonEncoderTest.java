@@ -0,0 +1,76 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.JacksonJsonEncoder;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ErrorBodyJsonEncoder Tests")
+class ErrorBodyJsonEncoderTest {
+
+    private static final ResolvableType MAP_TYPE =
+            ResolvableType.forClassWithGenerics(Map.class, String.class, Object.class);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ErrorBodyJsonEncoder encoder = new ErrorBodyJsonEncoder(new JacksonJsonEncoder(jsonMapper));
+
+    @Test
+    @DisplayName("Should write error maps exactly as Jackson does")
+    void shouldMatchJackson() {
+        // Given
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.of(2026, 3, 1, 9, 5, 7, 120_000_000));
+        body.put("status", 400);
+        body.put("error", "Bad Request");
+        body.put("message", "Pet \"age\" must be positive");
+
+        // When
+        String json = encode(body);
+
+        // Then
+        assertThat(json).isEqualTo(jsonMapper.writeValueAsString(body));
+    }
+
+    @Test
+    @DisplayName("Should hand maps with other values to the fallback encoder")
+    void shouldFallBackForOtherValues() {
+        // Given
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", new Date(0));
+        body.put("errors", List.of("a", "b"));
+
+        // When
+        String json = encode(body);
+
+        // Then
+        assertThat(json).isEqualTo(jsonMapper.writeValueAsString(body));
+    }
+
+    @Test
+    @DisplayName("Should only handle maps with string keys")
+    void shouldOnlyHandleStringKeyedMaps() {
+        assertThat(encoder.canEncode(MAP_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClass(LinkedHashMap.class), MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(ResolvableType.forClassWithGenerics(Map.class, Integer.class, Object.class),
+                MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private String encode(Map<String, Object> body) {
+        DataBuffer buffer = encoder.encodeValue(body, DefaultDataBufferFactory.sharedInstance, MAP_TYPE,
+                MediaType.APPLICATION_JSON, null);
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto.QuotationDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QuotationDtoJsonEncoder Tests")
+class QuotationDtoJsonEncoderTest {
+
+    private static final ResolvableType DTO_TYPE = ResolvableType.forClass(QuotationDTO.class);
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final QuotationDtoJsonEncoder encoder = new QuotationDtoJsonEncoder();
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson")
+    void shouldMatchJackson() {
+        // Given
+        QuotationDTO dto = dto("Max", "Labrador", new BigDecimal("150.00"), LocalDate.now().plusDays(30));
+
+        // When
+        String json = encode(Mono.just(dto));
+
+        // Then
+        assertThat(jsonMapper.readTree(json)).isEqualTo(jackson(dto));
+    }
+
+    @Test
+    @DisplayName("Should escape text, keep non-ASCII characters and write null breeds")
+    void shouldEscapeText() {
+        // Given
+        QuotationDTO dto = dto("Ñandú \"🐶\"\\\n\u0007", null, new BigDecimal("1E+3"), LocalDate.of(2020, 1, 5));
+
+        // When
+        String json = encode(Mono.just(dto));
+
+        // Then
+        assertThat(jsonMapper.readTree(json)).isEqualTo(jackson(dto));
+        assertThat(json).contains("\"breed\":null", "\"price\":1E+3", "\"expiresAt\":\"2020-01-05\"");
+    }
+
+    @Test
+    @DisplayName("Should write a stream of quotations as a JSON array")
+    void shouldWriteArray() {
+        // Given
+        QuotationDTO first = dto("Max", "Labrador", new BigDecimal("150.00"), LocalDate.now());
+        QuotationDTO second = dto("Luna", "Siamese", new BigDecimal("90.50"), LocalDate.now());
+
+        // When
+        String json = encode(Flux.just(first, second));
+        String empty = encode(Flux.empty());
+
+        // Then
+        assertThat(jsonMapper.readTree(json)).isEqualTo(jackson(new QuotationDTO[] { first, second }));
+        assertThat(empty).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should only handle QuotationDTO as JSON")
+    void shouldOnlyHandleQuotationDto() {
+        assertThat(encoder.canEncode(DTO_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(encoder.canEncode(DTO_TYPE, null)).isTrue();
+        assertThat(encoder.canEncode(DTO_TYPE, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(encoder.canEncode(ResolvableType.forClass(String.class), MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private String encode(Publisher<QuotationDTO> input) {
+        DataBuffer joined = DataBufferUtils.join(encoder.encode(input, DefaultDataBufferFactory.sharedInstance,
+                DTO_TYPE, MediaType.APPLICATION_JSON, null)).block();
+        return joined.toString(StandardCharsets.UTF_8);
+    }
+
+    private JsonNode jackson(Object value) {
+        return jsonMapper.readTree(jsonMapper.writeValueAsString(value));
+    }
+
+    private static QuotationDTO dto(String petName, String breed, BigDecimal price, LocalDate expiresAt) {
+        return QuotationDTO.fromDomain(Quotation.reconstruct("q-1", petName, "Dog", breed, 5, true, price, expiresAt));
+    }
+}
@@ -0,0 +1,187 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import com.pet.insurance.quoting_service.domain.model.Quotation;
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.dto.QuotationDTO;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QuotationJsonWriter Tests")
+class QuotationJsonWriterTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final QuotationJsonWriter writer = new QuotationJsonWriter(ZONE);
+
+    @Test
+    @DisplayName("Should write the same JSON as the DTO for a document with plain names")
+    void shouldMatchDtoForPlainNames() {
+        // Given
+        LocalDate expiresAt = LocalDate.now().plusDays(30);
+        Document document = stored("q-1", "Max", expiresAt)
+                .append("species", "Dog")
+                .append("breed", "Mixed")
+                .append("_class", "QuotationEntity");
+
+        // When
+        JsonNode written = write(document, LocalDate.now());
+
+        // Then
+        Quotation quotation = Quotation.reconstruct("q-1", "Max", "Dog", "Mixed", 5, true,
+                new BigDecimal("150.00"), expiresAt);
+        assertThat(written).isEqualTo(dtoJson(quotation));
+    }
+
+    @Test
+    @DisplayName("Should decode dictionary codes and write a missing breed as null")
+    void shouldDecodeDictionaryCodes() {
+        // Given
+        LocalDate expiresAt = LocalDate.now().plusDays(30);
+        Document document = stored("q-2", "Luna", expiresAt).append("speciesCode", 1);
+
+        // When
+        JsonNode written = write(document, LocalDate.now());
+
+        // Then
+        Quotation quotation = Quotation.reconstruct("q-2", "Luna", "Cat", null, 5, true,
+                new BigDecimal("150.00"), expiresAt);
+        assertThat(written).isEqualTo(dtoJson(quotation));
+    }
+
+    @Test
+    @DisplayName("Should escape strings and keep non-ASCII characters")
+    void shouldEscapeStrings() {
+        // Given
+        Document document = stored("q-3", "Ñandú \"el\\grande\"\n\u0001", LocalDate.now().plusDays(1))
+                .append("species", "Dog");
+
+        // When
+        JsonNode written = write(document, LocalDate.now());
+
+        // Then
+        assertThat(written.get("petName").asString()).isEqualTo("Ñandú \"el\\grande\"\n\u0001");
+    }
+
+    @Test
+    @DisplayName("Should flag quotations that expired before today")
+    void shouldFlagExpiredQuotations() {
+        // Given
+        LocalDate today = LocalDate.of(2026, 3, 2);
+        Document document = stored("q-4", "Max", LocalDate.of(2026, 3, 1)).append("species", "Dog");
+
+        // When
+        JsonNode written = write(document, today);
+
+        // Then
+        assertThat(written.get("expiresAt").asString()).isEqualTo("2026-03-01");
+        assertThat(written.get("expired").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write object ids as hex strings")
+    void shouldWriteObjectIds() {
+        // Given
+        ObjectId id = new ObjectId();
+        Document document = stored(null, "Max", LocalDate.now()).append("_id", id).append("species", "Dog");
+
+        // When
+        JsonNode written = write(document, LocalDate.now());
+
+        // Then
+        assertThat(written.get("id").asString()).isEqualTo(id.toHexString());
+    }
+
+    @Test
+    @DisplayName("Should write double prices by their shortest decimal form")
+    void shouldWriteDoublePriceAsShortestDecimal() {
+        // Given
+        Document document = stored("q-1", "Max", LocalDate.now()).append("species", "Dog").append("price", 36.1);
+
+        // When
+        JsonNode written = write(document, LocalDate.now());
+
+        // Then
+        assertThat(written.get("price").decimalValue()).isEqualByComparingTo("36.1");
+        assertThat(written.get("price").asString()).isEqualTo("36.1");
+    }
+
+    @Test
+    @DisplayName("Should write string prices as numbers and null when they are not numeric")
+    void shouldParseStringPrices() {
+        // Given
+        Document numeric = stored("q-1", "Max", LocalDate.now()).append("species", "Dog").append("price", "42.50");
+        Document malformed = stored("q-2", "Max", LocalDate.now()).append("species", "Dog")
+                .append("price", "1,\"injected\":true");
+
+        // When
+        JsonNode numericJson = write(numeric, LocalDate.now());
+        JsonNode malformedJson = write(malformed, LocalDate.now());
+
+        // Then
+        assertThat(numericJson.get("price").isNumber()).isTrue();
+        assertThat(numericJson.get("price").decimalValue()).isEqualByComparingTo("42.50");
+        assertThat(malformedJson.get("price").isNull()).isTrue();
+        assertThat(malformedJson.has("injected")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write nothing for a document with a code outside the dictionary")
+    void shouldRejectUnknownDictionaryCodes() {
+        // Given
+        Document unknownSpecies = stored("q-1", "Max", LocalDate.now()).append("speciesCode", 9999);
+        Document unknownBreed = stored("q-2", "Max", LocalDate.now()).append("species", "Dog")
+                .append("breedCode", -1);
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(64);
+
+        // When
+        boolean speciesWritten = writer.write(new RawBsonDocument(unknownSpecies, new DocumentCodec()),
+                LocalDate.now(), buffer);
+        boolean breedWritten = writer.write(new RawBsonDocument(unknownBreed, new DocumentCodec()),
+                LocalDate.now(), buffer);
+
+        // Then
+        assertThat(speciesWritten).isFalse();
+        assertThat(breedWritten).isFalse();
+        assertThat(buffer.readableByteCount()).isZero();
+    }
+
+    private Document stored(String id, String petName, LocalDate expiresAt) {
+        Document document = new Document();
+        if (id != null) {
+            document.append("_id", id);
+        }
+        return document
+                .append("petName", petName)
+                .append("age", 5)
+                .append("premiumPlan", true)
+                .append("price", new Decimal128(new BigDecimal("150.00")))
+                .append("expiresAt", Date.from(expiresAt.atStartOfDay(ZONE).toInstant()));
+    }
+
+    private JsonNode write(Document document, LocalDate today) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(64);
+        assertThat(writer.write(new RawBsonDocument(document, new DocumentCodec()), today, buffer)).isTrue();
+        return jsonMapper.readTree(buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    private JsonNode dtoJson(Quotation quotation) {
+        return jsonMapper.readTree(jsonMapper.writeValueAsString(QuotationDTO.fromDomain(quotation)));
+    }
+}
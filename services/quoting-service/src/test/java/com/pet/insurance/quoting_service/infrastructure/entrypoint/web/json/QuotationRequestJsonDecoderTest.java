@@ -0,0 +1,110 @@
+package com.pet.insurance.quoting_service.infrastructure.entrypoint.web.json;
+
+import com.pet.insurance.quoting_service.infrastructure.entrypoint.web.request.QuotationRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QuotationRequestJsonDecoder Tests")
+class QuotationRequestJsonDecoderTest {
+
+    private static final ResolvableType REQUEST_TYPE = ResolvableType.forClass(QuotationRequest.class);
+
+    private final QuotationRequestJsonDecoder decoder = new QuotationRequestJsonDecoder();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    @DisplayName("Should decode a request split across buffers")
+    void shouldDecodeSplitRequest() {
+        // Given
+        Flux<DataBuffer> body = Flux.just("{\"name\":\"Ñandú\",\"species\":\"Dog\",",
+                "\"breed\":\"Labrador\",\"age\":5,\"premium\":true}").map(QuotationRequestJsonDecoderTest::buffer);
+
+        // When / Then
+        StepVerifier.create(decoder.decodeToMono(body, REQUEST_TYPE, MediaType.APPLICATION_JSON, null))
+                .expectNext(new QuotationRequest("Ñandú", "Dog", "Labrador", 5, true))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should skip unknown properties, coerce strings and default missing values")
+    void shouldBeLenientLikeJackson() {
+        // Given
+        Flux<DataBuffer> body = Flux.just(buffer(
+                "{\"extra\":{\"nested\":[1,2]},\"name\":\"Max\",\"species\":\"Dog\",\"age\":\"7\",\"breed\":null}"));
+
+        // When / Then
+        StepVerifier.create(decoder.decodeToMono(body, REQUEST_TYPE, MediaType.APPLICATION_JSON, null))
+                .expectNext(new QuotationRequest("Max", "Dog", null, 7, false))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject malformed JSON and mistyped values")
+    void shouldRejectInvalidJson() {
+        StepVerifier.create(decoder.decodeToMono(Flux.just(buffer("{\"name\":")), REQUEST_TYPE,
+                MediaType.APPLICATION_JSON, null))
+                .expectError(DecodingException.class)
+                .verify();
+        StepVerifier.create(decoder.decodeToMono(Flux.just(buffer("{\"age\":\"old\"}")), REQUEST_TYPE,
+                MediaType.APPLICATION_JSON, null))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should reject nulls for primitives, trailing tokens and arrays like the service's JsonMapper")
+    void shouldBeStrictLikeJackson() {
+        List<String> rejected = List.of(
+                "{\"name\":\"Max\",\"age\":null}",
+                "{\"name\":\"Max\",\"premium\":null}",
+                "{\"name\":\"Max\"} {\"name\":\"Luna\"}",
+                "{\"name\":\"Max\"}]",
+                "[{\"name\":\"Max\"}]");
+
+        for (String json : rejected) {
+            assertThatThrownBy(() -> jsonMapper.readValue(json, QuotationRequest.class))
+                    .as(json).isInstanceOf(JacksonException.class);
+            StepVerifier.create(decoder.decodeToMono(Flux.just(buffer(json)), REQUEST_TYPE,
+                    MediaType.APPLICATION_JSON, null))
+                    .expectError(DecodingException.class)
+                    .verify();
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode an array as a stream of requests")
+    void shouldDecodeArray() {
+        Flux<DataBuffer> body = Flux.just(buffer("[{\"name\":\"Max\",\"age\":1},{\"name\":\"Luna\",\"age\":2}]"));
+
+        StepVerifier.create(decoder.decode(body, REQUEST_TYPE, MediaType.APPLICATION_JSON, null))
+                .expectNextMatches(request -> request.name().equals("Max") && request.age() == 1)
+                .expectNextMatches(request -> request.name().equals("Luna") && request.age() == 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should only handle QuotationRequest")
+    void shouldOnlyHandleQuotationRequest() {
+        assertThat(decoder.canDecode(REQUEST_TYPE, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(decoder.canDecode(ResolvableType.forClass(Object.class), MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}